@@ -0,0 +1,152 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/AptLTSFormat.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class AptLTSFormatLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		T__9=10, T__10=11, INT=12, ID=13, COMMENT=14, WS=15, STR=16, STR_MULTI=17;
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	public static final String[] ruleNames = {
+		"T__0", "T__1", "T__2", "T__3", "T__4", "T__5", "T__6", "T__7", "T__8", 
+		"T__9", "T__10", "INT", "ID", "COMMENT", "WS", "STR", "STR_MULTI"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'.name'", "'.type'", "'LTS'", "'.description'", "'.states'", "'['", 
+		"','", "']'", "'='", "'.labels'", "'.arcs'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		"INT", "ID", "COMMENT", "WS", "STR", "STR_MULTI"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+		int descCount = 0;
+		int nameCount = 0;
+		int typeCount = 0;
+
+
+	public AptLTSFormatLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "AptLTSFormat.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2\23\u009e\b\1\4\2"+
+		"\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4"+
+		"\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
+		"\t\22\3\2\3\2\3\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4"+
+		"\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\6\3\6\3"+
+		"\6\3\6\3\6\3\6\3\7\3\7\3\b\3\b\3\t\3\t\3\n\3\n\3\13\3\13\3\13\3\13\3\13"+
+		"\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\r\6\rb\n\r\r\r\16\rc\3\16\3"+
+		"\16\7\16h\n\16\f\16\16\16k\13\16\3\17\3\17\3\17\3\17\7\17q\n\17\f\17\16"+
+		"\17t\13\17\3\17\5\17w\n\17\3\17\3\17\3\17\3\17\3\17\7\17~\n\17\f\17\16"+
+		"\17\u0081\13\17\3\17\3\17\5\17\u0085\n\17\3\17\3\17\3\20\3\20\3\20\3\20"+
+		"\3\21\3\21\7\21\u008f\n\21\f\21\16\21\u0092\13\21\3\21\3\21\3\22\3\22"+
+		"\7\22\u0098\n\22\f\22\16\22\u009b\13\22\3\22\3\22\3\177\2\23\3\3\5\4\7"+
+		"\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22"+
+		"#\23\3\2\b\5\2C\\aac|\6\2\62;C\\aac|\4\2\f\f\17\17\5\2\13\f\17\17\"\""+
+		"\5\2\13\f\17\17$$\4\2\13\13$$\u00a5\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2"+
+		"\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23"+
+		"\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2"+
+		"\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\3%\3\2\2\2\5+\3\2\2\2\7\61\3\2"+
+		"\2\2\t\65\3\2\2\2\13B\3\2\2\2\rJ\3\2\2\2\17L\3\2\2\2\21N\3\2\2\2\23P\3"+
+		"\2\2\2\25R\3\2\2\2\27Z\3\2\2\2\31a\3\2\2\2\33e\3\2\2\2\35\u0084\3\2\2"+
+		"\2\37\u0088\3\2\2\2!\u008c\3\2\2\2#\u0095\3\2\2\2%&\7\60\2\2&\'\7p\2\2"+
+		"\'(\7c\2\2()\7o\2\2)*\7g\2\2*\4\3\2\2\2+,\7\60\2\2,-\7v\2\2-.\7{\2\2."+
+		"/\7r\2\2/\60\7g\2\2\60\6\3\2\2\2\61\62\7N\2\2\62\63\7V\2\2\63\64\7U\2"+
+		"\2\64\b\3\2\2\2\65\66\7\60\2\2\66\67\7f\2\2\678\7g\2\289\7u\2\29:\7e\2"+
+		"\2:;\7t\2\2;<\7k\2\2<=\7r\2\2=>\7v\2\2>?\7k\2\2?@\7q\2\2@A\7p\2\2A\n\3"+
+		"\2\2\2BC\7\60\2\2CD\7u\2\2DE\7v\2\2EF\7c\2\2FG\7v\2\2GH\7g\2\2HI\7u\2"+
+		"\2I\f\3\2\2\2JK\7]\2\2K\16\3\2\2\2LM\7.\2\2M\20\3\2\2\2NO\7_\2\2O\22\3"+
+		"\2\2\2PQ\7?\2\2Q\24\3\2\2\2RS\7\60\2\2ST\7n\2\2TU\7c\2\2UV\7d\2\2VW\7"+
+		"g\2\2WX\7n\2\2XY\7u\2\2Y\26\3\2\2\2Z[\7\60\2\2[\\\7c\2\2\\]\7t\2\2]^\7"+
+		"e\2\2^_\7u\2\2_\30\3\2\2\2`b\4\62;\2a`\3\2\2\2bc\3\2\2\2ca\3\2\2\2cd\3"+
+		"\2\2\2d\32\3\2\2\2ei\t\2\2\2fh\t\3\2\2gf\3\2\2\2hk\3\2\2\2ig\3\2\2\2i"+
+		"j\3\2\2\2j\34\3\2\2\2ki\3\2\2\2lm\7\61\2\2mn\7\61\2\2nr\3\2\2\2oq\n\4"+
+		"\2\2po\3\2\2\2qt\3\2\2\2rp\3\2\2\2rs\3\2\2\2sv\3\2\2\2tr\3\2\2\2uw\7\17"+
+		"\2\2vu\3\2\2\2vw\3\2\2\2wx\3\2\2\2x\u0085\7\f\2\2yz\7\61\2\2z{\7,\2\2"+
+		"{\177\3\2\2\2|~\13\2\2\2}|\3\2\2\2~\u0081\3\2\2\2\177\u0080\3\2\2\2\177"+
+		"}\3\2\2\2\u0080\u0082\3\2\2\2\u0081\177\3\2\2\2\u0082\u0083\7,\2\2\u0083"+
+		"\u0085\7\61\2\2\u0084l\3\2\2\2\u0084y\3\2\2\2\u0085\u0086\3\2\2\2\u0086"+
+		"\u0087\b\17\2\2\u0087\36\3\2\2\2\u0088\u0089\t\5\2\2\u0089\u008a\3\2\2"+
+		"\2\u008a\u008b\b\20\2\2\u008b \3\2\2\2\u008c\u0090\7$\2\2\u008d\u008f"+
+		"\n\6\2\2\u008e\u008d\3\2\2\2\u008f\u0092\3\2\2\2\u0090\u008e\3\2\2\2\u0090"+
+		"\u0091\3\2\2\2\u0091\u0093\3\2\2\2\u0092\u0090\3\2\2\2\u0093\u0094\7$"+
+		"\2\2\u0094\"\3\2\2\2\u0095\u0099\7$\2\2\u0096\u0098\n\7\2\2\u0097\u0096"+
+		"\3\2\2\2\u0098\u009b\3\2\2\2\u0099\u0097\3\2\2\2\u0099\u009a\3\2\2\2\u009a"+
+		"\u009c\3\2\2\2\u009b\u0099\3\2\2\2\u009c\u009d\7$\2\2\u009d$\3\2\2\2\13"+
+		"\2cirv\177\u0084\u0090\u0099\3\b\2\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
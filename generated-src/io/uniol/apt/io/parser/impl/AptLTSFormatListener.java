@@ -0,0 +1,140 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/AptLTSFormat.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link AptLTSFormatParser}.
+ */
+public interface AptLTSFormatListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#ts}.
+	 * @param ctx the parse tree
+	 */
+	void enterTs(AptLTSFormatParser.TsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#ts}.
+	 * @param ctx the parse tree
+	 */
+	void exitTs(AptLTSFormatParser.TsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#name}.
+	 * @param ctx the parse tree
+	 */
+	void enterName(AptLTSFormatParser.NameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#name}.
+	 * @param ctx the parse tree
+	 */
+	void exitName(AptLTSFormatParser.NameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void enterType(AptLTSFormatParser.TypeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void exitType(AptLTSFormatParser.TypeContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#description}.
+	 * @param ctx the parse tree
+	 */
+	void enterDescription(AptLTSFormatParser.DescriptionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#description}.
+	 * @param ctx the parse tree
+	 */
+	void exitDescription(AptLTSFormatParser.DescriptionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#states}.
+	 * @param ctx the parse tree
+	 */
+	void enterStates(AptLTSFormatParser.StatesContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#states}.
+	 * @param ctx the parse tree
+	 */
+	void exitStates(AptLTSFormatParser.StatesContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#state}.
+	 * @param ctx the parse tree
+	 */
+	void enterState(AptLTSFormatParser.StateContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#state}.
+	 * @param ctx the parse tree
+	 */
+	void exitState(AptLTSFormatParser.StateContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#opts}.
+	 * @param ctx the parse tree
+	 */
+	void enterOpts(AptLTSFormatParser.OptsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#opts}.
+	 * @param ctx the parse tree
+	 */
+	void exitOpts(AptLTSFormatParser.OptsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#option}.
+	 * @param ctx the parse tree
+	 */
+	void enterOption(AptLTSFormatParser.OptionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#option}.
+	 * @param ctx the parse tree
+	 */
+	void exitOption(AptLTSFormatParser.OptionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#labels}.
+	 * @param ctx the parse tree
+	 */
+	void enterLabels(AptLTSFormatParser.LabelsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#labels}.
+	 * @param ctx the parse tree
+	 */
+	void exitLabels(AptLTSFormatParser.LabelsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#label}.
+	 * @param ctx the parse tree
+	 */
+	void enterLabel(AptLTSFormatParser.LabelContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#label}.
+	 * @param ctx the parse tree
+	 */
+	void exitLabel(AptLTSFormatParser.LabelContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#arcs}.
+	 * @param ctx the parse tree
+	 */
+	void enterArcs(AptLTSFormatParser.ArcsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#arcs}.
+	 * @param ctx the parse tree
+	 */
+	void exitArcs(AptLTSFormatParser.ArcsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#arc}.
+	 * @param ctx the parse tree
+	 */
+	void enterArc(AptLTSFormatParser.ArcContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#arc}.
+	 * @param ctx the parse tree
+	 */
+	void exitArc(AptLTSFormatParser.ArcContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptLTSFormatParser#idi}.
+	 * @param ctx the parse tree
+	 */
+	void enterIdi(AptLTSFormatParser.IdiContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptLTSFormatParser#idi}.
+	 * @param ctx the parse tree
+	 */
+	void exitIdi(AptLTSFormatParser.IdiContext ctx);
+}
\ No newline at end of file
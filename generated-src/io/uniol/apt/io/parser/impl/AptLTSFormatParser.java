@@ -0,0 +1,951 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/AptLTSFormat.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class AptLTSFormatParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		T__9=10, T__10=11, INT=12, ID=13, COMMENT=14, WS=15, STR=16, STR_MULTI=17;
+	public static final int
+		RULE_ts = 0, RULE_name = 1, RULE_type = 2, RULE_description = 3, RULE_states = 4, 
+		RULE_state = 5, RULE_opts = 6, RULE_option = 7, RULE_labels = 8, RULE_label = 9, 
+		RULE_arcs = 10, RULE_arc = 11, RULE_idi = 12;
+	public static final String[] ruleNames = {
+		"ts", "name", "type", "description", "states", "state", "opts", "option", 
+		"labels", "label", "arcs", "arc", "idi"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'.name'", "'.type'", "'LTS'", "'.description'", "'.states'", "'['", 
+		"','", "']'", "'='", "'.labels'", "'.arcs'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		"INT", "ID", "COMMENT", "WS", "STR", "STR_MULTI"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "AptLTSFormat.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+
+		int descCount = 0;
+		int nameCount = 0;
+		int typeCount = 0;
+
+	public AptLTSFormatParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class TsContext extends ParserRuleContext {
+		public List<NameContext> name() {
+			return getRuleContexts(NameContext.class);
+		}
+		public NameContext name(int i) {
+			return getRuleContext(NameContext.class,i);
+		}
+		public List<TypeContext> type() {
+			return getRuleContexts(TypeContext.class);
+		}
+		public TypeContext type(int i) {
+			return getRuleContext(TypeContext.class,i);
+		}
+		public List<DescriptionContext> description() {
+			return getRuleContexts(DescriptionContext.class);
+		}
+		public DescriptionContext description(int i) {
+			return getRuleContext(DescriptionContext.class,i);
+		}
+		public List<StatesContext> states() {
+			return getRuleContexts(StatesContext.class);
+		}
+		public StatesContext states(int i) {
+			return getRuleContext(StatesContext.class,i);
+		}
+		public List<LabelsContext> labels() {
+			return getRuleContexts(LabelsContext.class);
+		}
+		public LabelsContext labels(int i) {
+			return getRuleContext(LabelsContext.class,i);
+		}
+		public List<ArcsContext> arcs() {
+			return getRuleContexts(ArcsContext.class);
+		}
+		public ArcsContext arcs(int i) {
+			return getRuleContext(ArcsContext.class,i);
+		}
+		public TsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ts; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterTs(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitTs(this);
+		}
+	}
+
+	public final TsContext ts() throws RecognitionException {
+		TsContext _localctx = new TsContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_ts);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(34);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,1,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					setState(32);
+					switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
+					case 1:
+						{
+						setState(26);
+						name();
+						}
+						break;
+					case 2:
+						{
+						setState(27);
+						type();
+						}
+						break;
+					case 3:
+						{
+						setState(28);
+						description();
+						}
+						break;
+					case 4:
+						{
+						setState(29);
+						states();
+						}
+						break;
+					case 5:
+						{
+						setState(30);
+						labels();
+						}
+						break;
+					case 6:
+						{
+						setState(31);
+						arcs();
+						}
+						break;
+					}
+					} 
+				}
+				setState(36);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,1,_ctx);
+			}
+			setState(37);
+			if (!(typeCount == 1)) throw new FailedPredicateException(this, "typeCount == 1");
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NameContext extends ParserRuleContext {
+		public TerminalNode STR() { return getToken(AptLTSFormatParser.STR, 0); }
+		public NameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitName(this);
+		}
+	}
+
+	public final NameContext name() throws RecognitionException {
+		NameContext _localctx = new NameContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(39);
+			if (!(nameCount == 0)) throw new FailedPredicateException(this, "nameCount == 0");
+			setState(40);
+			match(T__0);
+			setState(41);
+			match(STR);
+			nameCount++;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeContext extends ParserRuleContext {
+		public TypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitType(this);
+		}
+	}
+
+	public final TypeContext type() throws RecognitionException {
+		TypeContext _localctx = new TypeContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_type);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(44);
+			if (!(typeCount == 0)) throw new FailedPredicateException(this, "typeCount == 0");
+			setState(45);
+			match(T__1);
+			setState(46);
+			match(T__2);
+			typeCount++;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DescriptionContext extends ParserRuleContext {
+		public Token txt;
+		public TerminalNode STR() { return getToken(AptLTSFormatParser.STR, 0); }
+		public TerminalNode STR_MULTI() { return getToken(AptLTSFormatParser.STR_MULTI, 0); }
+		public DescriptionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_description; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterDescription(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitDescription(this);
+		}
+	}
+
+	public final DescriptionContext description() throws RecognitionException {
+		DescriptionContext _localctx = new DescriptionContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_description);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(49);
+			if (!(descCount == 0)) throw new FailedPredicateException(this, "descCount == 0");
+			setState(50);
+			match(T__3);
+			setState(53);
+			switch (_input.LA(1)) {
+			case STR:
+				{
+				setState(51);
+				((DescriptionContext)_localctx).txt = match(STR);
+				}
+				break;
+			case STR_MULTI:
+				{
+				setState(52);
+				((DescriptionContext)_localctx).txt = match(STR_MULTI);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			descCount++;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatesContext extends ParserRuleContext {
+		public List<StateContext> state() {
+			return getRuleContexts(StateContext.class);
+		}
+		public StateContext state(int i) {
+			return getRuleContext(StateContext.class,i);
+		}
+		public StatesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_states; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterStates(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitStates(this);
+		}
+	}
+
+	public final StatesContext states() throws RecognitionException {
+		StatesContext _localctx = new StatesContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_states);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(57);
+			match(T__4);
+			setState(61);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(58);
+					state();
+					}
+					} 
+				}
+				setState(63);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StateContext extends ParserRuleContext {
+		public IdiContext idi() {
+			return getRuleContext(IdiContext.class,0);
+		}
+		public OptsContext opts() {
+			return getRuleContext(OptsContext.class,0);
+		}
+		public StateContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_state; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterState(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitState(this);
+		}
+	}
+
+	public final StateContext state() throws RecognitionException {
+		StateContext _localctx = new StateContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_state);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(64);
+			idi();
+			setState(66);
+			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+			case 1:
+				{
+				setState(65);
+				opts();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OptsContext extends ParserRuleContext {
+		public List<OptionContext> option() {
+			return getRuleContexts(OptionContext.class);
+		}
+		public OptionContext option(int i) {
+			return getRuleContext(OptionContext.class,i);
+		}
+		public OptsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_opts; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterOpts(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitOpts(this);
+		}
+	}
+
+	public final OptsContext opts() throws RecognitionException {
+		OptsContext _localctx = new OptsContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_opts);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(68);
+			match(T__5);
+			setState(69);
+			option();
+			setState(74);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__6) {
+				{
+				{
+				setState(70);
+				match(T__6);
+				setState(71);
+				option();
+				}
+				}
+				setState(76);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(77);
+			match(T__7);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OptionContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(AptLTSFormatParser.ID, 0); }
+		public TerminalNode STR() { return getToken(AptLTSFormatParser.STR, 0); }
+		public TerminalNode INT() { return getToken(AptLTSFormatParser.INT, 0); }
+		public OptionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_option; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterOption(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitOption(this);
+		}
+	}
+
+	public final OptionContext option() throws RecognitionException {
+		OptionContext _localctx = new OptionContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_option);
+		try {
+			setState(86);
+			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(79);
+				match(ID);
+				setState(80);
+				match(T__8);
+				setState(81);
+				match(STR);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(82);
+				match(ID);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(83);
+				match(ID);
+				setState(84);
+				match(T__8);
+				setState(85);
+				match(INT);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LabelsContext extends ParserRuleContext {
+		public List<LabelContext> label() {
+			return getRuleContexts(LabelContext.class);
+		}
+		public LabelContext label(int i) {
+			return getRuleContext(LabelContext.class,i);
+		}
+		public LabelsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_labels; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterLabels(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitLabels(this);
+		}
+	}
+
+	public final LabelsContext labels() throws RecognitionException {
+		LabelsContext _localctx = new LabelsContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_labels);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(88);
+			match(T__9);
+			setState(92);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(89);
+					label();
+					}
+					} 
+				}
+				setState(94);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LabelContext extends ParserRuleContext {
+		public IdiContext idi() {
+			return getRuleContext(IdiContext.class,0);
+		}
+		public OptsContext opts() {
+			return getRuleContext(OptsContext.class,0);
+		}
+		public LabelContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_label; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterLabel(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitLabel(this);
+		}
+	}
+
+	public final LabelContext label() throws RecognitionException {
+		LabelContext _localctx = new LabelContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_label);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(95);
+			idi();
+			setState(97);
+			switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
+			case 1:
+				{
+				setState(96);
+				opts();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArcsContext extends ParserRuleContext {
+		public List<ArcContext> arc() {
+			return getRuleContexts(ArcContext.class);
+		}
+		public ArcContext arc(int i) {
+			return getRuleContext(ArcContext.class,i);
+		}
+		public ArcsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arcs; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterArcs(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitArcs(this);
+		}
+	}
+
+	public final ArcsContext arcs() throws RecognitionException {
+		ArcsContext _localctx = new ArcsContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_arcs);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(99);
+			match(T__10);
+			setState(103);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(100);
+					arc();
+					}
+					} 
+				}
+				setState(105);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArcContext extends ParserRuleContext {
+		public IdiContext src;
+		public IdiContext labell;
+		public IdiContext dest;
+		public List<IdiContext> idi() {
+			return getRuleContexts(IdiContext.class);
+		}
+		public IdiContext idi(int i) {
+			return getRuleContext(IdiContext.class,i);
+		}
+		public OptsContext opts() {
+			return getRuleContext(OptsContext.class,0);
+		}
+		public ArcContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arc; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterArc(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitArc(this);
+		}
+	}
+
+	public final ArcContext arc() throws RecognitionException {
+		ArcContext _localctx = new ArcContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_arc);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(106);
+			((ArcContext)_localctx).src = idi();
+			setState(107);
+			((ArcContext)_localctx).labell = idi();
+			setState(108);
+			((ArcContext)_localctx).dest = idi();
+			setState(110);
+			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
+			case 1:
+				{
+				setState(109);
+				opts();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IdiContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(AptLTSFormatParser.ID, 0); }
+		public TerminalNode INT() { return getToken(AptLTSFormatParser.INT, 0); }
+		public IdiContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_idi; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).enterIdi(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptLTSFormatListener ) ((AptLTSFormatListener)listener).exitIdi(this);
+		}
+	}
+
+	public final IdiContext idi() throws RecognitionException {
+		IdiContext _localctx = new IdiContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_idi);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(112);
+			_la = _input.LA(1);
+			if ( !(_la==INT || _la==ID) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 0:
+			return ts_sempred((TsContext)_localctx, predIndex);
+		case 1:
+			return name_sempred((NameContext)_localctx, predIndex);
+		case 2:
+			return type_sempred((TypeContext)_localctx, predIndex);
+		case 3:
+			return description_sempred((DescriptionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean ts_sempred(TsContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return typeCount == 1;
+		}
+		return true;
+	}
+	private boolean name_sempred(NameContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 1:
+			return nameCount == 0;
+		}
+		return true;
+	}
+	private boolean type_sempred(TypeContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 2:
+			return typeCount == 0;
+		}
+		return true;
+	}
+	private boolean description_sempred(DescriptionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 3:
+			return descCount == 0;
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\23u\4\2\t\2\4\3\t"+
+		"\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t\13\4"+
+		"\f\t\f\4\r\t\r\4\16\t\16\3\2\3\2\3\2\3\2\3\2\3\2\7\2#\n\2\f\2\16\2&\13"+
+		"\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3\5\5\5"+
+		"8\n\5\3\5\3\5\3\6\3\6\7\6>\n\6\f\6\16\6A\13\6\3\7\3\7\5\7E\n\7\3\b\3\b"+
+		"\3\b\3\b\7\bK\n\b\f\b\16\bN\13\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\5"+
+		"\tY\n\t\3\n\3\n\7\n]\n\n\f\n\16\n`\13\n\3\13\3\13\5\13d\n\13\3\f\3\f\7"+
+		"\fh\n\f\f\f\16\fk\13\f\3\r\3\r\3\r\3\r\5\rq\n\r\3\16\3\16\3\16\2\2\17"+
+		"\2\4\6\b\n\f\16\20\22\24\26\30\32\2\3\3\2\16\17w\2$\3\2\2\2\4)\3\2\2\2"+
+		"\6.\3\2\2\2\b\63\3\2\2\2\n;\3\2\2\2\fB\3\2\2\2\16F\3\2\2\2\20X\3\2\2\2"+
+		"\22Z\3\2\2\2\24a\3\2\2\2\26e\3\2\2\2\30l\3\2\2\2\32r\3\2\2\2\34#\5\4\3"+
+		"\2\35#\5\6\4\2\36#\5\b\5\2\37#\5\n\6\2 #\5\22\n\2!#\5\26\f\2\"\34\3\2"+
+		"\2\2\"\35\3\2\2\2\"\36\3\2\2\2\"\37\3\2\2\2\" \3\2\2\2\"!\3\2\2\2#&\3"+
+		"\2\2\2$\"\3\2\2\2$%\3\2\2\2%\'\3\2\2\2&$\3\2\2\2\'(\6\2\2\2(\3\3\2\2\2"+
+		")*\6\3\3\2*+\7\3\2\2+,\7\22\2\2,-\b\3\1\2-\5\3\2\2\2./\6\4\4\2/\60\7\4"+
+		"\2\2\60\61\7\5\2\2\61\62\b\4\1\2\62\7\3\2\2\2\63\64\6\5\5\2\64\67\7\6"+
+		"\2\2\658\7\22\2\2\668\7\23\2\2\67\65\3\2\2\2\67\66\3\2\2\289\3\2\2\29"+
+		":\b\5\1\2:\t\3\2\2\2;?\7\7\2\2<>\5\f\7\2=<\3\2\2\2>A\3\2\2\2?=\3\2\2\2"+
+		"?@\3\2\2\2@\13\3\2\2\2A?\3\2\2\2BD\5\32\16\2CE\5\16\b\2DC\3\2\2\2DE\3"+
+		"\2\2\2E\r\3\2\2\2FG\7\b\2\2GL\5\20\t\2HI\7\t\2\2IK\5\20\t\2JH\3\2\2\2"+
+		"KN\3\2\2\2LJ\3\2\2\2LM\3\2\2\2MO\3\2\2\2NL\3\2\2\2OP\7\n\2\2P\17\3\2\2"+
+		"\2QR\7\17\2\2RS\7\13\2\2SY\7\22\2\2TY\7\17\2\2UV\7\17\2\2VW\7\13\2\2W"+
+		"Y\7\16\2\2XQ\3\2\2\2XT\3\2\2\2XU\3\2\2\2Y\21\3\2\2\2Z^\7\f\2\2[]\5\24"+
+		"\13\2\\[\3\2\2\2]`\3\2\2\2^\\\3\2\2\2^_\3\2\2\2_\23\3\2\2\2`^\3\2\2\2"+
+		"ac\5\32\16\2bd\5\16\b\2cb\3\2\2\2cd\3\2\2\2d\25\3\2\2\2ei\7\r\2\2fh\5"+
+		"\30\r\2gf\3\2\2\2hk\3\2\2\2ig\3\2\2\2ij\3\2\2\2j\27\3\2\2\2ki\3\2\2\2"+
+		"lm\5\32\16\2mn\5\32\16\2np\5\32\16\2oq\5\16\b\2po\3\2\2\2pq\3\2\2\2q\31"+
+		"\3\2\2\2rs\t\2\2\2s\33\3\2\2\2\r\"$\67?DLX^cip";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/AptPNFormat.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class AptPNFormatLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
+		T__17=18, T__18=19, INT=20, ID=21, COMMENT=22, WS=23, STR=24, STR_MULTI=25;
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	public static final String[] ruleNames = {
+		"T__0", "T__1", "T__2", "T__3", "T__4", "T__5", "T__6", "T__7", "T__8", 
+		"T__9", "T__10", "T__11", "T__12", "T__13", "T__14", "T__15", "T__16", 
+		"T__17", "T__18", "INT", "ID", "COMMENT", "WS", "STR", "STR_MULTI"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'.name'", "'.type'", "'LPN'", "'PN'", "'.description'", "'.places'", 
+		"'.transitions'", "'['", "','", "']'", "'='", "'.flows'", "':'", "'->'", 
+		"'{'", "'}'", "'*'", "'.initial_marking'", "'.final_markings'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, "INT", "ID", "COMMENT", 
+		"WS", "STR", "STR_MULTI"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+		int descCount = 0;
+		int markCount = 0;
+		int nameCount = 0;
+		int typeCount = 0;
+
+
+	public AptPNFormatLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "AptPNFormat.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2\33\u00e3\b\1\4\2"+
+		"\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4"+
+		"\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
+		"\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31"+
+		"\t\31\4\32\t\32\3\2\3\2\3\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\4\3"+
+		"\4\3\4\3\4\3\5\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6"+
+		"\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3"+
+		"\b\3\b\3\b\3\b\3\b\3\t\3\t\3\n\3\n\3\13\3\13\3\f\3\f\3\r\3\r\3\r\3\r\3"+
+		"\r\3\r\3\r\3\16\3\16\3\17\3\17\3\17\3\20\3\20\3\21\3\21\3\22\3\22\3\23"+
+		"\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23"+
+		"\3\23\3\23\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24"+
+		"\3\24\3\24\3\24\3\24\3\25\6\25\u00a7\n\25\r\25\16\25\u00a8\3\26\3\26\7"+
+		"\26\u00ad\n\26\f\26\16\26\u00b0\13\26\3\27\3\27\3\27\3\27\7\27\u00b6\n"+
+		"\27\f\27\16\27\u00b9\13\27\3\27\5\27\u00bc\n\27\3\27\3\27\3\27\3\27\3"+
+		"\27\7\27\u00c3\n\27\f\27\16\27\u00c6\13\27\3\27\3\27\5\27\u00ca\n\27\3"+
+		"\27\3\27\3\30\3\30\3\30\3\30\3\31\3\31\7\31\u00d4\n\31\f\31\16\31\u00d7"+
+		"\13\31\3\31\3\31\3\32\3\32\7\32\u00dd\n\32\f\32\16\32\u00e0\13\32\3\32"+
+		"\3\32\3\u00c4\2\33\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r"+
+		"\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33"+
+		"\3\2\b\5\2C\\aac|\6\2\62;C\\aac|\4\2\f\f\17\17\5\2\13\f\17\17\"\"\5\2"+
+		"\13\f\17\17$$\4\2\13\13$$\u00ea\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2"+
+		"\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2"+
+		"\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2"+
+		"\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2"+
+		"\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\3\65\3\2\2"+
+		"\2\5;\3\2\2\2\7A\3\2\2\2\tE\3\2\2\2\13H\3\2\2\2\rU\3\2\2\2\17]\3\2\2\2"+
+		"\21j\3\2\2\2\23l\3\2\2\2\25n\3\2\2\2\27p\3\2\2\2\31r\3\2\2\2\33y\3\2\2"+
+		"\2\35{\3\2\2\2\37~\3\2\2\2!\u0080\3\2\2\2#\u0082\3\2\2\2%\u0084\3\2\2"+
+		"\2\'\u0095\3\2\2\2)\u00a6\3\2\2\2+\u00aa\3\2\2\2-\u00c9\3\2\2\2/\u00cd"+
+		"\3\2\2\2\61\u00d1\3\2\2\2\63\u00da\3\2\2\2\65\66\7\60\2\2\66\67\7p\2\2"+
+		"\678\7c\2\289\7o\2\29:\7g\2\2:\4\3\2\2\2;<\7\60\2\2<=\7v\2\2=>\7{\2\2"+
+		">?\7r\2\2?@\7g\2\2@\6\3\2\2\2AB\7N\2\2BC\7R\2\2CD\7P\2\2D\b\3\2\2\2EF"+
+		"\7R\2\2FG\7P\2\2G\n\3\2\2\2HI\7\60\2\2IJ\7f\2\2JK\7g\2\2KL\7u\2\2LM\7"+
+		"e\2\2MN\7t\2\2NO\7k\2\2OP\7r\2\2PQ\7v\2\2QR\7k\2\2RS\7q\2\2ST\7p\2\2T"+
+		"\f\3\2\2\2UV\7\60\2\2VW\7r\2\2WX\7n\2\2XY\7c\2\2YZ\7e\2\2Z[\7g\2\2[\\"+
+		"\7u\2\2\\\16\3\2\2\2]^\7\60\2\2^_\7v\2\2_`\7t\2\2`a\7c\2\2ab\7p\2\2bc"+
+		"\7u\2\2cd\7k\2\2de\7v\2\2ef\7k\2\2fg\7q\2\2gh\7p\2\2hi\7u\2\2i\20\3\2"+
+		"\2\2jk\7]\2\2k\22\3\2\2\2lm\7.\2\2m\24\3\2\2\2no\7_\2\2o\26\3\2\2\2pq"+
+		"\7?\2\2q\30\3\2\2\2rs\7\60\2\2st\7h\2\2tu\7n\2\2uv\7q\2\2vw\7y\2\2wx\7"+
+		"u\2\2x\32\3\2\2\2yz\7<\2\2z\34\3\2\2\2{|\7/\2\2|}\7@\2\2}\36\3\2\2\2~"+
+		"\177\7}\2\2\177 \3\2\2\2\u0080\u0081\7\177\2\2\u0081\"\3\2\2\2\u0082\u0083"+
+		"\7,\2\2\u0083$\3\2\2\2\u0084\u0085\7\60\2\2\u0085\u0086\7k\2\2\u0086\u0087"+
+		"\7p\2\2\u0087\u0088\7k\2\2\u0088\u0089\7v\2\2\u0089\u008a\7k\2\2\u008a"+
+		"\u008b\7c\2\2\u008b\u008c\7n\2\2\u008c\u008d\7a\2\2\u008d\u008e\7o\2\2"+
+		"\u008e\u008f\7c\2\2\u008f\u0090\7t\2\2\u0090\u0091\7m\2\2\u0091\u0092"+
+		"\7k\2\2\u0092\u0093\7p\2\2\u0093\u0094\7i\2\2\u0094&\3\2\2\2\u0095\u0096"+
+		"\7\60\2\2\u0096\u0097\7h\2\2\u0097\u0098\7k\2\2\u0098\u0099\7p\2\2\u0099"+
+		"\u009a\7c\2\2\u009a\u009b\7n\2\2\u009b\u009c\7a\2\2\u009c\u009d\7o\2\2"+
+		"\u009d\u009e\7c\2\2\u009e\u009f\7t\2\2\u009f\u00a0\7m\2\2\u00a0\u00a1"+
+		"\7k\2\2\u00a1\u00a2\7p\2\2\u00a2\u00a3\7i\2\2\u00a3\u00a4\7u\2\2\u00a4"+
+		"(\3\2\2\2\u00a5\u00a7\4\62;\2\u00a6\u00a5\3\2\2\2\u00a7\u00a8\3\2\2\2"+
+		"\u00a8\u00a6\3\2\2\2\u00a8\u00a9\3\2\2\2\u00a9*\3\2\2\2\u00aa\u00ae\t"+
+		"\2\2\2\u00ab\u00ad\t\3\2\2\u00ac\u00ab\3\2\2\2\u00ad\u00b0\3\2\2\2\u00ae"+
+		"\u00ac\3\2\2\2\u00ae\u00af\3\2\2\2\u00af,\3\2\2\2\u00b0\u00ae\3\2\2\2"+
+		"\u00b1\u00b2\7\61\2\2\u00b2\u00b3\7\61\2\2\u00b3\u00b7\3\2\2\2\u00b4\u00b6"+
+		"\n\4\2\2\u00b5\u00b4\3\2\2\2\u00b6\u00b9\3\2\2\2\u00b7\u00b5\3\2\2\2\u00b7"+
+		"\u00b8\3\2\2\2\u00b8\u00bb\3\2\2\2\u00b9\u00b7\3\2\2\2\u00ba\u00bc\7\17"+
+		"\2\2\u00bb\u00ba\3\2\2\2\u00bb\u00bc\3\2\2\2\u00bc\u00bd\3\2\2\2\u00bd"+
+		"\u00ca\7\f\2\2\u00be\u00bf\7\61\2\2\u00bf\u00c0\7,\2\2\u00c0\u00c4\3\2"+
+		"\2\2\u00c1\u00c3\13\2\2\2\u00c2\u00c1\3\2\2\2\u00c3\u00c6\3\2\2\2\u00c4"+
+		"\u00c5\3\2\2\2\u00c4\u00c2\3\2\2\2\u00c5\u00c7\3\2\2\2\u00c6\u00c4\3\2"+
+		"\2\2\u00c7\u00c8\7,\2\2\u00c8\u00ca\7\61\2\2\u00c9\u00b1\3\2\2\2\u00c9"+
+		"\u00be\3\2\2\2\u00ca\u00cb\3\2\2\2\u00cb\u00cc\b\27\2\2\u00cc.\3\2\2\2"+
+		"\u00cd\u00ce\t\5\2\2\u00ce\u00cf\3\2\2\2\u00cf\u00d0\b\30\2\2\u00d0\60"+
+		"\3\2\2\2\u00d1\u00d5\7$\2\2\u00d2\u00d4\n\6\2\2\u00d3\u00d2\3\2\2\2\u00d4"+
+		"\u00d7\3\2\2\2\u00d5\u00d3\3\2\2\2\u00d5\u00d6\3\2\2\2\u00d6\u00d8\3\2"+
+		"\2\2\u00d7\u00d5\3\2\2\2\u00d8\u00d9\7$\2\2\u00d9\62\3\2\2\2\u00da\u00de"+
+		"\7$\2\2\u00db\u00dd\n\7\2\2\u00dc\u00db\3\2\2\2\u00dd\u00e0\3\2\2\2\u00de"+
+		"\u00dc\3\2\2\2\u00de\u00df\3\2\2\2\u00df\u00e1\3\2\2\2\u00e0\u00de\3\2"+
+		"\2\2\u00e1\u00e2\7$\2\2\u00e2\64\3\2\2\2\13\2\u00a8\u00ae\u00b7\u00bb"+
+		"\u00c4\u00c9\u00d5\u00de\3\b\2\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,553 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/LoLAPNFormat.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class LoLAPNFormatParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, COMMENT=9, 
+		WHITESPACE=10, INT=11, ID=12;
+	public static final int
+		RULE_pn = 0, RULE_places = 1, RULE_marking = 2, RULE_transitions = 3, 
+		RULE_transition = 4, RULE_transitionPreset = 5, RULE_transitionPostset = 6, 
+		RULE_pwList = 7, RULE_pw = 8;
+	public static final String[] ruleNames = {
+		"pn", "places", "marking", "transitions", "transition", "transitionPreset", 
+		"transitionPostset", "pwList", "pw"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'PLACE'", "','", "';'", "'MARKING'", "'TRANSITION'", "'CONSUME'", 
+		"'PRODUCE'", "':'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, null, null, "COMMENT", "WHITESPACE", 
+		"INT", "ID"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "LoLAPNFormat.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public LoLAPNFormatParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class PnContext extends ParserRuleContext {
+		public PlacesContext places() {
+			return getRuleContext(PlacesContext.class,0);
+		}
+		public MarkingContext marking() {
+			return getRuleContext(MarkingContext.class,0);
+		}
+		public TransitionsContext transitions() {
+			return getRuleContext(TransitionsContext.class,0);
+		}
+		public PnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pn; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).enterPn(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).exitPn(this);
+		}
+	}
+
+	public final PnContext pn() throws RecognitionException {
+		PnContext _localctx = new PnContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_pn);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(18);
+			places();
+			setState(19);
+			marking();
+			setState(20);
+			transitions();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PlacesContext extends ParserRuleContext {
+		public List<TerminalNode> ID() { return getTokens(LoLAPNFormatParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(LoLAPNFormatParser.ID, i);
+		}
+		public PlacesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_places; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).enterPlaces(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).exitPlaces(this);
+		}
+	}
+
+	public final PlacesContext places() throws RecognitionException {
+		PlacesContext _localctx = new PlacesContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_places);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(22);
+			match(T__0);
+			setState(23);
+			match(ID);
+			setState(28);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__1) {
+				{
+				{
+				setState(24);
+				match(T__1);
+				setState(25);
+				match(ID);
+				}
+				}
+				setState(30);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(31);
+			match(T__2);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MarkingContext extends ParserRuleContext {
+		public PwListContext pwList() {
+			return getRuleContext(PwListContext.class,0);
+		}
+		public MarkingContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_marking; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).enterMarking(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).exitMarking(this);
+		}
+	}
+
+	public final MarkingContext marking() throws RecognitionException {
+		MarkingContext _localctx = new MarkingContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_marking);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(33);
+			match(T__3);
+			setState(34);
+			pwList();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TransitionsContext extends ParserRuleContext {
+		public List<TransitionContext> transition() {
+			return getRuleContexts(TransitionContext.class);
+		}
+		public TransitionContext transition(int i) {
+			return getRuleContext(TransitionContext.class,i);
+		}
+		public TransitionsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_transitions; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).enterTransitions(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).exitTransitions(this);
+		}
+	}
+
+	public final TransitionsContext transitions() throws RecognitionException {
+		TransitionsContext _localctx = new TransitionsContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_transitions);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(37); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(36);
+				transition();
+				}
+				}
+				setState(39); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==T__4 );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TransitionContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(LoLAPNFormatParser.ID, 0); }
+		public TransitionPresetContext transitionPreset() {
+			return getRuleContext(TransitionPresetContext.class,0);
+		}
+		public TransitionPostsetContext transitionPostset() {
+			return getRuleContext(TransitionPostsetContext.class,0);
+		}
+		public TransitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_transition; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).enterTransition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).exitTransition(this);
+		}
+	}
+
+	public final TransitionContext transition() throws RecognitionException {
+		TransitionContext _localctx = new TransitionContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_transition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(41);
+			match(T__4);
+			setState(42);
+			match(ID);
+			setState(43);
+			transitionPreset();
+			setState(44);
+			transitionPostset();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TransitionPresetContext extends ParserRuleContext {
+		public PwListContext pwList() {
+			return getRuleContext(PwListContext.class,0);
+		}
+		public TransitionPresetContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_transitionPreset; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).enterTransitionPreset(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).exitTransitionPreset(this);
+		}
+	}
+
+	public final TransitionPresetContext transitionPreset() throws RecognitionException {
+		TransitionPresetContext _localctx = new TransitionPresetContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_transitionPreset);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(46);
+			match(T__5);
+			setState(47);
+			pwList();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TransitionPostsetContext extends ParserRuleContext {
+		public PwListContext pwList() {
+			return getRuleContext(PwListContext.class,0);
+		}
+		public TransitionPostsetContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_transitionPostset; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).enterTransitionPostset(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).exitTransitionPostset(this);
+		}
+	}
+
+	public final TransitionPostsetContext transitionPostset() throws RecognitionException {
+		TransitionPostsetContext _localctx = new TransitionPostsetContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_transitionPostset);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(49);
+			match(T__6);
+			setState(50);
+			pwList();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PwListContext extends ParserRuleContext {
+		public List<PwContext> pw() {
+			return getRuleContexts(PwContext.class);
+		}
+		public PwContext pw(int i) {
+			return getRuleContext(PwContext.class,i);
+		}
+		public PwListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pwList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).enterPwList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).exitPwList(this);
+		}
+	}
+
+	public final PwListContext pwList() throws RecognitionException {
+		PwListContext _localctx = new PwListContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_pwList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(52);
+			pw();
+			setState(57);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__1) {
+				{
+				{
+				setState(53);
+				match(T__1);
+				setState(54);
+				pw();
+				}
+				}
+				setState(59);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(60);
+			match(T__2);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PwContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(LoLAPNFormatParser.ID, 0); }
+		public TerminalNode INT() { return getToken(LoLAPNFormatParser.INT, 0); }
+		public PwContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pw; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).enterPw(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LoLAPNFormatListener ) ((LoLAPNFormatListener)listener).exitPw(this);
+		}
+	}
+
+	public final PwContext pw() throws RecognitionException {
+		PwContext _localctx = new PwContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_pw);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(62);
+			match(ID);
+			setState(63);
+			match(T__7);
+			setState(64);
+			match(INT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\16E\4\2\t\2\4\3\t"+
+		"\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\3\2\3\2\3\2"+
+		"\3\2\3\3\3\3\3\3\3\3\7\3\35\n\3\f\3\16\3 \13\3\3\3\3\3\3\4\3\4\3\4\3\5"+
+		"\6\5(\n\5\r\5\16\5)\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\b\3\b\3\b\3\t\3"+
+		"\t\3\t\7\t:\n\t\f\t\16\t=\13\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\2\2\13\2\4"+
+		"\6\b\n\f\16\20\22\2\2>\2\24\3\2\2\2\4\30\3\2\2\2\6#\3\2\2\2\b\'\3\2\2"+
+		"\2\n+\3\2\2\2\f\60\3\2\2\2\16\63\3\2\2\2\20\66\3\2\2\2\22@\3\2\2\2\24"+
+		"\25\5\4\3\2\25\26\5\6\4\2\26\27\5\b\5\2\27\3\3\2\2\2\30\31\7\3\2\2\31"+
+		"\36\7\16\2\2\32\33\7\4\2\2\33\35\7\16\2\2\34\32\3\2\2\2\35 \3\2\2\2\36"+
+		"\34\3\2\2\2\36\37\3\2\2\2\37!\3\2\2\2 \36\3\2\2\2!\"\7\5\2\2\"\5\3\2\2"+
+		"\2#$\7\6\2\2$%\5\20\t\2%\7\3\2\2\2&(\5\n\6\2\'&\3\2\2\2()\3\2\2\2)\'\3"+
+		"\2\2\2)*\3\2\2\2*\t\3\2\2\2+,\7\7\2\2,-\7\16\2\2-.\5\f\7\2./\5\16\b\2"+
+		"/\13\3\2\2\2\60\61\7\b\2\2\61\62\5\20\t\2\62\r\3\2\2\2\63\64\7\t\2\2\64"+
+		"\65\5\20\t\2\65\17\3\2\2\2\66;\5\22\n\2\678\7\4\2\28:\5\22\n\29\67\3\2"+
+		"\2\2:=\3\2\2\2;9\3\2\2\2;<\3\2\2\2<>\3\2\2\2=;\3\2\2\2>?\7\5\2\2?\21\3"+
+		"\2\2\2@A\7\16\2\2AB\7\n\2\2BC\7\r\2\2C\23\3\2\2\2\5\36);";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
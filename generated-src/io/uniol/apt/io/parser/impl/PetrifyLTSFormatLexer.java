@@ -0,0 +1,136 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/PetrifyLTSFormatLexer.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class PetrifyLTSFormatLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		MODEL=1, INPUTS=2, STATE=3, GRAPH=4, MARKING=5, END=6, CURLY_OPEN=7, CURLY_CLOSE=8, 
+		NL=9, ID=10, COMMENT=11, WS=12, NAME=13;
+	public static final int MODEL_MODE = 1;
+	public static String[] modeNames = {
+		"DEFAULT_MODE", "MODEL_MODE"
+	};
+
+	public static final String[] ruleNames = {
+		"MODEL", "INPUTS", "STATE", "GRAPH", "MARKING", "END", "CURLY_OPEN", "CURLY_CLOSE", 
+		"NL", "ID", "COMMENT", "WS", "NAME", "M_NL", "M_COMMENT", "M_WS"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'.model'", "'.inputs'", "'.state'", "'graph'", "'.marking'", "'.end'", 
+		"'{'", "'}'", "'\n'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, "MODEL", "INPUTS", "STATE", "GRAPH", "MARKING", "END", "CURLY_OPEN", 
+		"CURLY_CLOSE", "NL", "ID", "COMMENT", "WS", "NAME"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public PetrifyLTSFormatLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "PetrifyLTSFormatLexer.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2\17\u0081\b\1\b\1"+
+		"\4\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t"+
+		"\n\4\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\3"+
+		"\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\4"+
+		"\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3"+
+		"\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\t\3\t\3\n\3\n\3\13\3\13\7"+
+		"\13Y\n\13\f\13\16\13\\\13\13\3\f\3\f\7\f`\n\f\f\f\16\fc\13\f\3\f\3\f\3"+
+		"\r\6\rh\n\r\r\r\16\ri\3\r\3\r\3\16\6\16o\n\16\r\16\16\16p\3\17\3\17\3"+
+		"\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\2\2\22"+
+		"\4\3\6\4\b\5\n\6\f\7\16\b\20\t\22\n\24\13\26\f\30\r\32\16\34\17\36\2 "+
+		"\2\"\2\4\2\3\7\5\2C\\aac|\7\2//\62<C\\aac|\3\2\f\f\5\2\13\13\17\17\"\""+
+		"\5\2\f\f\"\"%%\u0083\2\4\3\2\2\2\2\6\3\2\2\2\2\b\3\2\2\2\2\n\3\2\2\2\2"+
+		"\f\3\2\2\2\2\16\3\2\2\2\2\20\3\2\2\2\2\22\3\2\2\2\2\24\3\2\2\2\2\26\3"+
+		"\2\2\2\2\30\3\2\2\2\2\32\3\2\2\2\3\34\3\2\2\2\3\36\3\2\2\2\3 \3\2\2\2"+
+		"\3\"\3\2\2\2\4$\3\2\2\2\6-\3\2\2\2\b\65\3\2\2\2\n<\3\2\2\2\fB\3\2\2\2"+
+		"\16K\3\2\2\2\20P\3\2\2\2\22R\3\2\2\2\24T\3\2\2\2\26V\3\2\2\2\30]\3\2\2"+
+		"\2\32g\3\2\2\2\34n\3\2\2\2\36r\3\2\2\2 w\3\2\2\2\"|\3\2\2\2$%\7\60\2\2"+
+		"%&\7o\2\2&\'\7q\2\2\'(\7f\2\2()\7g\2\2)*\7n\2\2*+\3\2\2\2+,\b\2\2\2,\5"+
+		"\3\2\2\2-.\7\60\2\2./\7k\2\2/\60\7p\2\2\60\61\7r\2\2\61\62\7w\2\2\62\63"+
+		"\7v\2\2\63\64\7u\2\2\64\7\3\2\2\2\65\66\7\60\2\2\66\67\7u\2\2\678\7v\2"+
+		"\289\7c\2\29:\7v\2\2:;\7g\2\2;\t\3\2\2\2<=\7i\2\2=>\7t\2\2>?\7c\2\2?@"+
+		"\7r\2\2@A\7j\2\2A\13\3\2\2\2BC\7\60\2\2CD\7o\2\2DE\7c\2\2EF\7t\2\2FG\7"+
+		"m\2\2GH\7k\2\2HI\7p\2\2IJ\7i\2\2J\r\3\2\2\2KL\7\60\2\2LM\7g\2\2MN\7p\2"+
+		"\2NO\7f\2\2O\17\3\2\2\2PQ\7}\2\2Q\21\3\2\2\2RS\7\177\2\2S\23\3\2\2\2T"+
+		"U\7\f\2\2U\25\3\2\2\2VZ\t\2\2\2WY\t\3\2\2XW\3\2\2\2Y\\\3\2\2\2ZX\3\2\2"+
+		"\2Z[\3\2\2\2[\27\3\2\2\2\\Z\3\2\2\2]a\7%\2\2^`\n\4\2\2_^\3\2\2\2`c\3\2"+
+		"\2\2a_\3\2\2\2ab\3\2\2\2bd\3\2\2\2ca\3\2\2\2de\b\f\3\2e\31\3\2\2\2fh\t"+
+		"\5\2\2gf\3\2\2\2hi\3\2\2\2ig\3\2\2\2ij\3\2\2\2jk\3\2\2\2kl\b\r\3\2l\33"+
+		"\3\2\2\2mo\n\6\2\2nm\3\2\2\2op\3\2\2\2pn\3\2\2\2pq\3\2\2\2q\35\3\2\2\2"+
+		"rs\5\24\n\2st\3\2\2\2tu\b\17\4\2uv\b\17\5\2v\37\3\2\2\2wx\5\30\f\2xy\3"+
+		"\2\2\2yz\b\20\6\2z{\b\20\3\2{!\3\2\2\2|}\5\32\r\2}~\3\2\2\2~\177\b\21"+
+		"\7\2\177\u0080\b\21\3\2\u0080#\3\2\2\2\b\2\3Zaip\b\4\3\2\b\2\2\t\13\2"+
+		"\4\2\2\t\r\2\t\16\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/PetrifyLTSFormatParser.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PetrifyLTSFormatParser}.
+ */
+public interface PetrifyLTSFormatParserListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PetrifyLTSFormatParser#ts}.
+	 * @param ctx the parse tree
+	 */
+	void enterTs(PetrifyLTSFormatParser.TsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyLTSFormatParser#ts}.
+	 * @param ctx the parse tree
+	 */
+	void exitTs(PetrifyLTSFormatParser.TsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyLTSFormatParser#model}.
+	 * @param ctx the parse tree
+	 */
+	void enterModel(PetrifyLTSFormatParser.ModelContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyLTSFormatParser#model}.
+	 * @param ctx the parse tree
+	 */
+	void exitModel(PetrifyLTSFormatParser.ModelContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyLTSFormatParser#inputs}.
+	 * @param ctx the parse tree
+	 */
+	void enterInputs(PetrifyLTSFormatParser.InputsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyLTSFormatParser#inputs}.
+	 * @param ctx the parse tree
+	 */
+	void exitInputs(PetrifyLTSFormatParser.InputsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyLTSFormatParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void enterType(PetrifyLTSFormatParser.TypeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyLTSFormatParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void exitType(PetrifyLTSFormatParser.TypeContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyLTSFormatParser#transitions}.
+	 * @param ctx the parse tree
+	 */
+	void enterTransitions(PetrifyLTSFormatParser.TransitionsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyLTSFormatParser#transitions}.
+	 * @param ctx the parse tree
+	 */
+	void exitTransitions(PetrifyLTSFormatParser.TransitionsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyLTSFormatParser#transition}.
+	 * @param ctx the parse tree
+	 */
+	void enterTransition(PetrifyLTSFormatParser.TransitionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyLTSFormatParser#transition}.
+	 * @param ctx the parse tree
+	 */
+	void exitTransition(PetrifyLTSFormatParser.TransitionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyLTSFormatParser#target}.
+	 * @param ctx the parse tree
+	 */
+	void enterTarget(PetrifyLTSFormatParser.TargetContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyLTSFormatParser#target}.
+	 * @param ctx the parse tree
+	 */
+	void exitTarget(PetrifyLTSFormatParser.TargetContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyLTSFormatParser#marking}.
+	 * @param ctx the parse tree
+	 */
+	void enterMarking(PetrifyLTSFormatParser.MarkingContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyLTSFormatParser#marking}.
+	 * @param ctx the parse tree
+	 */
+	void exitMarking(PetrifyLTSFormatParser.MarkingContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyLTSFormatParser#end}.
+	 * @param ctx the parse tree
+	 */
+	void enterEnd(PetrifyLTSFormatParser.EndContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyLTSFormatParser#end}.
+	 * @param ctx the parse tree
+	 */
+	void exitEnd(PetrifyLTSFormatParser.EndContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyLTSFormatParser#nl}.
+	 * @param ctx the parse tree
+	 */
+	void enterNl(PetrifyLTSFormatParser.NlContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyLTSFormatParser#nl}.
+	 * @param ctx the parse tree
+	 */
+	void exitNl(PetrifyLTSFormatParser.NlContext ctx);
+}
\ No newline at end of file
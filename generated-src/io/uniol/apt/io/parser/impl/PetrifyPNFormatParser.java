@@ -0,0 +1,989 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/PetrifyPNFormatParser.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class PetrifyPNFormatParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		MODEL=1, TRANSITIONS=2, GRAPH=3, MARKING=4, END=5, CAPACITY=6, PAREN_OPEN=7, 
+		PAREN_CLOSE=8, CURLY_OPEN=9, CURLY_CLOSE=10, ANGLE_OPEN=11, ANGLE_CLOSE=12, 
+		COMMA=13, EQUAL=14, NL=15, EVENT=16, ID=17, INT=18, COMMENT=19, WS=20, 
+		NAME=21;
+	public static final int
+		RULE_pn = 0, RULE_model = 1, RULE_transitions = 2, RULE_type = 3, RULE_flows = 4, 
+		RULE_flow = 5, RULE_flow_target = 6, RULE_capacity = 7, RULE_marking = 8, 
+		RULE_token = 9, RULE_end = 10, RULE_nl = 11, RULE_event = 12;
+	public static final String[] ruleNames = {
+		"pn", "model", "transitions", "type", "flows", "flow", "flow_target", 
+		"capacity", "marking", "token", "end", "nl", "event"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'.model'", null, "'.graph'", "'.marking'", "'.end'", "'.capacity'", 
+		"'('", "')'", "'{'", "'}'", "'<'", "'>'", "','", "'='", "'\n'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, "MODEL", "TRANSITIONS", "GRAPH", "MARKING", "END", "CAPACITY", "PAREN_OPEN", 
+		"PAREN_CLOSE", "CURLY_OPEN", "CURLY_CLOSE", "ANGLE_OPEN", "ANGLE_CLOSE", 
+		"COMMA", "EQUAL", "NL", "EVENT", "ID", "INT", "COMMENT", "WS", "NAME"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "PetrifyPNFormatParser.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public PetrifyPNFormatParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class PnContext extends ParserRuleContext {
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public FlowsContext flows() {
+			return getRuleContext(FlowsContext.class,0);
+		}
+		public MarkingContext marking() {
+			return getRuleContext(MarkingContext.class,0);
+		}
+		public EndContext end() {
+			return getRuleContext(EndContext.class,0);
+		}
+		public NlContext nl() {
+			return getRuleContext(NlContext.class,0);
+		}
+		public ModelContext model() {
+			return getRuleContext(ModelContext.class,0);
+		}
+		public TransitionsContext transitions() {
+			return getRuleContext(TransitionsContext.class,0);
+		}
+		public CapacityContext capacity() {
+			return getRuleContext(CapacityContext.class,0);
+		}
+		public PnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pn; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterPn(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitPn(this);
+		}
+	}
+
+	public final PnContext pn() throws RecognitionException {
+		PnContext _localctx = new PnContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_pn);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(27);
+			_la = _input.LA(1);
+			if (_la==NL) {
+				{
+				setState(26);
+				nl();
+				}
+			}
+
+			setState(30);
+			_la = _input.LA(1);
+			if (_la==MODEL) {
+				{
+				setState(29);
+				model();
+				}
+			}
+
+			setState(33);
+			_la = _input.LA(1);
+			if (_la==TRANSITIONS) {
+				{
+				setState(32);
+				transitions();
+				}
+			}
+
+			setState(35);
+			type();
+			setState(36);
+			flows();
+			setState(38);
+			_la = _input.LA(1);
+			if (_la==CAPACITY) {
+				{
+				setState(37);
+				capacity();
+				}
+			}
+
+			setState(40);
+			marking();
+			setState(41);
+			end();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ModelContext extends ParserRuleContext {
+		public TerminalNode MODEL() { return getToken(PetrifyPNFormatParser.MODEL, 0); }
+		public TerminalNode NAME() { return getToken(PetrifyPNFormatParser.NAME, 0); }
+		public NlContext nl() {
+			return getRuleContext(NlContext.class,0);
+		}
+		public ModelContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_model; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterModel(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitModel(this);
+		}
+	}
+
+	public final ModelContext model() throws RecognitionException {
+		ModelContext _localctx = new ModelContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_model);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(43);
+			match(MODEL);
+			setState(44);
+			match(NAME);
+			setState(45);
+			nl();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TransitionsContext extends ParserRuleContext {
+		public TerminalNode TRANSITIONS() { return getToken(PetrifyPNFormatParser.TRANSITIONS, 0); }
+		public NlContext nl() {
+			return getRuleContext(NlContext.class,0);
+		}
+		public List<TerminalNode> ID() { return getTokens(PetrifyPNFormatParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(PetrifyPNFormatParser.ID, i);
+		}
+		public TransitionsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_transitions; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterTransitions(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitTransitions(this);
+		}
+	}
+
+	public final TransitionsContext transitions() throws RecognitionException {
+		TransitionsContext _localctx = new TransitionsContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_transitions);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(47);
+			match(TRANSITIONS);
+			setState(51);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==ID) {
+				{
+				{
+				setState(48);
+				match(ID);
+				}
+				}
+				setState(53);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(54);
+			nl();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeContext extends ParserRuleContext {
+		public TerminalNode GRAPH() { return getToken(PetrifyPNFormatParser.GRAPH, 0); }
+		public NlContext nl() {
+			return getRuleContext(NlContext.class,0);
+		}
+		public TypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitType(this);
+		}
+	}
+
+	public final TypeContext type() throws RecognitionException {
+		TypeContext _localctx = new TypeContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_type);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(56);
+			match(GRAPH);
+			setState(57);
+			nl();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FlowsContext extends ParserRuleContext {
+		public List<FlowContext> flow() {
+			return getRuleContexts(FlowContext.class);
+		}
+		public FlowContext flow(int i) {
+			return getRuleContext(FlowContext.class,i);
+		}
+		public FlowsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_flows; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterFlows(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitFlows(this);
+		}
+	}
+
+	public final FlowsContext flows() throws RecognitionException {
+		FlowsContext _localctx = new FlowsContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_flows);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(62);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==EVENT || _la==ID) {
+				{
+				{
+				setState(59);
+				flow();
+				}
+				}
+				setState(64);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FlowContext extends ParserRuleContext {
+		public EventContext source;
+		public NlContext nl() {
+			return getRuleContext(NlContext.class,0);
+		}
+		public EventContext event() {
+			return getRuleContext(EventContext.class,0);
+		}
+		public List<Flow_targetContext> flow_target() {
+			return getRuleContexts(Flow_targetContext.class);
+		}
+		public Flow_targetContext flow_target(int i) {
+			return getRuleContext(Flow_targetContext.class,i);
+		}
+		public FlowContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_flow; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterFlow(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitFlow(this);
+		}
+	}
+
+	public final FlowContext flow() throws RecognitionException {
+		FlowContext _localctx = new FlowContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_flow);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(65);
+			((FlowContext)_localctx).source = event();
+			setState(69);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==EVENT || _la==ID) {
+				{
+				{
+				setState(66);
+				flow_target();
+				}
+				}
+				setState(71);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(72);
+			nl();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Flow_targetContext extends ParserRuleContext {
+		public EventContext event() {
+			return getRuleContext(EventContext.class,0);
+		}
+		public TerminalNode PAREN_OPEN() { return getToken(PetrifyPNFormatParser.PAREN_OPEN, 0); }
+		public TerminalNode INT() { return getToken(PetrifyPNFormatParser.INT, 0); }
+		public TerminalNode PAREN_CLOSE() { return getToken(PetrifyPNFormatParser.PAREN_CLOSE, 0); }
+		public Flow_targetContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_flow_target; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterFlow_target(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitFlow_target(this);
+		}
+	}
+
+	public final Flow_targetContext flow_target() throws RecognitionException {
+		Flow_targetContext _localctx = new Flow_targetContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_flow_target);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(74);
+			event();
+			setState(78);
+			_la = _input.LA(1);
+			if (_la==PAREN_OPEN) {
+				{
+				setState(75);
+				match(PAREN_OPEN);
+				setState(76);
+				match(INT);
+				setState(77);
+				match(PAREN_CLOSE);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CapacityContext extends ParserRuleContext {
+		public TerminalNode CAPACITY() { return getToken(PetrifyPNFormatParser.CAPACITY, 0); }
+		public NlContext nl() {
+			return getRuleContext(NlContext.class,0);
+		}
+		public List<TerminalNode> ID() { return getTokens(PetrifyPNFormatParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(PetrifyPNFormatParser.ID, i);
+		}
+		public List<TerminalNode> EQUAL() { return getTokens(PetrifyPNFormatParser.EQUAL); }
+		public TerminalNode EQUAL(int i) {
+			return getToken(PetrifyPNFormatParser.EQUAL, i);
+		}
+		public List<TerminalNode> INT() { return getTokens(PetrifyPNFormatParser.INT); }
+		public TerminalNode INT(int i) {
+			return getToken(PetrifyPNFormatParser.INT, i);
+		}
+		public CapacityContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_capacity; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterCapacity(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitCapacity(this);
+		}
+	}
+
+	public final CapacityContext capacity() throws RecognitionException {
+		CapacityContext _localctx = new CapacityContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_capacity);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(80);
+			match(CAPACITY);
+			setState(86);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==ID) {
+				{
+				{
+				setState(81);
+				match(ID);
+				setState(82);
+				match(EQUAL);
+				setState(83);
+				match(INT);
+				}
+				}
+				setState(88);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(89);
+			nl();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MarkingContext extends ParserRuleContext {
+		public TerminalNode MARKING() { return getToken(PetrifyPNFormatParser.MARKING, 0); }
+		public TerminalNode CURLY_OPEN() { return getToken(PetrifyPNFormatParser.CURLY_OPEN, 0); }
+		public TerminalNode CURLY_CLOSE() { return getToken(PetrifyPNFormatParser.CURLY_CLOSE, 0); }
+		public NlContext nl() {
+			return getRuleContext(NlContext.class,0);
+		}
+		public List<TokenContext> token() {
+			return getRuleContexts(TokenContext.class);
+		}
+		public TokenContext token(int i) {
+			return getRuleContext(TokenContext.class,i);
+		}
+		public MarkingContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_marking; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterMarking(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitMarking(this);
+		}
+	}
+
+	public final MarkingContext marking() throws RecognitionException {
+		MarkingContext _localctx = new MarkingContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_marking);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(91);
+			match(MARKING);
+			setState(92);
+			match(CURLY_OPEN);
+			setState(96);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==ANGLE_OPEN || _la==ID) {
+				{
+				{
+				setState(93);
+				token();
+				}
+				}
+				setState(98);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(99);
+			match(CURLY_CLOSE);
+			setState(100);
+			nl();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TokenContext extends ParserRuleContext {
+		public TokenContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_token; }
+	 
+		public TokenContext() { }
+		public void copyFrom(TokenContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class TokenImplicitPlaceContext extends TokenContext {
+		public EventContext source;
+		public EventContext target;
+		public TerminalNode ANGLE_OPEN() { return getToken(PetrifyPNFormatParser.ANGLE_OPEN, 0); }
+		public TerminalNode COMMA() { return getToken(PetrifyPNFormatParser.COMMA, 0); }
+		public TerminalNode ANGLE_CLOSE() { return getToken(PetrifyPNFormatParser.ANGLE_CLOSE, 0); }
+		public List<EventContext> event() {
+			return getRuleContexts(EventContext.class);
+		}
+		public EventContext event(int i) {
+			return getRuleContext(EventContext.class,i);
+		}
+		public TerminalNode EQUAL() { return getToken(PetrifyPNFormatParser.EQUAL, 0); }
+		public TerminalNode INT() { return getToken(PetrifyPNFormatParser.INT, 0); }
+		public TokenImplicitPlaceContext(TokenContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterTokenImplicitPlace(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitTokenImplicitPlace(this);
+		}
+	}
+	public static class TokenExplicitPlaceContext extends TokenContext {
+		public TerminalNode ID() { return getToken(PetrifyPNFormatParser.ID, 0); }
+		public TerminalNode EQUAL() { return getToken(PetrifyPNFormatParser.EQUAL, 0); }
+		public TerminalNode INT() { return getToken(PetrifyPNFormatParser.INT, 0); }
+		public TokenExplicitPlaceContext(TokenContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterTokenExplicitPlace(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitTokenExplicitPlace(this);
+		}
+	}
+
+	public final TokenContext token() throws RecognitionException {
+		TokenContext _localctx = new TokenContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_token);
+		int _la;
+		try {
+			setState(116);
+			switch (_input.LA(1)) {
+			case ID:
+				_localctx = new TokenExplicitPlaceContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(102);
+				match(ID);
+				setState(105);
+				_la = _input.LA(1);
+				if (_la==EQUAL) {
+					{
+					setState(103);
+					match(EQUAL);
+					setState(104);
+					match(INT);
+					}
+				}
+
+				}
+				break;
+			case ANGLE_OPEN:
+				_localctx = new TokenImplicitPlaceContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(107);
+				match(ANGLE_OPEN);
+				setState(108);
+				((TokenImplicitPlaceContext)_localctx).source = event();
+				setState(109);
+				match(COMMA);
+				setState(110);
+				((TokenImplicitPlaceContext)_localctx).target = event();
+				setState(111);
+				match(ANGLE_CLOSE);
+				setState(114);
+				_la = _input.LA(1);
+				if (_la==EQUAL) {
+					{
+					setState(112);
+					match(EQUAL);
+					setState(113);
+					match(INT);
+					}
+				}
+
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EndContext extends ParserRuleContext {
+		public TerminalNode END() { return getToken(PetrifyPNFormatParser.END, 0); }
+		public NlContext nl() {
+			return getRuleContext(NlContext.class,0);
+		}
+		public EndContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_end; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterEnd(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitEnd(this);
+		}
+	}
+
+	public final EndContext end() throws RecognitionException {
+		EndContext _localctx = new EndContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_end);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(118);
+			match(END);
+			setState(119);
+			nl();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NlContext extends ParserRuleContext {
+		public List<TerminalNode> NL() { return getTokens(PetrifyPNFormatParser.NL); }
+		public TerminalNode NL(int i) {
+			return getToken(PetrifyPNFormatParser.NL, i);
+		}
+		public NlContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nl; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterNl(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitNl(this);
+		}
+	}
+
+	public final NlContext nl() throws RecognitionException {
+		NlContext _localctx = new NlContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_nl);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(122); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(121);
+				match(NL);
+				}
+				}
+				setState(124); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==NL );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EventContext extends ParserRuleContext {
+		public EventContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_event; }
+	 
+		public EventContext() { }
+		public void copyFrom(EventContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class EventSplitContext extends EventContext {
+		public TerminalNode EVENT() { return getToken(PetrifyPNFormatParser.EVENT, 0); }
+		public EventSplitContext(EventContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterEventSplit(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitEventSplit(this);
+		}
+	}
+	public static class EventUnsplitContext extends EventContext {
+		public TerminalNode ID() { return getToken(PetrifyPNFormatParser.ID, 0); }
+		public EventUnsplitContext(EventContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).enterEventUnsplit(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PetrifyPNFormatParserListener ) ((PetrifyPNFormatParserListener)listener).exitEventUnsplit(this);
+		}
+	}
+
+	public final EventContext event() throws RecognitionException {
+		EventContext _localctx = new EventContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_event);
+		try {
+			setState(128);
+			switch (_input.LA(1)) {
+			case ID:
+				_localctx = new EventUnsplitContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(126);
+				match(ID);
+				}
+				break;
+			case EVENT:
+				_localctx = new EventSplitContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(127);
+				match(EVENT);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\27\u0085\4\2\t\2"+
+		"\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\3\2\5\2\36\n\2\3\2\5\2!\n\2\3\2\5\2$\n"+
+		"\2\3\2\3\2\3\2\5\2)\n\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\4\3\4\7\4\64\n\4"+
+		"\f\4\16\4\67\13\4\3\4\3\4\3\5\3\5\3\5\3\6\7\6?\n\6\f\6\16\6B\13\6\3\7"+
+		"\3\7\7\7F\n\7\f\7\16\7I\13\7\3\7\3\7\3\b\3\b\3\b\3\b\5\bQ\n\b\3\t\3\t"+
+		"\3\t\3\t\7\tW\n\t\f\t\16\tZ\13\t\3\t\3\t\3\n\3\n\3\n\7\na\n\n\f\n\16\n"+
+		"d\13\n\3\n\3\n\3\n\3\13\3\13\3\13\5\13l\n\13\3\13\3\13\3\13\3\13\3\13"+
+		"\3\13\3\13\5\13u\n\13\5\13w\n\13\3\f\3\f\3\f\3\r\6\r}\n\r\r\r\16\r~\3"+
+		"\16\3\16\5\16\u0083\n\16\3\16\2\2\17\2\4\6\b\n\f\16\20\22\24\26\30\32"+
+		"\2\2\u0086\2\35\3\2\2\2\4-\3\2\2\2\6\61\3\2\2\2\b:\3\2\2\2\n@\3\2\2\2"+
+		"\fC\3\2\2\2\16L\3\2\2\2\20R\3\2\2\2\22]\3\2\2\2\24v\3\2\2\2\26x\3\2\2"+
+		"\2\30|\3\2\2\2\32\u0082\3\2\2\2\34\36\5\30\r\2\35\34\3\2\2\2\35\36\3\2"+
+		"\2\2\36 \3\2\2\2\37!\5\4\3\2 \37\3\2\2\2 !\3\2\2\2!#\3\2\2\2\"$\5\6\4"+
+		"\2#\"\3\2\2\2#$\3\2\2\2$%\3\2\2\2%&\5\b\5\2&(\5\n\6\2\')\5\20\t\2(\'\3"+
+		"\2\2\2()\3\2\2\2)*\3\2\2\2*+\5\22\n\2+,\5\26\f\2,\3\3\2\2\2-.\7\3\2\2"+
+		"./\7\27\2\2/\60\5\30\r\2\60\5\3\2\2\2\61\65\7\4\2\2\62\64\7\23\2\2\63"+
+		"\62\3\2\2\2\64\67\3\2\2\2\65\63\3\2\2\2\65\66\3\2\2\2\668\3\2\2\2\67\65"+
+		"\3\2\2\289\5\30\r\29\7\3\2\2\2:;\7\5\2\2;<\5\30\r\2<\t\3\2\2\2=?\5\f\7"+
+		"\2>=\3\2\2\2?B\3\2\2\2@>\3\2\2\2@A\3\2\2\2A\13\3\2\2\2B@\3\2\2\2CG\5\32"+
+		"\16\2DF\5\16\b\2ED\3\2\2\2FI\3\2\2\2GE\3\2\2\2GH\3\2\2\2HJ\3\2\2\2IG\3"+
+		"\2\2\2JK\5\30\r\2K\r\3\2\2\2LP\5\32\16\2MN\7\t\2\2NO\7\24\2\2OQ\7\n\2"+
+		"\2PM\3\2\2\2PQ\3\2\2\2Q\17\3\2\2\2RX\7\b\2\2ST\7\23\2\2TU\7\20\2\2UW\7"+
+		"\24\2\2VS\3\2\2\2WZ\3\2\2\2XV\3\2\2\2XY\3\2\2\2Y[\3\2\2\2ZX\3\2\2\2[\\"+
+		"\5\30\r\2\\\21\3\2\2\2]^\7\6\2\2^b\7\13\2\2_a\5\24\13\2`_\3\2\2\2ad\3"+
+		"\2\2\2b`\3\2\2\2bc\3\2\2\2ce\3\2\2\2db\3\2\2\2ef\7\f\2\2fg\5\30\r\2g\23"+
+		"\3\2\2\2hk\7\23\2\2ij\7\20\2\2jl\7\24\2\2ki\3\2\2\2kl\3\2\2\2lw\3\2\2"+
+		"\2mn\7\r\2\2no\5\32\16\2op\7\17\2\2pq\5\32\16\2qt\7\16\2\2rs\7\20\2\2"+
+		"su\7\24\2\2tr\3\2\2\2tu\3\2\2\2uw\3\2\2\2vh\3\2\2\2vm\3\2\2\2w\25\3\2"+
+		"\2\2xy\7\7\2\2yz\5\30\r\2z\27\3\2\2\2{}\7\21\2\2|{\3\2\2\2}~\3\2\2\2~"+
+		"|\3\2\2\2~\177\3\2\2\2\177\31\3\2\2\2\u0080\u0083\7\23\2\2\u0081\u0083"+
+		"\7\22\2\2\u0082\u0080\3\2\2\2\u0082\u0081\3\2\2\2\u0083\33\3\2\2\2\21"+
+		"\35 #(\65@GPXbktv~\u0082";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
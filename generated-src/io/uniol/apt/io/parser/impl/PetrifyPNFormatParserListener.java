@@ -0,0 +1,168 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/PetrifyPNFormatParser.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PetrifyPNFormatParser}.
+ */
+public interface PetrifyPNFormatParserListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PetrifyPNFormatParser#pn}.
+	 * @param ctx the parse tree
+	 */
+	void enterPn(PetrifyPNFormatParser.PnContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyPNFormatParser#pn}.
+	 * @param ctx the parse tree
+	 */
+	void exitPn(PetrifyPNFormatParser.PnContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyPNFormatParser#model}.
+	 * @param ctx the parse tree
+	 */
+	void enterModel(PetrifyPNFormatParser.ModelContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyPNFormatParser#model}.
+	 * @param ctx the parse tree
+	 */
+	void exitModel(PetrifyPNFormatParser.ModelContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyPNFormatParser#transitions}.
+	 * @param ctx the parse tree
+	 */
+	void enterTransitions(PetrifyPNFormatParser.TransitionsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyPNFormatParser#transitions}.
+	 * @param ctx the parse tree
+	 */
+	void exitTransitions(PetrifyPNFormatParser.TransitionsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyPNFormatParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void enterType(PetrifyPNFormatParser.TypeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyPNFormatParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void exitType(PetrifyPNFormatParser.TypeContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyPNFormatParser#flows}.
+	 * @param ctx the parse tree
+	 */
+	void enterFlows(PetrifyPNFormatParser.FlowsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyPNFormatParser#flows}.
+	 * @param ctx the parse tree
+	 */
+	void exitFlows(PetrifyPNFormatParser.FlowsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyPNFormatParser#flow}.
+	 * @param ctx the parse tree
+	 */
+	void enterFlow(PetrifyPNFormatParser.FlowContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyPNFormatParser#flow}.
+	 * @param ctx the parse tree
+	 */
+	void exitFlow(PetrifyPNFormatParser.FlowContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyPNFormatParser#flow_target}.
+	 * @param ctx the parse tree
+	 */
+	void enterFlow_target(PetrifyPNFormatParser.Flow_targetContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyPNFormatParser#flow_target}.
+	 * @param ctx the parse tree
+	 */
+	void exitFlow_target(PetrifyPNFormatParser.Flow_targetContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyPNFormatParser#capacity}.
+	 * @param ctx the parse tree
+	 */
+	void enterCapacity(PetrifyPNFormatParser.CapacityContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyPNFormatParser#capacity}.
+	 * @param ctx the parse tree
+	 */
+	void exitCapacity(PetrifyPNFormatParser.CapacityContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyPNFormatParser#marking}.
+	 * @param ctx the parse tree
+	 */
+	void enterMarking(PetrifyPNFormatParser.MarkingContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyPNFormatParser#marking}.
+	 * @param ctx the parse tree
+	 */
+	void exitMarking(PetrifyPNFormatParser.MarkingContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code tokenExplicitPlace}
+	 * labeled alternative in {@link PetrifyPNFormatParser#token}.
+	 * @param ctx the parse tree
+	 */
+	void enterTokenExplicitPlace(PetrifyPNFormatParser.TokenExplicitPlaceContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code tokenExplicitPlace}
+	 * labeled alternative in {@link PetrifyPNFormatParser#token}.
+	 * @param ctx the parse tree
+	 */
+	void exitTokenExplicitPlace(PetrifyPNFormatParser.TokenExplicitPlaceContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code tokenImplicitPlace}
+	 * labeled alternative in {@link PetrifyPNFormatParser#token}.
+	 * @param ctx the parse tree
+	 */
+	void enterTokenImplicitPlace(PetrifyPNFormatParser.TokenImplicitPlaceContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code tokenImplicitPlace}
+	 * labeled alternative in {@link PetrifyPNFormatParser#token}.
+	 * @param ctx the parse tree
+	 */
+	void exitTokenImplicitPlace(PetrifyPNFormatParser.TokenImplicitPlaceContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyPNFormatParser#end}.
+	 * @param ctx the parse tree
+	 */
+	void enterEnd(PetrifyPNFormatParser.EndContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyPNFormatParser#end}.
+	 * @param ctx the parse tree
+	 */
+	void exitEnd(PetrifyPNFormatParser.EndContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PetrifyPNFormatParser#nl}.
+	 * @param ctx the parse tree
+	 */
+	void enterNl(PetrifyPNFormatParser.NlContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PetrifyPNFormatParser#nl}.
+	 * @param ctx the parse tree
+	 */
+	void exitNl(PetrifyPNFormatParser.NlContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code eventUnsplit}
+	 * labeled alternative in {@link PetrifyPNFormatParser#event}.
+	 * @param ctx the parse tree
+	 */
+	void enterEventUnsplit(PetrifyPNFormatParser.EventUnsplitContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code eventUnsplit}
+	 * labeled alternative in {@link PetrifyPNFormatParser#event}.
+	 * @param ctx the parse tree
+	 */
+	void exitEventUnsplit(PetrifyPNFormatParser.EventUnsplitContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code eventSplit}
+	 * labeled alternative in {@link PetrifyPNFormatParser#event}.
+	 * @param ctx the parse tree
+	 */
+	void enterEventSplit(PetrifyPNFormatParser.EventSplitContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code eventSplit}
+	 * labeled alternative in {@link PetrifyPNFormatParser#event}.
+	 * @param ctx the parse tree
+	 */
+	void exitEventSplit(PetrifyPNFormatParser.EventSplitContext ctx);
+}
\ No newline at end of file
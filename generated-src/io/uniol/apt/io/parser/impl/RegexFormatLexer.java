@@ -0,0 +1,140 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/RegexFormatLexer.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class RegexFormatLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		OR=1, AND=2, STAR=3, OPT=4, NEGATE=5, PLUS=6, EPSILON=7, EMPTY=8, REPEATOPEN=9, 
+		PAROPEN=10, PARCLOSE=11, ATOM=12, ID=13, COMMENT=14, WS=15, REPEATCLOSE=16, 
+		INT=17, COMMA=18;
+	public static final int REPEAT_MODE = 1;
+	public static String[] modeNames = {
+		"DEFAULT_MODE", "REPEAT_MODE"
+	};
+
+	public static final String[] ruleNames = {
+		"OR", "AND", "STAR", "OPT", "NEGATE", "PLUS", "EPSILON", "EMPTY", "REPEATOPEN", 
+		"PAROPEN", "PARCLOSE", "ATOM", "ID", "COMMENT", "WS", "REPEATCLOSE", "INT", 
+		"COMMA", "SYMBOL", "DIGIT", "LETTER"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'|'", "'&'", "'*'", "'?'", "'!'", "'+'", "'$'", "'~'", "'{'", "'('", 
+		"')'", null, null, null, null, "'}'", null, "','"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, "OR", "AND", "STAR", "OPT", "NEGATE", "PLUS", "EPSILON", "EMPTY", 
+		"REPEATOPEN", "PAROPEN", "PARCLOSE", "ATOM", "ID", "COMMENT", "WS", "REPEATCLOSE", 
+		"INT", "COMMA"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public RegexFormatLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "RegexFormatLexer.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2\24\u0083\b\1\b\1"+
+		"\4\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t"+
+		"\n\4\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4"+
+		"\22\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\3\2\3\2\3\3\3\3\3\4\3"+
+		"\4\3\5\3\5\3\6\3\6\3\7\3\7\3\b\3\b\3\t\3\t\3\n\3\n\3\n\3\n\3\13\3\13\3"+
+		"\f\3\f\3\r\3\r\3\16\3\16\6\16K\n\16\r\16\16\16L\3\16\3\16\3\17\3\17\3"+
+		"\17\3\17\7\17U\n\17\f\17\16\17X\13\17\3\17\3\17\3\17\3\17\7\17^\n\17\f"+
+		"\17\16\17a\13\17\3\17\3\17\5\17e\n\17\3\17\3\17\3\20\6\20j\n\20\r\20\16"+
+		"\20k\3\20\3\20\3\21\3\21\3\21\3\21\3\22\6\22u\n\22\r\22\16\22v\3\23\3"+
+		"\23\3\24\3\24\3\24\5\24~\n\24\3\25\3\25\3\26\3\26\3_\2\27\4\3\6\4\b\5"+
+		"\n\6\f\7\16\b\20\t\22\n\24\13\26\f\30\r\32\16\34\17\36\20 \21\"\22$\23"+
+		"&\24(\2*\2,\2\4\2\3\5\4\2\f\f\17\17\5\2\13\f\17\17\"\"\4\2C\\c|\u0086"+
+		"\2\4\3\2\2\2\2\6\3\2\2\2\2\b\3\2\2\2\2\n\3\2\2\2\2\f\3\2\2\2\2\16\3\2"+
+		"\2\2\2\20\3\2\2\2\2\22\3\2\2\2\2\24\3\2\2\2\2\26\3\2\2\2\2\30\3\2\2\2"+
+		"\2\32\3\2\2\2\2\34\3\2\2\2\2\36\3\2\2\2\2 \3\2\2\2\3\"\3\2\2\2\3$\3\2"+
+		"\2\2\3&\3\2\2\2\4.\3\2\2\2\6\60\3\2\2\2\b\62\3\2\2\2\n\64\3\2\2\2\f\66"+
+		"\3\2\2\2\168\3\2\2\2\20:\3\2\2\2\22<\3\2\2\2\24>\3\2\2\2\26B\3\2\2\2\30"+
+		"D\3\2\2\2\32F\3\2\2\2\34H\3\2\2\2\36d\3\2\2\2 i\3\2\2\2\"o\3\2\2\2$t\3"+
+		"\2\2\2&x\3\2\2\2(}\3\2\2\2*\177\3\2\2\2,\u0081\3\2\2\2./\7~\2\2/\5\3\2"+
+		"\2\2\60\61\7(\2\2\61\7\3\2\2\2\62\63\7,\2\2\63\t\3\2\2\2\64\65\7A\2\2"+
+		"\65\13\3\2\2\2\66\67\7#\2\2\67\r\3\2\2\289\7-\2\29\17\3\2\2\2:;\7&\2\2"+
+		";\21\3\2\2\2<=\7\u0080\2\2=\23\3\2\2\2>?\7}\2\2?@\3\2\2\2@A\b\n\2\2A\25"+
+		"\3\2\2\2BC\7*\2\2C\27\3\2\2\2DE\7+\2\2E\31\3\2\2\2FG\5(\24\2G\33\3\2\2"+
+		"\2HJ\7>\2\2IK\5(\24\2JI\3\2\2\2KL\3\2\2\2LJ\3\2\2\2LM\3\2\2\2MN\3\2\2"+
+		"\2NO\7@\2\2O\35\3\2\2\2PQ\7\61\2\2QR\7\61\2\2RV\3\2\2\2SU\n\2\2\2TS\3"+
+		"\2\2\2UX\3\2\2\2VT\3\2\2\2VW\3\2\2\2We\3\2\2\2XV\3\2\2\2YZ\7\61\2\2Z["+
+		"\7,\2\2[_\3\2\2\2\\^\13\2\2\2]\\\3\2\2\2^a\3\2\2\2_`\3\2\2\2_]\3\2\2\2"+
+		"`b\3\2\2\2a_\3\2\2\2bc\7,\2\2ce\7\61\2\2dP\3\2\2\2dY\3\2\2\2ef\3\2\2\2"+
+		"fg\b\17\3\2g\37\3\2\2\2hj\t\3\2\2ih\3\2\2\2jk\3\2\2\2ki\3\2\2\2kl\3\2"+
+		"\2\2lm\3\2\2\2mn\b\20\3\2n!\3\2\2\2op\7\177\2\2pq\3\2\2\2qr\b\21\4\2r"+
+		"#\3\2\2\2su\5*\25\2ts\3\2\2\2uv\3\2\2\2vt\3\2\2\2vw\3\2\2\2w%\3\2\2\2"+
+		"xy\7.\2\2y\'\3\2\2\2z~\5*\25\2{~\5,\26\2|~\7a\2\2}z\3\2\2\2}{\3\2\2\2"+
+		"}|\3\2\2\2~)\3\2\2\2\177\u0080\4\62;\2\u0080+\3\2\2\2\u0081\u0082\t\4"+
+		"\2\2\u0082-\3\2\2\2\13\2\3LV_dkv}\5\4\3\2\b\2\2\4\2\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
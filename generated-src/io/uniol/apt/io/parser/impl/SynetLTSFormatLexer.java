@@ -0,0 +1,114 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/SynetLTSFormat.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class SynetLTSFormatLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, WS=5, STR=6, ID=7, INT=8;
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	public static final String[] ruleNames = {
+		"T__0", "T__1", "T__2", "T__3", "WS", "STR", "ID", "INT"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'des('", "','", "')'", "'('"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, "WS", "STR", "ID", "INT"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public SynetLTSFormatLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "SynetLTSFormat.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2\n\67\b\1\4\2\t\2"+
+		"\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\3\2\3\2\3\2\3"+
+		"\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5\3\6\3\6\3\6\3\6\3\7\3\7\7\7%\n\7\f\7\16"+
+		"\7(\13\7\3\7\3\7\3\b\3\b\7\b.\n\b\f\b\16\b\61\13\b\3\t\6\t\64\n\t\r\t"+
+		"\16\t\65\3&\2\n\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\3\2\6\5\2\13\f\17\17"+
+		"\"\"\5\2C\\aac|\7\2//\62<C\\aac|\3\2\62;9\2\3\3\2\2\2\2\5\3\2\2\2\2\7"+
+		"\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2"+
+		"\2\3\23\3\2\2\2\5\30\3\2\2\2\7\32\3\2\2\2\t\34\3\2\2\2\13\36\3\2\2\2\r"+
+		"\"\3\2\2\2\17+\3\2\2\2\21\63\3\2\2\2\23\24\7f\2\2\24\25\7g\2\2\25\26\7"+
+		"u\2\2\26\27\7*\2\2\27\4\3\2\2\2\30\31\7.\2\2\31\6\3\2\2\2\32\33\7+\2\2"+
+		"\33\b\3\2\2\2\34\35\7*\2\2\35\n\3\2\2\2\36\37\t\2\2\2\37 \3\2\2\2 !\b"+
+		"\6\2\2!\f\3\2\2\2\"&\7$\2\2#%\13\2\2\2$#\3\2\2\2%(\3\2\2\2&\'\3\2\2\2"+
+		"&$\3\2\2\2\')\3\2\2\2(&\3\2\2\2)*\7$\2\2*\16\3\2\2\2+/\t\3\2\2,.\t\4\2"+
+		"\2-,\3\2\2\2.\61\3\2\2\2/-\3\2\2\2/\60\3\2\2\2\60\20\3\2\2\2\61/\3\2\2"+
+		"\2\62\64\t\5\2\2\63\62\3\2\2\2\64\65\3\2\2\2\65\63\3\2\2\2\65\66\3\2\2"+
+		"\2\66\22\3\2\2\2\6\2&/\65\3\b\2\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,281 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/SynetLTSFormat.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class SynetLTSFormatParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, WS=5, STR=6, ID=7, INT=8;
+	public static final int
+		RULE_ts = 0, RULE_trans = 1, RULE_id = 2;
+	public static final String[] ruleNames = {
+		"ts", "trans", "id"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'des('", "','", "')'", "'('"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, "WS", "STR", "ID", "INT"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "SynetLTSFormat.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public SynetLTSFormatParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class TsContext extends ParserRuleContext {
+		public IdContext init;
+		public Token transcount;
+		public Token placecount;
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public List<TerminalNode> INT() { return getTokens(SynetLTSFormatParser.INT); }
+		public TerminalNode INT(int i) {
+			return getToken(SynetLTSFormatParser.INT, i);
+		}
+		public List<TransContext> trans() {
+			return getRuleContexts(TransContext.class);
+		}
+		public TransContext trans(int i) {
+			return getRuleContext(TransContext.class,i);
+		}
+		public TsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ts; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetLTSFormatListener ) ((SynetLTSFormatListener)listener).enterTs(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetLTSFormatListener ) ((SynetLTSFormatListener)listener).exitTs(this);
+		}
+	}
+
+	public final TsContext ts() throws RecognitionException {
+		TsContext _localctx = new TsContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_ts);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(6);
+			match(T__0);
+			setState(7);
+			((TsContext)_localctx).init = id();
+			setState(8);
+			match(T__1);
+			setState(9);
+			((TsContext)_localctx).transcount = match(INT);
+			setState(10);
+			match(T__1);
+			setState(11);
+			((TsContext)_localctx).placecount = match(INT);
+			setState(12);
+			match(T__2);
+			setState(16);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__3) {
+				{
+				{
+				setState(13);
+				trans();
+				}
+				}
+				setState(18);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TransContext extends ParserRuleContext {
+		public IdContext from;
+		public IdContext event;
+		public IdContext to;
+		public List<IdContext> id() {
+			return getRuleContexts(IdContext.class);
+		}
+		public IdContext id(int i) {
+			return getRuleContext(IdContext.class,i);
+		}
+		public TransContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_trans; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetLTSFormatListener ) ((SynetLTSFormatListener)listener).enterTrans(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetLTSFormatListener ) ((SynetLTSFormatListener)listener).exitTrans(this);
+		}
+	}
+
+	public final TransContext trans() throws RecognitionException {
+		TransContext _localctx = new TransContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_trans);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(19);
+			match(T__3);
+			setState(20);
+			((TransContext)_localctx).from = id();
+			setState(21);
+			match(T__1);
+			setState(22);
+			((TransContext)_localctx).event = id();
+			setState(23);
+			match(T__1);
+			setState(24);
+			((TransContext)_localctx).to = id();
+			setState(25);
+			match(T__2);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IdContext extends ParserRuleContext {
+		public TerminalNode INT() { return getToken(SynetLTSFormatParser.INT, 0); }
+		public TerminalNode STR() { return getToken(SynetLTSFormatParser.STR, 0); }
+		public TerminalNode ID() { return getToken(SynetLTSFormatParser.ID, 0); }
+		public IdContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_id; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetLTSFormatListener ) ((SynetLTSFormatListener)listener).enterId(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetLTSFormatListener ) ((SynetLTSFormatListener)listener).exitId(this);
+		}
+	}
+
+	public final IdContext id() throws RecognitionException {
+		IdContext _localctx = new IdContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_id);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(27);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << STR) | (1L << ID) | (1L << INT))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\n \4\2\t\2\4\3\t"+
+		"\3\4\4\t\4\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\7\2\21\n\2\f\2\16\2\24\13\2"+
+		"\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\4\3\4\3\4\2\2\5\2\4\6\2\3\3\2\b\n\35"+
+		"\2\b\3\2\2\2\4\25\3\2\2\2\6\35\3\2\2\2\b\t\7\3\2\2\t\n\5\6\4\2\n\13\7"+
+		"\4\2\2\13\f\7\n\2\2\f\r\7\4\2\2\r\16\7\n\2\2\16\22\7\5\2\2\17\21\5\4\3"+
+		"\2\20\17\3\2\2\2\21\24\3\2\2\2\22\20\3\2\2\2\22\23\3\2\2\2\23\3\3\2\2"+
+		"\2\24\22\3\2\2\2\25\26\7\6\2\2\26\27\5\6\4\2\27\30\7\4\2\2\30\31\5\6\4"+
+		"\2\31\32\7\4\2\2\32\33\5\6\4\2\33\34\7\5\2\2\34\5\3\2\2\2\35\36\t\2\2"+
+		"\2\36\7\3\2\2\2\3\22";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/SynetPNFormat.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class SynetPNFormatLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		WS=10, STR=11, ID=12, INT=13;
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	public static final String[] ruleNames = {
+		"T__0", "T__1", "T__2", "T__3", "T__4", "T__5", "T__6", "T__7", "T__8", 
+		"WS", "STR", "ID", "INT"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'location'", "'transition'", "'::'", "'place'", "':='", "'flow'", 
+		"'<-'", "'--'", "'->'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, null, null, null, "WS", "STR", 
+		"ID", "INT"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public SynetPNFormatLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "SynetPNFormat.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2\17d\b\1\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\3"+
+		"\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\4\3\4\3\4\3\5\3\5\3\5\3\5\3"+
+		"\5\3\5\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\t\3\t\3\t\3\n\3\n"+
+		"\3\n\3\13\3\13\3\13\3\13\3\f\3\f\7\fR\n\f\f\f\16\fU\13\f\3\f\3\f\3\r\3"+
+		"\r\7\r[\n\r\f\r\16\r^\13\r\3\16\6\16a\n\16\r\16\16\16b\3S\2\17\3\3\5\4"+
+		"\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33\17\3\2\6\5\2\13\f"+
+		"\17\17\"\"\5\2C\\aac|\7\2//\62<C\\aac|\3\2\62;f\2\3\3\2\2\2\2\5\3\2\2"+
+		"\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21"+
+		"\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2"+
+		"\2\2\3\35\3\2\2\2\5&\3\2\2\2\7\61\3\2\2\2\t\64\3\2\2\2\13:\3\2\2\2\r="+
+		"\3\2\2\2\17B\3\2\2\2\21E\3\2\2\2\23H\3\2\2\2\25K\3\2\2\2\27O\3\2\2\2\31"+
+		"X\3\2\2\2\33`\3\2\2\2\35\36\7n\2\2\36\37\7q\2\2\37 \7e\2\2 !\7c\2\2!\""+
+		"\7v\2\2\"#\7k\2\2#$\7q\2\2$%\7p\2\2%\4\3\2\2\2&\'\7v\2\2\'(\7t\2\2()\7"+
+		"c\2\2)*\7p\2\2*+\7u\2\2+,\7k\2\2,-\7v\2\2-.\7k\2\2./\7q\2\2/\60\7p\2\2"+
+		"\60\6\3\2\2\2\61\62\7<\2\2\62\63\7<\2\2\63\b\3\2\2\2\64\65\7r\2\2\65\66"+
+		"\7n\2\2\66\67\7c\2\2\678\7e\2\289\7g\2\29\n\3\2\2\2:;\7<\2\2;<\7?\2\2"+
+		"<\f\3\2\2\2=>\7h\2\2>?\7n\2\2?@\7q\2\2@A\7y\2\2A\16\3\2\2\2BC\7>\2\2C"+
+		"D\7/\2\2D\20\3\2\2\2EF\7/\2\2FG\7/\2\2G\22\3\2\2\2HI\7/\2\2IJ\7@\2\2J"+
+		"\24\3\2\2\2KL\t\2\2\2LM\3\2\2\2MN\b\13\2\2N\26\3\2\2\2OS\7$\2\2PR\13\2"+
+		"\2\2QP\3\2\2\2RU\3\2\2\2ST\3\2\2\2SQ\3\2\2\2TV\3\2\2\2US\3\2\2\2VW\7$"+
+		"\2\2W\30\3\2\2\2X\\\t\3\2\2Y[\t\4\2\2ZY\3\2\2\2[^\3\2\2\2\\Z\3\2\2\2\\"+
+		"]\3\2\2\2]\32\3\2\2\2^\\\3\2\2\2_a\t\5\2\2`_\3\2\2\2ab\3\2\2\2b`\3\2\2"+
+		"\2bc\3\2\2\2c\34\3\2\2\2\6\2S\\b\3\b\2\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,584 @@
+// Generated from /root/project/src/io/uniol/apt/io/parser/impl/SynetPNFormat.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class SynetPNFormatParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		WS=10, STR=11, ID=12, INT=13;
+	public static final int
+		RULE_pn = 0, RULE_statement = 1, RULE_location = 2, RULE_transition = 3, 
+		RULE_place = 4, RULE_flow = 5, RULE_id = 6;
+	public static final String[] ruleNames = {
+		"pn", "statement", "location", "transition", "place", "flow", "id"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'location'", "'transition'", "'::'", "'place'", "':='", "'flow'", 
+		"'<-'", "'--'", "'->'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, null, null, null, "WS", "STR", 
+		"ID", "INT"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "SynetPNFormat.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public SynetPNFormatParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class PnContext extends ParserRuleContext {
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public PnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pn; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).enterPn(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).exitPn(this);
+		}
+	}
+
+	public final PnContext pn() throws RecognitionException {
+		PnContext _localctx = new PnContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_pn);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(17);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__3) | (1L << T__5))) != 0)) {
+				{
+				{
+				setState(14);
+				statement();
+				}
+				}
+				setState(19);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementContext extends ParserRuleContext {
+		public LocationContext location() {
+			return getRuleContext(LocationContext.class,0);
+		}
+		public TransitionContext transition() {
+			return getRuleContext(TransitionContext.class,0);
+		}
+		public PlaceContext place() {
+			return getRuleContext(PlaceContext.class,0);
+		}
+		public FlowContext flow() {
+			return getRuleContext(FlowContext.class,0);
+		}
+		public StatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).enterStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).exitStatement(this);
+		}
+	}
+
+	public final StatementContext statement() throws RecognitionException {
+		StatementContext _localctx = new StatementContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_statement);
+		try {
+			setState(24);
+			switch (_input.LA(1)) {
+			case T__0:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(20);
+				location();
+				}
+				break;
+			case T__1:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(21);
+				transition();
+				}
+				break;
+			case T__3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(22);
+				place();
+				}
+				break;
+			case T__5:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(23);
+				flow();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LocationContext extends ParserRuleContext {
+		public IdContext loc;
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public LocationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_location; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).enterLocation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).exitLocation(this);
+		}
+	}
+
+	public final LocationContext location() throws RecognitionException {
+		LocationContext _localctx = new LocationContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_location);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(26);
+			match(T__0);
+			setState(27);
+			((LocationContext)_localctx).loc = id();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TransitionContext extends ParserRuleContext {
+		public IdContext t;
+		public IdContext loc;
+		public List<IdContext> id() {
+			return getRuleContexts(IdContext.class);
+		}
+		public IdContext id(int i) {
+			return getRuleContext(IdContext.class,i);
+		}
+		public TransitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_transition; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).enterTransition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).exitTransition(this);
+		}
+	}
+
+	public final TransitionContext transition() throws RecognitionException {
+		TransitionContext _localctx = new TransitionContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_transition);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(29);
+			match(T__1);
+			setState(30);
+			((TransitionContext)_localctx).t = id();
+			setState(33);
+			_la = _input.LA(1);
+			if (_la==T__2) {
+				{
+				setState(31);
+				match(T__2);
+				setState(32);
+				((TransitionContext)_localctx).loc = id();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PlaceContext extends ParserRuleContext {
+		public IdContext p;
+		public Token init;
+		public IdContext loc;
+		public List<IdContext> id() {
+			return getRuleContexts(IdContext.class);
+		}
+		public IdContext id(int i) {
+			return getRuleContext(IdContext.class,i);
+		}
+		public TerminalNode INT() { return getToken(SynetPNFormatParser.INT, 0); }
+		public PlaceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_place; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).enterPlace(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).exitPlace(this);
+		}
+	}
+
+	public final PlaceContext place() throws RecognitionException {
+		PlaceContext _localctx = new PlaceContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_place);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(35);
+			match(T__3);
+			setState(36);
+			((PlaceContext)_localctx).p = id();
+			setState(39);
+			_la = _input.LA(1);
+			if (_la==T__4) {
+				{
+				setState(37);
+				match(T__4);
+				setState(38);
+				((PlaceContext)_localctx).init = match(INT);
+				}
+			}
+
+			setState(43);
+			_la = _input.LA(1);
+			if (_la==T__2) {
+				{
+				setState(41);
+				match(T__2);
+				setState(42);
+				((PlaceContext)_localctx).loc = id();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FlowContext extends ParserRuleContext {
+		public FlowContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_flow; }
+	 
+		public FlowContext() { }
+		public void copyFrom(FlowContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class FlowPresetContext extends FlowContext {
+		public IdContext p;
+		public Token w;
+		public IdContext t;
+		public List<IdContext> id() {
+			return getRuleContexts(IdContext.class);
+		}
+		public IdContext id(int i) {
+			return getRuleContext(IdContext.class,i);
+		}
+		public TerminalNode INT() { return getToken(SynetPNFormatParser.INT, 0); }
+		public FlowPresetContext(FlowContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).enterFlowPreset(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).exitFlowPreset(this);
+		}
+	}
+	public static class FlowPostsetContext extends FlowContext {
+		public IdContext p;
+		public Token w;
+		public IdContext t;
+		public List<IdContext> id() {
+			return getRuleContexts(IdContext.class);
+		}
+		public IdContext id(int i) {
+			return getRuleContext(IdContext.class,i);
+		}
+		public TerminalNode INT() { return getToken(SynetPNFormatParser.INT, 0); }
+		public FlowPostsetContext(FlowContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).enterFlowPostset(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).exitFlowPostset(this);
+		}
+	}
+
+	public final FlowContext flow() throws RecognitionException {
+		FlowContext _localctx = new FlowContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_flow);
+		int _la;
+		try {
+			setState(63);
+			switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
+			case 1:
+				_localctx = new FlowPresetContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(45);
+				match(T__5);
+				setState(46);
+				((FlowPresetContext)_localctx).p = id();
+				setState(47);
+				match(T__6);
+				setState(49);
+				_la = _input.LA(1);
+				if (_la==INT) {
+					{
+					setState(48);
+					((FlowPresetContext)_localctx).w = match(INT);
+					}
+				}
+
+				setState(51);
+				match(T__7);
+				setState(52);
+				((FlowPresetContext)_localctx).t = id();
+				}
+				break;
+			case 2:
+				_localctx = new FlowPostsetContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(54);
+				match(T__5);
+				setState(55);
+				((FlowPostsetContext)_localctx).p = id();
+				setState(56);
+				match(T__7);
+				setState(58);
+				_la = _input.LA(1);
+				if (_la==INT) {
+					{
+					setState(57);
+					((FlowPostsetContext)_localctx).w = match(INT);
+					}
+				}
+
+				setState(60);
+				match(T__8);
+				setState(61);
+				((FlowPostsetContext)_localctx).t = id();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IdContext extends ParserRuleContext {
+		public TerminalNode INT() { return getToken(SynetPNFormatParser.INT, 0); }
+		public TerminalNode ID() { return getToken(SynetPNFormatParser.ID, 0); }
+		public TerminalNode STR() { return getToken(SynetPNFormatParser.STR, 0); }
+		public IdContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_id; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).enterId(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SynetPNFormatListener ) ((SynetPNFormatListener)listener).exitId(this);
+		}
+	}
+
+	public final IdContext id() throws RecognitionException {
+		IdContext _localctx = new IdContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_id);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(65);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << STR) | (1L << ID) | (1L << INT))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\17F\4\2\t\2\4\3\t"+
+		"\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\3\2\7\2\22\n\2\f\2\16\2\25"+
+		"\13\2\3\3\3\3\3\3\3\3\5\3\33\n\3\3\4\3\4\3\4\3\5\3\5\3\5\3\5\5\5$\n\5"+
+		"\3\6\3\6\3\6\3\6\5\6*\n\6\3\6\3\6\5\6.\n\6\3\7\3\7\3\7\3\7\5\7\64\n\7"+
+		"\3\7\3\7\3\7\3\7\3\7\3\7\3\7\5\7=\n\7\3\7\3\7\3\7\5\7B\n\7\3\b\3\b\3\b"+
+		"\2\2\t\2\4\6\b\n\f\16\2\3\3\2\r\17H\2\23\3\2\2\2\4\32\3\2\2\2\6\34\3\2"+
+		"\2\2\b\37\3\2\2\2\n%\3\2\2\2\fA\3\2\2\2\16C\3\2\2\2\20\22\5\4\3\2\21\20"+
+		"\3\2\2\2\22\25\3\2\2\2\23\21\3\2\2\2\23\24\3\2\2\2\24\3\3\2\2\2\25\23"+
+		"\3\2\2\2\26\33\5\6\4\2\27\33\5\b\5\2\30\33\5\n\6\2\31\33\5\f\7\2\32\26"+
+		"\3\2\2\2\32\27\3\2\2\2\32\30\3\2\2\2\32\31\3\2\2\2\33\5\3\2\2\2\34\35"+
+		"\7\3\2\2\35\36\5\16\b\2\36\7\3\2\2\2\37 \7\4\2\2 #\5\16\b\2!\"\7\5\2\2"+
+		"\"$\5\16\b\2#!\3\2\2\2#$\3\2\2\2$\t\3\2\2\2%&\7\6\2\2&)\5\16\b\2\'(\7"+
+		"\7\2\2(*\7\17\2\2)\'\3\2\2\2)*\3\2\2\2*-\3\2\2\2+,\7\5\2\2,.\5\16\b\2"+
+		"-+\3\2\2\2-.\3\2\2\2.\13\3\2\2\2/\60\7\b\2\2\60\61\5\16\b\2\61\63\7\t"+
+		"\2\2\62\64\7\17\2\2\63\62\3\2\2\2\63\64\3\2\2\2\64\65\3\2\2\2\65\66\7"+
+		"\n\2\2\66\67\5\16\b\2\67B\3\2\2\289\7\b\2\29:\5\16\b\2:<\7\n\2\2;=\7\17"+
+		"\2\2<;\3\2\2\2<=\3\2\2\2=>\3\2\2\2>?\7\13\2\2?@\5\16\b\2@B\3\2\2\2A/\3"+
+		"\2\2\2A8\3\2\2\2B\r\3\2\2\2CD\t\2\2\2D\17\3\2\2\2\n\23\32#)-\63<A";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
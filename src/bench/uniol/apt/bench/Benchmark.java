@@ -0,0 +1,62 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.bench;
+
+/**
+ * A single benchmark. The {@link BenchmarkRunner} calls {@link #setup()} once and then measures how long calls to
+ * {@link #run()} take.
+ * @author agent
+ */
+public abstract class Benchmark {
+	private final String name;
+
+	/**
+	 * Constructor.
+	 * @param name The name under which the results of this benchmark are reported.
+	 */
+	protected Benchmark(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Get the name of this benchmark.
+	 * @return The name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Prepare the input of this benchmark. The time spent here is not measured.
+	 * @throws Exception If something goes wrong.
+	 */
+	public void setup() throws Exception {
+	}
+
+	/**
+	 * Run the operation that is being measured once.
+	 * @return Some result of the operation. The runner consumes it so that the computation cannot be optimized
+	 * away.
+	 * @throws Exception If something goes wrong.
+	 */
+	public abstract Object run() throws Exception;
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,120 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.bench;
+
+import java.io.File;
+import java.util.Locale;
+
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Run all benchmarks from {@link Benchmarks} and write the results as a JSON file. The output uses the same layout
+ * as the JSON output of JMH in average time mode, so that existing tools for comparing JMH results can be used.
+ * Each benchmark is first run for some warmup iterations whose results are discarded. Afterwards, each measurement
+ * iteration calls the benchmark repeatedly until the iteration time has passed and reports the average time per
+ * call. The number of iterations and the iteration time can be changed via the system properties
+ * <code>apt.bench.warmup</code>, <code>apt.bench.iterations</code> and <code>apt.bench.time</code> (in
+ * milliseconds).
+ * @author agent
+ */
+public class BenchmarkRunner {
+	// Sum of the hash codes of all results, this prevents the JIT from optimizing away the benchmarked code
+	static private volatile int sink;
+
+	public static void main(String[] args) throws Exception {
+		if (args.length != 1 && args.length != 2)
+			throw new IllegalArgumentException(
+					"Need one or two arguments: output file, substring of benchmark names");
+
+		File outputFile = new File(args[0]);
+		String filter = args.length > 1 ? args[1] : "";
+		int warmupIterations = Integer.getInteger("apt.bench.warmup", 3);
+		int measurementIterations = Integer.getInteger("apt.bench.iterations", 5);
+		long iterationNanos = Integer.getInteger("apt.bench.time", 1000) * 1000000L;
+
+		StringBuilder json = new StringBuilder("[");
+		String separator = "";
+		for (Benchmark benchmark : Benchmarks.getBenchmarks()) {
+			if (!benchmark.getName().contains(filter))
+				continue;
+
+			System.out.println("Running " + benchmark.getName());
+			benchmark.setup();
+			for (int i = 0; i < warmupIterations; i++) {
+				double score = runIteration(benchmark, iterationNanos);
+				System.out.println(String.format(Locale.ROOT, "  warmup %d: %.3f us/op", i + 1, score));
+			}
+
+			double[] scores = new double[measurementIterations];
+			double sum = 0;
+			for (int i = 0; i < measurementIterations; i++) {
+				scores[i] = runIteration(benchmark, iterationNanos);
+				sum += scores[i];
+				System.out.println(String.format(Locale.ROOT, "  iteration %d: %.3f us/op",
+							i + 1, scores[i]));
+			}
+
+			json.append(separator).append("\n  {\n");
+			json.append("    \"benchmark\": \"").append(benchmark.getName()).append("\",\n");
+			json.append("    \"mode\": \"avgt\",\n");
+			json.append("    \"threads\": 1,\n");
+			json.append("    \"warmupIterations\": ").append(warmupIterations).append(",\n");
+			json.append("    \"measurementIterations\": ").append(measurementIterations).append(",\n");
+			json.append("    \"primaryMetric\": {\n");
+			json.append(String.format(Locale.ROOT, "      \"score\": %.3f,\n",
+						sum / measurementIterations));
+			json.append("      \"scoreUnit\": \"us/op\",\n");
+			json.append("      \"rawData\": [[");
+			for (int i = 0; i < measurementIterations; i++) {
+				if (i > 0)
+					json.append(", ");
+				json.append(String.format(Locale.ROOT, "%.3f", scores[i]));
+			}
+			json.append("]]\n    }\n  }");
+			separator = ",";
+		}
+		json.append("\n]\n");
+
+		FileUtils.writeStringToFile(outputFile, json.toString(), "UTF-8");
+		System.out.println("Results written to " + outputFile);
+	}
+
+	/**
+	 * Run a benchmark repeatedly until the given time passed.
+	 * @param benchmark The benchmark to run.
+	 * @param iterationNanos The minimal duration of the iteration.
+	 * @return The average time per call in microseconds.
+	 * @throws Exception If the benchmark fails.
+	 */
+	static private double runIteration(Benchmark benchmark, long iterationNanos) throws Exception {
+		long operations = 0;
+		long start = System.nanoTime();
+		long duration;
+		do {
+			Object result = benchmark.run();
+			sink += result == null ? 0 : result.hashCode();
+			operations++;
+			duration = System.nanoTime() - start;
+		} while (duration < iterationNanos);
+		return duration / 1000.0 / operations;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,262 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.bench;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import uniol.apt.adt.automaton.FiniteAutomaton;
+import uniol.apt.adt.automaton.FiniteAutomatonUtility;
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Transition;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.coverability.CoverabilityGraph;
+import uniol.apt.analysis.isomorphism.IsomorphismLogic;
+import uniol.apt.analysis.synthesize.SynthesizePN;
+import uniol.apt.generator.bitnet.SimpleBitNetGenerator;
+import uniol.apt.generator.philnet.BistatePhilNetGenerator;
+import uniol.apt.generator.philnet.QuadstatePhilNetGenerator;
+import uniol.apt.generator.philnet.TristatePhilNetGenerator;
+import uniol.apt.generator.tnet.TNetGenerator;
+import uniol.apt.io.parser.Parser;
+import uniol.apt.io.parser.impl.AptLTSParser;
+import uniol.apt.io.parser.impl.AptPNParser;
+import uniol.apt.io.parser.impl.RegexParser;
+import uniol.apt.io.renderer.Renderer;
+import uniol.apt.io.renderer.impl.AptLTSRenderer;
+import uniol.apt.io.renderer.impl.AptPNRenderer;
+
+/**
+ * The list of all benchmarks. Benchmarks are named after the operation that they measure, followed by the input
+ * that is used.
+ * @author agent
+ */
+public class Benchmarks {
+	static private final String NETS_DIRECTORY = "nets";
+
+	/**
+	 * Private constructor, don't create instances of this.
+	 */
+	private Benchmarks() {
+	}
+
+	/**
+	 * Get all benchmarks.
+	 * @return A list of all benchmarks.
+	 * @throws Exception If creating the inputs of the benchmarks fails.
+	 */
+	static public List<Benchmark> getBenchmarks() throws Exception {
+		List<Benchmark> result = new ArrayList<>();
+
+		PetriNet bitNet = new SimpleBitNetGenerator().generateNet(10);
+		PetriNet bistatePhilNet = new BistatePhilNetGenerator().generateNet(8);
+		PetriNet tristatePhilNet = new TristatePhilNetGenerator().generateNet(6);
+		PetriNet quadstatePhilNet = new QuadstatePhilNetGenerator().generateNet(5);
+
+		result.add(fire("fire.bitnet-10", bitNet, 10000));
+		result.add(fire("fire.philnet-quadstate-5", quadstatePhilNet, 10000));
+
+		result.add(reachabilityGraph("reachabilityGraph.bitnet-10", bitNet));
+		result.add(reachabilityGraph("reachabilityGraph.philnet-bistate-8", bistatePhilNet));
+		result.add(reachabilityGraph("reachabilityGraph.philnet-tristate-6", tristatePhilNet));
+		result.add(reachabilityGraph("reachabilityGraph.philnet-quadstate-5", quadstatePhilNet));
+		result.add(reachabilityGraph("reachabilityGraph.readerWriter",
+					parseNet("readerWriter-net.apt")));
+		result.add(coverabilityGraph("coverabilityGraph.crashkurs-cc2inf",
+					parseNet("crashkurs-cc2inf-net.apt")));
+		result.add(tnets("tnets.3", 3));
+
+		for (String name : new String[] { "cc1", "cc2", "cc3" })
+			result.add(synthesize("synthesize.crashkurs-" + name + "-aut",
+						parseLTS("crashkurs-" + name + "-aut.apt")));
+
+		result.add(minimize("minimize.regex", "(a|b)*a(a|b)(a|b)(a|b)(a|b)(a|b)"));
+
+		result.add(isomorphism("isomorphism.philnet-bistate-5", new BistatePhilNetGenerator().generateNet(5)));
+		result.add(isomorphism("isomorphism.bitnet-8", new SimpleBitNetGenerator().generateNet(8)));
+
+		TransitionSystem philLTS = CoverabilityGraph.getReachabilityGraph(tristatePhilNet).toReachabilityLTS();
+		result.add(parse("parse.apt-pn.philnet-tristate-6", new AptPNParser(),
+					new AptPNRenderer().render(tristatePhilNet)));
+		result.add(parse("parse.apt-lts.philnet-tristate-6", new AptLTSParser(),
+					new AptLTSRenderer().render(philLTS)));
+		result.add(render("render.apt-pn.philnet-tristate-6", new AptPNRenderer(), tristatePhilNet));
+		result.add(render("render.apt-lts.philnet-tristate-6", new AptLTSRenderer(), philLTS));
+
+		return result;
+	}
+
+	static private PetriNet parseNet(String file) throws Exception {
+		return new AptPNParser().parseFile(new File(NETS_DIRECTORY, file));
+	}
+
+	static private TransitionSystem parseLTS(String file) throws Exception {
+		return new AptLTSParser().parseFile(new File(NETS_DIRECTORY, file));
+	}
+
+	/**
+	 * Fire transitions of a Petri net. In each step, the enabled transitions are determined and one of them is
+	 * fired. The choice of the transition only depends on the step number, so each run fires the same sequence.
+	 */
+	static private Benchmark fire(String name, final PetriNet pn, final int steps) {
+		return new Benchmark(name) {
+			private final List<Transition> transitions = new ArrayList<>(pn.getTransitions());
+
+			@Override
+			public Object run() {
+				Marking marking = pn.getInitialMarking();
+				List<Transition> enabled = new ArrayList<>();
+				for (int step = 0; step < steps; step++) {
+					enabled.clear();
+					for (Transition t : transitions)
+						if (t.isFireable(marking))
+							enabled.add(t);
+					if (enabled.isEmpty())
+						break;
+					marking = enabled.get(step % enabled.size()).fire(marking);
+				}
+				return marking;
+			}
+		};
+	}
+
+	/**
+	 * Calculate the full reachability graph of a Petri net. Since the graph is cached on the net, each run works
+	 * on a fresh copy of the net.
+	 */
+	static private Benchmark reachabilityGraph(String name, final PetriNet pn) {
+		return new Benchmark(name) {
+			@Override
+			public Object run() {
+				return CoverabilityGraph.getReachabilityGraph(new PetriNet(pn)).calculateNodes();
+			}
+		};
+	}
+
+	/**
+	 * Calculate the full coverability graph of a Petri net.
+	 */
+	static private Benchmark coverabilityGraph(String name, final PetriNet pn) {
+		return new Benchmark(name) {
+			@Override
+			public Object run() {
+				return CoverabilityGraph.get(new PetriNet(pn)).calculateNodes();
+			}
+		};
+	}
+
+	/**
+	 * Generate all t-nets with the given number of places.
+	 */
+	static private Benchmark tnets(String name, final int places) {
+		return new Benchmark(name) {
+			@Override
+			public Object run() {
+				int count = 0;
+				for (PetriNet pn : new TNetGenerator(places)) {
+					count += pn.getTransitions().size();
+				}
+				return count;
+			}
+		};
+	}
+
+	/**
+	 * Synthesize a Petri net from a transition system up to isomorphism.
+	 */
+	static private Benchmark synthesize(String name, final TransitionSystem ts) {
+		return new Benchmark(name) {
+			@Override
+			public Object run() throws Exception {
+				SynthesizePN synthesize = SynthesizePN.Builder
+					.createForIsomorphicBehaviour(new TransitionSystem(ts)).build();
+				return synthesize.wasSuccessfullySeparated();
+			}
+		};
+	}
+
+	/**
+	 * Minimize the automaton that is described by a regular expression.
+	 */
+	static private Benchmark minimize(String name, final String regex) {
+		return new Benchmark(name) {
+			private FiniteAutomaton automaton;
+
+			@Override
+			public void setup() throws Exception {
+				automaton = new RegexParser().parseString(regex);
+			}
+
+			@Override
+			public Object run() {
+				return FiniteAutomatonUtility.minimize(automaton);
+			}
+		};
+	}
+
+	/**
+	 * Check whether the reachability graph of a Petri net is isomorphic to a copy of itself.
+	 */
+	static private Benchmark isomorphism(String name, final PetriNet pn) {
+		return new Benchmark(name) {
+			private TransitionSystem lts1;
+			private TransitionSystem lts2;
+
+			@Override
+			public void setup() throws Exception {
+				lts1 = CoverabilityGraph.getReachabilityGraph(pn).toReachabilityLTS();
+				lts2 = new TransitionSystem(lts1);
+			}
+
+			@Override
+			public Object run() {
+				return new IsomorphismLogic(lts1, lts2, true).isIsomorphic();
+			}
+		};
+	}
+
+	/**
+	 * Parse the given input.
+	 */
+	static private <G> Benchmark parse(String name, final Parser<G> parser, final String input) {
+		return new Benchmark(name) {
+			@Override
+			public Object run() throws Exception {
+				return parser.parseString(input);
+			}
+		};
+	}
+
+	/**
+	 * Render the given object.
+	 */
+	static private <G> Benchmark render(String name, final Renderer<G> renderer, final G object) {
+		return new Benchmark(name) {
+			@Override
+			public Object run() throws Exception {
+				return renderer.render(object);
+			}
+		};
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -21,6 +21,7 @@ package uniol.apt.adt.automaton;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
@@ -40,8 +41,6 @@ import org.apache.commons.collections4.Predicate;
 import uniol.apt.adt.ts.Arc;
 import uniol.apt.adt.ts.TransitionSystem;
 import uniol.apt.util.interrupt.InterrupterRegistry;
-import uniol.apt.util.EquivalenceRelation;
-import uniol.apt.util.IEquivalenceRelation;
 import uniol.apt.util.Pair;
 
 /**
@@ -890,108 +889,7 @@ public class FiniteAutomatonUtility {
 		}
 	}
 
-	// Implementation of the power set construction used by constructDFA().
-	static private class PowerSetConstruction implements DeterministicFiniteAutomaton {
-		private final Set<Symbol> alphabet;
-		private final DFAState initialState;
-
-		// Speed up PowerSetState.equals() by having a canonical version of each state so that this == o hits.
-		private final Map<Set<State>, PowerSetState> stateIdentityCache = new HashMap<>();
-
-		private PowerSetState getState(Set<State> states) {
-			PowerSetState canonical = stateIdentityCache.get(states);
-			if (canonical != null)
-				return canonical;
-
-			PowerSetState result = new PowerSetState(states);
-			canonical = stateIdentityCache.get(result.states);
-			if (canonical != null)
-				result = canonical;
-
-			stateIdentityCache.put(states, result);
-			stateIdentityCache.put(result.states, result);
-			return result;
-		}
-
-		PowerSetConstruction(FiniteAutomaton a) {
-			// Calculate some alphabet
-			Set<Symbol> alphabet = new HashSet<>();
-			for (State state : statesIterable(a))
-				alphabet.addAll(state.getDefinedSymbols());
-			assert !alphabet.contains(Symbol.EPSILON);
-
-			// Remember the alphabet for later and construct an initial state
-			this.alphabet = Collections.unmodifiableSet(alphabet);
-			this.initialState = getState(Collections.singleton(a.getInitialState()));
-		}
-
-		@Override
-		public Set<Symbol> getAlphabet() {
-			return alphabet;
-		}
-
-		@Override
-		public DFAState getInitialState() {
-			return initialState;
-		}
-
-		private class PowerSetState extends DFAState {
-			private final Set<State> states;
-			private final int hashCode;
-			private final Map<Symbol, DFAState> transitions = new HashMap<>();
-
-			private PowerSetState(Set<State> states) {
-				this.states = followEpsilons(states);
-				this.hashCode = states.hashCode();
-			}
-
-			@Override
-			public Set<Symbol> getDefinedSymbols() {
-				return getAlphabet();
-			}
-
-			@Override
-			public boolean isFinalState() {
-				for (State state : states)
-					if (state.isFinalState())
-						return true;
-				return false;
-			}
-
-			@Override
-			public DFAState getFollowingState(Symbol atom) {
-				if (!getAlphabet().contains(atom))
-					return null;
-
-				DFAState result = transitions.get(atom);
-				if (result != null)
-					return result;
-
-				Set<State> newStates = new HashSet<>();
-				for (State state : states)
-					newStates.addAll(state.getFollowingStates(atom));
-
-				result = getState(newStates);
-				transitions.put(atom, result);
-				return result;
-			}
-
-			@Override
-			public int hashCode() {
-				return hashCode;
-			}
-
-			@Override
-			public boolean equals(Object o) {
-				if (!(o instanceof PowerSetState))
-					return false;
-				PowerSetState other = (PowerSetState) o;
-				return states.equals(other.states);
-			}
-		}
-	}
-
-	// Implementation of the table filing algorithm used by minimize().
+	// Implementation of minimize() via Hopcroft's partition refinement algorithm.
 	static private class MinimalDeterministicFiniteAutomaton implements DeterministicFiniteAutomaton {
 		private final Set<Symbol> alphabet;
 		private final MinimalState[] states;
@@ -1000,10 +898,39 @@ public class FiniteAutomatonUtility {
 			DeterministicFiniteAutomaton dfa = constructDFA(a);
 			this.alphabet = Collections.unmodifiableSet(dfa.getAlphabet());
 
-			// Calculate equivalent states via the table filling algorithm
-			EquivalenceRelation<DFAState> partition = getInitialPartitionForMinimize(dfa);
-			partition = refinePartition(partition, alphabet);
-			this.states = constructStates(partition, dfa.getInitialState());
+			// Number the states and symbols and build a dense transition table
+			List<Symbol> symbols = new ArrayList<>(alphabet);
+			int numSymbols = symbols.size();
+			List<DFAState> dfaStates = new ArrayList<>();
+			Map<DFAState, Integer> stateIndex = new HashMap<>();
+			int[] transitions = new int[16 * numSymbols];
+			dfaStates.add(dfa.getInitialState());
+			stateIndex.put(dfa.getInitialState(), 0);
+			for (int i = 0; i < dfaStates.size(); i++) {
+				InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+				DFAState state = dfaStates.get(i);
+				if ((i + 1) * numSymbols > transitions.length)
+					transitions = Arrays.copyOf(transitions, 2 * transitions.length);
+				for (int symbol = 0; symbol < numSymbols; symbol++) {
+					DFAState next = state.getFollowingState(symbols.get(symbol));
+					Integer index = stateIndex.get(next);
+					if (index == null) {
+						index = dfaStates.size();
+						dfaStates.add(next);
+						stateIndex.put(next, index);
+					}
+					transitions[i * numSymbols + symbol] = index;
+				}
+			}
+			transitions = Arrays.copyOf(transitions, dfaStates.size() * numSymbols);
+			boolean[] finalStates = new boolean[dfaStates.size()];
+			for (int i = 0; i < finalStates.length; i++)
+				finalStates[i] = dfaStates.get(i).isFinalState();
+
+			// Calculate equivalent states via Hopcroft's algorithm
+			int[] classes = HopcroftMinimization.calculateEquivalenceClasses(numSymbols, transitions,
+					finalStates);
+			this.states = constructStates(symbols, transitions, finalStates, classes);
 		}
 
 		@Override
@@ -1046,89 +973,43 @@ public class FiniteAutomatonUtility {
 			}
 		}
 
-		static private EquivalenceRelation<DFAState> getInitialPartitionForMinimize(
-				DeterministicFiniteAutomaton a) {
-			DFAState finalState = null;
-			DFAState nonFinalState = null;
-			EquivalenceRelation<DFAState> relation = new EquivalenceRelation<>();
-			for (DFAState state : statesIterable(a)) {
-				InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
-				if (state.isFinalState()) {
-					if (finalState == null)
-						finalState = state;
-					relation.joinClasses(finalState, state);
-				} else {
-					if (nonFinalState == null)
-						nonFinalState = state;
-					relation.joinClasses(nonFinalState, state);
-				}
-			}
-
-			return relation;
-		}
-
-		static private EquivalenceRelation<DFAState> refinePartition(EquivalenceRelation<DFAState> partition,
-				Set<Symbol> alphabet) {
-			EquivalenceRelation<DFAState> lastPartition;
-			do {
-				lastPartition = partition;
-				for (final Symbol symbol : alphabet) {
-					InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
-					// If there are two states in the same equivalence class and they have a
-					// transition with symbol 'symbol' going to different classes, then this class
-					// must be split.
-					final IEquivalenceRelation<DFAState> current = partition;
-					IEquivalenceRelation<DFAState> predicate
-						= new IEquivalenceRelation<DFAState>() {
-						@Override
-						public boolean isEquivalent(DFAState state1, DFAState state2) {
-							DFAState follow1 = state1.getFollowingState(symbol);
-							DFAState follow2 = state2.getFollowingState(symbol);
-							return current.isEquivalent(follow1, follow2);
-						}
-					};
-					partition = partition.refine(predicate);
-				}
-			} while (lastPartition != partition);
-			return partition;
-		}
-
-		private MinimalState[] constructStates(EquivalenceRelation<DFAState> partition, DFAState initialState) {
-			Map<Set<DFAState>, Integer> stateIndex = new HashMap<>();
-			Map<Integer, Boolean> isFinalState = new HashMap<>();
-			stateIndex.put(partition.getClass(initialState), 0);
-			isFinalState.put(0, initialState.isFinalState());
+		// Create one state per equivalence class. The states are numbered in breadth-first order starting
+		// from the class of the initial state (which has index zero).
+		private MinimalState[] constructStates(List<Symbol> symbols, int[] transitions, boolean[] finalStates,
+				int[] classes) {
+			int numSymbols = symbols.size();
+			int numClasses = 0;
+			for (int c : classes)
+				numClasses = Math.max(numClasses, c + 1);
+
+			// For each new state, a DFA state in its equivalence class
+			int[] representative = new int[numClasses];
+			int[] newIndex = new int[numClasses];
+			Arrays.fill(newIndex, -1);
+			representative[0] = 0;
+			newIndex[classes[0]] = 0;
 			int nextIndex = 1;
-			Map<Integer, Map<Symbol, Integer>> transitions = new HashMap<>();
-			Deque<Set<DFAState>> unhandled = new LinkedList<>();
 
-			unhandled.add(partition.getClass(initialState));
-			while (!unhandled.isEmpty()) {
+			MinimalState[] result = new MinimalState[numClasses];
+			for (int i = 0; i < nextIndex; i++) {
 				InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
-				Set<DFAState> state = unhandled.removeFirst();
-
-				DFAState representingState = state.iterator().next();
+				int state = representative[i];
 				Map<Symbol, Integer> postset = new HashMap<>();
-				for (Symbol symbol : getAlphabet()) {
-					DFAState followingState = representingState.getFollowingState(symbol);
-					Set<DFAState> next = partition.getClass(followingState);
-					if (!stateIndex.containsKey(next)) {
-						isFinalState.put(nextIndex, followingState.isFinalState());
-						stateIndex.put(next, nextIndex++);
-						unhandled.add(next);
+				for (int symbol = 0; symbol < numSymbols; symbol++) {
+					int following = transitions[state * numSymbols + symbol];
+					int followingClass = classes[following];
+					if (newIndex[followingClass] == -1) {
+						newIndex[followingClass] = nextIndex;
+						representative[nextIndex++] = following;
 					}
-
-					postset.put(symbol, stateIndex.get(next));
+					postset.put(symbols.get(symbol), newIndex[followingClass]);
 				}
-				transitions.put(stateIndex.get(state), postset);
+				result[i] = new MinimalState(this, postset, finalStates[state]);
 			}
 
-			int numStates = nextIndex;
-			MinimalState[] states = new MinimalState[numStates];
-			for (int i = 0; i < numStates; i++)
-				states[i] = new MinimalState(this, transitions.get(i), isFinalState.get(i));
-
-			return states;
+			// All states of the DFA are reachable, so all equivalence classes were found
+			assert nextIndex == numClasses;
+			return result;
 		}
 	}
 
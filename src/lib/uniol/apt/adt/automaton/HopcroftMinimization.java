@@ -0,0 +1,251 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.adt.automaton;
+
+import uniol.apt.util.interrupt.InterrupterRegistry;
+
+/**
+ * Calculate the language equivalent states of a complete deterministic finite automaton with Hopcroft's partition
+ * refinement algorithm in O(n * m * log n) for n states and m symbols.
+ *
+ * The automaton is given as a dense transition table: States and symbols are numbered from zero and the target of the
+ * transition from state q with symbol a is found at index q * m + a. The partition is stored as a permutation of the
+ * states in which each block is a contiguous range. To split a block, the states that should be split off are moved
+ * to the beginning of the block ("marked") and then become a new block. After a split, only the smaller half needs to
+ * be used for splitting other blocks, which gives the logarithmic factor.
+ * @author agent
+ */
+final class HopcroftMinimization {
+	private final int numberOfStates;
+	private final int numberOfSymbols;
+
+	// Predecessors of each state per symbol: The predecessors of state q with symbol a are found at indices
+	// predecessorsStart[a * n + q] up to predecessorsStart[a * n + q + 1] in predecessors.
+	private final int[] predecessorsStart;
+	private final int[] predecessors;
+
+	// The partition: elements is a permutation of the states, location is its inverse and block the block of each
+	// state. Block b consists of the elements from index first[b] up to end[b]; the elements from first[b] up to
+	// marked[b] are marked.
+	private final int[] elements;
+	private final int[] location;
+	private final int[] block;
+	private final int[] first;
+	private final int[] end;
+	private final int[] marked;
+	private int numberOfBlocks = 0;
+
+	// Blocks with marked elements
+	private final int[] touchedBlocks;
+	private int numberOfTouchedBlocks = 0;
+
+	// The splitters that still have to be handled as block * m + symbol
+	private final int[] worklist;
+	private final boolean[] inWorklist;
+	private int worklistSize = 0;
+
+	// The states of the splitter that is currently handled
+	private final int[] splitterStates;
+
+	private HopcroftMinimization(int numberOfStates, int numberOfSymbols, int[] transitions) {
+		this.numberOfStates = numberOfStates;
+		this.numberOfSymbols = numberOfSymbols;
+
+		int numberOfTransitions = numberOfStates * numberOfSymbols;
+		this.predecessorsStart = new int[numberOfTransitions + 1];
+		this.predecessors = new int[numberOfTransitions];
+		for (int state = 0; state < numberOfStates; state++)
+			for (int symbol = 0; symbol < numberOfSymbols; symbol++)
+				predecessorsStart[getPredecessorIndex(transitions[state * numberOfSymbols + symbol],
+							symbol) + 1]++;
+		for (int i = 0; i < numberOfTransitions; i++)
+			predecessorsStart[i + 1] += predecessorsStart[i];
+		// Fill in the predecessors. This moves each start index to the start of the next entry.
+		for (int state = 0; state < numberOfStates; state++) {
+			for (int symbol = 0; symbol < numberOfSymbols; symbol++) {
+				int index = getPredecessorIndex(transitions[state * numberOfSymbols + symbol], symbol);
+				predecessors[predecessorsStart[index]++] = state;
+			}
+		}
+		System.arraycopy(predecessorsStart, 0, predecessorsStart, 1, numberOfTransitions);
+		predecessorsStart[0] = 0;
+
+		this.elements = new int[numberOfStates];
+		this.location = new int[numberOfStates];
+		this.block = new int[numberOfStates];
+		this.first = new int[numberOfStates];
+		this.end = new int[numberOfStates];
+		this.marked = new int[numberOfStates];
+		this.touchedBlocks = new int[numberOfStates];
+		this.worklist = new int[numberOfTransitions];
+		this.inWorklist = new boolean[numberOfTransitions];
+		this.splitterStates = new int[numberOfStates];
+	}
+
+	private int getPredecessorIndex(int state, int symbol) {
+		return symbol * numberOfStates + state;
+	}
+
+	/**
+	 * Calculate the language equivalent states of a complete deterministic finite automaton.
+	 * @param numberOfSymbols The size of the alphabet.
+	 * @param transitions The transition table. Its length must be a multiple of the number of symbols and the
+	 * entry at index q * numberOfSymbols + a is the state reached from state q by symbol a.
+	 * @param finalStates For each state, whether it is a final state.
+	 * @return For each state the index of its equivalence class. The classes are numbered from zero and two states
+	 * are in the same class iff they accept the same language.
+	 */
+	static int[] calculateEquivalenceClasses(int numberOfSymbols, int[] transitions, boolean[] finalStates) {
+		assert transitions.length == finalStates.length * numberOfSymbols;
+		HopcroftMinimization minimization = new HopcroftMinimization(finalStates.length, numberOfSymbols,
+				transitions);
+		minimization.refine(finalStates);
+
+		// Number the blocks in order of their first state
+		int[] blockIndex = new int[minimization.numberOfBlocks];
+		for (int i = 0; i < blockIndex.length; i++)
+			blockIndex[i] = -1;
+		int[] result = new int[finalStates.length];
+		int nextIndex = 0;
+		for (int state = 0; state < finalStates.length; state++) {
+			int b = minimization.block[state];
+			if (blockIndex[b] == -1)
+				blockIndex[b] = nextIndex++;
+			result[state] = blockIndex[b];
+		}
+		return result;
+	}
+
+	private void refine(boolean[] finalStates) {
+		if (numberOfStates == 0)
+			return;
+
+		// The initial partition consists of the final states and the other states
+		int nextFinal = 0;
+		int nextNonFinal = numberOfStates;
+		for (int state = 0; state < numberOfStates; state++) {
+			int index = finalStates[state] ? nextFinal++ : --nextNonFinal;
+			elements[index] = state;
+			location[state] = index;
+		}
+		if (nextFinal > 0)
+			addBlock(0, nextFinal);
+		if (nextFinal < numberOfStates)
+			addBlock(nextFinal, numberOfStates);
+
+		// Only one of the two blocks needs to be used as a splitter
+		if (numberOfBlocks == 2) {
+			int smaller = getSize(0) <= getSize(1) ? 0 : 1;
+			for (int symbol = 0; symbol < numberOfSymbols; symbol++)
+				addSplitter(smaller, symbol);
+		}
+
+		while (worklistSize > 0) {
+			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+
+			int splitter = worklist[--worklistSize];
+			inWorklist[splitter] = false;
+			int splitterBlock = splitter / numberOfSymbols;
+			int symbol = splitter % numberOfSymbols;
+
+			// Mark all states which reach the splitter block with the symbol. Marking can reorder the
+			// states of the splitter block, so work on a copy.
+			int size = getSize(splitterBlock);
+			System.arraycopy(elements, first[splitterBlock], splitterStates, 0, size);
+			for (int i = 0; i < size; i++) {
+				int index = getPredecessorIndex(splitterStates[i], symbol);
+				for (int j = predecessorsStart[index]; j < predecessorsStart[index + 1]; j++)
+					mark(predecessors[j]);
+			}
+
+			// Split all blocks that are only partly marked
+			while (numberOfTouchedBlocks > 0) {
+				int b = touchedBlocks[--numberOfTouchedBlocks];
+				int newBlock = split(b);
+				if (newBlock == -1)
+					continue;
+
+				for (int a = 0; a < numberOfSymbols; a++) {
+					if (inWorklist[b * numberOfSymbols + a])
+						addSplitter(newBlock, a);
+					else
+						addSplitter(getSize(newBlock) <= getSize(b) ? newBlock : b, a);
+				}
+			}
+		}
+	}
+
+	private int getSize(int b) {
+		return end[b] - first[b];
+	}
+
+	private void addBlock(int blockFirst, int blockEnd) {
+		int b = numberOfBlocks++;
+		first[b] = blockFirst;
+		end[b] = blockEnd;
+		marked[b] = blockFirst;
+		for (int i = blockFirst; i < blockEnd; i++)
+			block[elements[i]] = b;
+	}
+
+	private void addSplitter(int b, int symbol) {
+		int splitter = b * numberOfSymbols + symbol;
+		if (inWorklist[splitter])
+			return;
+		inWorklist[splitter] = true;
+		worklist[worklistSize++] = splitter;
+	}
+
+	// Move the state into the marked part of its block
+	private void mark(int state) {
+		int b = block[state];
+		int index = location[state];
+		int target = marked[b];
+		if (index < target)
+			// Already marked
+			return;
+
+		int other = elements[target];
+		elements[target] = state;
+		location[state] = target;
+		elements[index] = other;
+		location[other] = index;
+
+		if (target == first[b])
+			touchedBlocks[numberOfTouchedBlocks++] = b;
+		marked[b]++;
+	}
+
+	// Split the marked part of a block into a new block. Returns the new block or -1 if all states were marked.
+	private int split(int b) {
+		int newEnd = marked[b];
+		marked[b] = first[b];
+		if (newEnd == end[b])
+			return -1;
+
+		int newFirst = first[b];
+		first[b] = newEnd;
+		marked[b] = newEnd;
+		addBlock(newFirst, newEnd);
+		return numberOfBlocks - 1;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,311 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.adt.automaton;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import uniol.apt.util.interrupt.InterrupterRegistry;
+
+import static uniol.apt.adt.automaton.FiniteAutomatonUtility.statesIterable;
+
+/**
+ * Lazy power set construction used by {@link FiniteAutomatonUtility#constructDFA}.
+ *
+ * All states of the given automaton and all symbols of its alphabet are numbered. A state of the deterministic
+ * automaton is an epsilon-closed set of states, which is represented as a sorted array of state numbers. Each such
+ * set is interned once in a hash table and gets a dense number. The transitions of the deterministic automaton are
+ * calculated on demand and memoised in a flat table where the target of state q with symbol a is found at index
+ * q * m + a for m symbols.
+ * @author agent
+ */
+final class PowerSetConstruction implements DeterministicFiniteAutomaton {
+	static private final int[] EMPTY = new int[0];
+	static private final int UNKNOWN = -1;
+
+	private final Set<Symbol> alphabet;
+	private final Map<Symbol, Integer> symbolIndex = new HashMap<>();
+	private final int numberOfSymbols;
+
+	// The states of the original automaton and their numbers
+	private final List<State> nfaStates = new ArrayList<>();
+	private final Map<State, Integer> nfaStateIndex = new HashMap<>();
+
+	// Lazily calculated per state of the original automaton: The epsilon-closure as a sorted array and for each
+	// symbol the states reached directly (without following epsilons).
+	private final int[][] closures;
+	private final int[][][] successors;
+
+	// The states of the deterministic automaton: The set of original states, whether the state is final and the
+	// DFAState instance representing it.
+	private final List<int[]> subsets = new ArrayList<>();
+	private final List<PowerSetState> dfaStates = new ArrayList<>();
+	private boolean[] finalStates = new boolean[16];
+
+	// Open addressing hash table from sets of states to the number of the state of the deterministic automaton
+	private int[] table = newTable(64);
+
+	// Transitions of the deterministic automaton, UNKNOWN for not yet calculated transitions
+	private int[] transitions;
+
+	// Temporary storage for calculating the following state
+	private final int[] seen;
+	private int seenGeneration = 0;
+	private int[] buffer;
+	private int bufferSize;
+
+	PowerSetConstruction(FiniteAutomaton a) {
+		// Number all states and calculate the alphabet
+		Set<Symbol> alphabet = new HashSet<>();
+		List<Symbol> symbols = new ArrayList<>();
+		for (State state : statesIterable(a)) {
+			nfaStateIndex.put(state, nfaStates.size());
+			nfaStates.add(state);
+			for (Symbol symbol : state.getDefinedSymbols())
+				if (alphabet.add(symbol)) {
+					symbolIndex.put(symbol, symbols.size());
+					symbols.add(symbol);
+				}
+		}
+		assert !alphabet.contains(Symbol.EPSILON);
+		this.alphabet = Collections.unmodifiableSet(alphabet);
+		this.numberOfSymbols = symbols.size();
+
+		int numberOfStates = nfaStates.size();
+		this.closures = new int[numberOfStates][];
+		this.successors = new int[numberOfStates][][];
+		this.seen = new int[numberOfStates];
+		this.buffer = new int[Math.min(numberOfStates, 16)];
+		this.transitions = new int[16 * numberOfSymbols];
+		Arrays.fill(transitions, UNKNOWN);
+
+		// The initial state of the deterministic automaton gets number zero
+		startSet();
+		addClosure(0);
+		int initial = intern(finishSet());
+		assert initial == 0;
+	}
+
+	@Override
+	public Set<Symbol> getAlphabet() {
+		return alphabet;
+	}
+
+	@Override
+	public DFAState getInitialState() {
+		return dfaStates.get(0);
+	}
+
+	/**
+	 * Get the number of states of the deterministic automaton that were constructed so far.
+	 * @return The number of states.
+	 */
+	int getNumberOfConstructedStates() {
+		return subsets.size();
+	}
+
+	// Get the number of the state that is reached from the given state with the given symbol
+	private int getFollowingState(int state, int symbol) {
+		int index = state * numberOfSymbols + symbol;
+		int result = transitions[index];
+		if (result != UNKNOWN)
+			return result;
+
+		startSet();
+		for (int nfaState : subsets.get(state))
+			for (int target : getSuccessors(nfaState, symbol))
+				addClosure(target);
+		result = intern(finishSet());
+		transitions[index] = result;
+		return result;
+	}
+
+	private int[] getSuccessors(int nfaState, int symbol) {
+		int[][] result = successors[nfaState];
+		if (result == null) {
+			result = new int[numberOfSymbols][];
+			State state = nfaStates.get(nfaState);
+			for (Symbol sym : state.getDefinedSymbols()) {
+				Set<State> following = state.getFollowingStates(sym);
+				int[] targets = new int[following.size()];
+				int i = 0;
+				for (State target : following)
+					targets[i++] = nfaStateIndex.get(target);
+				result[symbolIndex.get(sym)] = targets;
+			}
+			for (int i = 0; i < numberOfSymbols; i++)
+				if (result[i] == null)
+					result[i] = EMPTY;
+			successors[nfaState] = result;
+		}
+		return result[symbol];
+	}
+
+	private int[] getClosure(int nfaState) {
+		int[] result = closures[nfaState];
+		if (result != null)
+			return result;
+
+		// Depth first search along epsilon transitions. This uses its own set since it may be called while
+		// another set is being built.
+		Set<Integer> closure = new HashSet<>();
+		List<State> unhandled = new ArrayList<>();
+		closure.add(nfaState);
+		unhandled.add(nfaStates.get(nfaState));
+		while (!unhandled.isEmpty()) {
+			State state = unhandled.remove(unhandled.size() - 1);
+			for (State next : state.getFollowingStates(Symbol.EPSILON))
+				if (closure.add(nfaStateIndex.get(next)))
+					unhandled.add(next);
+		}
+
+		result = new int[closure.size()];
+		int i = 0;
+		for (int s : closure)
+			result[i++] = s;
+		Arrays.sort(result);
+		closures[nfaState] = result;
+		return result;
+	}
+
+	// Begin a new set of states in buffer
+	private void startSet() {
+		bufferSize = 0;
+		seenGeneration++;
+		if (seenGeneration == 0) {
+			// Overflow, start over
+			Arrays.fill(seen, 0);
+			seenGeneration = 1;
+		}
+	}
+
+	private void addClosure(int nfaState) {
+		if (seen[nfaState] == seenGeneration)
+			// The closure of a state that is already in the set is also already in the set
+			return;
+		for (int s : getClosure(nfaState)) {
+			if (seen[s] == seenGeneration)
+				continue;
+			seen[s] = seenGeneration;
+			if (bufferSize == buffer.length)
+				buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+			buffer[bufferSize++] = s;
+		}
+	}
+
+	private int[] finishSet() {
+		int[] result = Arrays.copyOf(buffer, bufferSize);
+		Arrays.sort(result);
+		return result;
+	}
+
+	static private int[] newTable(int size) {
+		int[] result = new int[size];
+		Arrays.fill(result, UNKNOWN);
+		return result;
+	}
+
+	static private int hash(int[] set) {
+		int h = Arrays.hashCode(set);
+		return h ^ (h >>> 16);
+	}
+
+	// Get the number of the given set of states, creating a new state if needed
+	private int intern(int[] set) {
+		int mask = table.length - 1;
+		int position = hash(set) & mask;
+		while (table[position] != UNKNOWN) {
+			if (Arrays.equals(subsets.get(table[position]), set))
+				return table[position];
+			position = (position + 1) & mask;
+		}
+
+		InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+		int result = subsets.size();
+		table[position] = result;
+		subsets.add(set);
+		dfaStates.add(new PowerSetState(result));
+
+		if (result == finalStates.length)
+			finalStates = Arrays.copyOf(finalStates, 2 * finalStates.length);
+		for (int s : set)
+			if (nfaStates.get(s).isFinalState()) {
+				finalStates[result] = true;
+				break;
+			}
+
+		if ((result + 1) * numberOfSymbols > transitions.length) {
+			int oldLength = transitions.length;
+			transitions = Arrays.copyOf(transitions, 2 * oldLength);
+			Arrays.fill(transitions, oldLength, transitions.length, UNKNOWN);
+		}
+
+		// Keep the load factor of the hash table below one half
+		if (2 * subsets.size() > table.length)
+			rehash();
+		return result;
+	}
+
+	private void rehash() {
+		table = newTable(2 * table.length);
+		int mask = table.length - 1;
+		for (int i = 0; i < subsets.size(); i++) {
+			int position = hash(subsets.get(i)) & mask;
+			while (table[position] != UNKNOWN)
+				position = (position + 1) & mask;
+			table[position] = i;
+		}
+	}
+
+	// There is exactly one instance per state, so equality is object identity.
+	private class PowerSetState extends DFAState {
+		private final int index;
+
+		private PowerSetState(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public Set<Symbol> getDefinedSymbols() {
+			return getAlphabet();
+		}
+
+		@Override
+		public boolean isFinalState() {
+			return finalStates[index];
+		}
+
+		@Override
+		public DFAState getFollowingState(Symbol atom) {
+			Integer symbol = symbolIndex.get(atom);
+			if (symbol == null)
+				return null;
+			return dfaStates.get(PowerSetConstruction.this.getFollowingState(index, symbol));
+		}
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
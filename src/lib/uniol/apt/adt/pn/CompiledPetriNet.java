@@ -0,0 +1,415 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.adt.pn;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import uniol.apt.adt.StructuralExtensionRemover;
+import uniol.apt.adt.exception.NoSuchNodeException;
+import uniol.apt.adt.exception.StructureException;
+import uniol.apt.adt.exception.TransitionFireException;
+import uniol.apt.adt.extension.ExtensionProperty;
+
+/**
+ * An immutable, index-based view of the structure of a Petri net which allows firing transitions without creating
+ * intermediate {@link Marking} instances. Transitions are numbered densely in the order of {@link
+ * PetriNet#getTransitions()} and places are addressed by {@link Place#getIndex()}. Markings are represented as
+ * arrays of token counts with {@link #OMEGA} representing OMEGA.
+ *
+ * For every transition the preset and the effect of firing it (the delta vector) are stored in compressed sparse row
+ * format: The entries for transition <code>t</code> are found from index <code>start[t]</code> up to (excluding)
+ * <code>start[t + 1]</code>. In the same way, the transitions consuming tokens from each place are stored. This
+ * allows to update the set of enabled transitions after firing a transition by only checking the transitions whose
+ * preset changed.
+ * @author agent
+ */
+public class CompiledPetriNet {
+	/**
+	 * The value which is used in token arrays to represent OMEGA.
+	 */
+	public static final long OMEGA = Marking.OMEGA;
+
+	private final PetriNet pn;
+	private final long placeRev;
+	private final int placeCount;
+	private final Transition[] transitions;
+	private final Map<String, Integer> transitionIndices = new HashMap<>();
+
+	// Preset of each transition: place indices and the weights of the corresponding flows
+	private final int[] presetStart;
+	private final int[] presetPlaces;
+	private final int[] presetWeights;
+
+	// Change of the marking when a transition fires: place indices and the (non-zero) change on this place
+	private final int[] deltaStart;
+	private final int[] deltaPlaces;
+	private final long[] deltaValues;
+
+	// Postset of each place: indices of the transitions which consume tokens from the place
+	private final int[] consumersStart;
+	private final int[] consumers;
+
+	/**
+	 * Get the compiled version of the given Petri net. If this was already computed and the structure of the Petri
+	 * net did not change since then, the existing instance is returned.
+	 * @param pn The Petri net that should be compiled.
+	 * @return The compiled Petri net.
+	 */
+	static public CompiledPetriNet get(PetriNet pn) {
+		String key = CompiledPetriNet.class.getName();
+		Object extension = null;
+		try {
+			extension = pn.getExtension(key);
+		} catch (StructureException e) {
+			// No such extension.
+		}
+
+		if (extension instanceof CompiledPetriNet)
+			return (CompiledPetriNet) extension;
+
+		CompiledPetriNet result = new CompiledPetriNet(pn);
+		// Save this instance as an extension, but make sure that it is removed if the structure of the Petri net
+		// is changed in any way.
+		pn.putExtension(key, result, ExtensionProperty.NOCOPY);
+		pn.addListener(new StructuralExtensionRemover<PetriNet, Flow, Node>(key));
+		return result;
+	}
+
+	/**
+	 * Compile the given Petri net.
+	 * @param pn The Petri net.
+	 */
+	private CompiledPetriNet(PetriNet pn) {
+		this.pn = pn;
+		this.placeRev = pn.getPlaceRev();
+		this.placeCount = pn.getPlacesList().size();
+		this.transitions = pn.getTransitions().toArray(new Transition[0]);
+
+		int presetSize = 0;
+		int deltaSize = 0;
+		long[] delta = new long[placeCount];
+		for (Transition t : transitions) {
+			presetSize += pn.getPresetEdges(t).size();
+			deltaSize += pn.getPresetEdges(t).size() + pn.getPostsetEdges(t).size();
+		}
+
+		this.presetStart = new int[transitions.length + 1];
+		this.presetPlaces = new int[presetSize];
+		this.presetWeights = new int[presetSize];
+		this.deltaStart = new int[transitions.length + 1];
+		int[] places = new int[deltaSize];
+		long[] values = new long[deltaSize];
+
+		int presetIdx = 0;
+		int deltaIdx = 0;
+		for (int t = 0; t < transitions.length; t++) {
+			transitionIndices.put(transitions[t].getId(), t);
+			presetStart[t] = presetIdx;
+			deltaStart[t] = deltaIdx;
+
+			for (Flow f : pn.getPresetEdges(transitions[t])) {
+				int place = f.getPlace().getIndex();
+				presetPlaces[presetIdx] = place;
+				presetWeights[presetIdx] = f.getWeight();
+				presetIdx++;
+				delta[place] -= f.getWeight();
+			}
+			for (Flow f : pn.getPostsetEdges(transitions[t]))
+				delta[f.getPlace().getIndex()] += f.getWeight();
+
+			// Collect the non-zero entries of the delta vector (and reset it for the next transition)
+			for (Flow f : pn.getPresetEdges(transitions[t]))
+				deltaIdx = collectDelta(delta, f.getPlace().getIndex(), places, values, deltaIdx);
+			for (Flow f : pn.getPostsetEdges(transitions[t]))
+				deltaIdx = collectDelta(delta, f.getPlace().getIndex(), places, values, deltaIdx);
+		}
+		presetStart[transitions.length] = presetIdx;
+		deltaStart[transitions.length] = deltaIdx;
+		this.deltaPlaces = Arrays.copyOf(places, deltaIdx);
+		this.deltaValues = Arrays.copyOf(values, deltaIdx);
+
+		// Transpose the presets into the consumers of each place
+		this.consumersStart = new int[placeCount + 1];
+		this.consumers = new int[presetSize];
+		for (int idx = 0; idx < presetSize; idx++)
+			consumersStart[presetPlaces[idx] + 1]++;
+		for (int place = 0; place < placeCount; place++)
+			consumersStart[place + 1] += consumersStart[place];
+		int[] next = Arrays.copyOf(consumersStart, placeCount);
+		for (int t = 0; t < transitions.length; t++)
+			for (int idx = presetStart[t]; idx < presetStart[t + 1]; idx++)
+				consumers[next[presetPlaces[idx]]++] = t;
+	}
+
+	static private int collectDelta(long[] delta, int place, int[] places, long[] values, int idx) {
+		if (delta[place] != 0) {
+			places[idx] = place;
+			values[idx] = delta[place];
+			delta[place] = 0;
+			idx++;
+		}
+		return idx;
+	}
+
+	/**
+	 * Get the Petri net that was compiled.
+	 * @return The Petri net.
+	 */
+	public PetriNet getPetriNet() {
+		return pn;
+	}
+
+	/**
+	 * Get the number of places. This is the length of the token arrays used by this class.
+	 * @return The number of places.
+	 */
+	public int getPlaceCount() {
+		return placeCount;
+	}
+
+	/**
+	 * Get the number of transitions.
+	 * @return The number of transitions.
+	 */
+	public int getTransitionCount() {
+		return transitions.length;
+	}
+
+	/**
+	 * Get the transition with the given index.
+	 * @param t The index of the transition.
+	 * @return The transition.
+	 */
+	public Transition getTransition(int t) {
+		return transitions[t];
+	}
+
+	/**
+	 * Get the index of the given transition.
+	 * @param t The transition.
+	 * @return The index of the transition.
+	 * @throws NoSuchNodeException thrown if the transition does not belong to the compiled Petri net.
+	 */
+	public int getTransitionIndex(Transition t) {
+		Integer idx = transitionIndices.get(t.getId());
+		if (idx == null || transitions[idx] != t)
+			throw new NoSuchNodeException(pn, t.getId());
+		return idx;
+	}
+
+	/**
+	 * Get the index of the transition with the given id.
+	 * @param id The id of the transition.
+	 * @return The index of the transition.
+	 * @throws NoSuchNodeException thrown if the transition does not belong to the compiled Petri net.
+	 */
+	int getTransitionIndex(String id) {
+		Integer idx = transitionIndices.get(id);
+		if (idx == null)
+			throw new NoSuchNodeException(pn, id);
+		return idx;
+	}
+
+	/**
+	 * Copy the token counts of the given marking into an array.
+	 * @param m The marking to copy.
+	 * @param buffer An array of length {@link #getPlaceCount()} which should receive the token counts, or null if
+	 * a new array should be allocated.
+	 * @return The array containing the token counts.
+	 * @throws StructureException thrown if the marking belongs to another Petri net.
+	 */
+	public long[] getTokens(Marking m, long[] buffer) {
+		checkMarking(m);
+		if (buffer == null)
+			buffer = new long[placeCount];
+		m.copyTokens(buffer);
+		return buffer;
+	}
+
+	/**
+	 * Create a marking from the given token counts.
+	 * @param tokens The token counts. This array is copied.
+	 * @return The marking.
+	 */
+	public Marking getMarking(long[] tokens) {
+		assert pn.getPlaceRev() == placeRev;
+		assert tokens.length == placeCount;
+		return new Marking(pn, tokens.clone());
+	}
+
+	/**
+	 * Check if the given transition is fireable in the given marking.
+	 * @param t The index of the transition.
+	 * @param tokens The token counts of the marking.
+	 * @return true if the transition is fireable.
+	 */
+	public boolean isFireable(int t, long[] tokens) {
+		for (int idx = presetStart[t]; idx < presetStart[t + 1]; idx++) {
+			long value = tokens[presetPlaces[idx]];
+			if (value != OMEGA && value < presetWeights[idx])
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate all transitions that are fireable in the given marking.
+	 * @param tokens The token counts of the marking.
+	 * @return The indices of the fireable transitions in ascending order.
+	 */
+	public int[] getFireableTransitions(long[] tokens) {
+		int[] result = new int[transitions.length];
+		int count = 0;
+		for (int t = 0; t < transitions.length; t++)
+			if (isFireable(t, tokens))
+				result[count++] = t;
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Calculate all transitions that are fireable in the marking which was reached by firing a transition. Only
+	 * transitions which consume tokens from a place whose token count was changed by the fired transition are
+	 * checked. All other transitions keep their state from the previous marking.
+	 * @param previous The indices of the transitions that are fireable in the previous marking, in ascending
+	 * order.
+	 * @param fired The index of the transition that was fired in the previous marking.
+	 * @param tokens The token counts of the marking reached by firing the transition. This must be exactly the
+	 * result of {@link #fire(int, long[], long[])}, e.g. no omegas may have been added.
+	 * @return The indices of the fireable transitions in ascending order.
+	 */
+	public int[] getFireableTransitions(int[] previous, int fired, long[] tokens) {
+		// Collect the transitions whose preset changed
+		int affectedCount = 0;
+		for (int idx = deltaStart[fired]; idx < deltaStart[fired + 1]; idx++) {
+			int place = deltaPlaces[idx];
+			affectedCount += consumersStart[place + 1] - consumersStart[place];
+		}
+		int[] affected = new int[affectedCount];
+		affectedCount = 0;
+		for (int idx = deltaStart[fired]; idx < deltaStart[fired + 1]; idx++) {
+			int place = deltaPlaces[idx];
+			for (int c = consumersStart[place]; c < consumersStart[place + 1]; c++)
+				affected[affectedCount++] = consumers[c];
+		}
+		Arrays.sort(affected);
+
+		// Merge the unaffected transitions from the previous marking and the affected transitions that are
+		// fireable now.
+		int[] result = new int[previous.length + affected.length];
+		int count = 0;
+		int prevIdx = 0;
+		int affIdx = 0;
+		while (prevIdx < previous.length || affIdx < affected.length) {
+			if (affIdx == affected.length
+					|| (prevIdx < previous.length && previous[prevIdx] < affected[affIdx])) {
+				result[count++] = previous[prevIdx++];
+				continue;
+			}
+			int t = affected[affIdx];
+			// Skip duplicates and the same transition in the previous set of fireable transitions
+			while (affIdx < affected.length && affected[affIdx] == t)
+				affIdx++;
+			while (prevIdx < previous.length && previous[prevIdx] == t)
+				prevIdx++;
+			if (isFireable(t, tokens))
+				result[count++] = t;
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Fire the given transition. The successor marking is written into the given result array. Both arrays can be
+	 * the same, in which case the marking is changed in place.
+	 * @param t The index of the transition.
+	 * @param tokens The token counts of the marking in which the transition fires.
+	 * @param result An array of length {@link #getPlaceCount()} which receives the successor marking.
+	 * @throws TransitionFireException thrown if the transition is not fireable in the given marking.
+	 */
+	public void fire(int t, long[] tokens, long[] result) {
+		if (!isFireable(t, tokens)) {
+			throw new TransitionFireException("transition '" + transitions[t].getId()
+				+ "' is not fireable in marking '" + Arrays.toString(tokens) + "'.");
+		}
+		if (tokens != result)
+			System.arraycopy(tokens, 0, result, 0, placeCount);
+		for (int idx = deltaStart[t]; idx < deltaStart[t + 1]; idx++) {
+			int place = deltaPlaces[idx];
+			if (result[place] != OMEGA)
+				result[place] += deltaValues[idx];
+		}
+	}
+
+	/**
+	 * Check if a marking covers another marking. If it does, suitable OMEGAs are added to the covering marking.
+	 * This is the same as {@link Marking#cover(Marking)}, but works on token arrays.
+	 * @param tokens The token counts of the covering marking. OMEGAs are added here.
+	 * @param other The token counts of the marking that should be covered.
+	 * @return true if the other marking is covered and OMEGAs were added.
+	 */
+	static public boolean cover(long[] tokens, long[] other) {
+		assert tokens.length == other.length;
+		boolean covered = false;
+		for (int idx = 0; idx < tokens.length; idx++) {
+			if (tokens[idx] == other[idx] || tokens[idx] == OMEGA)
+				continue;
+			if (other[idx] == OMEGA || tokens[idx] < other[idx])
+				return false;
+			covered = true;
+		}
+		if (!covered)
+			// Both markings are equal and thus we don't cover anything
+			return false;
+
+		for (int idx = 0; idx < tokens.length; idx++)
+			if (tokens[idx] != other[idx])
+				tokens[idx] = OMEGA;
+		return true;
+	}
+
+	/**
+	 * Fire the given transition and return the resulting marking. Only a single new marking is created.
+	 * @param t The index of the transition.
+	 * @param m The marking in which the transition fires.
+	 * @return The successor marking.
+	 * @throws TransitionFireException thrown if the transition is not fireable in the given marking.
+	 * @throws StructureException thrown if the marking belongs to another Petri net.
+	 */
+	public Marking fire(int t, Marking m) {
+		checkMarking(m);
+		long[] tokens = new long[placeCount];
+		m.copyTokens(tokens);
+		if (!isFireable(t, tokens)) {
+			throw new TransitionFireException("transition '" + transitions[t].getId()
+				+ "' is not fireable in marking '" + m.toString() + "'.");
+		}
+		fire(t, tokens, tokens);
+		return new Marking(pn, tokens);
+	}
+
+	private void checkMarking(Marking m) {
+		if (m.getNet() != pn)
+			throw new StructureException("marking does not belong to net '" + pn.getName() + "'.");
+		assert pn.getPlaceRev() == placeRev;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -19,27 +19,28 @@
 
 package uniol.apt.adt.pn;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
 import uniol.apt.adt.exception.NoSuchNodeException;
 import uniol.apt.adt.exception.StructureException;
 
 /**
- * The Marking class represents the marking of a petri net. It stores the places of the net and the count of tokens on
- * the places in a hashmap.
+ * The Marking class represents the marking of a petri net. It stores the count of tokens on the places in a primitive
+ * array which is addressed by the index of a place (see {@link Place#getIndex()}). OMEGA is stored as {@link #OMEGA}.
  * At each access the consistency of the places of the marking is checked with the petri net.
  * @author Manuel Gieseking
  */
 public class Marking {
 
+	/**
+	 * The value which is used in the token array to represent OMEGA.
+	 */
+	static final long OMEGA = -1;
+
 	private final PetriNet net;
 	private List<Place> placesList;
-	private List<Token> tokenList = new ArrayList<>();
+	private long[] tokens;
 	private long rev = -1;
 
 	/**
@@ -49,9 +50,7 @@ public class Marking {
 	public Marking(PetriNet net) {
 		this.net = net;
 		this.placesList = net.getPlacesList();
-		for (Place place : placesList) {
-			tokenList.add(Token.ZERO);
-		}
+		this.tokens = new long[placesList.size()];
 		this.rev = net.getPlaceRev();
 	}
 
@@ -102,8 +101,26 @@ public class Marking {
 			throw new StructureException("Count of tokencounts does not match the count of"
 				+ "places in graph '" + this.net.getName() + "'.");
 		}
-		for (int i = 0; i < orderedTokenCounts.length; i++)
-			this.tokenList.add(Token.valueOf(orderedTokenCounts[i]));
+		this.tokens = new long[orderedTokenCounts.length];
+		for (int i = 0; i < orderedTokenCounts.length; i++) {
+			if (orderedTokenCounts[i] < 0)
+				throw new IllegalArgumentException("v<0");
+			this.tokens[i] = orderedTokenCounts[i];
+		}
+	}
+
+	/**
+	 * Constructor which uses the given array of token counts directly.
+	 * @param net    The net for which the marking instance gets created.
+	 * @param tokens The token counts for the places of the net, indexed by {@link Place#getIndex()}. This array
+	 *               must not be modified afterwards.
+	 */
+	Marking(PetriNet net, long[] tokens) {
+		this.net = net;
+		this.placesList = net.getPlacesList();
+		this.rev = net.getPlaceRev();
+		assert tokens.length == this.placesList.size();
+		this.tokens = tokens;
 	}
 
 	/**
@@ -114,14 +131,14 @@ public class Marking {
 		assert this != m;
 		if (this.net == m.net) {
 			this.placesList = m.placesList;
-			this.tokenList = new ArrayList<>(m.tokenList);
+			this.tokens = m.tokens.clone();
 			this.rev = m.rev;
 		} else {
 			this.placesList = this.net.getPlacesList();
-			this.tokenList = new ArrayList<>(Collections.nCopies(this.placesList.size(), Token.ZERO));
+			this.tokens = new long[this.placesList.size()];
 			for (int idx = 0; idx < m.placesList.size(); idx++) {
-				int ownIdx = placesList.indexOf(net.getPlace(m.placesList.get(idx).getId()));
-				this.tokenList.set(ownIdx, m.tokenList.get(idx));
+				int ownIdx = net.getPlace(m.placesList.get(idx).getId()).getIndex();
+				this.tokens[ownIdx] = m.tokens[idx];
 			}
 			this.rev = this.net.getPlaceRev();
 		}
@@ -134,16 +151,16 @@ public class Marking {
 	 */
 	private void setMarking(Map<String, Integer> m) {
 		this.placesList = net.getPlacesList();
-		this.tokenList = new ArrayList<>(Collections.nCopies(this.placesList.size(), Token.ZERO));
+		this.rev = net.getPlaceRev();
+		this.tokens = new long[this.placesList.size()];
 		for (Map.Entry<String, Integer> entry : m.entrySet()) {
-			int idx = this.placesList.indexOf(this.net.getPlace(entry.getKey()));
+			int idx = this.net.getPlace(entry.getKey()).getIndex();
 			if (idx == -1) {
 				throw new StructureException("place '" + entry.getKey() + "' does not belong to net '"
 					+ this.net.getName() + "'.");
 			}
-			this.tokenList.set(idx, Token.valueOf(entry.getValue()));
+			this.tokens[idx] = toValue(Token.valueOf(entry.getValue()));
 		}
-		ensureConsistency();
 	}
 
 	/**
@@ -241,13 +258,9 @@ public class Marking {
 	public Marking setTokenCount(Place p, Token m) {
 		assert p != null && m != null;
 		ensureConsistency();
-		if (net != p.getGraph() || !this.placesList.contains(p)) {
-			throw new StructureException("place '" + p.getId() + "' does not belong to net '"
-				+ this.net.getName() + "'.");
-		}
+		int idx = indexOf(p);
 		Marking result = new Marking(this);
-		int idx = result.placesList.indexOf(p);
-		result.tokenList.set(idx, m);
+		result.tokens[idx] = toValue(m);
 		return result;
 	}
 
@@ -262,12 +275,8 @@ public class Marking {
 	public void setToken(Place p, Token m) {
 		assert p != null && m != null;
 		ensureConsistency();
-		if (net != p.getGraph() || !this.placesList.contains(p)) {
-			throw new StructureException("place '" + p.getId() + "' does not belong to net '"
-				+ this.net.getName() + "'.");
-		}
-		int idx = this.placesList.indexOf(p);
-		this.tokenList.set(idx, m);
+		int idx = indexOf(p);
+		this.tokens[idx] = toValue(m);
 	}
 
 	/**
@@ -331,8 +340,7 @@ public class Marking {
 		assert p != null && m != null;
 		Token val = getToken(p);
 		Marking result = new Marking(this);
-		int idx = result.placesList.indexOf(p);
-		result.tokenList.set(idx, val.add(m));
+		result.tokens[p.getIndex()] = toValue(val.add(m));
 		return result;
 	}
 
@@ -348,8 +356,7 @@ public class Marking {
 		assert p != null && m != null;
 		ensureConsistency();
 		Token val = getToken(p);
-		int idx = this.placesList.indexOf(p);
-		this.tokenList.set(idx, val.add(m));
+		this.tokens[p.getIndex()] = toValue(val.add(m));
 	}
 
 	/**
@@ -392,8 +399,7 @@ public class Marking {
 		ensureConsistency();
 		Token val = getToken(p);
 		Marking result = new Marking(this);
-		int idx = result.placesList.indexOf(p);
-		result.tokenList.set(idx, val.add(m));
+		result.tokens[p.getIndex()] = toValue(val.add(m));
 		return result;
 	}
 
@@ -410,8 +416,7 @@ public class Marking {
 		assert p != null;
 		ensureConsistency();
 		Token val = getToken(p);
-		int idx = this.placesList.indexOf(p);
-		this.tokenList.set(idx, val.add(m));
+		this.tokens[p.getIndex()] = toValue(val.add(m));
 	}
 
 	/**
@@ -433,17 +438,70 @@ public class Marking {
 	 * @throws NoSuchNodeException thrown if the place with the given id does not exists in the net.
 	 */
 	public Token getToken(Place p) {
+		int idx = indexOf(p);
+		return toToken(this.tokens[idx]);
+	}
+
+	/**
+	 * Returns the token count of the given place as a primitive value. This avoids the creation of {@link Token}
+	 * instances.
+	 * @param p a place of the corresponding net.
+	 * @return the token count or {@link #OMEGA}.
+	 * @throws StructureException  thrown if the place belong to an other net.
+	 * @throws NoSuchNodeException thrown if the place with the given id does not exists in the net.
+	 */
+	long getTokenValue(Place p) {
+		int idx = indexOf(p);
+		return this.tokens[idx];
+	}
+
+	/**
+	 * Returns the index of the given place in the token array of this marking.
+	 * @param p a place of the corresponding net.
+	 * @return the index of the place.
+	 * @throws StructureException  thrown if the place belong to an other net.
+	 * @throws NoSuchNodeException thrown if the place with the given id does not exists in the net.
+	 */
+	private int indexOf(Place p) {
 		assert p != null;
 		if (net != p.getGraph()) {
 			throw new StructureException("place '" + p.getId() + "' does not belong to net '"
 				+ this.net.getName() + "'.");
 		}
 		ensureConsistency();
-		int idx = this.placesList.indexOf(p);
+		int idx = p.getIndex();
 		if (idx == -1) {
 			throw new NoSuchNodeException(net, p.getId());
 		}
-		return this.tokenList.get(idx);
+		assert this.placesList.get(idx) == p;
+		return idx;
+	}
+
+	/**
+	 * Copies the token counts of this marking into the given array.
+	 * @param buffer An array with one entry for each place of the net.
+	 */
+	void copyTokens(long[] buffer) {
+		ensureConsistency();
+		System.arraycopy(this.tokens, 0, buffer, 0, this.tokens.length);
+	}
+
+	/**
+	 * Convert the given token into the value which is used in the token array.
+	 * @param t the token.
+	 * @return the value representing the token.
+	 */
+	static long toValue(Token t) {
+		return t.isOmega() ? OMEGA : t.getValue();
+	}
+
+	/**
+	 * Convert the given value from the token array into a token.
+	 * @param v the value.
+	 * @return the token represented by the value.
+	 */
+	static Token toToken(long v) {
+		return v == OMEGA ? Token.OMEGA : Token.valueOf(v);
 	}
 
 	/**
@@ -453,15 +511,14 @@ public class Marking {
 	final void ensureConsistency() {
 		if (rev != net.getPlaceRev()) {
 			List<Place> oldPlacesList = placesList;
-			List<Token> oldTokenList = tokenList;
+			long[] oldTokens = tokens;
 			this.placesList = this.net.getPlacesList();
-			this.tokenList = new ArrayList<>(this.placesList.size());
-			for (Place place : this.placesList) {
-				int idx = oldPlacesList.indexOf(place);
-				if (idx == -1)
-					this.tokenList.add(Token.ZERO);
-				else
-					this.tokenList.add(oldTokenList.get(idx));
+			this.tokens = new long[this.placesList.size()];
+			// Places which were removed from the net have index -1, new places are initialised with zero
+			for (int oldIdx = 0; oldIdx < oldPlacesList.size(); oldIdx++) {
+				int idx = oldPlacesList.get(oldIdx).getIndex();
+				if (idx != -1)
+					this.tokens[idx] = oldTokens[oldIdx];
 			}
 			rev = net.getPlaceRev();
 		}
@@ -479,29 +536,13 @@ public class Marking {
 		o.ensureConsistency();
 		assert this.placesList == o.placesList;
 
-		Set<Integer> covered = new HashSet<>();
-		for (int idx = 0; idx < placesList.size(); idx++) {
-			Token own = this.tokenList.get(idx);
-			Token other = o.tokenList.get(idx);
-
-			int comp = own.compareTo(other);
-			if (comp < 0) {
-				return null;
-			} else if (comp > 0 && !own.isOmega()) {
-				covered.add(idx);
-			}
-		}
-		if (covered.isEmpty()) {
-			// Both markings are equal and thus we don't cover anything
+		long[] covered = coveredTokens(this.tokens, o.tokens);
+		if (covered == null)
 			return null;
-		}
 
 		// We are covering the other marking, add the suitable omegas
 		Marking result = new Marking(this);
-		for (int idx : covered) {
-			result.tokenList.set(idx, Token.OMEGA);
-		}
-
+		result.tokens = covered;
 		return result;
 	}
 
@@ -519,39 +560,45 @@ public class Marking {
 		o.ensureConsistency();
 		assert this.placesList == o.placesList;
 
-		Set<Integer> covered = new HashSet<>();
-		for (int idx = 0; idx < placesList.size(); idx++) {
-			Token own = this.tokenList.get(idx);
-			Token other = o.tokenList.get(idx);
-
-			int comp = own.compareTo(other);
-			if (comp < 0) {
-				return false;
-			} else if (comp > 0 && !own.isOmega()) {
-				covered.add(idx);
-			}
-		}
-		if (covered.isEmpty()) {
-			// Both markings are equal and thus we don't cover anything
+		long[] covered = coveredTokens(this.tokens, o.tokens);
+		if (covered == null)
 			return false;
-		}
 
 		// We are covering the other marking, add the suitable omegas
-		for (int index : covered) {
-			this.tokenList.set(index, Token.OMEGA);
-		}
-
+		this.tokens = covered;
 		return true;
 	}
 
+	/**
+	 * Check if the first token array covers the second one.
+	 * @param own The token array that should cover.
+	 * @param other The token array that should be covered.
+	 * @return A copy of own with suitable omegas added, or null if own does not cover other.
+	 */
+	private static long[] coveredTokens(long[] own, long[] other) {
+		assert own.length == other.length;
+		long[] result = null;
+		for (int idx = 0; idx < own.length; idx++) {
+			if (own[idx] == other[idx] || own[idx] == OMEGA)
+				continue;
+			if (other[idx] == OMEGA || own[idx] < other[idx])
+				return null;
+			if (result == null)
+				result = own.clone();
+			result[idx] = OMEGA;
+		}
+		// If nothing was changed, both markings are equal and thus we don't cover anything
+		return result;
+	}
+
 	/**
 	 * Check if the marking contains at least one omega.
 	 * @return true if the mapping contains at least one omega token.
 	 */
 	public boolean hasOmega() {
 		ensureConsistency();
-		for (Token val : tokenList) {
-			if (val.isOmega()) {
+		for (long val : tokens) {
+			if (val == OMEGA) {
 				return true;
 			}
 		}
@@ -574,7 +621,7 @@ public class Marking {
 		for (int idx = 0; idx < placesList.size(); idx++) {
 			// Mix the hash codes more so that hopefully all bits of the resulting hash code are influenced.
 			int keyCode = placesList.get(idx).hashCode();
-			int valCode = tokenList.get(idx).hashCode();
+			int valCode = (int) tokens[idx];
 			hashCode += Integer.rotateLeft(valCode, keyCode);
 			hashCode += Integer.rotateLeft(keyCode, valCode);
 		}
@@ -599,7 +646,7 @@ public class Marking {
 			return false;
 		}
 		assert this.placesList == other.placesList;
-		return Objects.equals(this.tokenList, other.tokenList);
+		return Arrays.equals(this.tokens, other.tokens);
 	}
 
 	@Override
@@ -610,7 +657,7 @@ public class Marking {
 			strBuilder.append("[")
 				.append(place.getId())
 				.append(":")
-				.append(getToken(place).toString())
+				.append(toToken(tokens[place.getIndex()]).toString())
 				.append("] ");
 		}
 		strBuilder.append("]");
@@ -261,6 +261,7 @@ public class PetriNet extends AbstractGraph<PetriNet, Flow, Node> implements IGr
 	private Place addPlace(String id, Place p) {
 		this.places.put(id, p);
 		this.nodes.put(id, p);
+		p.index = this.placesList.size();
 		this.placesList = new ArrayList<>(this.placesList);
 		this.placesList.add(p);
 		// update pre- and postsets
@@ -658,8 +659,12 @@ public class PetriNet extends AbstractGraph<PetriNet, Flow, Node> implements IGr
 		if (!this.places.containsKey(id)) {
 			throw new NoSuchNodeException(this, id);
 		}
+		Place place = places.get(id);
 		this.placesList = new ArrayList<>(this.placesList);
-		this.placesList.remove(places.get(id));
+		this.placesList.remove(place.index);
+		place.index = -1;
+		for (int idx = 0; idx < this.placesList.size(); idx++)
+			this.placesList.get(idx).index = idx;
 		rmNode(id);
 		places.remove(id);
 		++placeRev;
@@ -951,7 +956,8 @@ public class PetriNet extends AbstractGraph<PetriNet, Flow, Node> implements IGr
 
 	/**
 	 * Get a list of all places. This list is never modified and is instead replaced every time a place is created
-	 * or removed. This is used by the {@link Marking} class.
+	 * or removed. The position of a place in this list is its index as returned by {@link Place#getIndex()}. This
+	 * is used by the {@link Marking} class.
 	 * @return A list with all places of the net.
 	 */
 	List<Place> getPlacesList() {
@@ -1108,7 +1114,8 @@ public class PetriNet extends AbstractGraph<PetriNet, Flow, Node> implements IGr
 	 */
 	boolean getTransitionIsFireable(String id, Marking m) {
 		for (Flow f : this.getPresetEdges(id)) {
-			if (m.getToken(f.getPlace()).compareTo(Token.valueOf(f.getWeight())) < 0) {
+			long value = m.getTokenValue(f.getPlace());
+			if (value != Marking.OMEGA && value < f.getWeight()) {
 				return false;
 			}
 		}
@@ -1116,25 +1123,16 @@ public class PetriNet extends AbstractGraph<PetriNet, Flow, Node> implements IGr
 	}
 
 	/**
-	 * Fires a transition and returns the resulting marking.
+	 * Fires a transition and returns the resulting marking. The successor marking is computed in a single pass by
+	 * {@link CompiledPetriNet}.
 	 * @param id the id of the transition.
 	 * @param m  the marking.
 	 * @return the resulting marking.
 	 * @throws TransitionFireException thrown if the transition is not fireable under the given marking.
 	 */
 	Marking fireTransition(String id, Marking m) {
-		if (getTransitionIsFireable(id, m)) {
-			for (Flow f : this.getPresetEdges(id)) {
-				m = m.addTokenCount(f.getPlace(), -f.getWeight());
-			}
-			for (Flow f : this.getPostsetEdges(id)) {
-				m = m.addTokenCount(f.getPlace(), +f.getWeight());
-			}
-			return m;
-		} else {
-			throw new TransitionFireException("transition '" + id
-				+ "' is not fireable in marking '" + m.toString() + "'.");
-		}
+		CompiledPetriNet compiled = CompiledPetriNet.get(this);
+		return compiled.fire(compiled.getTransitionIndex(id), m);
 	}
 
 	/**
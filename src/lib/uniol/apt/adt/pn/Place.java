@@ -29,6 +29,9 @@ import java.util.Set;
  */
 public class Place extends Node {
 
+	// Index of this place in the list of places of the net or -1 if this place was removed from its net.
+	int index = -1;
+
 	/**
 	 * Constructor to create a place with the given id in the given Petri net.
 	 * @param net the net this place belongs to.
@@ -48,6 +51,15 @@ public class Place extends Node {
 		super(net, p);
 	}
 
+	/**
+	 * Gets the dense index of this place in its Petri net. The places of a net are numbered from zero to the number
+	 * of places minus one. This index is handed out by the net and changes when places are removed from the net.
+	 * @return the index of this place or -1 if this place does not belong to its net anymore.
+	 */
+	public int getIndex() {
+		return index;
+	}
+
 	/**
 	 * Gets the token of the initialmarking of the net for this place. To maintain consistency it's just a delegate
 	 * to the petri net.
@@ -0,0 +1,421 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.adt.ts;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import uniol.apt.adt.StructuralExtensionRemover;
+import uniol.apt.adt.exception.NoSuchEventException;
+import uniol.apt.adt.exception.NoSuchNodeException;
+import uniol.apt.adt.exception.StructureException;
+import uniol.apt.adt.extension.ExtensionProperty;
+
+/**
+ * An immutable, index-based snapshot of the structure of a transition system for read-only analyses. States are
+ * numbered densely in the order of {@link TransitionSystem#getNodes()} and labels are numbered in their natural
+ * order.
+ *
+ * Arcs are numbered so that the arcs leaving each state are contiguous and sorted by label and then by target. The
+ * arcs leaving state <code>s</code> are the arcs from index <code>getPostsetStart(s)</code> up to (excluding)
+ * <code>getPostsetEnd(s)</code>. The arcs reaching a state are stored in the same way sorted by label and then by
+ * source, but as a list of arc indices. This is compressed sparse row format in both directions.
+ * @author agent
+ */
+public class FrozenTransitionSystem {
+	private final TransitionSystem ts;
+	private final State[] states;
+	private final Map<String, Integer> stateIndices = new HashMap<>();
+	private final String[] labels;
+	private final Map<String, Integer> labelIndices = new HashMap<>();
+	private final int initialState;
+
+	// The arcs sorted by source, label and target
+	private final Arc[] arcs;
+	private final int[] arcSources;
+	private final int[] arcLabels;
+	private final int[] arcTargets;
+	private final int[] postsetStart;
+
+	// The arcs sorted by target, label and source
+	private final int[] presetArcs;
+	private final int[] presetStart;
+
+	/**
+	 * Get the frozen version of the given transition system. If this was already computed and the structure of
+	 * the transition system did not change since then, the existing instance is returned.
+	 * @param ts The transition system that should be frozen.
+	 * @return The frozen transition system.
+	 */
+	static public FrozenTransitionSystem get(TransitionSystem ts) {
+		String key = FrozenTransitionSystem.class.getName();
+		Object extension = null;
+		try {
+			extension = ts.getExtension(key);
+		} catch (StructureException e) {
+			// No such extension.
+		}
+
+		if (extension instanceof FrozenTransitionSystem)
+			return (FrozenTransitionSystem) extension;
+
+		FrozenTransitionSystem result = new FrozenTransitionSystem(ts);
+		// Save this instance as an extension, but make sure that it is removed if the structure of the
+		// transition system is changed in any way.
+		ts.putExtension(key, result, ExtensionProperty.NOCOPY);
+		ts.addListener(new StructuralExtensionRemover<TransitionSystem, Arc, State>(key));
+		return result;
+	}
+
+	/**
+	 * Freeze the given transition system.
+	 * @param ts The transition system.
+	 */
+	private FrozenTransitionSystem(TransitionSystem ts) {
+		this.ts = ts;
+		this.states = ts.getNodes().toArray(new State[0]);
+		for (int s = 0; s < states.length; s++)
+			stateIndices.put(states[s].getId(), s);
+		this.labels = ts.getAlphabet().toArray(new String[0]);
+		Arrays.sort(labels);
+		for (int l = 0; l < labels.length; l++)
+			labelIndices.put(labels[l], l);
+
+		int initial = -1;
+		try {
+			initial = stateIndices.get(ts.getInitialState().getId());
+		} catch (StructureException e) {
+			// No initial state
+		}
+		this.initialState = initial;
+
+		// Collect the arcs in any order
+		int numArcs = ts.getEdges().size();
+		Arc[] unsortedArcs = new Arc[numArcs];
+		int[] sources = new int[numArcs];
+		int[] arcLabelsUnsorted = new int[numArcs];
+		int[] targets = new int[numArcs];
+		int arc = 0;
+		for (int s = 0; s < states.length; s++) {
+			for (Arc a : states[s].getPostsetEdges()) {
+				unsortedArcs[arc] = a;
+				sources[arc] = s;
+				arcLabelsUnsorted[arc] = labelIndices.get(a.getLabel());
+				targets[arc] = stateIndices.get(a.getTargetId());
+				arc++;
+			}
+		}
+		assert arc == numArcs;
+
+		// Sort by source, label and target (least significant key first, each pass is stable)
+		int[] order = identity(numArcs);
+		order = countingSort(order, targets, states.length);
+		order = countingSort(order, arcLabelsUnsorted, labels.length);
+		order = countingSort(order, sources, states.length);
+
+		this.arcs = new Arc[numArcs];
+		this.arcSources = new int[numArcs];
+		this.arcLabels = new int[numArcs];
+		this.arcTargets = new int[numArcs];
+		for (int i = 0; i < numArcs; i++) {
+			arcs[i] = unsortedArcs[order[i]];
+			arcSources[i] = sources[order[i]];
+			arcLabels[i] = arcLabelsUnsorted[order[i]];
+			arcTargets[i] = targets[order[i]];
+		}
+		this.postsetStart = calculateStart(arcSources, states.length);
+
+		// Sort the (now numbered) arcs by target, label and source
+		int[] preset = identity(numArcs);
+		preset = countingSort(preset, arcSources, states.length);
+		preset = countingSort(preset, arcLabels, labels.length);
+		preset = countingSort(preset, arcTargets, states.length);
+		this.presetArcs = preset;
+		int[] presetTargets = new int[numArcs];
+		for (int i = 0; i < numArcs; i++)
+			presetTargets[i] = arcTargets[presetArcs[i]];
+		this.presetStart = calculateStart(presetTargets, states.length);
+	}
+
+	static private int[] identity(int length) {
+		int[] result = new int[length];
+		for (int i = 0; i < length; i++)
+			result[i] = i;
+		return result;
+	}
+
+	// Stable counting sort of the given order by the given keys which are smaller than numKeys
+	static private int[] countingSort(int[] order, int[] keys, int numKeys) {
+		int[] start = new int[numKeys + 1];
+		for (int i : order)
+			start[keys[i] + 1]++;
+		for (int k = 0; k < numKeys; k++)
+			start[k + 1] += start[k];
+		int[] result = new int[order.length];
+		for (int i : order)
+			result[start[keys[i]]++] = i;
+		return result;
+	}
+
+	// Given sorted keys, calculate where the entries for each key begin
+	static private int[] calculateStart(int[] sortedKeys, int numKeys) {
+		int[] start = new int[numKeys + 1];
+		for (int key : sortedKeys)
+			start[key + 1]++;
+		for (int k = 0; k < numKeys; k++)
+			start[k + 1] += start[k];
+		return start;
+	}
+
+	/**
+	 * Get the transition system that was frozen.
+	 * @return The transition system.
+	 */
+	public TransitionSystem getTransitionSystem() {
+		return ts;
+	}
+
+	/**
+	 * Get the number of states.
+	 * @return The number of states.
+	 */
+	public int getStateCount() {
+		return states.length;
+	}
+
+	/**
+	 * Get the number of labels.
+	 * @return The number of labels.
+	 */
+	public int getLabelCount() {
+		return labels.length;
+	}
+
+	/**
+	 * Get the number of arcs.
+	 * @return The number of arcs.
+	 */
+	public int getArcCount() {
+		return arcs.length;
+	}
+
+	/**
+	 * Get the state with the given index.
+	 * @param state The index of the state.
+	 * @return The state.
+	 */
+	public State getState(int state) {
+		return states[state];
+	}
+
+	/**
+	 * Get the index of a state.
+	 * @param state The state.
+	 * @return The index of the state.
+	 * @throws NoSuchNodeException If the transition system has no such state.
+	 */
+	public int getStateIndex(State state) {
+		return getStateIndex(state.getId());
+	}
+
+	/**
+	 * Get the index of the state with the given id.
+	 * @param id The id of the state.
+	 * @return The index of the state.
+	 * @throws NoSuchNodeException If the transition system has no such state.
+	 */
+	public int getStateIndex(String id) {
+		Integer result = stateIndices.get(id);
+		if (result == null)
+			throw new NoSuchNodeException(ts, id);
+		return result;
+	}
+
+	/**
+	 * Get the index of the initial state.
+	 * @return The index of the initial state or -1 if the transition system has no initial state.
+	 */
+	public int getInitialState() {
+		return initialState;
+	}
+
+	/**
+	 * Get the label with the given index.
+	 * @param label The index of the label.
+	 * @return The label.
+	 */
+	public String getLabel(int label) {
+		return labels[label];
+	}
+
+	/**
+	 * Get the index of a label.
+	 * @param label The label.
+	 * @return The index of the label.
+	 * @throws NoSuchEventException If the transition system has no such label.
+	 */
+	public int getLabelIndex(String label) {
+		Integer result = labelIndices.get(label);
+		if (result == null)
+			throw new NoSuchEventException(label);
+		return result;
+	}
+
+	/**
+	 * Get the arc with the given index.
+	 * @param arc The index of the arc.
+	 * @return The arc.
+	 */
+	public Arc getArc(int arc) {
+		return arcs[arc];
+	}
+
+	/**
+	 * Get the index of the source state of an arc.
+	 * @param arc The index of the arc.
+	 * @return The index of the source state.
+	 */
+	public int getArcSource(int arc) {
+		return arcSources[arc];
+	}
+
+	/**
+	 * Get the index of the label of an arc.
+	 * @param arc The index of the arc.
+	 * @return The index of the label.
+	 */
+	public int getArcLabel(int arc) {
+		return arcLabels[arc];
+	}
+
+	/**
+	 * Get the index of the target state of an arc.
+	 * @param arc The index of the arc.
+	 * @return The index of the target state.
+	 */
+	public int getArcTarget(int arc) {
+		return arcTargets[arc];
+	}
+
+	/**
+	 * Get the index of the first arc leaving the given state.
+	 * @param state The index of the state.
+	 * @return The index of the first arc.
+	 */
+	public int getPostsetStart(int state) {
+		return postsetStart[state];
+	}
+
+	/**
+	 * Get the index after the last arc leaving the given state.
+	 * @param state The index of the state.
+	 * @return The index after the last arc.
+	 */
+	public int getPostsetEnd(int state) {
+		return postsetStart[state + 1];
+	}
+
+	/**
+	 * Get the index of the first arc leaving the given state with the given label. If there is no such arc, this
+	 * is the same value as returned by {@link #getPostsetEnd(int, int)}.
+	 * @param state The index of the state.
+	 * @param label The index of the label.
+	 * @return The index of the first arc.
+	 */
+	public int getPostsetStart(int state, int label) {
+		return lowerBound(null, postsetStart[state], postsetStart[state + 1], label);
+	}
+
+	/**
+	 * Get the index after the last arc leaving the given state with the given label.
+	 * @param state The index of the state.
+	 * @param label The index of the label.
+	 * @return The index after the last arc.
+	 */
+	public int getPostsetEnd(int state, int label) {
+		return lowerBound(null, postsetStart[state], postsetStart[state + 1], label + 1);
+	}
+
+	// Find the first arc in the given range whose label is not smaller than the given label. If arcIndices is not
+	// null, the range refers to this array and it contains the actual arc indices.
+	private int lowerBound(int[] arcIndices, int from, int to, int label) {
+		while (from < to) {
+			int middle = (from + to) >>> 1;
+			int arc = arcIndices == null ? middle : arcIndices[middle];
+			if (arcLabels[arc] < label)
+				from = middle + 1;
+			else
+				to = middle;
+		}
+		return from;
+	}
+
+	/**
+	 * Get the position of the first arc reaching the given state. Use {@link #getPresetArc(int)} to get the arcs.
+	 * @param state The index of the state.
+	 * @return The position of the first arc.
+	 */
+	public int getPresetStart(int state) {
+		return presetStart[state];
+	}
+
+	/**
+	 * Get the position after the last arc reaching the given state.
+	 * @param state The index of the state.
+	 * @return The position after the last arc.
+	 */
+	public int getPresetEnd(int state) {
+		return presetStart[state + 1];
+	}
+
+	/**
+	 * Get the position of the first arc reaching the given state with the given label. If there is no such arc,
+	 * this is the same value as returned by {@link #getPresetEnd(int, int)}.
+	 * @param state The index of the state.
+	 * @param label The index of the label.
+	 * @return The position of the first arc.
+	 */
+	public int getPresetStart(int state, int label) {
+		return lowerBound(presetArcs, presetStart[state], presetStart[state + 1], label);
+	}
+
+	/**
+	 * Get the position after the last arc reaching the given state with the given label.
+	 * @param state The index of the state.
+	 * @param label The index of the label.
+	 * @return The position after the last arc.
+	 */
+	public int getPresetEnd(int state, int label) {
+		return lowerBound(presetArcs, presetStart[state], presetStart[state + 1], label + 1);
+	}
+
+	/**
+	 * Get the arc at the given position of the presets.
+	 * @param position The position between {@link #getPresetStart(int)} and {@link #getPresetEnd(int)} of some
+	 * state.
+	 * @return The index of the arc.
+	 */
+	public int getPresetArc(int position) {
+		return presetArcs[position];
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -1138,6 +1138,16 @@ public class TransitionSystem extends AbstractGraph<TransitionSystem, Arc, State
 		return states.containsKey(sourceId);
 	}
 
+	/**
+	 * Get an immutable, index-based snapshot of the structure of this transition system. The snapshot is cached
+	 * until the structure of this transition system changes.
+	 * @return The frozen transition system.
+	 * @see FrozenTransitionSystem
+	 */
+	public FrozenTransitionSystem freeze() {
+		return FrozenTransitionSystem.get(this);
+	}
+
 	static private class InternalEvent {
 		private int references = 0;
 		private final Event event;
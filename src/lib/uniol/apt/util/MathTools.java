@@ -119,6 +119,40 @@ public class MathTools {
 	public static int mod(int a, int b) {
 		return BigInteger.valueOf(a).mod(BigInteger.valueOf(b)).intValue();
 	}
+
+	/**
+	 * Adds two longs and checks for overflow. This is the same as Math.addExact() from Java 8.
+	 * @param a - first summand.
+	 * @param b - second summand.
+	 * @return the sum a + b.
+	 * @throws ArithmeticException if the result does not fit into a long.
+	 */
+	public static long addExact(long a, long b) {
+		long result = a + b;
+		// Overflow happened iff both arguments have the same sign and the result has a different sign
+		if (((a ^ result) & (b ^ result)) < 0)
+			throw new ArithmeticException("long overflow in " + a + " + " + b);
+		return result;
+	}
+
+	/**
+	 * Multiplies two longs and checks for overflow. This is the same as Math.multiplyExact() from Java 8.
+	 * @param a - first factor.
+	 * @param b - second factor.
+	 * @return the product a * b.
+	 * @throws ArithmeticException if the result does not fit into a long.
+	 */
+	public static long multiplyExact(long a, long b) {
+		long result = a * b;
+		long absA = Math.abs(a);
+		long absB = Math.abs(b);
+		// Only check for overflow if one of the factors has more than 31 bits
+		if (((absA | absB) >>> 31) != 0) {
+			if ((b != 0 && result / b != a) || (a == Long.MIN_VALUE && b == -1))
+				throw new ArithmeticException("long overflow in " + a + " * " + b);
+		}
+		return result;
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
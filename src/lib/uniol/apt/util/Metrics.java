@@ -0,0 +1,325 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.util;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Named counters, timers and gauges for finding out where time is spent. Metrics are usually kept in static fields
+ * of the class that updates them:
+ * <pre>
+ * {@code
+ * static private final Metrics.Counter STATES = Metrics.counter("coverability.states");
+ * static private final Metrics.Timer SOLVING = Metrics.timer("separation.solve");
+ *
+ * STATES.increment();
+ * long start = SOLVING.start();
+ * solve();
+ * SOLVING.stop(start);
+ * }
+ * </pre>
+ * Collection is disabled by default. In this case, updating a metric only checks a static flag. Collection is
+ * enabled via {@link #setEnabled(boolean)} or by setting the system property <code>apt.metrics</code> to true. All
+ * metrics can be updated concurrently by multiple threads.
+ * @author agent
+ */
+final public class Metrics {
+	static private boolean enabled = Boolean.getBoolean("apt.metrics");
+	static private final SortedMap<String, Counter> COUNTERS = new TreeMap<>();
+	static private final SortedMap<String, Timer> TIMERS = new TreeMap<>();
+	static private final SortedMap<String, Gauge> GAUGES = new TreeMap<>();
+
+	/**
+	 * Private constructor, don't create instances of this.
+	 */
+	private Metrics() {
+	}
+
+	/**
+	 * Is the collection of metrics enabled?
+	 * @return true if metrics are collected.
+	 */
+	static public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enable or disable the collection of metrics. This should be called before any worker threads are started.
+	 * @param enable Should metrics be collected?
+	 */
+	static public void setEnabled(boolean enable) {
+		enabled = enable;
+	}
+
+	/**
+	 * Get the counter with the given name, creating it if necessary.
+	 * @param name The name of the counter.
+	 * @return The counter.
+	 */
+	static public Counter counter(String name) {
+		synchronized (COUNTERS) {
+			Counter result = COUNTERS.get(name);
+			if (result == null) {
+				result = new Counter();
+				COUNTERS.put(name, result);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Get the timer with the given name, creating it if necessary.
+	 * @param name The name of the timer.
+	 * @return The timer.
+	 */
+	static public Timer timer(String name) {
+		synchronized (TIMERS) {
+			Timer result = TIMERS.get(name);
+			if (result == null) {
+				result = new Timer();
+				TIMERS.put(name, result);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Get the gauge with the given name, creating it if necessary.
+	 * @param name The name of the gauge.
+	 * @return The gauge.
+	 */
+	static public Gauge gauge(String name) {
+		synchronized (GAUGES) {
+			Gauge result = GAUGES.get(name);
+			if (result == null) {
+				result = new Gauge();
+				GAUGES.put(name, result);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Reset all metrics to zero.
+	 */
+	static public void reset() {
+		synchronized (COUNTERS) {
+			for (Counter counter : COUNTERS.values())
+				counter.value.set(0);
+		}
+		synchronized (TIMERS) {
+			for (Timer timer : TIMERS.values()) {
+				timer.count.set(0);
+				timer.total.set(0);
+				timer.max.set(0);
+			}
+		}
+		synchronized (GAUGES) {
+			for (Gauge gauge : GAUGES.values())
+				gauge.value.set(0);
+		}
+	}
+
+	/**
+	 * Get the values of all metrics that were used as a JSON object. Counters and gauges are mapped to their
+	 * value. Timers are mapped to an object containing the number of measurements and the total and maximum
+	 * duration in nanoseconds.
+	 * @return The JSON representation.
+	 */
+	static public String toJSON() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\n  \"counters\": {");
+		synchronized (COUNTERS) {
+			String separator = "";
+			for (Map.Entry<String, Counter> entry : COUNTERS.entrySet()) {
+				sb.append(separator).append("\n    ");
+				appendString(sb, entry.getKey());
+				sb.append(": ").append(entry.getValue().get());
+				separator = ",";
+			}
+		}
+		sb.append("\n  },\n  \"timers\": {");
+		synchronized (TIMERS) {
+			String separator = "";
+			for (Map.Entry<String, Timer> entry : TIMERS.entrySet()) {
+				Timer timer = entry.getValue();
+				sb.append(separator).append("\n    ");
+				appendString(sb, entry.getKey());
+				sb.append(": { \"count\": ").append(timer.getCount());
+				sb.append(", \"totalNanos\": ").append(timer.getTotalNanos());
+				sb.append(", \"maxNanos\": ").append(timer.getMaxNanos()).append(" }");
+				separator = ",";
+			}
+		}
+		sb.append("\n  },\n  \"gauges\": {");
+		synchronized (GAUGES) {
+			String separator = "";
+			for (Map.Entry<String, Gauge> entry : GAUGES.entrySet()) {
+				sb.append(separator).append("\n    ");
+				appendString(sb, entry.getKey());
+				sb.append(": ").append(entry.getValue().get());
+				separator = ",";
+			}
+		}
+		sb.append("\n  }\n}");
+		return sb.toString();
+	}
+
+	static private void appendString(StringBuilder sb, String str) {
+		sb.append('"');
+		for (char c : str.toCharArray()) {
+			if (c == '"' || c == '\\')
+				sb.append('\\').append(c);
+			else if (c < 0x20)
+				sb.append(String.format("\\u%04x", (int) c));
+			else
+				sb.append(c);
+		}
+		sb.append('"');
+	}
+
+	/**
+	 * A counter which can be incremented.
+	 */
+	static public class Counter {
+		private final AtomicLong value = new AtomicLong();
+
+		private Counter() {
+		}
+
+		/**
+		 * Increment this counter by one.
+		 */
+		public void increment() {
+			if (enabled)
+				value.incrementAndGet();
+		}
+
+		/**
+		 * Increment this counter.
+		 * @param delta The value to add to the counter.
+		 */
+		public void add(long delta) {
+			if (enabled)
+				value.addAndGet(delta);
+		}
+
+		/**
+		 * Get the current value of this counter.
+		 * @return The value.
+		 */
+		public long get() {
+			return value.get();
+		}
+	}
+
+	/**
+	 * A timer which measures the number and the durations of some operation.
+	 */
+	static public class Timer {
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong total = new AtomicLong();
+		private final AtomicLong max = new AtomicLong();
+
+		private Timer() {
+		}
+
+		/**
+		 * Start a measurement.
+		 * @return A value which must be passed to {@link #stop(long)}.
+		 */
+		public long start() {
+			if (enabled)
+				return System.nanoTime();
+			return 0;
+		}
+
+		/**
+		 * Finish a measurement.
+		 * @param start The value returned by the corresponding call to {@link #start()}.
+		 */
+		public void stop(long start) {
+			if (!enabled)
+				return;
+			long duration = System.nanoTime() - start;
+			count.incrementAndGet();
+			total.addAndGet(duration);
+			long previous = max.get();
+			while (duration > previous && !max.compareAndSet(previous, duration))
+				previous = max.get();
+		}
+
+		/**
+		 * Get the number of measurements.
+		 * @return The number of measurements.
+		 */
+		public long getCount() {
+			return count.get();
+		}
+
+		/**
+		 * Get the sum of the durations of all measurements.
+		 * @return The total duration in nanoseconds.
+		 */
+		public long getTotalNanos() {
+			return total.get();
+		}
+
+		/**
+		 * Get the longest duration of a measurement.
+		 * @return The maximum duration in nanoseconds.
+		 */
+		public long getMaxNanos() {
+			return max.get();
+		}
+	}
+
+	/**
+	 * A gauge which holds the last value that was set.
+	 */
+	static public class Gauge {
+		private final AtomicLong value = new AtomicLong();
+
+		private Gauge() {
+		}
+
+		/**
+		 * Set the value of this gauge.
+		 * @param newValue The new value.
+		 */
+		public void set(long newValue) {
+			if (enabled)
+				value.set(newValue);
+		}
+
+		/**
+		 * Get the current value of this gauge.
+		 * @return The value.
+		 */
+		public long get() {
+			return value.get();
+		}
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
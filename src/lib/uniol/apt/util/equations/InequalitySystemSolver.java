@@ -225,7 +225,8 @@ public class InequalitySystemSolver {
 			// This will happen if the TerminationRequest given to the
 			// Script constructor triggers
 			// TODO maybe introduce a different exception?
-			assert ReasonUnknown.TIMEOUT.equals(script.getInfo(":reason-unknown")) : script.getInfo(":reason-unknown");
+			Object reason = script.getInfo(":reason-unknown");
+			assert ReasonUnknown.TIMEOUT.equals(reason) || ReasonUnknown.CANCELLED.equals(reason) : reason;
 			throw new UncheckedInterruptedException();
 		} else if (isSat == LBool.UNSAT) {
 			debug("SMTInterpol produced unsat: ", isSat);
@@ -61,6 +61,7 @@ import uniol.apt.ui.impl.AptParametersTransformer;
 import uniol.apt.ui.impl.AptReturnValuesTransformer;
 import uniol.apt.ui.impl.SimpleParametersParser;
 import uniol.apt.ui.impl.UIUtils;
+import uniol.apt.util.Metrics;
 
 /**
  * @author Renke Grunwald
@@ -109,6 +110,11 @@ public class APT {
 	private static final PrintStream OUT_PRINTER = System.out;
 	private static final PrintStream ERR_PRINTER = System.err;
 
+	private static final String METRICS_OPTION = "--metrics";
+	// Should metrics be printed after the module finished? They are written to metricsFile or standard error.
+	private static boolean printMetrics = false;
+	private static File metricsFile = null;
+
 	/**
 	 * Hidden Constructor.
 	 */
@@ -136,6 +142,7 @@ public class APT {
 	public static void main(String[] args) {
 		addRemovedModules();
 
+		args = parseMetricsOption(args);
 		PARAMETERS_PARSER.parse(args);
 
 		String[] moduleNames = PARAMETERS_PARSER.getModuleNames();
@@ -216,15 +223,53 @@ public class APT {
 			ExitStatus status = statusChecker.check(module, values);
 
 			OUT_PRINTER.flush();
+			printMetrics();
 			System.exit(status.getValue());
 		} catch (ModuleException e) {
 			ERR_PRINTER.println(String.format("Error while invoking module '%s':%n  %s",
 						module.getName(), e.getMessage()));
 			ERR_PRINTER.flush();
+			printMetrics();
 			System.exit(ExitStatus.ERROR.getValue());
 		}
 	}
 
+	/**
+	 * Handle a leading <code>--metrics</code> or <code>--metrics=FILE</code> argument. If it is present, the
+	 * collection of metrics is enabled and they are written as JSON to standard error respectively the given file
+	 * after the module finished.
+	 * @param args The command line arguments.
+	 * @return The command line arguments without the metrics option.
+	 */
+	private static String[] parseMetricsOption(String[] args) {
+		if (args.length == 0)
+			return args;
+		if (args[0].startsWith(METRICS_OPTION + "="))
+			metricsFile = new File(args[0].substring(METRICS_OPTION.length() + 1));
+		else if (!args[0].equals(METRICS_OPTION))
+			return args;
+		printMetrics = true;
+		Metrics.setEnabled(true);
+		return Arrays.copyOfRange(args, 1, args.length);
+	}
+
+	private static void printMetrics() {
+		if (!printMetrics)
+			return;
+		String json = Metrics.toJSON();
+		if (metricsFile == null) {
+			ERR_PRINTER.println(json);
+		} else {
+			try {
+				FileUtils.writeStringToFile(metricsFile, json + "\n", "UTF-8");
+			} catch (IOException e) {
+				ERR_PRINTER.println("Could not write metrics to " + metricsFile + ": "
+						+ e.getMessage());
+			}
+		}
+		ERR_PRINTER.flush();
+	}
+
 	private static void checkNoTwoStdinParameters(String[] moduleArgs, int numberOfUsedParameters,
 			List<Parameter> allParameters) {
 		boolean hasStdInParameter = false;
@@ -413,7 +458,7 @@ public class APT {
 
 	private static void printUsageAndExit() {
 		printVersion();
-		OUT_PRINTER.println("Usage: apt <module> <arguments>");
+		OUT_PRINTER.println("Usage: apt [--metrics[=<file>]] <module> <arguments>");
 		OUT_PRINTER.println();
 
 		OUT_PRINTER.println("Available modules:");
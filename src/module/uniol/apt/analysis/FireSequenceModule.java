@@ -21,6 +21,7 @@ package uniol.apt.analysis;
 
 import uniol.apt.adt.exception.NoSuchNodeException;
 import uniol.apt.adt.exception.TransitionFireException;
+import uniol.apt.adt.pn.CompiledPetriNet;
 import uniol.apt.adt.pn.Marking;
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.pn.Transition;
@@ -79,7 +80,8 @@ public class FireSequenceModule extends AbstractInterruptibleModule implements I
 	public void run(ModuleInput input, ModuleOutput output) throws ModuleException {
 		PetriNet pn = input.getParameter("pn", PetriNet.class);
 		Word sequence = input.getParameter("sequence", Word.class);
-		Marking marking = pn.getInitialMarking();
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		long[] tokens = compiled.getTokens(pn.getInitialMarking(), null);
 		FiringSequence fired = new FiringSequence();
 		boolean success = true;
 
@@ -87,7 +89,8 @@ public class FireSequenceModule extends AbstractInterruptibleModule implements I
 			for (String name : sequence) {
 				InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
 				Transition trans = pn.getTransition(name);
-				marking = trans.fire(marking);
+				// Fire in-place; the tokens are left unchanged if the transition is not fireable
+				compiled.fire(compiled.getTransitionIndex(trans), tokens, tokens);
 				fired.add(trans);
 			}
 			// Unset list in case everything worked successfully
@@ -100,7 +103,7 @@ public class FireSequenceModule extends AbstractInterruptibleModule implements I
 		}
 
 		output.setReturnValue("success", Boolean.class, success);
-		output.setReturnValue("reached_marking", Marking.class, marking);
+		output.setReturnValue("reached_marking", Marking.class, compiled.getMarking(tokens));
 		output.setReturnValue("fired_sequence", FiringSequence.class, fired);
 	}
 
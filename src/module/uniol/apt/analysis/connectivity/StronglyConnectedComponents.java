@@ -0,0 +1,403 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.connectivity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import uniol.apt.adt.AbstractGraph;
+import uniol.apt.adt.IGraph;
+import uniol.apt.adt.INode;
+import uniol.apt.adt.StructuralExtensionRemover;
+import uniol.apt.adt.exception.NoSuchNodeException;
+import uniol.apt.adt.exception.StructureException;
+import uniol.apt.adt.extension.ExtensionProperty;
+import uniol.apt.adt.ts.FrozenTransitionSystem;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.util.interrupt.InterrupterRegistry;
+
+/**
+ * The strongly connected components of a graph together with its condensation, which is the graph that has the
+ * components as nodes and an arc between two different components if there is an arc between their nodes.
+ *
+ * The components are calculated with Tarjan's algorithm on dense node indices. The components are numbered in the
+ * order in which Tarjan's algorithm finds them, which is a reverse topological order of the condensation: All arcs
+ * of the condensation go from a component to a component with a smaller number.
+ *
+ * Since an instance is cached for the lifetime of the graph's structure, no map from nodes to indices is kept. The
+ * states of a transition system are numbered via its {@link FrozenTransitionSystem}, which is shared with other
+ * analyses. The nodes of other graphs are numbered in the order of their ids and looked up by binary search.
+ * @param <N> The type of the graph's nodes.
+ * @author agent
+ */
+public class StronglyConnectedComponents<N extends INode<?, ?, N>> {
+	// Translates between nodes and their indices
+	private final NodeNumbering<N> numbering;
+
+	// The component of each node
+	private final int[] componentOf;
+	private final int numberOfComponents;
+
+	// The nodes of component c are found at indices componentStart[c] up to componentStart[c + 1] in
+	// componentNodes.
+	private final int[] componentStart;
+	private final int[] componentNodes;
+
+	// The condensation: The successors of component c are found at indices successorsStart[c] up to
+	// successorsStart[c + 1] in successors.
+	private final int[] successorsStart;
+	private final int[] successors;
+
+	/**
+	 * Get the strongly connected components of the given graph. If they were already computed and the structure
+	 * of the graph did not change since then, the existing instance is returned.
+	 * @param graph The graph that should be examined.
+	 * @param <G> The type of the graph.
+	 * @param <N> The type of the graph's nodes.
+	 * @return The strongly connected components.
+	 */
+	static public <G extends IGraph<G, ?, N>, N extends INode<G, ?, N>> StronglyConnectedComponents<N> get(
+			G graph) {
+		// Only AbstractGraph supports listeners, so only cache the result there
+		if (!(graph instanceof AbstractGraph))
+			return new StronglyConnectedComponents<N>(graph);
+
+		String key = StronglyConnectedComponents.class.getName();
+		Object extension = null;
+		try {
+			extension = graph.getExtension(key);
+		} catch (StructureException e) {
+			// No such extension.
+		}
+
+		if (extension instanceof StronglyConnectedComponents) {
+			@SuppressWarnings("unchecked")
+			StronglyConnectedComponents<N> result = (StronglyConnectedComponents<N>) extension;
+			return result;
+		}
+
+		StronglyConnectedComponents<N> result = new StronglyConnectedComponents<N>(graph);
+		// Save this instance as an extension, but make sure that it is removed if the structure of the graph is
+		// changed in any way.
+		graph.putExtension(key, result, ExtensionProperty.NOCOPY);
+		addExtensionRemover(graph, key);
+		return result;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static private void addExtensionRemover(IGraph graph, String key) {
+		graph.addListener(new StructuralExtensionRemover(key));
+	}
+
+	/**
+	 * Translation between the nodes of a graph and dense indices.
+	 * @param <N> The type of the graph's nodes.
+	 */
+	static private abstract class NodeNumbering<N> {
+		/**
+		 * Get the node with the given index.
+		 * @param index The index of the node.
+		 * @return The node.
+		 */
+		abstract N getNode(int index);
+
+		/**
+		 * Get the index of the given node.
+		 * @param node The node.
+		 * @return The index of the node or -1 if it does not belong to the graph.
+		 */
+		abstract int getIndex(N node);
+	}
+
+	/**
+	 * Numbering of the states of a transition system via its frozen version.
+	 */
+	static private class FrozenNumbering extends NodeNumbering<State> {
+		private final FrozenTransitionSystem frozen;
+
+		private FrozenNumbering(FrozenTransitionSystem frozen) {
+			this.frozen = frozen;
+		}
+
+		@Override
+		State getNode(int index) {
+			return frozen.getState(index);
+		}
+
+		@Override
+		int getIndex(State node) {
+			int index;
+			try {
+				index = frozen.getStateIndex(node);
+			} catch (NoSuchNodeException e) {
+				return -1;
+			}
+			// A state of another transition system could have the same id
+			return frozen.getState(index) == node ? index : -1;
+		}
+	}
+
+	/**
+	 * Numbering of the nodes of a graph in the order of their ids.
+	 * @param <N> The type of the graph's nodes.
+	 */
+	static private class SortedNumbering<N extends INode<?, ?, N>> extends NodeNumbering<N> {
+		static private final Comparator<INode<?, ?, ?>> BY_ID = new Comparator<INode<?, ?, ?>>() {
+			@Override
+			public int compare(INode<?, ?, ?> node1, INode<?, ?, ?> node2) {
+				return node1.getId().compareTo(node2.getId());
+			}
+		};
+
+		private final List<N> nodes;
+
+		private SortedNumbering(Set<N> nodes) {
+			this.nodes = new ArrayList<>(nodes);
+			Collections.sort(this.nodes, BY_ID);
+		}
+
+		@Override
+		N getNode(int index) {
+			return nodes.get(index);
+		}
+
+		@Override
+		int getIndex(N node) {
+			int index = Collections.binarySearch(nodes, node, BY_ID);
+			if (index < 0 || nodes.get(index) != node)
+				return -1;
+			return index;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private StronglyConnectedComponents(IGraph<?, ?, N> graph) {
+		// Number the nodes and build the adjacency in compressed sparse row format
+		int numberOfNodes;
+		int[] adjacencyStart;
+		int[] adjacency;
+		if (graph instanceof TransitionSystem) {
+			// N is State, so this cast is fine
+			FrozenTransitionSystem frozen = ((TransitionSystem) graph).freeze();
+			this.numbering = (NodeNumbering<N>) (NodeNumbering<?>) new FrozenNumbering(frozen);
+			numberOfNodes = frozen.getStateCount();
+			adjacencyStart = new int[numberOfNodes + 1];
+			adjacency = new int[frozen.getArcCount()];
+			for (int state = 0; state < numberOfNodes; state++)
+				adjacencyStart[state] = frozen.getPostsetStart(state);
+			adjacencyStart[numberOfNodes] = adjacency.length;
+			for (int arc = 0; arc < adjacency.length; arc++)
+				adjacency[arc] = frozen.getArcTarget(arc);
+		} else {
+			this.numbering = new SortedNumbering<N>(graph.getNodes());
+			numberOfNodes = graph.getNodes().size();
+			adjacencyStart = new int[numberOfNodes + 1];
+			adjacency = new int[16];
+			int numberOfArcs = 0;
+			for (int node = 0; node < numberOfNodes; node++) {
+				adjacencyStart[node] = numberOfArcs;
+				for (N next : numbering.getNode(node).getPostsetNodes()) {
+					if (numberOfArcs == adjacency.length)
+						adjacency = Arrays.copyOf(adjacency, 2 * adjacency.length);
+					adjacency[numberOfArcs++] = numbering.getIndex(next);
+				}
+			}
+			adjacencyStart[numberOfNodes] = numberOfArcs;
+		}
+
+		this.componentOf = new int[numberOfNodes];
+		this.numberOfComponents = calculateComponents(adjacencyStart, adjacency, componentOf);
+
+		// Group the nodes by component
+		this.componentStart = new int[numberOfComponents + 1];
+		this.componentNodes = new int[numberOfNodes];
+		for (int node = 0; node < numberOfNodes; node++)
+			componentStart[componentOf[node] + 1]++;
+		for (int c = 0; c < numberOfComponents; c++)
+			componentStart[c + 1] += componentStart[c];
+		int[] next = Arrays.copyOf(componentStart, numberOfComponents);
+		for (int node = 0; node < numberOfNodes; node++)
+			componentNodes[next[componentOf[node]]++] = node;
+
+		// Calculate the condensation, skipping duplicate arcs
+		this.successorsStart = new int[numberOfComponents + 1];
+		int[] succ = new int[16];
+		int numberOfSuccessors = 0;
+		int[] lastSeen = new int[numberOfComponents];
+		Arrays.fill(lastSeen, -1);
+		for (int c = 0; c < numberOfComponents; c++) {
+			successorsStart[c] = numberOfSuccessors;
+			lastSeen[c] = c;
+			for (int i = componentStart[c]; i < componentStart[c + 1]; i++) {
+				int node = componentNodes[i];
+				for (int j = adjacencyStart[node]; j < adjacencyStart[node + 1]; j++) {
+					int target = componentOf[adjacency[j]];
+					if (lastSeen[target] == c)
+						continue;
+					assert target < c;
+					lastSeen[target] = c;
+					if (numberOfSuccessors == succ.length)
+						succ = Arrays.copyOf(succ, 2 * succ.length);
+					succ[numberOfSuccessors++] = target;
+				}
+			}
+		}
+		successorsStart[numberOfComponents] = numberOfSuccessors;
+		this.successors = Arrays.copyOf(succ, numberOfSuccessors);
+	}
+
+	// Tarjan's algorithm without recursion. Returns the number of components.
+	static private int calculateComponents(int[] adjacencyStart, int[] adjacency, int[] componentOf) {
+		int numberOfNodes = componentOf.length;
+		// Each visited node gets a dfsNumber, zero means not yet visited. A node's minNumber is the smallest
+		// dfsNumber of a node on the stack that is reachable from it via the depth-first-search. When a node's
+		// dfsNumber is equal to its minNumber, it is the root of a strongly connected component which consists
+		// of the nodes on the stack up to the root.
+		int[] dfsNumber = new int[numberOfNodes];
+		int[] minNumber = new int[numberOfNodes];
+		boolean[] onStack = new boolean[numberOfNodes];
+		int[] stack = new int[numberOfNodes];
+		int stackSize = 0;
+		// The nodes whose arcs are currently being followed and the next arc of each of them
+		int[] callers = new int[numberOfNodes];
+		int[] nextArc = new int[numberOfNodes];
+		int depth = 0;
+		int counter = 0;
+		int numberOfComponents = 0;
+
+		for (int root = 0; root < numberOfNodes; root++) {
+			if (dfsNumber[root] != 0)
+				continue;
+
+			int node = root;
+			while (true) {
+				if (dfsNumber[node] == 0) {
+					// Visit a new node
+					InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+					dfsNumber[node] = minNumber[node] = ++counter;
+					stack[stackSize++] = node;
+					onStack[node] = true;
+					nextArc[node] = adjacencyStart[node];
+					callers[depth++] = node;
+				}
+
+				node = callers[depth - 1];
+				if (nextArc[node] < adjacencyStart[node + 1]) {
+					int next = adjacency[nextArc[node]++];
+					if (dfsNumber[next] == 0)
+						node = next;
+					else if (onStack[next])
+						minNumber[node] = Math.min(minNumber[node], dfsNumber[next]);
+					continue;
+				}
+
+				// All arcs of the node were handled
+				depth--;
+				if (minNumber[node] == dfsNumber[node]) {
+					int cur;
+					do {
+						cur = stack[--stackSize];
+						onStack[cur] = false;
+						componentOf[cur] = numberOfComponents;
+					} while (cur != node);
+					numberOfComponents++;
+				}
+				if (depth == 0)
+					break;
+				int caller = callers[depth - 1];
+				minNumber[caller] = Math.min(minNumber[caller], minNumber[node]);
+			}
+		}
+
+		assert stackSize == 0;
+		return numberOfComponents;
+	}
+
+	/**
+	 * Get the number of strongly connected components.
+	 * @return The number of components.
+	 */
+	public int getComponentCount() {
+		return numberOfComponents;
+	}
+
+	/**
+	 * Get the number of the component that contains the given node.
+	 * @param node The node.
+	 * @return The number of its component.
+	 * @throws IllegalArgumentException If the node is not part of the graph.
+	 */
+	public int getComponent(N node) {
+		int index = numbering.getIndex(node);
+		if (index < 0)
+			throw new IllegalArgumentException("Unknown node " + node);
+		return componentOf[index];
+	}
+
+	/**
+	 * Get the nodes of a strongly connected component.
+	 * @param component The number of the component.
+	 * @return The nodes of the component.
+	 */
+	public Set<N> getComponentNodes(int component) {
+		Set<N> result = new HashSet<>();
+		for (int i = componentStart[component]; i < componentStart[component + 1]; i++)
+			result.add(numbering.getNode(componentNodes[i]));
+		return Collections.unmodifiableSet(result);
+	}
+
+	/**
+	 * Get all strongly connected components. The sets are created on each call and not kept by this instance.
+	 * @return A partition of the graph's nodes into components.
+	 */
+	public Set<Set<N>> getComponents() {
+		Set<Set<N>> result = new HashSet<>();
+		for (int c = 0; c < numberOfComponents; c++)
+			result.add(getComponentNodes(c));
+		return Collections.unmodifiableSet(result);
+	}
+
+	/**
+	 * Get the successors of a component in the condensation. These are the other components which are reached
+	 * by an arc from the given component. All of them have a smaller number than the given component.
+	 * @param component The number of the component.
+	 * @return The numbers of the successor components.
+	 */
+	public int[] getSuccessorComponents(int component) {
+		return Arrays.copyOfRange(successors, successorsStart[component], successorsStart[component + 1]);
+	}
+
+	/**
+	 * Check if a component is a bottom component. A bottom component has no arcs leaving it.
+	 * @param component The number of the component.
+	 * @return true if the component has no successors in the condensation.
+	 */
+	public boolean isBottomComponent(int component) {
+		return successorsStart[component] == successorsStart[component + 1];
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -19,16 +19,19 @@
 
 package uniol.apt.analysis.coverability;
 
+import java.io.Closeable;
+import java.io.File;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import uniol.apt.adt.StructuralExtensionRemover;
 import uniol.apt.adt.extension.ExtensionProperty;
+import uniol.apt.adt.pn.CompiledPetriNet;
 import uniol.apt.adt.pn.Flow;
 import uniol.apt.adt.pn.Marking;
 import uniol.apt.adt.pn.Node;
@@ -37,11 +40,11 @@ import uniol.apt.adt.pn.Transition;
 import uniol.apt.adt.ts.Arc;
 import uniol.apt.adt.ts.State;
 import uniol.apt.adt.ts.TransitionSystem;
-import uniol.apt.util.Pair;
 
 import uniol.apt.adt.exception.ArcExistsException;
 import uniol.apt.adt.exception.StructureException;
 import uniol.apt.analysis.exception.UnboundedException;
+import uniol.apt.util.Metrics;
 import uniol.apt.util.interrupt.InterrupterRegistry;
 
 /**
@@ -53,18 +56,51 @@ import uniol.apt.util.interrupt.InterrupterRegistry;
  * that a place can have infinitely many tokens. This extension makes the coverability graph always bounded.
  * @author Uli Schlachter, vsp
  */
-public class CoverabilityGraph {
+public class CoverabilityGraph implements Closeable {
+	/**
+	 * Name of the system property which specifies the number of threads used for calculating reachability graphs.
+	 * By default, only one thread is used.
+	 */
+	public static final String THREADS_PROPERTY = "apt.threads";
+
+	// Reachability graphs are only calculated in parallel once there are at least this many unvisited nodes
+	static final int PARALLEL_FRONTIER_SIZE = 256;
+
+	static final Metrics.Counter STATES_EXPLORED = Metrics.counter("coverability.statesExplored");
+	static final Metrics.Counter EDGES_GENERATED = Metrics.counter("coverability.edgesGenerated");
+	static private final Metrics.Counter COVER_CHECKS = Metrics.counter("coverability.coverChecks");
 
 	// The Petri net that we are handling
 	private final PetriNet pn;
-	// Map from visited markings to the corresponding nodes
-	private final Map<Marking, CoverabilityGraphNode> states = new HashMap<>();
+	// The compiled version of the Petri net which is used for firing transitions
+	private final CompiledPetriNet compiled;
+	// The markings of all nodes. A node is identified by the id of its marking in this store.
+	private final MarkingStore markings;
+	// Per node: the parent node in the search tree, the index of the transition reaching the node from its parent
+	// and the node covered by this node (-1 if there is none)
+	private int[] parents = new int[16];
+	private int[] reachingTransitions = new int[16];
+	private int[] coveredNodes = new int[16];
+	// Per node: the address of the first postset edge in edges and the number of postset edges (-1 if the postset
+	// was not yet generated)
+	private long[] postsetStart = new long[16];
+	private int[] postsetSize = new int[16];
+	// The postset edges of all nodes. Each edge is stored as the index of its transition and the id of its target.
+	private final PagedStorage edges;
 	// Index into nodes; all entries before this index already generated their postset.
 	private int indexOfFirstUnvisited = 0;
-	// List of nodes that were already visited, this is a list to implement iterators.
-	private final List<CoverabilityGraphNode> nodes = new ArrayList<>();
+	// Was any node expanded while an earlier node was still unvisited? Then the node ids are no longer in
+	// breadth-first order.
+	private boolean expandedOutOfOrder = false;
 	// Are we generating a coverability or a reachability graph?
 	private final boolean reachabilityGraph;
+	// Directory for memory-mapped storage of markings and edges (null if they are kept on the heap)
+	private final File directory;
+	// Buffers for the token counts of the marking that is currently expanded, of its successor marking and of the
+	// marking of an ancestor that is checked for being covered
+	private final long[] currentTokens;
+	private final long[] successorTokens;
+	private final long[] ancestorTokens;
 
 	/**
 	 * Construct the coverability graph for a given Petri net. If a coverability graph for this Petri net is already
@@ -109,7 +145,7 @@ public class CoverabilityGraph {
 		if (extension != null && extension instanceof CoverabilityGraph)
 			return (CoverabilityGraph) extension;
 
-		CoverabilityGraph result = new CoverabilityGraph(pn, reachabilityGraph);
+		CoverabilityGraph result = new CoverabilityGraph(pn, reachabilityGraph, null);
 		// Save this coverability graph as an extension, but make sure that it is removed if the structure of
 		// the Petri net is changed in any way.
 		pn.putExtension(key, result, ExtensionProperty.NOCOPY);
@@ -117,17 +153,54 @@ public class CoverabilityGraph {
 		return result;
 	}
 
+	/**
+	 * Construct the coverability graph for a given Petri net whose markings and edges are stored in memory-mapped
+	 * files instead of on the heap. This allows to handle graphs which are larger than the available heap. Only
+	 * the hash index of the markings and some bookkeeping per node stay on the heap. Since such a graph is expected
+	 * to be huge, it is not cached and a new instance is created on each call. Call {@link #close()} once the
+	 * graph is no longer needed.
+	 * @param pn The Petri net whose coverability graph is wanted.
+	 * @param directory The directory in which the temporary files are created. The files are deleted immediately
+	 * (or when the virtual machine exits if the operating system does not allow deleting open files).
+	 * @return A coverability graph.
+	 * @throws java.io.IOError if creating or mapping the temporary files fails.
+	 */
+	static public CoverabilityGraph getOnDisk(PetriNet pn, File directory) {
+		return new CoverabilityGraph(pn, false, directory);
+	}
+
+	/**
+	 * Construct the reachability graph for a given Petri net whose markings and edges are stored in memory-mapped
+	 * files instead of on the heap. Keep in mind that the reachability graph of a Petri net can be infinite!
+	 * @param pn The Petri net whose reachability graph is wanted.
+	 * @param directory The directory in which the temporary files are created.
+	 * @return A coverability graph.
+	 * @throws java.io.IOError if creating or mapping the temporary files fails.
+	 * @see #getOnDisk(PetriNet, File)
+	 */
+	static public CoverabilityGraph getReachabilityGraphOnDisk(PetriNet pn, File directory) {
+		return new CoverabilityGraph(pn, true, directory);
+	}
+
 	/**
 	 * Construct the coverability graph for a given Petri net. This constructor is actually cheap. The coverability
 	 * graph is constructed on-demand when needed. If you want to force full calculation of the graph, use the
 	 * {@link #calculateNodes() calculateNodes} method.
 	 * @param pn The Petri net whose coverability graph is wanted.
 	 * @param reachabilityGraph Should just reachability be checked and coverability be ignored?
+	 * @param directory Directory for memory-mapped storage or null if everything should be kept on the heap.
 	 */
-	private CoverabilityGraph(PetriNet pn, boolean reachabilityGraph) {
+	private CoverabilityGraph(PetriNet pn, boolean reachabilityGraph, File directory) {
 		this.pn = pn;
+		this.compiled = CompiledPetriNet.get(pn);
+		this.directory = directory;
+		this.markings = new MarkingStore(compiled.getPlaceCount(), PagedStorage.create(directory));
+		this.edges = PagedStorage.create(directory);
+		this.currentTokens = new long[compiled.getPlaceCount()];
+		this.successorTokens = new long[compiled.getPlaceCount()];
+		this.ancestorTokens = new long[compiled.getPlaceCount()];
 		this.reachabilityGraph = reachabilityGraph;
-		getNode(null, pn.getInitialMarking(), null, null);
+		addNode(compiled.getTokens(pn.getInitialMarking(), null), -1, -1, -1);
 	}
 
 	/**
@@ -135,90 +208,313 @@ public class CoverabilityGraph {
 	 * @return Number of nodes in the graph.
 	 */
 	public int calculateNodes() {
+		return calculateNodes(getThreadCount());
+	}
+
+	/**
+	 * Calculate all nodes of the coverability graph. Reachability graphs are calculated with the given number of
+	 * threads once the number of unvisited nodes is large enough.
+	 * @param threads The number of threads to use.
+	 * @return Number of nodes in the graph.
+	 */
+	int calculateNodes(int threads) {
 		while (true) {
 			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+			if (threads > 1 && reachabilityGraph && !expandedOutOfOrder
+					&& markings.size() - indexOfFirstUnvisited >= PARALLEL_FRONTIER_SIZE) {
+				calculateNodesInParallel(threads);
+				return markings.size();
+			}
 			if (!visitNode())
-				return nodes.size();
+				return markings.size();
 		}
 	}
 
+	/**
+	 * Calculate all nodes of the coverability graph and count their edges. Unlike {@link #toCoverabilityLTS()},
+	 * this does not create any objects per node or edge, so it can be used for graphs in memory-mapped storage
+	 * which do not fit into the heap.
+	 * @return Number of edges in the graph.
+	 */
+	public long calculateEdges() {
+		calculateNodes();
+		long result = 0;
+		for (int node = 0; node < markings.size(); node++)
+			result += postsetSize[node];
+		return result;
+	}
+
+	/**
+	 * Calculate all nodes of the coverability graph and check if any of them has a marking with OMEGAs. Like
+	 * {@link #calculateEdges()}, this does not create any objects per node.
+	 * @return true if some marking contains OMEGA, i.e. this is not a reachability graph.
+	 */
+	public boolean hasOmega() {
+		calculateNodes();
+		if (reachabilityGraph)
+			return false;
+		for (int node = 0; node < markings.size(); node++) {
+			markings.get(node, currentTokens);
+			for (long value : currentTokens)
+				if (value == CompiledPetriNet.OMEGA)
+					return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Get the number of threads that should be used for calculating reachability graphs.
+	 * @return The number of threads.
+	 * @see #THREADS_PROPERTY
+	 */
+	static private int getThreadCount() {
+		return Math.max(1, Integer.getInteger(THREADS_PROPERTY, 1));
+	}
+
+	/**
+	 * Calculate all remaining nodes of the reachability graph with multiple threads. The nodes are numbered in the
+	 * same way as {@link #visitNode()} would do it. For this, the nodes from indexOfFirstUnvisited on may not have
+	 * generated their postset yet.
+	 * @param threads The number of threads to use.
+	 */
+	private void calculateNodesInParallel(int threads) {
+		assert reachabilityGraph && !expandedOutOfOrder;
+		ParallelReachabilityGraphBuilder builder = new ParallelReachabilityGraphBuilder(compiled, threads,
+				directory);
+
+		try {
+			// Tell the builder about all nodes that we already know
+			int knownNodes = markings.size();
+			int[] ids = new int[knownNodes];
+			for (int node = 0; node < knownNodes; node++) {
+				markings.get(node, currentTokens);
+				ids[node] = builder.addKnownMarking(currentTokens);
+			}
+			for (int node = 0; node < indexOfFirstUnvisited; node++) {
+				int[] postset = new int[2 * postsetSize[node]];
+				long address = postsetStart[node];
+				for (int i = 0; i < postset.length; i += 2) {
+					postset[i] = edges.getInt(address);
+					postset[i + 1] = ids[edges.getInt(address + 4)];
+					address += 8;
+				}
+				builder.setKnownPostset(ids[node], postset);
+			}
+			builder.build(ids[0]);
+
+			// Now add the nodes in the order in which visitNode() would have generated them
+			for (int node = indexOfFirstUnvisited; node < builder.getNodeCount(); node++) {
+				InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+				int[] postset = builder.getPostset(node);
+				long start = edges.size();
+				for (int i = 0; i < postset.length; i += 2) {
+					int transition = postset[i];
+					int target = postset[i + 1];
+					if (target == markings.size()) {
+						builder.getTokens(target, successorTokens);
+						int added = addNode(successorTokens, node, transition, -1);
+						assert added == target;
+					}
+					assert target < markings.size();
+					edges.appendInt(transition);
+					edges.appendInt(target);
+				}
+				postsetStart[node] = start;
+				postsetSize[node] = postset.length / 2;
+				indexOfFirstUnvisited = node + 1;
+			}
+			assert markings.size() == builder.getNodeCount();
+		} finally {
+			builder.close();
+		}
+	}
+
+	/**
+	 * Release the memory-mapped files of a graph which was created via {@link #getOnDisk(PetriNet, File)} or
+	 * {@link #getReachabilityGraphOnDisk(PetriNet, File)}. Afterwards, the graph and its nodes may no longer be
+	 * used. Graphs on the heap are shared between callers and left to the garbage collector, so for them this
+	 * does nothing.
+	 */
+	@Override
+	public void close() {
+		if (directory == null)
+			return;
+		markings.close();
+		edges.close();
+	}
+
 	private boolean visitNode() {
 		// Pick a random, unvisited node
 		// (Here: breadth-first search so that we have short paths to the initial node in checkCover())
-		if (indexOfFirstUnvisited >= nodes.size())
+		if (indexOfFirstUnvisited >= markings.size())
 			return false;
 
 		// Make the node generate its postset
-		nodes.get(indexOfFirstUnvisited).getPostsetEdges();
-		indexOfFirstUnvisited++;
+		expandNode(indexOfFirstUnvisited);
 		return true;
 	}
 
 	/**
-	 * Generate the postset of a given node. This may only be called by CoverabilityGraphNode.
-	 * @param node Node whose postset should get generated.
-	 * @return The node's postset
+	 * Generate the postset of the given node if this was not done yet.
+	 * @param node The id of the node.
 	 */
-	Set<CoverabilityGraphEdge> getPostsetEdges(CoverabilityGraphNode node) {
-		// Now follow all activated transitions of that node
-		final Marking marking = node.getMarking();
-		final Set<CoverabilityGraphEdge> result = new HashSet<>();
-		for (Transition t : pn.getTransitions()) {
-			if (!t.isFireable(marking)) {
-				continue;
-			}
+	private void expandNode(int node) {
+		if (postsetSize[node] >= 0)
+			return;
 
-			Marking newMarking = t.fire(marking);
-			// checkCover() will also change the marking of the Petri net if some OMEGAs are created!
-			Pair<CoverabilityGraphNode, Marking> covered = checkCover(newMarking, node);
-			CoverabilityGraphNode target;
-			if (covered == null)
-				target = getNode(t, newMarking, node, null);
-			else
-				target = getNode(t, covered.getSecond(), node, covered.getFirst());
-			result.add(new CoverabilityGraphEdge(t, node, target));
+		// Now follow all activated transitions of that node
+		markings.get(node, currentTokens);
+		int[] fireable = getFireableTransitions(node);
+		long start = edges.size();
+		for (int transition : fireable) {
+			compiled.fire(transition, currentTokens, successorTokens);
+			// checkCover() will also change the marking if some OMEGAs are created!
+			int covered = checkCover(successorTokens, node);
+			int target = addNode(successorTokens, node, transition, covered);
+			edges.appendInt(transition);
+			edges.appendInt(target);
 		}
+		postsetStart[node] = start;
+		postsetSize[node] = fireable.length;
+		STATES_EXPLORED.increment();
+		EDGES_GENERATED.add(fireable.length);
+
+		if (node > indexOfFirstUnvisited)
+			expandedOutOfOrder = true;
+		while (indexOfFirstUnvisited < markings.size() && postsetSize[indexOfFirstUnvisited] >= 0)
+			indexOfFirstUnvisited++;
+	}
 
-		return result;
+	/**
+	 * Calculate the transitions that are fireable in the given node's marking. If possible, this is done
+	 * incrementally based on the fireable transitions of the node's parent so that only transitions whose preset
+	 * was changed by the reaching transition are checked.
+	 * @param node The id of the node whose marking is in currentTokens.
+	 * @return The indices of the fireable transitions.
+	 */
+	private int[] getFireableTransitions(int node) {
+		int parent = parents[node];
+		// If OMEGAs were added, the marking differs from the parent's marking by more than the effect of the
+		// reaching transition. In this case, just check all transitions.
+		if (parent == -1 || postsetSize[parent] < 0 || coveredNodes[node] != -1)
+			return compiled.getFireableTransitions(currentTokens);
+
+		// The postset edges of the parent are exactly its fireable transitions in ascending order
+		int[] parentFireable = new int[postsetSize[parent]];
+		for (int i = 0; i < parentFireable.length; i++)
+			parentFireable[i] = edges.getInt(postsetStart[parent] + 8 * i);
+		int[] fireable = compiled.getFireableTransitions(parentFireable, reachingTransitions[node],
+				currentTokens);
+		assert Arrays.equals(fireable, compiled.getFireableTransitions(currentTokens));
+		return fireable;
 	}
 
 	/**
 	 * Check if the given marking covers any markings on the current path.
 	 * If the marking covers some other marking, suitable omegas are inserted.
-	 * @param cur The marking to check.
+	 * @param cur The token counts of the marking to check.
 	 * @param parent The immediate parent node.
-	 * @return null if no covering occurred, else the node that is covered and the covering marking.
+	 * @return -1 if no covering occurred, else the node that is covered.
 	 */
-	private Pair<CoverabilityGraphNode, Marking> checkCover(Marking cur, CoverabilityGraphNode parent) {
+	private int checkCover(long[] cur, int parent) {
 		if (reachabilityGraph)
-			return null;
-		assert parent != null;
-		while (parent != null) {
-			Marking m = cur.cover(parent.getMarking());
-			if (m != null)
-				return new Pair<>(parent, m);
-			parent = parent.getParent();
+			return -1;
+		assert parent != -1;
+		while (parent != -1) {
+			COVER_CHECKS.increment();
+			markings.get(parent, ancestorTokens);
+			if (CompiledPetriNet.cover(cur, ancestorTokens))
+				return parent;
+			parent = parents[parent];
 		}
-		return null;
+		return -1;
 	}
 
 	/**
 	 * Get a node from the coverability graph, creating it if it does not yet exist.
-	 * @param transition The transition which reaches this new state.
-	 * @param cur The marking belonging to the state.
-	 * @param from The marking from which the transition reaches this marking.
-	 * @param covered node whose marking is covered by the given marking (or null if none)
-	 * @return The node for the given marking.
+	 * @param tokens The token counts of the marking belonging to the node.
+	 * @param parent The node from which the transition reaches this marking.
+	 * @param transition The index of the transition which reaches this new node.
+	 * @param covered node whose marking is covered by the given marking (or -1 if none)
+	 * @return The id of the node for the given marking.
+	 */
+	private int addNode(long[] tokens, int parent, int transition, int covered) {
+		int node = markings.add(tokens);
+		if (node >= 0)
+			return node;
+
+		node = ~node;
+		if (node == parents.length) {
+			int length = 2 * node;
+			parents = Arrays.copyOf(parents, length);
+			reachingTransitions = Arrays.copyOf(reachingTransitions, length);
+			coveredNodes = Arrays.copyOf(coveredNodes, length);
+			postsetStart = Arrays.copyOf(postsetStart, length);
+			postsetSize = Arrays.copyOf(postsetSize, length);
+		}
+		parents[node] = parent;
+		reachingTransitions[node] = transition;
+		coveredNodes[node] = covered;
+		postsetSize[node] = -1;
+		return node;
+	}
+
+	/**
+	 * Get the marking of a node. This may only be called by CoverabilityGraphNode.
+	 * @param node The id of the node.
+	 * @return The node's marking.
 	 */
-	private CoverabilityGraphNode getNode(Transition transition, Marking cur, CoverabilityGraphNode from,
-			CoverabilityGraphNode covered) {
-		CoverabilityGraphNode state = states.get(cur);
-		if (state == null) {
-			state = new CoverabilityGraphNode(this, transition, cur, from, covered);
-			states.put(cur, state);
-			nodes.add(state);
+	Marking getMarking(int node) {
+		long[] tokens = new long[compiled.getPlaceCount()];
+		markings.get(node, tokens);
+		return compiled.getMarking(tokens);
+	}
+
+	/**
+	 * Get the parent of a node. This may only be called by CoverabilityGraphNode.
+	 * @param node The id of the node.
+	 * @return The id of the parent or -1.
+	 */
+	int getParent(int node) {
+		return parents[node];
+	}
+
+	/**
+	 * Get the node covered by a node. This may only be called by CoverabilityGraphNode.
+	 * @param node The id of the node.
+	 * @return The id of the covered node or -1.
+	 */
+	int getCoveredNode(int node) {
+		return coveredNodes[node];
+	}
+
+	/**
+	 * Get the transition which reaches a node from its parent. This may only be called by CoverabilityGraphNode.
+	 * @param node The id of the node.
+	 * @return The transition or null.
+	 */
+	Transition getReachingTransition(int node) {
+		int transition = reachingTransitions[node];
+		return transition == -1 ? null : compiled.getTransition(transition);
+	}
+
+	/**
+	 * Generate the postset of a given node. This may only be called by CoverabilityGraphNode.
+	 * @param node Node whose postset should get generated.
+	 * @return The node's postset
+	 */
+	Set<CoverabilityGraphEdge> getPostsetEdges(CoverabilityGraphNode node) {
+		int id = node.getId();
+		expandNode(id);
+		final Set<CoverabilityGraphEdge> result = new HashSet<>();
+		long address = postsetStart[id];
+		for (int i = 0; i < postsetSize[id]; i++) {
+			Transition transition = compiled.getTransition(edges.getInt(address));
+			CoverabilityGraphNode target = new CoverabilityGraphNode(this, edges.getInt(address + 4));
+			result.add(new CoverabilityGraphEdge(transition, node, target));
+			address += 8;
 		}
-		return state;
+		return result;
 	}
 
 	/**
@@ -226,7 +522,7 @@ public class CoverabilityGraph {
 	 * @return the inital node.
 	 */
 	public CoverabilityGraphNode getInitialNode() {
-		return nodes.get(0);
+		return new CoverabilityGraphNode(this, 0);
 	}
 
 	/**
@@ -234,6 +530,7 @@ public class CoverabilityGraph {
 	 * @return an iterable
 	 */
 	public Iterable<CoverabilityGraphNode> getNodes() {
+		final CoverabilityGraph graph = this;
 		return new Iterable<CoverabilityGraphNode>() {
 
 			@Override
@@ -246,7 +543,7 @@ public class CoverabilityGraph {
 					public boolean hasNext() {
 						do {
 							// Are we at the end yet?
-							if (position < nodes.size()) {
+							if (position < markings.size()) {
 								return true;
 							}
 
@@ -259,8 +556,9 @@ public class CoverabilityGraph {
 					@Override
 					public CoverabilityGraphNode next() {
 						// Make sure the next state is generated
-						hasNext();
-						return nodes.get(position++);
+						if (!hasNext())
+							throw new NoSuchElementException();
+						return new CoverabilityGraphNode(graph, position++);
 					}
 
 					@Override
@@ -323,7 +621,10 @@ public class CoverabilityGraph {
 	 */
 	private TransitionSystem toLTS(boolean onlyReachability) throws UnboundedException {
 		String name = (onlyReachability ? "Reachability" : "Coverability") + " graph of " + this.pn.getName();
-		Map<Marking, State> ltsStates = new HashMap<>();
+		// All nodes are needed anyway; this allows to calculate them in parallel
+		if (reachabilityGraph)
+			calculateNodes();
+		List<State> ltsStates = new ArrayList<>();
 		TransitionSystem lts = new TransitionSystem(name);
 		lts.putExtension(PetriNet.class.getName(), this.pn);
 
@@ -331,10 +632,10 @@ public class CoverabilityGraph {
 			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
 
 			Marking mark = node.getMarking();
-			assert ltsStates.get(mark) == null;
+			assert ltsStates.size() == node.getId();
 
 			State n = lts.createState();
-			ltsStates.put(mark, n);
+			ltsStates.add(n);
 			n.putExtension(Marking.class.getName(), mark);
 			n.putExtension(CoverabilityGraphNode.class.getName(), node);
 
@@ -344,11 +645,11 @@ public class CoverabilityGraph {
 		}
 
 		for (CoverabilityGraphNode sourceNode : this.getNodes()) {
-			State source = ltsStates.get(sourceNode.getMarking());
+			State source = ltsStates.get(sourceNode.getId());
 			for (CoverabilityGraphEdge edge : sourceNode.getPostsetEdges()) {
 				InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
 
-				State target = ltsStates.get(edge.getTarget().getMarking());
+				State target = ltsStates.get(edge.getTarget().getId());
 				Transition transition = edge.getTransition();
 				try {
 					Arc e = lts.createArc(source.getId(), target.getId(), transition.getLabel());
@@ -372,8 +673,7 @@ public class CoverabilityGraph {
 		}
 
 		// Set up the LTS' initial state
-		Marking initialMarking = pn.getInitialMarking();
-		State initialNode = ltsStates.get(initialMarking);
+		State initialNode = ltsStates.get(getInitialNode().getId());
 		lts.setInitialState(initialNode);
 		assert initialNode != null;
 
@@ -65,6 +65,20 @@ public class CoverabilityGraphEdge {
 	public CoverabilityGraphNode getSource() {
 		return this.source;
 	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * this.transition.hashCode() + this.source.hashCode()) + this.target.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof CoverabilityGraphEdge))
+			return false;
+		CoverabilityGraphEdge other = (CoverabilityGraphEdge) obj;
+		return this.transition.equals(other.transition) && this.source.equals(other.source)
+			&& this.target.equals(other.target);
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
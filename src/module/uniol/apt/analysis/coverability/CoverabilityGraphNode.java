@@ -35,31 +35,32 @@ import uniol.apt.adt.pn.Transition;
  * This class represents a node in a coverability graph. A node is labeled with a marking which identifies it uniquely
  * and has a firing sequence with which it can be reached from the initial marking of the underlying Petri net.
  * Additionally, the postset of the node is available.
+ *
+ * Instances of this class are just views onto the data stored in the {@link CoverabilityGraph}. They are created on
+ * demand and two instances are equal if they describe the same node.
  * @author Uli Schlachter
  */
 public class CoverabilityGraphNode {
 	private final CoverabilityGraph graph;
-	private final Marking marking;
-	private final Transition reachingTransition;
-	private final CoverabilityGraphNode parent;
-	private final CoverabilityGraphNode covered;
-	private Set<CoverabilityGraphEdge> postsetEdges;
+	private final int id;
 
 	/**
 	 * Construct a new coverability graph node.
 	 * @param graph The graph that this node belongs to.
-	 * @param transition The transition that is fired from this node's parent to reach this new node.
-	 * @param marking The marking that identifies this node.
-	 * @param parent The parent node of this node.
-	 * @param covered The node which is covered by this node.
+	 * @param id The id of this node in the graph.
 	 */
-	CoverabilityGraphNode(CoverabilityGraph graph, Transition transition, Marking marking,
-			CoverabilityGraphNode parent, CoverabilityGraphNode covered) {
+	CoverabilityGraphNode(CoverabilityGraph graph, int id) {
 		this.graph = graph;
-		this.marking = marking;
-		this.parent = parent;
-		this.covered = covered;
-		this.reachingTransition = transition;
+		this.id = id;
+	}
+
+	/**
+	 * Get the id of this node. The nodes of a coverability graph are numbered consecutively in the order in which
+	 * they were found, starting with zero for the initial node.
+	 * @return the id
+	 */
+	int getId() {
+		return this.id;
 	}
 
 	/**
@@ -67,7 +68,7 @@ public class CoverabilityGraphNode {
 	 * @return the parent or null
 	 */
 	CoverabilityGraphNode getParent() {
-		return this.parent;
+		return getNode(graph.getParent(this.id));
 	}
 
 	/**
@@ -76,7 +77,13 @@ public class CoverabilityGraphNode {
 	 * @see getFiringSequenceFromCoveredNode
 	 */
 	public CoverabilityGraphNode getCoveredNode() {
-		return this.covered;
+		return getNode(graph.getCoveredNode(this.id));
+	}
+
+	private CoverabilityGraphNode getNode(int node) {
+		if (node == -1)
+			return null;
+		return new CoverabilityGraphNode(graph, node);
 	}
 
 	/**
@@ -84,7 +91,7 @@ public class CoverabilityGraphNode {
 	 * @return The marking.
 	 */
 	public Marking getMarking() {
-		return new Marking(this.marking);
+		return graph.getMarking(this.id);
 	}
 
 	/**
@@ -95,10 +102,12 @@ public class CoverabilityGraphNode {
 	 */
 	public List<Transition> getFiringSequence() {
 		List<Transition> result = new ArrayList<>();
-		CoverabilityGraphNode node = this;
-		while (node.reachingTransition != null) {
-			result.add(node.reachingTransition);
-			node = node.parent;
+		int node = this.id;
+		Transition transition = graph.getReachingTransition(node);
+		while (transition != null) {
+			result.add(transition);
+			node = graph.getParent(node);
+			transition = graph.getReachingTransition(node);
 		}
 		reverse(result);
 		return unmodifiableList(result);
@@ -114,9 +123,10 @@ public class CoverabilityGraphNode {
 	 * @see getFiringSequence
 	 */
 	public List<Transition> getFiringSequenceFromCoveredNode() {
-		if (this.covered == null)
+		CoverabilityGraphNode covered = getCoveredNode();
+		if (covered == null)
 			return null;
-		int coveredSequenceLength = this.covered.getFiringSequence().size();
+		int coveredSequenceLength = covered.getFiringSequence().size();
 		List<Transition> firingSequence = getFiringSequence();
 		return firingSequence.subList(coveredSequenceLength, firingSequence.size());
 	}
@@ -138,9 +148,20 @@ public class CoverabilityGraphNode {
 	 * @return all edges.
 	 */
 	public Set<CoverabilityGraphEdge> getPostsetEdges() {
-		if (postsetEdges == null)
-			postsetEdges = unmodifiableSet(graph.getPostsetEdges(this));
-		return postsetEdges;
+		return unmodifiableSet(graph.getPostsetEdges(this));
+	}
+
+	@Override
+	public int hashCode() {
+		return this.id;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof CoverabilityGraphNode))
+			return false;
+		CoverabilityGraphNode other = (CoverabilityGraphNode) obj;
+		return this.graph == other.graph && this.id == other.id;
 	}
 }
 
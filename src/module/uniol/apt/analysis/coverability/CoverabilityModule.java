@@ -19,6 +19,9 @@
 
 package uniol.apt.analysis.coverability;
 
+import java.io.File;
+import java.io.IOError;
+
 import uniol.apt.adt.extension.ExtensionProperty;
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.ts.State;
@@ -39,6 +42,11 @@ import uniol.apt.module.exception.ModuleException;
  */
 @AptModule
 public class CoverabilityModule extends AbstractInterruptibleModule implements InterruptibleModule {
+	/**
+	 * Name of the system property which specifies a directory for memory-mapped files. If it is set, the graph is
+	 * stored in temporary files in this directory instead of on the heap.
+	 */
+	public static final String DIRECTORY_PROPERTY = "apt.stateSpaceDirectory";
 
 	@Override
 	public String getShortDescription() {
@@ -50,6 +58,16 @@ public class CoverabilityModule extends AbstractInterruptibleModule implements I
 		return "coverability_graph";
 	}
 
+	@Override
+	public String getLongDescription() {
+		return getShortDescription() + ".\n\nFor state spaces which do not fit into the heap, the markings and "
+			+ "edges of the graph can be stored in memory-mapped files by setting the system property "
+			+ DIRECTORY_PROPERTY + " to a directory for the temporary files, e.g. via java -D"
+			+ DIRECTORY_PROPERTY + "=/tmp -jar apt.jar " + getName() + " ...\nIn this mode, no labeled "
+			+ "transition system is created since it would have to be kept on the heap. Instead, only the "
+			+ "number of states and edges of the graph is reported.";
+	}
+
 	@Override
 	public void require(ModuleInputSpec inputSpec) {
 		inputSpec.addParameter("pn", PetriNet.class, "The Petri net that should be examined");
@@ -60,25 +78,37 @@ public class CoverabilityModule extends AbstractInterruptibleModule implements I
 		outputSpec.addReturnValue("lts", TransitionSystem.class,
 			ModuleOutputSpec.PROPERTY_FILE, ModuleOutputSpec.PROPERTY_RAW);
 		outputSpec.addReturnValue("reachability_graph", Boolean.class, ModuleOutputSpec.PROPERTY_SUCCESS);
+		outputSpec.addReturnValue("num_states", Integer.class);
+		outputSpec.addReturnValue("num_edges", Long.class);
 	}
 
 	/**
 	 * Get the graph for a given net
 	 * @param pn The Petri net to look at
+	 * @param directory Directory for memory-mapped storage of the graph or null if it should be kept on the heap
 	 * @return The coverability graph.
 	 */
-	protected CoverabilityGraph getGraph(PetriNet pn) {
+	protected CoverabilityGraph getGraph(PetriNet pn, File directory) {
+		if (directory != null)
+			return CoverabilityGraph.getOnDisk(pn, directory);
 		return CoverabilityGraph.get(pn);
 	}
 
 	@Override
 	public void run(ModuleInput input, ModuleOutput output) throws ModuleException {
 		PetriNet pn = input.getParameter("pn", PetriNet.class);
-		TransitionSystem result = getGraph(pn).toCoverabilityLTS();
+		String directory = System.getProperty(DIRECTORY_PROPERTY);
+		if (directory != null) {
+			runOnDisk(pn, new File(directory), output);
+			return;
+		}
+
+		CoverabilityGraph graph = getGraph(pn, null);
+		TransitionSystem result = graph.toCoverabilityLTS();
 		boolean isReachability = true;
 		for (State node : result.getNodes()) {
-			CoverabilityGraphNode coverNode =
-				(CoverabilityGraphNode) node.getExtension(CoverabilityGraphNode.class.getName());
+			CoverabilityGraphNode coverNode = (CoverabilityGraphNode)
+				node.getExtension(CoverabilityGraphNode.class.getName());
 			if (coverNode.getMarking().hasOmega()) {
 				isReachability = false;
 			}
@@ -88,6 +118,28 @@ public class CoverabilityModule extends AbstractInterruptibleModule implements I
 		}
 		output.setReturnValue("lts", TransitionSystem.class, result);
 		output.setReturnValue("reachability_graph", Boolean.class, isReachability);
+		output.setReturnValue("num_states", Integer.class, result.getNodes().size());
+		output.setReturnValue("num_edges", Long.class, graph.calculateEdges());
+	}
+
+	/**
+	 * Calculate the graph in memory-mapped storage and only count its states and edges. No transition system is
+	 * created, because that would need objects for every state and edge on the heap.
+	 * @param pn The Petri net to look at
+	 * @param directory Directory for memory-mapped storage of the graph
+	 * @param output The output of the module
+	 * @throws ModuleException if the directory cannot be used
+	 */
+	private void runOnDisk(PetriNet pn, File directory, ModuleOutput output) throws ModuleException {
+		try (CoverabilityGraph graph = getGraph(pn, directory)) {
+			long edges = graph.calculateEdges();
+			output.setReturnValue("reachability_graph", Boolean.class, !graph.hasOmega());
+			output.setReturnValue("num_states", Integer.class, graph.calculateNodes());
+			output.setReturnValue("num_edges", Long.class, edges);
+		} catch (IOError e) {
+			throw new ModuleException("Could not use directory '" + directory + "' for the state space: "
+					+ e.getCause().getMessage());
+		}
 	}
 
 	@Override
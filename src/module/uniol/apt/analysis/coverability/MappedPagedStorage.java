@@ -0,0 +1,110 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.coverability;
+
+import java.io.File;
+import java.io.IOError;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link PagedStorage} whose pages are memory-mapped from a temporary file instead of living on the heap. The file
+ * is mapped in segments of several pages. It is created when the first page is needed and deleted immediately
+ * afterwards if the operating system allows this, else when the virtual machine exits. The file stays open until
+ * {@link #close()} is called.
+ * @author agent
+ */
+class MappedPagedStorage extends PagedStorage {
+	static final int PAGES_PER_SEGMENT = 64;
+	static final long SEGMENT_SIZE = (long) PAGES_PER_SEGMENT * PAGE_SIZE;
+
+	private final File directory;
+	private RandomAccessFile file;
+	private FileChannel channel;
+	private MappedByteBuffer segment;
+	private long segmentCount = 0;
+	private int pagesInSegment = PAGES_PER_SEGMENT;
+
+	/**
+	 * Construct a new, empty storage.
+	 * @param directory The directory in which the temporary file is created.
+	 */
+	MappedPagedStorage(File directory) {
+		this.directory = directory;
+	}
+
+	// Mapped pages do not take up heap space, so every page gets the full size right away
+	@Override
+	protected ByteBuffer allocatePage(int capacity) {
+		try {
+			if (file == null)
+				openFile();
+			if (pagesInSegment == PAGES_PER_SEGMENT) {
+				segment = channel.map(FileChannel.MapMode.READ_WRITE, segmentCount * SEGMENT_SIZE,
+						SEGMENT_SIZE);
+				segmentCount++;
+				pagesInSegment = 0;
+			}
+		} catch (IOException e) {
+			close();
+			throw new IOError(e);
+		}
+
+		ByteBuffer page = segment.duplicate();
+		page.position(pagesInSegment * PAGE_SIZE);
+		page.limit((pagesInSegment + 1) * PAGE_SIZE);
+		pagesInSegment++;
+		return page.slice();
+	}
+
+	private void openFile() throws IOException {
+		File path = File.createTempFile("apt-state-space-", ".bin", directory);
+		try {
+			file = new RandomAccessFile(path, "rw");
+		} finally {
+			// The mappings and the open file keep the data accessible, so the file can be removed right away
+			if (!path.delete())
+				path.deleteOnExit();
+		}
+		channel = file.getChannel();
+	}
+
+	@Override
+	public void close() {
+		// The mappings are released once the pages are garbage collected
+		super.close();
+		segment = null;
+		if (file == null)
+			return;
+		try {
+			file.close();
+		} catch (IOException e) {
+			throw new IOError(e);
+		} finally {
+			file = null;
+			channel = null;
+		}
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,196 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.coverability;
+
+import java.util.Arrays;
+
+import uniol.apt.adt.pn.CompiledPetriNet;
+
+/**
+ * A compact set of markings which assigns consecutive ids to the markings it contains. Markings are given as arrays
+ * of token counts (see {@link CompiledPetriNet}). All markings are encoded into a single {@link PagedStorage}: Each
+ * token count is stored with a variable number of bytes (seven bits per byte, the highest bit marks that more bytes
+ * follow). Since OMEGA is represented by zero, token counts are incremented by one before being encoded. Lookup is
+ * done via a hash table with open addressing which only contains the ids of the markings.
+ * @author agent
+ */
+class MarkingStore {
+	private static final float MAX_LOAD = 0.5f;
+
+	private final int placeCount;
+	private final PagedStorage data;
+
+	// Address of the encoded marking and its hash code, indexed by marking id
+	private long[] addresses = new long[16];
+	private int[] hashes = new int[16];
+	private int size = 0;
+
+	// Hash table containing marking ids plus one; zero marks an empty slot
+	private int[] table = new int[32];
+
+	// Buffer for encoding markings
+	private byte[] encoded;
+	private int encodedLength;
+
+	/**
+	 * Construct a new, empty marking store.
+	 * @param placeCount The number of places, which is the length of all token arrays.
+	 * @param data The storage which should receive the encoded markings.
+	 */
+	MarkingStore(int placeCount, PagedStorage data) {
+		this.placeCount = placeCount;
+		this.data = data;
+		// Each token count needs at most ten bytes
+		this.encoded = new byte[10 * placeCount];
+	}
+
+	/**
+	 * Get the number of markings in this store.
+	 * @return The number of markings.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Get the id of the given marking, adding it to this store if it is not yet contained.
+	 * @param tokens The token counts of the marking.
+	 * @return The id of the marking if it already was contained in this store, else the complement (<code>~id
+	 * </code>, a negative number) of the id of the newly added marking.
+	 */
+	public int add(long[] tokens) {
+		int hash = encode(tokens);
+		int mask = table.length - 1;
+		int slot = hash & mask;
+		while (table[slot] != 0) {
+			int id = table[slot] - 1;
+			if (hashes[id] == hash && isEncodedAt(addresses[id]))
+				return id;
+			slot = (slot + 1) & mask;
+		}
+
+		int id = size++;
+		if (id == addresses.length) {
+			addresses = Arrays.copyOf(addresses, 2 * id);
+			hashes = Arrays.copyOf(hashes, 2 * id);
+		}
+		addresses[id] = data.append(encoded, encodedLength);
+		hashes[id] = hash;
+		table[slot] = id + 1;
+
+		if (size > table.length * MAX_LOAD)
+			rehash();
+		return ~id;
+	}
+
+	/**
+	 * Get the id of the given marking.
+	 * @param tokens The token counts of the marking.
+	 * @return The id of the marking or -1 if the marking is not contained in this store.
+	 */
+	public int get(long[] tokens) {
+		int hash = encode(tokens);
+		int mask = table.length - 1;
+		int slot = hash & mask;
+		while (table[slot] != 0) {
+			int id = table[slot] - 1;
+			if (hashes[id] == hash && isEncodedAt(addresses[id]))
+				return id;
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Get the token counts of a marking.
+	 * @param id The id of the marking.
+	 * @param tokens An array which receives the token counts.
+	 */
+	public void get(int id, long[] tokens) {
+		assert id >= 0 && id < size;
+		long address = addresses[id];
+		for (int place = 0; place < placeCount; place++) {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = data.getByte(address++);
+				value |= (long) (b & 0x7f) << shift;
+				shift += 7;
+			} while (b < 0);
+			tokens[place] = value - 1;
+		}
+	}
+
+	/**
+	 * Release the resources of the storage of this store. Afterwards, the store may no longer be used.
+	 */
+	public void close() {
+		data.close();
+	}
+
+	private void rehash() {
+		table = new int[2 * table.length];
+		int mask = table.length - 1;
+		for (int id = 0; id < size; id++) {
+			int slot = hashes[id] & mask;
+			while (table[slot] != 0)
+				slot = (slot + 1) & mask;
+			table[slot] = id + 1;
+		}
+	}
+
+	/**
+	 * Encode the given marking into the encoding buffer.
+	 * @param tokens The token counts of the marking.
+	 * @return The hash code of the encoded marking.
+	 */
+	private int encode(long[] tokens) {
+		assert tokens.length == placeCount;
+		int length = 0;
+		int hash = 0;
+		for (long token : tokens) {
+			assert token >= CompiledPetriNet.OMEGA;
+			// OMEGA is -1 and thus becomes zero
+			long value = token + 1;
+			while ((value & ~0x7fL) != 0) {
+				encoded[length++] = (byte) ((value & 0x7f) | 0x80);
+				value >>>= 7;
+			}
+			encoded[length++] = (byte) value;
+			hash = 31 * hash + (int) (token ^ (token >>> 32));
+		}
+		encodedLength = length;
+		// Spread the bits so that the low bits, which are used for the hash table, depend on all token counts
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		return hash;
+	}
+
+	private boolean isEncodedAt(long address) {
+		for (int i = 0; i < encodedLength; i++)
+			if (data.getByte(address + i) != encoded[i])
+				return false;
+		return true;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,169 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.coverability;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An append-only storage for bytes which is split into pages of fixed size. Data is addressed by a long, so that the
+ * storage is not limited by the maximum size of an array. Since many storages only ever hold a few bytes, the first
+ * page starts with a capacity of {@link #INITIAL_PAGE_SIZE} bytes and its capacity is doubled when it is full.
+ * @author agent
+ */
+class PagedStorage {
+	static final int PAGE_BITS = 20;
+	static final int PAGE_SIZE = 1 << PAGE_BITS;
+	static final int PAGE_MASK = PAGE_SIZE - 1;
+	static final int INITIAL_PAGE_SIZE = 1 << 12;
+
+	private final List<ByteBuffer> pages = new ArrayList<>();
+	private long size = 0;
+
+	/**
+	 * Create a new, empty storage.
+	 * @param directory The directory in which the pages should be stored in memory-mapped files or null if the
+	 * pages should be kept on the heap.
+	 * @return The new storage.
+	 */
+	static PagedStorage create(File directory) {
+		if (directory == null)
+			return new PagedStorage();
+		return new MappedPagedStorage(directory);
+	}
+
+	/**
+	 * Allocate a new page.
+	 * @param capacity The number of bytes that the page has to provide. This is {@link #PAGE_SIZE} for all but the
+	 * first page.
+	 * @return A buffer with a capacity of at least the given number and at most {@link #PAGE_SIZE} bytes.
+	 */
+	protected ByteBuffer allocatePage(int capacity) {
+		return ByteBuffer.allocate(capacity);
+	}
+
+	/**
+	 * Get the number of bytes in this storage. This is also the address of the next byte that will be appended.
+	 * @return The size of this storage.
+	 */
+	public long size() {
+		return size;
+	}
+
+	private ByteBuffer getPageForWriting() {
+		int page = (int) (size >>> PAGE_BITS);
+		int offset = (int) (size & PAGE_MASK);
+		if (page == pages.size()) {
+			pages.add(allocatePage(page == 0 ? INITIAL_PAGE_SIZE : PAGE_SIZE));
+		} else if (offset == pages.get(page).capacity()) {
+			// Only the first page can be full before the size reaches the next page; grow it
+			assert page == 0;
+			ByteBuffer old = pages.get(page);
+			ByteBuffer grown = allocatePage(Math.min(2 * old.capacity(), PAGE_SIZE));
+			old.clear();
+			grown.put(old);
+			pages.set(page, grown);
+		}
+		return pages.get(page);
+	}
+
+	/**
+	 * Append a byte to this storage.
+	 * @param value The byte.
+	 * @return The address of the byte.
+	 */
+	public long appendByte(byte value) {
+		long address = size;
+		getPageForWriting().put((int) (address & PAGE_MASK), value);
+		size++;
+		return address;
+	}
+
+	/**
+	 * Append some bytes to this storage.
+	 * @param values An array containing the bytes.
+	 * @param length The number of bytes from the beginning of the array that should be appended.
+	 * @return The address of the first appended byte.
+	 */
+	public long append(byte[] values, int length) {
+		long address = size;
+		int written = 0;
+		while (written < length) {
+			ByteBuffer page = getPageForWriting();
+			int offset = (int) (size & PAGE_MASK);
+			int count = Math.min(length - written, page.capacity() - offset);
+			for (int i = 0; i < count; i++)
+				page.put(offset + i, values[written + i]);
+			written += count;
+			size += count;
+		}
+		return address;
+	}
+
+	/**
+	 * Append an int to this storage.
+	 * @param value The int.
+	 * @return The address of the int.
+	 */
+	public long appendInt(int value) {
+		long address = size;
+		for (int shift = 24; shift >= 0; shift -= 8)
+			appendByte((byte) (value >>> shift));
+		return address;
+	}
+
+	/**
+	 * Get the byte at the given address.
+	 * @param address The address of the byte.
+	 * @return The byte.
+	 */
+	public byte getByte(long address) {
+		assert address < size;
+		return pages.get((int) (address >>> PAGE_BITS)).get((int) (address & PAGE_MASK));
+	}
+
+	/**
+	 * Release the resources of this storage. Afterwards, the storage may no longer be used.
+	 */
+	public void close() {
+		pages.clear();
+	}
+
+	/**
+	 * Get the int at the given address.
+	 * @param address The address of the int.
+	 * @return The int.
+	 */
+	public int getInt(long address) {
+		int offset = (int) (address & PAGE_MASK);
+		if (offset <= PAGE_SIZE - 4) {
+			assert address + 4 <= size;
+			return pages.get((int) (address >>> PAGE_BITS)).getInt(offset);
+		}
+		int result = 0;
+		for (int i = 0; i < 4; i++)
+			result = (result << 8) | (getByte(address + i) & 0xff);
+		return result;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
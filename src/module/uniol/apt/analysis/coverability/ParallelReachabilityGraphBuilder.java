@@ -0,0 +1,415 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.coverability;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import uniol.apt.adt.pn.CompiledPetriNet;
+import uniol.apt.util.interrupt.InterrupterRegistry;
+import uniol.apt.util.interrupt.UncheckedInterruptedException;
+
+/**
+ * Multi-threaded exploration of the reachable markings of a Petri net. Covering is not checked, so this can only be
+ * used for reachability graphs.
+ *
+ * The set of visited markings is split into stripes, each of which is a {@link MarkingStore} guarded by its own lock.
+ * A marking is identified by a global id which combines the index of its stripe and its id in the stripe. Every
+ * marking which is found for the first time is expanded by its own task in a {@link ForkJoinPool}, so that each
+ * worker thread has its own frontier and idle workers steal from other workers.
+ *
+ * Since the order in which markings are found depends on the scheduling of the threads, the markings are renumbered
+ * afterwards: Node ids are assigned in the order of a breadth-first search which follows the edges of each node in
+ * ascending order of their transition. This is exactly the order in which {@link CoverabilityGraph} numbers its
+ * nodes.
+ * @author agent
+ */
+class ParallelReachabilityGraphBuilder {
+	// Each stripe has its own storages, so the number of stripes is kept small. This still gives far more locks
+	// than a typical number of threads.
+	private static final int STRIPE_BITS = 4;
+	private static final int STRIPE_COUNT = 1 << STRIPE_BITS;
+	private static final int STRIPE_MASK = STRIPE_COUNT - 1;
+	private static final int MAX_LOCAL_ID = Integer.MAX_VALUE >>> STRIPE_BITS;
+	// How often (in milliseconds) the interrupter of the calling thread is checked while waiting for the workers
+	private static final long INTERRUPT_CHECK_INTERVAL = 10;
+
+	private final CompiledPetriNet compiled;
+	private final int threads;
+	private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+	// Number of tasks which were scheduled, but did not finish yet
+	private final AtomicLong pending = new AtomicLong();
+	private final CountDownLatch done = new CountDownLatch(1);
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+	private volatile boolean cancelled = false;
+
+	// Result of the renumbering: Global id of each node and node id of each global id (indexed by stripe and id in
+	// the stripe)
+	private int[] order;
+	private int[][] nodeIds;
+
+	/**
+	 * A part of the set of visited markings.
+	 */
+	static private class Stripe {
+		private final MarkingStore markings;
+		// The postsets of all markings. Each edge is stored as the transition index and the global id of the
+		// target.
+		private final PagedStorage edges;
+		// Per marking: the address of the first postset edge and the number of postset edges (-1 while the
+		// marking was not yet expanded)
+		private long[] postsetStart = new long[16];
+		private int[] postsetSize = new int[16];
+
+		private Stripe(int placeCount, File directory) {
+			this.markings = new MarkingStore(placeCount, PagedStorage.create(directory));
+			this.edges = PagedStorage.create(directory);
+		}
+	}
+
+	/**
+	 * Construct a new builder.
+	 * @param compiled The Petri net whose reachability graph should be calculated.
+	 * @param threads The number of worker threads to use.
+	 * @param directory The directory for memory-mapped storage or null if everything should be kept on the heap.
+	 */
+	ParallelReachabilityGraphBuilder(CompiledPetriNet compiled, int threads, File directory) {
+		this.compiled = compiled;
+		this.threads = threads;
+		for (int i = 0; i < STRIPE_COUNT; i++)
+			stripes[i] = new Stripe(compiled.getPlaceCount(), directory);
+	}
+
+	static private int getStripe(int id) {
+		return id & STRIPE_MASK;
+	}
+
+	static private int getLocalId(int id) {
+		return id >>> STRIPE_BITS;
+	}
+
+	static private int getStripe(long[] tokens) {
+		// Use the high bits of the hash, the low bits are used by the hash table of MarkingStore
+		int hash = Arrays.hashCode(tokens);
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		return hash >>> (Integer.SIZE - STRIPE_BITS);
+	}
+
+	/**
+	 * Get the global id of the given marking, adding it if it is not yet known.
+	 * @param tokens The token counts of the marking.
+	 * @return The global id of the marking if it already was known, else the complement of the global id of the
+	 * newly added marking.
+	 */
+	private int addMarking(long[] tokens) {
+		int index = getStripe(tokens);
+		Stripe stripe = stripes[index];
+		synchronized (stripe) {
+			int local = stripe.markings.add(tokens);
+			if (local >= 0)
+				return (local << STRIPE_BITS) | index;
+
+			local = ~local;
+			if (local > MAX_LOCAL_ID)
+				throw new IllegalStateException("Too many reachable markings");
+			if (local == stripe.postsetSize.length) {
+				stripe.postsetStart = Arrays.copyOf(stripe.postsetStart, 2 * local);
+				stripe.postsetSize = Arrays.copyOf(stripe.postsetSize, 2 * local);
+			}
+			stripe.postsetSize[local] = -1;
+			return ~((local << STRIPE_BITS) | index);
+		}
+	}
+
+	private void setPostset(int id, int[] postset) {
+		Stripe stripe = stripes[getStripe(id)];
+		synchronized (stripe) {
+			int local = getLocalId(id);
+			stripe.postsetStart[local] = stripe.edges.size();
+			stripe.postsetSize[local] = postset.length / 2;
+			for (int value : postset)
+				stripe.edges.appendInt(value);
+		}
+	}
+
+	/**
+	 * Add a marking which is already known to the caller. This may only be called before {@link #build(int)}.
+	 * @param tokens The token counts of the marking.
+	 * @return The global id of the marking.
+	 */
+	int addKnownMarking(long[] tokens) {
+		int id = addMarking(tokens);
+		assert id < 0 : "Marking was added twice";
+		return ~id;
+	}
+
+	/**
+	 * Set the postset of a marking which was added via {@link #addKnownMarking(long[])}. Markings without a postset
+	 * will be expanded by {@link #build(int)}. This may only be called before {@link #build(int)}.
+	 * @param id The global id of the marking.
+	 * @param postset The postset as pairs of transition index and global id of the target, in ascending order of
+	 * the transition index.
+	 */
+	void setKnownPostset(int id, int[] postset) {
+		setPostset(id, postset);
+	}
+
+	/**
+	 * Expand all markings which do not have a postset yet and all markings reachable from them. Afterwards, the
+	 * reachable markings are numbered starting from the given initial marking.
+	 * @param initial The global id of the initial marking.
+	 * @throws UncheckedInterruptedException if the interrupter of the calling thread requests an interruption.
+	 */
+	void build(int initial) throws UncheckedInterruptedException {
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			// Collect all markings which were not expanded yet. No worker is running yet, so nothing needs
+			// to be locked.
+			List<ExpandTask> tasks = new ArrayList<>();
+			for (int index = 0; index < STRIPE_COUNT; index++) {
+				Stripe stripe = stripes[index];
+				for (int local = 0; local < stripe.markings.size(); local++) {
+					if (stripe.postsetSize[local] >= 0)
+						continue;
+					long[] tokens = new long[compiled.getPlaceCount()];
+					stripe.markings.get(local, tokens);
+					tasks.add(new ExpandTask((local << STRIPE_BITS) | index, tokens, null, -1));
+				}
+			}
+
+			// Now schedule them
+			pending.addAndGet(tasks.size() + 1);
+			for (ExpandTask task : tasks)
+				pool.execute(task);
+			taskFinished();
+
+			while (!done.await(INTERRUPT_CHECK_INTERVAL, TimeUnit.MILLISECONDS))
+				InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedInterruptedException();
+		} finally {
+			cancelled = true;
+			pool.shutdownNow();
+			awaitTermination(pool);
+		}
+
+		Throwable t = failure.get();
+		if (t instanceof RuntimeException)
+			throw (RuntimeException) t;
+		if (t instanceof Error)
+			throw (Error) t;
+		assert t == null;
+
+		renumber(initial);
+	}
+
+	/**
+	 * Wait until all workers of the pool stopped. Afterwards, no worker accesses the stripes anymore and they may
+	 * be closed. This does not give up when an interruption is requested, since the caller closes the stripes
+	 * right afterwards. The workers notice that they were cancelled before expanding their next marking, so this
+	 * does not take long.
+	 * @param pool The pool which was already shut down.
+	 */
+	static private void awaitTermination(ForkJoinPool pool) {
+		// Clear the interrupted flag so that awaitTermination() does not fail right away
+		boolean interrupted = Thread.interrupted();
+		while (true) {
+			try {
+				if (pool.awaitTermination(INTERRUPT_CHECK_INTERVAL, TimeUnit.MILLISECONDS))
+					break;
+			} catch (InterruptedException e) {
+				// Remember the interruption for later, but keep waiting
+				interrupted = true;
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	private void taskFinished() {
+		if (pending.decrementAndGet() == 0)
+			done.countDown();
+	}
+
+	/**
+	 * Number the reachable markings in breadth-first order.
+	 * @param initial The global id of the initial marking.
+	 */
+	private void renumber(int initial) {
+		int total = 0;
+		nodeIds = new int[STRIPE_COUNT][];
+		for (int index = 0; index < STRIPE_COUNT; index++) {
+			nodeIds[index] = new int[stripes[index].markings.size()];
+			Arrays.fill(nodeIds[index], -1);
+			total += nodeIds[index].length;
+		}
+
+		order = new int[total];
+		int count = 0;
+		order[count] = initial;
+		nodeIds[getStripe(initial)][getLocalId(initial)] = count++;
+		for (int node = 0; node < count; node++) {
+			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+			int[] postset = getGlobalPostset(order[node]);
+			for (int i = 1; i < postset.length; i += 2) {
+				int target = postset[i];
+				int[] ids = nodeIds[getStripe(target)];
+				if (ids[getLocalId(target)] == -1) {
+					order[count] = target;
+					ids[getLocalId(target)] = count++;
+				}
+			}
+		}
+		assert count == total;
+	}
+
+	private int[] getGlobalPostset(int id) {
+		Stripe stripe = stripes[getStripe(id)];
+		int local = getLocalId(id);
+		int[] postset = new int[2 * stripe.postsetSize[local]];
+		long address = stripe.postsetStart[local];
+		for (int i = 0; i < postset.length; i++)
+			postset[i] = stripe.edges.getInt(address + 4 * i);
+		return postset;
+	}
+
+	/**
+	 * Get the number of reachable markings. This may only be called after {@link #build(int)}.
+	 * @return The number of markings.
+	 */
+	int getNodeCount() {
+		return order.length;
+	}
+
+	/**
+	 * Get the token counts of a node. This may only be called after {@link #build(int)}.
+	 * @param node The id of the node.
+	 * @param tokens An array which receives the token counts.
+	 */
+	void getTokens(int node, long[] tokens) {
+		int id = order[node];
+		stripes[getStripe(id)].markings.get(getLocalId(id), tokens);
+	}
+
+	/**
+	 * Get the postset of a node. This may only be called after {@link #build(int)}.
+	 * @param node The id of the node.
+	 * @return The postset as pairs of transition index and id of the target node, in ascending order of the
+	 * transition index.
+	 */
+	int[] getPostset(int node) {
+		int[] postset = getGlobalPostset(order[node]);
+		for (int i = 1; i < postset.length; i += 2)
+			postset[i] = nodeIds[getStripe(postset[i])][getLocalId(postset[i])];
+		return postset;
+	}
+
+	/**
+	 * Release the storages of all stripes. Afterwards, this builder may no longer be used.
+	 */
+	void close() {
+		for (Stripe stripe : stripes) {
+			stripe.markings.close();
+			stripe.edges.close();
+		}
+	}
+
+	/**
+	 * Task which generates the postset of a single marking.
+	 */
+	private class ExpandTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int id;
+		private final long[] tokens;
+		private final int[] parentFireable;
+		private final int reachingTransition;
+
+		/**
+		 * Construct a new task.
+		 * @param id The global id of the marking to expand.
+		 * @param tokens The token counts of the marking.
+		 * @param parentFireable The transitions fireable in the marking from which this marking was reached or
+		 * null if unknown.
+		 * @param reachingTransition The transition which reached this marking from the parent marking.
+		 */
+		private ExpandTask(int id, long[] tokens, int[] parentFireable, int reachingTransition) {
+			this.id = id;
+			this.tokens = tokens;
+			this.parentFireable = parentFireable;
+			this.reachingTransition = reachingTransition;
+		}
+
+		@Override
+		protected void compute() {
+			try {
+				if (!cancelled)
+					expand();
+			} catch (Throwable t) {
+				failure.compareAndSet(null, t);
+				cancelled = true;
+				done.countDown();
+			} finally {
+				taskFinished();
+			}
+		}
+
+		private void expand() {
+			int[] fireable;
+			if (parentFireable == null)
+				fireable = compiled.getFireableTransitions(tokens);
+			else
+				fireable = compiled.getFireableTransitions(parentFireable, reachingTransition, tokens);
+
+			int[] postset = new int[2 * fireable.length];
+			long[] successor = new long[compiled.getPlaceCount()];
+			for (int i = 0; i < fireable.length; i++) {
+				int transition = fireable[i];
+				compiled.fire(transition, tokens, successor);
+				int target = addMarking(successor);
+				if (target < 0) {
+					target = ~target;
+					pending.incrementAndGet();
+					new ExpandTask(target, successor, fireable, transition).fork();
+					successor = new long[compiled.getPlaceCount()];
+				}
+				postset[2 * i] = transition;
+				postset[2 * i + 1] = target;
+			}
+			setPostset(id, postset);
+			CoverabilityGraph.STATES_EXPLORED.increment();
+			CoverabilityGraph.EDGES_GENERATED.add(fireable.length);
+		}
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,96 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.coverability;
+
+import java.util.Set;
+
+import uniol.apt.adt.StructuralExtensionRemover;
+import uniol.apt.adt.exception.StructureException;
+import uniol.apt.adt.extension.ExtensionProperty;
+import uniol.apt.adt.pn.Flow;
+import uniol.apt.adt.pn.Node;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.connectivity.StronglyConnectedComponents;
+import uniol.apt.analysis.exception.UnboundedException;
+
+/**
+ * The reachability graph of a bounded Petri net as a labeled transition system together with its strongly connected
+ * components. Both are calculated only once per Petri net and shared by all analyses which use this class. This means
+ * that the transition system may not be modified!
+ * @author agent
+ */
+public class ReachabilityLTS {
+	private final TransitionSystem lts;
+
+	/**
+	 * Get the reachability LTS of the given Petri net. If it was already computed and the structure of the Petri
+	 * net did not change since then, the existing instance is returned.
+	 * @param pn The Petri net whose reachability LTS is wanted.
+	 * @return The reachability LTS.
+	 * @throws UnboundedException if the Petri net is unbounded.
+	 */
+	static public ReachabilityLTS get(PetriNet pn) throws UnboundedException {
+		String key = ReachabilityLTS.class.getName();
+
+		Object extension = null;
+		try {
+			extension = pn.getExtension(key);
+		} catch (StructureException e) {
+			// No such extension.
+		}
+
+		if (extension instanceof ReachabilityLTS)
+			return (ReachabilityLTS) extension;
+
+		ReachabilityLTS result = new ReachabilityLTS(CoverabilityGraph.get(pn).toReachabilityLTS());
+		// Save this LTS as an extension, but make sure that it is removed if the structure of the Petri net is
+		// changed in any way.
+		pn.putExtension(key, result, ExtensionProperty.NOCOPY);
+		pn.addListener(new StructuralExtensionRemover<PetriNet, Flow, Node>(key));
+		return result;
+	}
+
+	private ReachabilityLTS(TransitionSystem lts) {
+		this.lts = lts;
+	}
+
+	/**
+	 * Get the reachability graph as a labeled transition system. See {@link CoverabilityGraph#toReachabilityLTS()}
+	 * for the extensions that are available on its states and arcs. The result is shared and may not be modified.
+	 * @return The transition system.
+	 */
+	public TransitionSystem getLTS() {
+		return lts;
+	}
+
+	/**
+	 * Get the strongly connected components of the reachability graph. They are computed on first use, but the
+	 * returned sets are created on each call.
+	 * @return A partition of the states of the transition system into strongly connected components.
+	 * @see StronglyConnectedComponents
+	 */
+	public Set<? extends Set<State>> getStronglyConnectedComponents() {
+		return StronglyConnectedComponents.get(lts).getComponents();
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
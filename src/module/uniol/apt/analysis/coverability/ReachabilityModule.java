@@ -19,6 +19,8 @@
 
 package uniol.apt.analysis.coverability;
 
+import java.io.File;
+
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.module.AptModule;
 import uniol.apt.module.InterruptibleModule;
@@ -41,7 +43,9 @@ public class ReachabilityModule extends CoverabilityModule implements Interrupti
 	}
 
 	@Override
-	protected CoverabilityGraph getGraph(PetriNet pn) {
+	protected CoverabilityGraph getGraph(PetriNet pn, File directory) {
+		if (directory != null)
+			return CoverabilityGraph.getReachabilityGraphOnDisk(pn, directory);
 		return CoverabilityGraph.getReachabilityGraph(pn);
 	}
 }
@@ -19,10 +19,7 @@
 
 package uniol.apt.analysis.deterministic;
 
-import java.util.HashSet;
-import java.util.Set;
-
-import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.FrozenTransitionSystem;
 import uniol.apt.adt.ts.State;
 import uniol.apt.adt.ts.TransitionSystem;
 import uniol.apt.util.interrupt.InterrupterRegistry;
@@ -52,62 +49,23 @@ public class Deterministic {
 		check();
 	}
 
-	static private class StateNameWithLabel {
-
-		final String stateName;
-		final String label;
-
-		public StateNameWithLabel(String arcName, String label) {
-			this.stateName = arcName;
-			this.label = label;
-		}
-
-		@Override
-		public int hashCode() {
-			final int prime = 31;
-			int result = 1;
-			result = prime * result
-				+ ((stateName == null) ? 0 : stateName.hashCode());
-			result = prime * result + ((label == null) ? 0 : label.hashCode());
-			return result;
-		}
-
-		@Override
-		public boolean equals(Object object) {
-			if (!(object instanceof StateNameWithLabel))
-				return false;
-
-			StateNameWithLabel other = (StateNameWithLabel) object;
-
-			if (!stateName.equals(other.stateName)) {
-				return false;
-			}
-			if (!label.equals(other.label)) {
-				return false;
-			}
-
-			return true;
-		}
-	}
-
 	/**
 	 * Compute the values deterministic, label and node.
 	 */
 	private void check() {
-		Set<StateNameWithLabel> statesLabels = new HashSet<StateNameWithLabel>();
-
-		for (Arc arc : ts.getEdges()) {
+		// The arcs leaving a state are sorted by label, so two arcs with the same label are adjacent
+		FrozenTransitionSystem frozen = ts.freeze();
+		for (int state = 0; state < frozen.getStateCount(); state++) {
 			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
-			StateNameWithLabel stateLabel = new StateNameWithLabel(arc.getSourceId(), arc.getLabel());
-
-			if (statesLabels.contains(stateLabel)) {
-				deterministic = false;
-				label = stateLabel.label;
-				node = arc.getSource();
-				return;
+			int end = frozen.getPostsetEnd(state);
+			for (int arc = frozen.getPostsetStart(state) + 1; arc < end; arc++) {
+				if (frozen.getArcLabel(arc - 1) == frozen.getArcLabel(arc)) {
+					deterministic = false;
+					label = frozen.getLabel(frozen.getArcLabel(arc));
+					node = frozen.getState(state);
+					return;
+				}
 			}
-
-			statesLabels.add(stateLabel);
 		}
 
 		deterministic = true;
@@ -19,15 +19,37 @@
 
 package uniol.apt.analysis.language;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
 import uniol.apt.adt.ts.TransitionSystem;
-import uniol.apt.adt.automaton.FiniteAutomaton;
-
-import static uniol.apt.adt.automaton.FiniteAutomatonUtility.*;
+import uniol.apt.util.interrupt.InterrupterRegistry;
 
 /**
  * Check if two labelled transition systems accept the same prefix language.
+ *
+ * The product of the two transition systems is explored breadth-first and on-the-fly, so that the check stops at the
+ * first word that is only generated by one of them. If both transition systems are deterministic, the algorithm of
+ * Hopcroft and Karp is used: Pairs of states which are known to be equivalent are merged in a union-find structure
+ * and a pair is only explored if its states are not yet merged. Otherwise, language inclusion is checked in both
+ * directions. For this, pairs of a state of one transition system and the set of states that the other transition
+ * system reaches with the same word are explored. A pair is skipped if a pair with the same state and a subset of
+ * the set of states was already explored (antichain).
+ *
+ * The returned word is not necessarily a shortest one. For deterministic transition systems, a pair whose states
+ * were already merged through the transitivity of the union-find structure is not explored, so a shorter
+ * counterexample through this pair can be missed.
  * @author Uli Schlachter
  */
 public class LanguageEquivalence {
@@ -41,16 +63,177 @@ public class LanguageEquivalence {
 	 * Check if two labelled transition systems accept the same language.
 	 * @param lts1 The first LTS.
 	 * @param lts2 The second LTS.
-	 * @return Either null or a word that is only generated by one of the LTS.
+	 * @return Either null or a word that is only generated by one of the LTS. This word does not have to be a
+	 * shortest one.
 	 */
 	public static Word checkLanguageEquivalence(TransitionSystem lts1, TransitionSystem lts2) {
-		FiniteAutomaton automaton1 = fromPrefixLanguageLTS(lts1);
-		FiniteAutomaton automaton2 = fromPrefixLanguageLTS(lts2);
+		if (isDeterministic(lts1) && isDeterministic(lts2))
+			return checkDeterministicLanguageEquivalence(lts1, lts2);
+
+		Word word = checkLanguageInclusion(lts1, lts2);
+		if (word == null)
+			word = checkLanguageInclusion(lts2, lts1);
+		return word;
+	}
+
+	/**
+	 * A node of the product of the two transition systems and the path through which it was reached.
+	 * @param <T> The type of the second component.
+	 */
+	static private class ProductNode<T> {
+		private final State state;
+		private final T other;
+		private final ProductNode<T> previous;
+		private final String label;
+
+		private ProductNode(State state, T other, ProductNode<T> previous, String label) {
+			this.state = state;
+			this.other = other;
+			this.previous = previous;
+			this.label = label;
+		}
+
+		// Get the word reaching this node followed by the given label
+		private Word getWord(String lastLabel) {
+			Word word = new Word();
+			word.add(lastLabel);
+			for (ProductNode<T> node = this; node.previous != null; node = node.previous)
+				word.add(node.label);
+			Collections.reverse(word);
+			return word;
+		}
+	}
+
+	static private boolean isDeterministic(TransitionSystem lts) {
+		for (State state : lts.getNodes()) {
+			Set<String> labels = new HashSet<>();
+			for (Arc arc : state.getPostsetEdges())
+				if (!labels.add(arc.getLabel()))
+					return false;
+		}
+		return true;
+	}
+
+	static private Map<String, State> getDeterministicPostset(State state) {
+		Map<String, State> result = new LinkedHashMap<>();
+		for (Arc arc : state.getPostsetEdges())
+			result.put(arc.getLabel(), arc.getTarget());
+		return result;
+	}
+
+	// Find the representative of the state's class in the union-find structure
+	static private State find(Map<State, State> parent, State state) {
+		State root = state;
+		State next = parent.get(root);
+		while (next != null) {
+			root = next;
+			next = parent.get(root);
+		}
+		// Path compression
+		while (!state.equals(root)) {
+			next = parent.get(state);
+			parent.put(state, root);
+			state = next;
+		}
+		return root;
+	}
+
+	// Hopcroft-Karp algorithm for deterministic transition systems
+	static private Word checkDeterministicLanguageEquivalence(TransitionSystem lts1, TransitionSystem lts2) {
+		Map<State, State> parent = new HashMap<>();
+		Deque<ProductNode<State>> unhandled = new ArrayDeque<>();
+		State initial1 = lts1.getInitialState();
+		State initial2 = lts2.getInitialState();
+		if (!initial1.equals(initial2))
+			parent.put(initial1, initial2);
+		unhandled.add(new ProductNode<State>(initial1, initial2, null, null));
+
+		while (!unhandled.isEmpty()) {
+			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+			ProductNode<State> node = unhandled.removeFirst();
+			Map<String, State> postset1 = getDeterministicPostset(node.state);
+			Map<String, State> postset2 = getDeterministicPostset(node.other);
+
+			Set<String> labels = new LinkedHashSet<>(postset1.keySet());
+			labels.addAll(postset2.keySet());
+			for (String label : labels) {
+				State target1 = postset1.get(label);
+				State target2 = postset2.get(label);
+				if (target1 == null || target2 == null)
+					return node.getWord(label);
+
+				State root1 = find(parent, target1);
+				State root2 = find(parent, target2);
+				if (!root1.equals(root2)) {
+					parent.put(root1, root2);
+					unhandled.add(new ProductNode<State>(target1, target2, node, label));
+				}
+			}
+		}
+		return null;
+	}
+
+	// Find a word which is generated by lts1, but not by lts2
+	static private Word checkLanguageInclusion(TransitionSystem lts1, TransitionSystem lts2) {
+		// For each state of lts1, the minimal sets of states of lts2 that were already explored together with it
+		Map<State, List<Set<State>>> antichain = new HashMap<>();
+		Deque<ProductNode<Set<State>>> unhandled = new ArrayDeque<>();
+		Set<State> initial = Collections.singleton(lts2.getInitialState());
+		addToAntichain(antichain, lts1.getInitialState(), initial);
+		unhandled.add(new ProductNode<Set<State>>(lts1.getInitialState(), initial, null, null));
+
+		while (!unhandled.isEmpty()) {
+			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+			ProductNode<Set<State>> node = unhandled.removeFirst();
+
+			// Calculate the successors of the set of states of lts2
+			Map<String, Set<State>> postset = new HashMap<>();
+			for (State state : node.other) {
+				for (Arc arc : state.getPostsetEdges()) {
+					Set<State> targets = postset.get(arc.getLabel());
+					if (targets == null) {
+						targets = new HashSet<>();
+						postset.put(arc.getLabel(), targets);
+					}
+					targets.add(arc.getTarget());
+				}
+			}
+
+			for (Arc arc : node.state.getPostsetEdges()) {
+				Set<State> targets = postset.get(arc.getLabel());
+				if (targets == null)
+					return node.getWord(arc.getLabel());
+				if (addToAntichain(antichain, arc.getTarget(), targets))
+					unhandled.add(new ProductNode<>(arc.getTarget(), targets, node, arc.getLabel()));
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Add a pair to the antichain, unless it is subsumed by a pair that is already contained. A pair is subsumed
+	 * if the antichain contains a pair with the same state and a subset of the states, because every word
+	 * generated from the smaller set of states is also generated from the bigger one.
+	 * @return true if the pair was added.
+	 */
+	static private boolean addToAntichain(Map<State, List<Set<State>>> antichain, State state, Set<State> states) {
+		List<Set<State>> known = antichain.get(state);
+		if (known == null) {
+			known = new ArrayList<>();
+			antichain.put(state, known);
+		}
+		for (Set<State> other : known)
+			if (states.containsAll(other))
+				return false;
 
-		List<String> wordDifference = findWordDifference(automaton1, automaton2);
-		if (wordDifference == null)
-			return null;
-		return new Word(wordDifference);
+		// Remove all pairs which are subsumed by the new one
+		List<Set<State>> remaining = new ArrayList<>();
+		for (Set<State> other : known)
+			if (!other.containsAll(states))
+				remaining.add(other);
+		remaining.add(states);
+		antichain.put(state, remaining);
+		return true;
 	}
 }
 
@@ -23,13 +23,12 @@ import static uniol.apt.adt.automaton.AutomatonToRegularExpression.automatonToRe
 import static uniol.apt.adt.automaton.FiniteAutomatonUtility.fromLTS;
 
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Set;
 
 import uniol.apt.adt.PetriNetOrTransitionSystem;
 import uniol.apt.adt.ts.State;
 import uniol.apt.adt.ts.TransitionSystem;
-import uniol.apt.analysis.connectivity.Connectivity;
+import uniol.apt.analysis.connectivity.StronglyConnectedComponents;
 import uniol.apt.analysis.coverability.CoverabilityGraph;
 import uniol.apt.module.AbstractInterruptibleModule;
 import uniol.apt.module.AptModule;
@@ -40,7 +39,6 @@ import uniol.apt.module.ModuleInputSpec;
 import uniol.apt.module.ModuleOutput;
 import uniol.apt.module.ModuleOutputSpec;
 import uniol.apt.module.exception.ModuleException;
-import uniol.apt.util.interrupt.InterrupterRegistry;
 
 /**
  * Convert a Petri net or LTS into a language-equivalent regular expression
@@ -86,28 +84,11 @@ public class ToRegularExpressionModule extends AbstractInterruptibleModule imple
 	// one node from each strongly connected component which cannot reach any other component. This guarantees that
 	// the prefix language of the regular expression will be the prefix language of the lts.
 	private static Set<State> chooseFinalNodes(TransitionSystem ts) {
-		Set<? extends Set<State>> components = Connectivity.getStronglyConnectedComponents(ts);
-		Iterator<? extends Set<State>> it = components.iterator();
-		while (it.hasNext()) {
-			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
-			Set<State> component = it.next();
-			boolean skip = false;
-
-			for (State node : component) {
-				for (State following : node.getPostsetNodes())
-					if (!component.contains(following)) {
-						skip = true;
-						break;
-					}
-				if (skip)
-					break;
-			}
-			if (skip)
-				it.remove();
-		}
+		StronglyConnectedComponents<State> components = StronglyConnectedComponents.get(ts);
 		Set<State> result = new HashSet<>();
-		for (Set<State> component : components)
-			result.add(ts.getNode(component.iterator().next().getId()));
+		for (int component = 0; component < components.getComponentCount(); component++)
+			if (components.isBottomComponent(component))
+				result.add(components.getComponentNodes(component).iterator().next());
 		return result;
 	}
 
@@ -19,20 +19,12 @@
 
 package uniol.apt.analysis.live;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Deque;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.pn.Transition;
-import uniol.apt.adt.ts.Arc;
-import uniol.apt.adt.ts.State;
-import uniol.apt.adt.ts.TransitionSystem;
-import uniol.apt.analysis.connectivity.Connectivity;
 import uniol.apt.analysis.coverability.CoverabilityGraph;
 import uniol.apt.analysis.coverability.CoverabilityGraphEdge;
 import uniol.apt.analysis.coverability.CoverabilityGraphNode;
@@ -84,6 +76,17 @@ public class Live {
 		return null;
 	}
 
+	/**
+	 * Check the liveness of all transitions of the Petri net. This computes the strongly connected components of
+	 * the reachability graph once and derives simple, weak and strong liveness of all transitions from them.
+	 * @param pn The Petri net that should be examined.
+	 * @return A map from each transition of the Petri net to its liveness.
+	 * @throws UnboundedException If the reachability graph is unbounded.
+	 */
+	static public Map<Transition, LiveResult> checkLiveness(PetriNet pn) throws UnboundedException {
+		return LivenessAnalysis.get(pn).getResults();
+	}
+
 	/**
 	 * Find a transition which is not weakly live.
 	 * @param pn The Petri net that should be examined.
@@ -92,10 +95,9 @@ public class Live {
 	 * @throws UnboundedException If the reachability graph is unbounded.
 	 */
 	static public Transition findNonWeaklyLiveTransition(PetriNet pn) throws UnboundedException {
-		TransitionSystem lts = CoverabilityGraph.get(pn).toReachabilityLTS();
-		Set<? extends Set<State>> components = Connectivity.getStronglyConnectedComponents(lts);
+		Map<Transition, LiveResult> results = checkLiveness(pn);
 		for (Transition t : pn.getTransitions())
-			if (!checkWeaklyLive(lts, components, t))
+			if (!results.get(t).isWeaklyLive())
 				return t;
 		return null;
 	}
@@ -109,20 +111,6 @@ public class Live {
 	 * @throws UnboundedException If the reachability graph is unbounded.
 	 */
 	static public boolean checkWeaklyLive(PetriNet pn, Transition transition) throws UnboundedException {
-		TransitionSystem lts = CoverabilityGraph.get(pn).toReachabilityLTS();
-		Set<? extends Set<State>> components = Connectivity.getStronglyConnectedComponents(lts);
-		return checkWeaklyLive(lts, components, transition);
-	}
-
-	/**
-	 * Check if a transition is weakly live.
-	 * @param lts The reachability graph of a PetriNet, generated via {@link CoverabilityGraph#toReachabilityLTS}.
-	 * @param components The strongly connected components of the lts.
-	 * @param transition The transition that should be checked.
-	 * @return true If the transition is weakly live, else false.
-	 */
-	static private boolean checkWeaklyLive(TransitionSystem lts, Set<? extends Set<State>> components,
-			Transition transition) {
 		/* We are working with bounded Petri nets. Thus, an infinite fire sequence creates a circle in the
 		 * reachability graph. This means that there exists an edge for our transition in the graph which is
 		 * taken infinitely often. This means that both nodes of the transition belong to the same strongly
@@ -133,32 +121,7 @@ public class Live {
 		 * component, there obviously can't be an infinite fire sequence which contains the transition
 		 * infinitely often.
 		 */
-		for (Arc edge : lts.getEdges()) {
-			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
-
-			// Look for edges labeled with our transition...
-			Transition trans = (Transition) edge.getExtension(Transition.class.getName());
-			if (!trans.equals(transition))
-				continue;
-
-			// ...where both endpoints are in the same component
-			State source = edge.getSource();
-			State target = edge.getTarget();
-			for (Set<State> component : components) {
-				if (component.contains(source)) {
-					if (component.contains(target))
-						// Both nodes in the same component
-						return true;
-
-					// We now know for sure that they can't be in the same component, because source
-					// can only be in a single component
-					break;
-				}
-			}
-		}
-
-		// We didn't find a suitable component
-		return false;
+		return checkLiveness(pn).get(transition).isWeaklyLive();
 	}
 
 	/**
@@ -169,8 +132,9 @@ public class Live {
 	 * @throws UnboundedException If the reachability graph is unbounded.
 	 */
 	static public Transition findNonStronglyLiveTransition(PetriNet pn) throws UnboundedException {
+		Map<Transition, LiveResult> results = checkLiveness(pn);
 		for (Transition t : pn.getTransitions())
-			if (!checkStronglyLive(pn, t))
+			if (!results.get(t).isStronglyLive())
 				return t;
 		return null;
 	}
@@ -184,7 +148,7 @@ public class Live {
 	 * @throws UnboundedException If the reachability graph is unbounded.
 	 */
 	static public boolean checkStronglyLive(PetriNet pn, Transition transition) throws UnboundedException {
-		return findKillingFireSequence(pn, transition) == null;
+		return checkLiveness(pn).get(transition).isStronglyLive();
 	}
 
 	/**
@@ -197,40 +161,7 @@ public class Live {
 	 */
 	static public List<Transition> findKillingFireSequence(PetriNet pn, Transition transition)
 			throws UnboundedException {
-		// We are looking for a node from which no edge for our transition is reachable
-		TransitionSystem lts = CoverabilityGraph.get(pn).toReachabilityLTS();
-		Collection<State> nodes = new HashSet<>(lts.getNodes());
-
-		// Look for edges labeled with our transition...
-		for (Arc edge : lts.getEdges()) {
-			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
-			Transition trans = (Transition) edge.getExtension(Transition.class.getName());
-			if (!trans.equals(transition))
-				continue;
-			// All of the nodes in this edge's preset can reach a state where the transition is activated
-			handleStronglyLiveNode(nodes, edge.getSource());
-		}
-
-		// everything which can eventually enable transition was removed, so the transition is strongly live if
-		// this collection is empty.
-		if (nodes.isEmpty())
-			return null;
-		State node = nodes.iterator().next();
-		return ((CoverabilityGraphNode) node.getExtension(CoverabilityGraphNode.class.getName()))
-			.getFiringSequence();
-	}
-
-	// Recursively remove the preset from the set of nodes
-	static private void handleStronglyLiveNode(Collection<State> nodes, State node) {
-		Deque<State> toRemove = new ArrayDeque<>();
-		toRemove.add(node);
-		while (!toRemove.isEmpty()) {
-			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
-			node = toRemove.remove();
-			if (nodes.remove(node))
-				// Node was not yet handled
-				toRemove.addAll(node.getPresetNodes());
-		}
+		return checkLiveness(pn).get(transition).getKillingFireSequence();
 	}
 }
 
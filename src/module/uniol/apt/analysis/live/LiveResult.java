@@ -0,0 +1,182 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.live;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import uniol.apt.adt.pn.Transition;
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.analysis.coverability.CoverabilityGraphNode;
+import uniol.apt.util.interrupt.InterrupterRegistry;
+
+/**
+ * This class represents the liveness of a single transition of a bounded Petri net as computed by {@link
+ * Live#checkLiveness(uniol.apt.adt.pn.PetriNet)}. The witnesses for the different kinds of liveness are computed on
+ * demand.
+ * @author agent
+ */
+public class LiveResult {
+	private final Transition transition;
+	// An arc of the reachability graph for the transition or null if the transition is dead
+	private final Arc enablingArc;
+	// An arc of the reachability graph for the transition whose source and target are in the same strongly
+	// connected component, or null if the transition is not weakly live
+	private final Arc cycleArc;
+	// A state in a bottom strongly connected component without an arc for the transition, or null if the
+	// transition is strongly live
+	private final State killingState;
+
+	/**
+	 * Construct a new LiveResult instance.
+	 * @param transition The transition that was examined.
+	 * @param enablingArc An arc of the reachability graph for the transition or null if there is none.
+	 * @param cycleArc An arc of the reachability graph for the transition which lies on a cycle or null if there
+	 * is none.
+	 * @param killingState A reachable state from which the transition can never fire again or null if there is
+	 * none.
+	 */
+	LiveResult(Transition transition, Arc enablingArc, Arc cycleArc, State killingState) {
+		this.transition = transition;
+		this.enablingArc = enablingArc;
+		this.cycleArc = cycleArc;
+		this.killingState = killingState;
+	}
+
+	/**
+	 * Get the transition that was examined.
+	 * @return The transition.
+	 */
+	public Transition getTransition() {
+		return transition;
+	}
+
+	/**
+	 * Is the transition simply live? This means that it can fire in at least one reachable marking.
+	 * @return true if the transition is simply live.
+	 */
+	public boolean isSimplyLive() {
+		return enablingArc != null;
+	}
+
+	/**
+	 * Is the transition weakly live? This means that there is an infinite firing sequence which fires the
+	 * transition infinitely often.
+	 * @return true if the transition is weakly live.
+	 */
+	public boolean isWeaklyLive() {
+		return cycleArc != null;
+	}
+
+	/**
+	 * Is the transition strongly live? This means that from every reachable marking a marking can be reached in
+	 * which the transition is enabled.
+	 * @return true if the transition is strongly live.
+	 */
+	public boolean isStronglyLive() {
+		return killingState == null;
+	}
+
+	/**
+	 * Get a firing sequence which ends with the transition.
+	 * @return The firing sequence or null if the transition is not simply live.
+	 */
+	public List<Transition> getFiringSequence() {
+		if (enablingArc == null)
+			return null;
+		List<Transition> result = new ArrayList<>(getFiringSequence(enablingArc.getSource()));
+		result.add(transition);
+		return result;
+	}
+
+	/**
+	 * Get a firing sequence which reaches a marking in which {@link #getCycle()} can be fired.
+	 * @return The firing sequence or null if the transition is not weakly live.
+	 */
+	public List<Transition> getCyclePrefix() {
+		if (cycleArc == null)
+			return null;
+		return getFiringSequence(cycleArc.getSource());
+	}
+
+	/**
+	 * Get a firing sequence which starts with the transition and reproduces the marking in which it was fired.
+	 * This sequence can be fired infinitely often after {@link #getCyclePrefix()}.
+	 * @return The firing sequence or null if the transition is not weakly live.
+	 */
+	public List<Transition> getCycle() {
+		if (cycleArc == null)
+			return null;
+
+		// Find a shortest path back from the target of the arc to its source via a breadth-first search
+		State source = cycleArc.getSource();
+		Map<State, Arc> reachedVia = new HashMap<>();
+		Deque<State> queue = new ArrayDeque<>();
+		queue.add(cycleArc.getTarget());
+		reachedVia.put(cycleArc.getTarget(), null);
+		while (!reachedVia.containsKey(source)) {
+			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+			State state = queue.remove();
+			for (Arc arc : state.getPostsetEdges()) {
+				if (!reachedVia.containsKey(arc.getTarget())) {
+					reachedVia.put(arc.getTarget(), arc);
+					queue.add(arc.getTarget());
+				}
+			}
+		}
+
+		List<Transition> result = new ArrayList<>();
+		Arc arc = reachedVia.get(source);
+		while (arc != null) {
+			result.add(getTransition(arc));
+			arc = reachedVia.get(arc.getSource());
+		}
+		result.add(transition);
+		Collections.reverse(result);
+		return result;
+	}
+
+	/**
+	 * Get a firing sequence after which the transition can never fire again.
+	 * @return The firing sequence or null if the transition is strongly live.
+	 */
+	public List<Transition> getKillingFireSequence() {
+		if (killingState == null)
+			return null;
+		return getFiringSequence(killingState);
+	}
+
+	static private List<Transition> getFiringSequence(State state) {
+		return ((CoverabilityGraphNode) state.getExtension(CoverabilityGraphNode.class.getName()))
+			.getFiringSequence();
+	}
+
+	static private Transition getTransition(Arc arc) {
+		return (Transition) arc.getExtension(Transition.class.getName());
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
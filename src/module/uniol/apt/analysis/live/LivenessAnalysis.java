@@ -0,0 +1,174 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.live;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import uniol.apt.adt.StructuralExtensionRemover;
+import uniol.apt.adt.exception.StructureException;
+import uniol.apt.adt.extension.ExtensionProperty;
+import uniol.apt.adt.pn.CompiledPetriNet;
+import uniol.apt.adt.pn.Flow;
+import uniol.apt.adt.pn.Node;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Transition;
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.analysis.connectivity.StronglyConnectedComponents;
+import uniol.apt.analysis.coverability.ReachabilityLTS;
+import uniol.apt.analysis.exception.UnboundedException;
+import uniol.apt.util.interrupt.InterrupterRegistry;
+
+/**
+ * Liveness of all transitions of a bounded Petri net, computed in a single pass over the condensation of its
+ * reachability graph into strongly connected components (SCCs):
+ * <ul>
+ * <li>A transition is simply live if the reachability graph contains an arc for it.</li>
+ * <li>A transition is weakly live if there is an arc for it whose source and target are in the same SCC, since then
+ * this arc lies on a cycle.</li>
+ * <li>A transition is strongly live if every bottom SCC (an SCC without arcs leaving it) contains an arc for it.
+ * Every reachable marking can reach a bottom SCC and all markings of a bottom SCC can reach each other. A marking in
+ * a bottom SCC without such an arc can never enable the transition again.</li>
+ * </ul>
+ * @author agent
+ */
+class LivenessAnalysis {
+	private final Map<Transition, LiveResult> results;
+
+	/**
+	 * Get the liveness analysis of the given Petri net. If this was already computed and the structure of the
+	 * Petri net did not change since then, the existing instance is returned.
+	 * @param pn The Petri net that should be examined.
+	 * @return The liveness analysis.
+	 * @throws UnboundedException If the Petri net is unbounded.
+	 */
+	static public LivenessAnalysis get(PetriNet pn) throws UnboundedException {
+		String key = LivenessAnalysis.class.getName();
+
+		Object extension = null;
+		try {
+			extension = pn.getExtension(key);
+		} catch (StructureException e) {
+			// No such extension.
+		}
+
+		if (extension instanceof LivenessAnalysis)
+			return (LivenessAnalysis) extension;
+
+		LivenessAnalysis result = new LivenessAnalysis(pn);
+		pn.putExtension(key, result, ExtensionProperty.NOCOPY);
+		pn.addListener(new StructuralExtensionRemover<PetriNet, Flow, Node>(key));
+		return result;
+	}
+
+	private LivenessAnalysis(PetriNet pn) throws UnboundedException {
+		ReachabilityLTS reachability = ReachabilityLTS.get(pn);
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		int transitionCount = compiled.getTransitionCount();
+
+		StronglyConnectedComponents<State> components = StronglyConnectedComponents.get(reachability.getLTS());
+
+		// Find the transitions occurring inside of each SCC and witnesses for simple and weak liveness.
+		Arc[] enablingArcs = new Arc[transitionCount];
+		Arc[] cycleArcs = new Arc[transitionCount];
+		BitSet[] transitionsInComponent = new BitSet[components.getComponentCount()];
+		for (Arc arc : reachability.getLTS().getEdges()) {
+			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+			int transition = compiled.getTransitionIndex(
+					(Transition) arc.getExtension(Transition.class.getName()));
+			int source = components.getComponent(arc.getSource());
+			int target = components.getComponent(arc.getTarget());
+			if (enablingArcs[transition] == null)
+				enablingArcs[transition] = arc;
+			if (source != target)
+				continue;
+			if (cycleArcs[transition] == null)
+				cycleArcs[transition] = arc;
+			if (transitionsInComponent[source] == null)
+				transitionsInComponent[source] = new BitSet(transitionCount);
+			transitionsInComponent[source].set(transition);
+		}
+
+		// Each transition missing in some bottom SCC is not strongly live. To get short witnesses, the bottom
+		// SCCs are handled in the order of their distance from the initial state and a dead transition is
+		// already dead in the initial state.
+		State initialState = reachability.getLTS().getInitialState();
+		State[] killingStates = new State[transitionCount];
+		for (int t = 0; t < transitionCount; t++)
+			if (enablingArcs[t] == null)
+				killingStates[t] = initialState;
+		boolean[] handledComponent = new boolean[components.getComponentCount()];
+		for (State state : getBreadthFirstOrder(initialState)) {
+			int component = components.getComponent(state);
+			// Only handle each bottom SCC once
+			if (!components.isBottomComponent(component) || handledComponent[component])
+				continue;
+			handledComponent[component] = true;
+			BitSet transitions = transitionsInComponent[component];
+			if (transitions == null)
+				transitions = new BitSet();
+			int t = transitions.nextClearBit(0);
+			while (t < transitionCount) {
+				if (killingStates[t] == null)
+					killingStates[t] = state;
+				t = transitions.nextClearBit(t + 1);
+			}
+		}
+
+		Map<Transition, LiveResult> map = new LinkedHashMap<>();
+		for (int t = 0; t < transitionCount; t++) {
+			Transition transition = compiled.getTransition(t);
+			map.put(transition, new LiveResult(transition, enablingArcs[t], cycleArcs[t],
+						killingStates[t]));
+		}
+		this.results = Collections.unmodifiableMap(map);
+	}
+
+	static private List<State> getBreadthFirstOrder(State initialState) {
+		List<State> result = new ArrayList<>();
+		Set<State> seen = new HashSet<>();
+		result.add(initialState);
+		seen.add(initialState);
+		for (int i = 0; i < result.size(); i++) {
+			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+			for (State next : result.get(i).getPostsetNodes())
+				if (seen.add(next))
+					result.add(next);
+		}
+		return result;
+	}
+
+	/**
+	 * Get the results for all transitions.
+	 * @return A map from each transition of the Petri net to its liveness.
+	 */
+	public Map<Transition, LiveResult> getResults() {
+		return results;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -22,7 +22,7 @@ package uniol.apt.analysis.persistent;
 import uniol.apt.adt.pn.Marking;
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.ts.TransitionSystem;
-import uniol.apt.analysis.coverability.CoverabilityGraph;
+import uniol.apt.analysis.coverability.ReachabilityLTS;
 import uniol.apt.analysis.exception.UnboundedException;
 
 /**
@@ -59,7 +59,7 @@ public class PersistentNet {
 	public void check() throws UnboundedException {
 
 		TransitionSystem ts;
-		ts = CoverabilityGraph.get(pn_).toReachabilityLTS();
+		ts = ReachabilityLTS.get(pn_).getLTS();
 
 		PersistentTS ltsPersistent = new PersistentTS(ts, backwards_);
 		deterministic_ = ltsPersistent.isPersistent();
@@ -19,15 +19,9 @@
 
 package uniol.apt.analysis.persistent;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Deque;
-import java.util.LinkedList;
-
-import uniol.apt.adt.ts.Arc;
+import java.util.Arrays;
+
+import uniol.apt.adt.ts.FrozenTransitionSystem;
 import uniol.apt.adt.ts.State;
 import uniol.apt.adt.ts.TransitionSystem;
 import uniol.apt.util.interrupt.InterrupterRegistry;
@@ -52,9 +46,12 @@ import uniol.apt.util.interrupt.InterrupterRegistry;
  * @author Vincent Göbel, Uli Schlachter
  */
 public class PersistentTS {
-	private final TransitionSystem ts;
+	private final FrozenTransitionSystem ts;
 	private final boolean backwards;
-	private final Map<State, Map<String, Set<State>>> statePostsetsCache = new HashMap<>();
+
+	// States reached from the current state via label1 and then label2 are marked with the current generation
+	private final int[] reached;
+	private int generation = 0;
 
 	private boolean persistent = true;
 	private State node_ = null;
@@ -63,7 +60,8 @@ public class PersistentTS {
 
 	public PersistentTS(TransitionSystem ts, boolean backwards) {
 		this.backwards = backwards;
-		this.ts = ts;
+		this.ts = ts.freeze();
+		this.reached = new int[this.ts.getStateCount()];
 		check();
 	}
 
@@ -77,37 +75,20 @@ public class PersistentTS {
 	 */
 	private void check() {
 		// Go through all states
-		for (State node : ts.getNodes()) {
-			Map<String, Set<State>> postset = getStatePostset(node);
-			Deque<String> unhandledLabels = new LinkedList<>(postset.keySet());
-			// Go through all pairs of (enabled) labels
-			while (!unhandledLabels.isEmpty()) {
-				String label1 = unhandledLabels.removeFirst();
-				Set<State> statesAfterLabel1 = postset.get(label1);
-				for (String label2 : unhandledLabels) {
+		for (int node = 0; node < ts.getStateCount(); node++) {
+			// Go through all pairs of (enabled) labels. The arcs of a state are sorted by label.
+			int end = getEnd(node);
+			for (int pos1 = getStart(node); pos1 < end; pos1 = getEnd(node, getLabel(pos1))) {
+				int label1 = getLabel(pos1);
+				for (int pos2 = getEnd(node, label1); pos2 < end; pos2 = getEnd(node, getLabel(pos2))) {
 					InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+					int label2 = getLabel(pos2);
 
-					// Calculate states reached by first following label1 then label2
-					Set<State> statesAfter12 = new HashSet<>();
-					for (State node1 : statesAfterLabel1) {
-						statesAfter12.addAll(getStatePostsetViaLabel(node1, label2));
-					}
-
-					// Check if any of these is also reached by label2, then label1
-					boolean foundSharedState = false;
-					for (State node2 : postset.get(label2)) {
-						if (!Collections.disjoint(statesAfter12,
-									getStatePostsetViaLabel(node2, label1))) {
-							foundSharedState = true;
-							break;
-						}
-					}
-
-					if (!foundSharedState) {
+					if (!reachSharedState(node, label1, label2)) {
 						this.persistent = false;
-						node_ = node;
-						label1_ = label1;
-						label2_ = label2;
+						node_ = ts.getState(node);
+						label1_ = ts.getLabel(label1);
+						label2_ = ts.getLabel(label2);
 						return;
 					}
 				}
@@ -115,48 +96,61 @@ public class PersistentTS {
 		}
 	}
 
-	// Get the postset of a state as a Map which maps a label to a set of states
-	private Map<String, Set<State>> getStatePostset(State node) {
-		Map<String, Set<State>> result = statePostsetsCache.get(node);
-		if (result != null)
-			return result;
-
-		result = new HashMap<>();
-		for (Arc arc : getPostsetEdges(node)) {
-			Set<State> set = result.get(arc.getLabel());
-			if (set == null) {
-				set = new HashSet<>();
-				result.put(arc.getLabel(), set);
-			}
-			set.add(getTarget(arc));
+	// Check if some state is reached from the given state both via label1, label2 and via label2, label1
+	private boolean reachSharedState(int node, int label1, int label2) {
+		generation++;
+		if (generation == 0) {
+			// Overflow, start over
+			Arrays.fill(reached, 0);
+			generation = 1;
+		}
+
+		// Mark the states reached by first following label1 then label2
+		for (int pos1 = getStart(node, label1); pos1 < getEnd(node, label1); pos1++) {
+			int node1 = getTarget(pos1);
+			for (int pos12 = getStart(node1, label2); pos12 < getEnd(node1, label2); pos12++)
+				reached[getTarget(pos12)] = generation;
+		}
+
+		// Check if any of these is also reached by label2, then label1
+		for (int pos2 = getStart(node, label2); pos2 < getEnd(node, label2); pos2++) {
+			int node2 = getTarget(pos2);
+			for (int pos21 = getStart(node2, label1); pos21 < getEnd(node2, label1); pos21++)
+				if (reached[getTarget(pos21)] == generation)
+					return true;
 		}
-		result = Collections.unmodifiableMap(result);
-		statePostsetsCache.put(node, result);
-		return result;
+		return false;
 	}
 
-	// Get the set of states that is reached via "label" from "state"
-	private Set<State> getStatePostsetViaLabel(State node, String label) {
-		Set<State> result = getStatePostset(node).get(label);
-		if (result == null)
-			return Collections.emptySet();
-		return result;
+	// The following functions work on the postset or the preset of a state, depending on the "backwards"
+	// variable. A position refers to one of these arcs.
+
+	private int getStart(int node) {
+		return backwards ? ts.getPresetStart(node) : ts.getPostsetStart(node);
 	}
 
-	// Get the postset or the preset of an arc, depending on the "backwards" variable
-	private Set<Arc> getPostsetEdges(State n) {
-		if (!backwards)
-			return n.getPostsetEdges();
-		else
-			return n.getPresetEdges();
+	private int getEnd(int node) {
+		return backwards ? ts.getPresetEnd(node) : ts.getPostsetEnd(node);
+	}
+
+	private int getStart(int node, int label) {
+		return backwards ? ts.getPresetStart(node, label) : ts.getPostsetStart(node, label);
+	}
+
+	private int getEnd(int node, int label) {
+		return backwards ? ts.getPresetEnd(node, label) : ts.getPostsetEnd(node, label);
+	}
+
+	private int getLabel(int position) {
+		return ts.getArcLabel(backwards ? ts.getPresetArc(position) : position);
 	}
 
 	// Get the target or the source of an arc, depending on the "backwards" variable
-	private State getTarget(Arc arc) {
+	private int getTarget(int position) {
 		if (!backwards)
-			return arc.getTarget();
+			return ts.getArcTarget(position);
 		else
-			return arc.getSource();
+			return ts.getArcSource(ts.getPresetArc(position));
 	}
 
 	public boolean isPersistent() {
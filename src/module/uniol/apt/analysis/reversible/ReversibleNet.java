@@ -22,7 +22,7 @@ package uniol.apt.analysis.reversible;
 import uniol.apt.adt.pn.Marking;
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.ts.TransitionSystem;
-import uniol.apt.analysis.coverability.CoverabilityGraph;
+import uniol.apt.analysis.coverability.ReachabilityLTS;
 import uniol.apt.analysis.exception.UnboundedException;
 
 /**
@@ -51,7 +51,7 @@ public class ReversibleNet {
 	public void check() throws UnboundedException {
 
 		TransitionSystem ts;
-		ts = CoverabilityGraph.get(pn_).toReachabilityLTS();
+		ts = ReachabilityLTS.get(pn_).getLTS();
 
 		ReversibleTS ltsPersistent = new ReversibleTS(ts);
 		ltsPersistent.check();
@@ -23,10 +23,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
-import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.FrozenTransitionSystem;
 import uniol.apt.adt.ts.State;
 import uniol.apt.adt.ts.TransitionSystem;
-import uniol.apt.util.SpanningTree;
 
 /**
  * An LTS is reversible if the initial state can be reached from every state that is reachable within the system.
@@ -38,17 +37,42 @@ public class ReversibleTS {
 
 	public ReversibleTS(TransitionSystem ts) {
 		this.ts = ts;
-		SpanningTree<TransitionSystem, Arc, State> forwardTree
-			= SpanningTree.<TransitionSystem, Arc, State>get(ts, ts.getInitialState());
-		SpanningTree<TransitionSystem, Arc, State> backwardTree
-			= SpanningTree.<TransitionSystem, Arc, State>getReversed(ts, ts.getInitialState());
+		FrozenTransitionSystem frozen = ts.freeze();
+		int initial = frozen.getStateIndex(ts.getInitialState());
+		boolean[] reachable = search(frozen, initial, false);
+		boolean[] reachesInitial = search(frozen, initial, true);
 
-		// Calculate reachable states
-		unreversibleStates = new HashSet<>(ts.getNodes());
-		unreversibleStates.removeAll(forwardTree.getUnreachableNodes());
+		// Collect reachable states which cannot reach the initial state again
+		unreversibleStates = new HashSet<>();
+		for (int state = 0; state < frozen.getStateCount(); state++)
+			if (reachable[state] && !reachesInitial[state])
+				unreversibleStates.add(frozen.getState(state));
+	}
 
-		// Keep only those which cannot reach the initial state again
-		unreversibleStates.retainAll(backwardTree.getUnreachableNodes());
+	// Depth first search following arcs forwards or backwards
+	static private boolean[] search(FrozenTransitionSystem ts, int initial, boolean backwards) {
+		boolean[] seen = new boolean[ts.getStateCount()];
+		int[] stack = new int[ts.getStateCount()];
+		int stackSize = 0;
+		seen[initial] = true;
+		stack[stackSize++] = initial;
+		while (stackSize > 0) {
+			int state = stack[--stackSize];
+			int start = backwards ? ts.getPresetStart(state) : ts.getPostsetStart(state);
+			int end = backwards ? ts.getPresetEnd(state) : ts.getPostsetEnd(state);
+			for (int position = start; position < end; position++) {
+				int next;
+				if (backwards)
+					next = ts.getArcSource(ts.getPresetArc(position));
+				else
+					next = ts.getArcTarget(position);
+				if (!seen[next]) {
+					seen[next] = true;
+					stack[stackSize++] = next;
+				}
+			}
+		}
+		return seen;
 	}
 
 	/**
@@ -58,8 +58,9 @@ public abstract class AbstractSynthesizeModule extends AbstractInterruptibleModu
 			+ " generalized-marked-graph (gmg), marked-graph (mg), generalized-output-nonbranching (gon)"
 			+ " output-nonbranching (on), conflict-free (cf), homogeneous,"
 			+ " behaviourally-conflict-free (bcf), binary-conflict-free (bicf),"
-			+ " upto-language-equivalence (language, le), " + extraOptions + "minimize (minimal), verbose "
-			+ "and quick-fail.\n\nThe meaning of these options is as follows:\n"
+			+ " upto-language-equivalence (language, le), " + extraOptions
+			+ "exact-selection, minimize (minimal), verbose and quick-fail.\n\n"
+			+ "The meaning of these options is as follows:\n"
 			+ " - none: No further requirements are made.\n"
 			+ " - [k]-bounded: In every reachable marking, every place contains at most [k] tokens.\n"
 			+ " - safe: Equivalent to 1-bounded.\n"
@@ -79,6 +80,8 @@ public abstract class AbstractSynthesizeModule extends AbstractInterruptibleModu
 			+ " transitions is disjoint.\n"
 			+ " - binary-conflict-free: For every reachable marking and pair of activated transitions,"
 			+ " enough tokens for both transitions are present.\n"
+			+ " - exact-selection: Among the regions that were calculated, as few as possible are used as"
+			+ " places. This is cheaper than minimize, but might result in more places.\n"
 			+ " - minimize: The Petri net has as few places as possible.\n"
 			+ extraOptionsDescriptions
 			+ "The following options only affect the output, but not the produced Petri net:\n"
@@ -86,6 +89,14 @@ public abstract class AbstractSynthesizeModule extends AbstractInterruptibleModu
 			+ " - quick-fail: Stop the algorithm when the result 'success: No' is clear.";
 	}
 
+	static String getCacheDescription() {
+		return "Synthesis results can be cached on disk by setting the system property "
+			+ SynthesizePN.CACHE_DIRECTORY_PROPERTY + " to a directory, e.g. via java -D"
+			+ SynthesizePN.CACHE_DIRECTORY_PROPERTY + "=/tmp/apt-cache -jar apt.jar ... When the same"
+			+ " input (up to renaming of states) is synthesized again with the same options, the cached"
+			+ " regions are checked and re-used.\n";
+	}
+
 	/**
 	 * Override point for specification of extra input parameters.
 	 *
@@ -122,11 +133,12 @@ public abstract class AbstractSynthesizeModule extends AbstractInterruptibleModu
 
 	public SynthesizePN runSynthesis(TransitionSystemForOptions tsForOpts, ConfigureSynthesizePNBuilder configure,
 				ModuleInput input, ModuleOutput output) throws ModuleException {
-		String quickFailStr = "quick-fail", verboseStr = "verbose";
+		String quickFailStr = "quick-fail", verboseStr = "verbose", exactSelectionStr = "exact-selection";
 		Collection<String> languageEquivalenceStr = Arrays.asList("upto-language-equivalence", "language",
 				"le");
 		Collection<String> minimizeStr = Arrays.asList("minimize", "minimise", "minimal");
-		Set<String> supportedExtraOptions = new HashSet<>(Arrays.asList(quickFailStr, verboseStr));
+		Set<String> supportedExtraOptions = new HashSet<>(Arrays.asList(quickFailStr, verboseStr,
+					exactSelectionStr));
 		supportedExtraOptions.addAll(languageEquivalenceStr);
 		supportedExtraOptions.addAll(minimizeStr);
 		supportedExtraOptions.addAll(tsForOpts.supportedExtraOptions());
@@ -135,6 +147,7 @@ public abstract class AbstractSynthesizeModule extends AbstractInterruptibleModu
 				supportedExtraOptions);
 		boolean quickFail = options.extraOptions.contains(quickFailStr);
 		boolean verbose = options.extraOptions.contains(verboseStr);
+		boolean exactSelection = options.extraOptions.contains(exactSelectionStr);
 		boolean languageEquivalence = !Collections.disjoint(options.extraOptions, languageEquivalenceStr);
 		boolean minimize = !Collections.disjoint(options.extraOptions, minimizeStr);
 
@@ -146,7 +159,8 @@ public abstract class AbstractSynthesizeModule extends AbstractInterruptibleModu
 		else
 			builder = SynthesizePN.Builder.createForIsomorphicBehaviour(ts);
 		builder .setProperties(options.properties)
-			.setQuickFail(quickFail);
+			.setQuickFail(quickFail)
+			.setExactRegionSelection(exactSelection);
 		if (configure != null)
 			configure.configureSynthesizePNBuilder(builder);
 		synthesize = builder.build();
@@ -21,13 +21,16 @@ package uniol.apt.analysis.synthesize;
 
 import static org.apache.commons.collections4.iterators.EmptyIterator.emptyIterator;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
@@ -38,6 +41,7 @@ import java.util.concurrent.ForkJoinPool;
 import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.collections4.Transformer;
 
+import uniol.apt.adt.ts.State;
 import uniol.apt.adt.ts.TransitionSystem;
 import uniol.apt.analysis.exception.NonDeterministicException;
 import uniol.apt.analysis.exception.PreconditionFailedException;
@@ -64,30 +68,105 @@ public class FindWords {
 		public void call(int length);
 	}
 
-	static private SynthesizePN solveWord(List<Character> wordList, PNProperties properties, boolean quickFail) {
+	static private SynthesizePN solveWord(List<Character> wordList, PNProperties properties, boolean quickFail,
+			Collection<Region> prefixRegions) {
 		TransitionSystem ts = SynthesizeUtils.makeTS(toStringList(wordList));
 		try {
-			return SynthesizePN.Builder.createForLanguageEquivalence(ts)
+			SynthesizePN.Builder builder = SynthesizePN.Builder.createForLanguageEquivalence(ts)
 				.setProperties(properties)
 				// we don't need failed separation points, if we don't show them
-				.setQuickFail(quickFail)
-				.build();
+				.setQuickFail(quickFail);
+			for (Region region : prefixRegions) {
+				Region extended = extendRegion(builder.getRegionUtility(), region, properties);
+				if (extended != null)
+					builder.addRegion(extended);
+			}
+			return builder.build();
 		} catch (MissingLocationException e) {
 			throw new RuntimeException("Not generating locations and "
 					+ " yet they were generated wrongly?!", e);
 		} catch (NonDeterministicException e) {
 			throw new RuntimeException("Generated a deterministic TS and "
 					+ " yet it is non-deterministic?!", e);
+		} catch (InvalidRegionException e) {
+			throw new RuntimeException("Extended region was checked and yet it is invalid?!", e);
+		}
+	}
+
+	/**
+	 * Transfer a region of a prefix of a word to the word itself. The events of the prefix keep their weights and
+	 * all other events get weight zero. Since the word only has one more state than its prefix, the result is a
+	 * region of the word if the last event of the word is enabled in the new state's predecessor and, for k-bounded
+	 * nets, the new state's marking is at most k. All other properties only restrict the weights or, like
+	 * behavioural conflict freeness, are trivially satisfied by words.
+	 * @param utility The region utility of the word.
+	 * @param region A region of a prefix of the word.
+	 * @param properties The properties that the region must satisfy.
+	 * @return The extended region or null if the region cannot be extended.
+	 */
+	static Region extendRegion(RegionUtility utility, Region region, PNProperties properties) {
+		List<BigInteger> backward = new ArrayList<>(Collections.nCopies(utility.getNumberOfEvents(),
+					BigInteger.ZERO));
+		List<BigInteger> forward = new ArrayList<>(backward);
+		for (String event : region.getRegionUtility().getEventList()) {
+			int index = utility.getEventIndex(event);
+			backward.set(index, region.getBackwardWeight(event));
+			forward.set(index, region.getForwardWeight(event));
 		}
+		Region result = new Region.Builder(utility, backward, forward)
+			.withInitialMarking(region.getInitialMarking());
+
+		try {
+			result.checkValidRegion();
+			if (properties.isKBounded()) {
+				BigInteger k = BigInteger.valueOf(properties.getKForKBounded());
+				for (State state : utility.getTransitionSystem().getNodes())
+					if (result.getMarkingForState(state).compareTo(k) > 0)
+						return null;
+			}
+		} catch (InvalidRegionException | UnreachableException e) {
+			return null;
+		}
+		return result;
 	}
 
+	/**
+	 * Generate all words that are solvable with the given properties and, unless quickFail is set, the minimally
+	 * unsolvable words.
+	 * @param properties The properties that the Petri nets should satisfy.
+	 * @param alphabet The letters of the words.
+	 * @param quickFail If true, failed separation problems are not fully calculated for unsolvable words.
+	 * @param wordCallback Callback that is called with each word and its synthesis result.
+	 * @param lengthDoneCallback Callback that is called when all words of some length were handled.
+	 * @throws PreconditionFailedException if the combination of properties is not supported.
+	 */
 	static public void generateList(PNProperties properties, SortedSet<Character> alphabet, boolean quickFail,
 			WordCallback wordCallback, LengthDoneCallback lengthDoneCallback)
 			throws PreconditionFailedException {
+		generateList(properties, alphabet, quickFail, false, wordCallback, lengthDoneCallback);
+	}
+
+	/**
+	 * Generate all words that are solvable with the given properties and, unless quickFail is set, the minimally
+	 * unsolvable words.
+	 * @param properties The properties that the Petri nets should satisfy.
+	 * @param alphabet The letters of the words.
+	 * @param quickFail If true, failed separation problems are not fully calculated for unsolvable words.
+	 * @param incremental If true, the regions of a solvable word are extended to all words that have it as a
+	 * prefix and are re-used when synthesizing them. Only separation problems that are not solved by these regions
+	 * need to be solved again.
+	 * @param wordCallback Callback that is called with each word and its synthesis result.
+	 * @param lengthDoneCallback Callback that is called when all words of some length were handled.
+	 * @throws PreconditionFailedException if the combination of properties is not supported.
+	 */
+	static public void generateList(PNProperties properties, SortedSet<Character> alphabet, boolean quickFail,
+			boolean incremental, WordCallback wordCallback, LengthDoneCallback lengthDoneCallback)
+			throws PreconditionFailedException {
 		// Java 8 provides ForkJoinPool.commonPool(). Java 7 does not, so we need to create our own pool.
 		ForkJoinPool executor = new ForkJoinPool();
 		try {
-			generateList(properties, alphabet, quickFail, wordCallback, lengthDoneCallback, executor);
+			generateList(properties, alphabet, quickFail, incremental, wordCallback, lengthDoneCallback,
+					executor);
 		} finally {
 			executor.shutdownNow();
 		}
@@ -190,15 +269,19 @@ public class FindWords {
 	}
 
 	static private void generateList(final PNProperties properties, SortedSet<Character> alphabet,
-			final boolean quickFail, WordCallback wordCallback, LengthDoneCallback lengthDoneCallback,
-			ForkJoinPool executor) throws PreconditionFailedException {
+			final boolean quickFail, boolean incremental, WordCallback wordCallback,
+			LengthDoneCallback lengthDoneCallback, ForkJoinPool executor)
+			throws PreconditionFailedException {
 		if (properties.isPlain() && properties.isKMarking())
 			throw new PreconditionFailedException("The combination of plain and k-marking is not supported"
 					+ ", because 'minimal unsolvable' cannot be defined");
 
 		CompletionService<Pair<String, SynthesizePN>> completion = new ExecutorCompletionService<>(executor);
 		List<String> currentLevel = Collections.singletonList("");
+		Map<String, Set<Region>> currentLevelRegions = Collections.emptyMap();
 		while (!currentLevel.isEmpty()) {
+			// Only read by the jobs, the next level gets a new map
+			final Map<String, Set<Region>> prefixRegions = currentLevelRegions;
 
 			// Lazily create new Callables to avoid OOM errors
 			Iterator<Callable<Pair<String, SynthesizePN>>> jobGenerator = IteratorUtils.transformedIterator(
@@ -211,8 +294,10 @@ public class FindWords {
 								@Override
 								public Pair<String, SynthesizePN> call() {
 									List<Character> wordList = toList(word);
+									Collection<Region> regions =
+										getPrefixRegions(prefixRegions, word);
 									SynthesizePN synthesize = solveWord(wordList,
-											properties, quickFail);
+											properties, quickFail, regions);
 									return new Pair<>(word, synthesize);
 								}
 							};
@@ -221,6 +306,7 @@ public class FindWords {
 
 			// Wait for and handle results
 			List<String> nextLevel = new ArrayList<>();
+			Map<String, Set<Region>> nextLevelRegions = new HashMap<>();
 			int tasksSubmitted = submitTasks(executor, completion, jobGenerator);
 			int tasksFinished = 0;
 			while (tasksSubmitted != tasksFinished) {
@@ -241,6 +327,8 @@ public class FindWords {
 				wordCallback.call(wordList, word, synthesize);
 				if (synthesize.wasSuccessfullySeparated()) {
 					nextLevel.add(word);
+					if (incremental)
+						nextLevelRegions.put(word, synthesize.getSeparatingRegions());
 				}
 				tasksFinished++;
 
@@ -250,10 +338,18 @@ public class FindWords {
 			int currentLength = currentLevel.iterator().next().length() + 1;
 			lengthDoneCallback.call(currentLength);
 			currentLevel = nextLevel;
+			currentLevelRegions = nextLevelRegions;
 			Collections.sort(currentLevel);
 		}
 	}
 
+	static private Collection<Region> getPrefixRegions(Map<String, Set<Region>> regions, String word) {
+		Set<Region> result = regions.get(word.substring(0, word.length() - 1));
+		if (result == null)
+			return Collections.emptySet();
+		return result;
+	}
+
 	static private <T> int submitTasks(ForkJoinPool executor, CompletionService<T> completion,
 			Iterator<Callable<T>> jobGenerator) {
 		int submitted = 0;
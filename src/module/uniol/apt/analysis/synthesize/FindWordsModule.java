@@ -19,6 +19,7 @@
 
 package uniol.apt.analysis.synthesize;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -81,7 +82,13 @@ public class FindWordsModule extends AbstractModule implements Module {
 			+ "since c->d turns one into the other.\n"
 			+ "More concretely, words are generated so that the last letter of the word is the first "
 			+ "letter of the alphabet. Then, the next new letter from the end is the second letter of the "
-			+ "alphabet, and so on.\n"
+			+ "alphabet, and so on.\n\n"
+			+ "The options are the Petri net properties of the synthesize module, e.g. safe or pure. The "
+			+ "other options of the synthesize module (exact-selection, minimize, quick-fail, verbose and "
+			+ "upto-language-equivalence) are not supported. Additionally, the option 'incremental' "
+			+ "re-uses the places of each solvable word when synthesizing the words which extend it by one "
+			+ "letter.\n\n"
+			+ AbstractSynthesizeModule.getCacheDescription()
 			+ "\nExample calls:\n\n"
 			+ " apt " + getName() + " safe solvable abc: Print all words solvable by safe Petri nets over "
 			+ "the alphabet {a,b,c}\n"
@@ -113,15 +120,18 @@ public class FindWordsModule extends AbstractModule implements Module {
 		String alphabetLetter = input.getParameter("alphabet", String.class);
 		String operation = input.getParameter("operation", String.class);
 
-		PNProperties properties = AbstractSynthesizeModule.Options.parseProperties(optionsStr).properties;
+		AbstractSynthesizeModule.Options options = AbstractSynthesizeModule.Options.parseProperties(optionsStr,
+				Collections.singleton("incremental"));
+		PNProperties properties = options.properties;
+		boolean incremental = options.extraOptions.contains("incremental");
 		SortedSet<Character> alphabet = new TreeSet<>(FindWords.toList(alphabetLetter));
 
 		switch (operation) {
 			case "minimal_unsolvable":
-				generateList(properties, alphabet, Operation.UNSOLVABLE);
+				generateList(properties, alphabet, incremental, Operation.UNSOLVABLE);
 				break;
 			case "solvable":
-				generateList(properties, alphabet, Operation.SOLVABLE);
+				generateList(properties, alphabet, incremental, Operation.SOLVABLE);
 				break;
 			default:
 				throw new ModuleException("Unknown operation '" + operation
@@ -129,8 +139,8 @@ public class FindWordsModule extends AbstractModule implements Module {
 		}
 	}
 
-	static private void generateList(PNProperties properties, SortedSet<Character> alphabet, Operation operation)
-			throws ModuleException {
+	static private void generateList(PNProperties properties, SortedSet<Character> alphabet, boolean incremental,
+			Operation operation) throws ModuleException {
 		final boolean printSolvable = operation.printSolvable();
 		final boolean printUnsolvable = operation.printUnsolvable();
 		if (operation.printStatus()) {
@@ -179,7 +189,8 @@ public class FindWordsModule extends AbstractModule implements Module {
 				counters[unsolvable] = 0;
 			}
 		};
-		FindWords.generateList(properties, alphabet, !printUnsolvable, wordCallback, lengthDoneCallback);
+		FindWords.generateList(properties, alphabet, !printUnsolvable, incremental, wordCallback,
+				lengthDoneCallback);
 	}
 
 	@Override
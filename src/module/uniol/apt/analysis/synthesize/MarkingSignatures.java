@@ -0,0 +1,205 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import uniol.apt.adt.ts.State;
+import uniol.apt.util.Pair;
+
+/**
+ * Keep track of which states are separated by a set of regions. The signature of a state is the vector of markings
+ * that the regions assign to it. Two states are separated iff their signatures differ. Instead of storing the full
+ * vectors, each state gets the number of its signature class. When a region is added, the new class of a state is
+ * looked up in a hash map keyed by the old class and the marking in the new region. Thus, adding a region costs one
+ * hash map operation per state and checking whether two states are separated costs a comparison.
+ * @author agent
+ */
+class MarkingSignatures {
+	// The class of unreachable states. No region separates an unreachable state from another state.
+	static private final int UNREACHABLE = -1;
+
+	private final List<State> states;
+	private final Map<State, Integer> stateIndices = new HashMap<>();
+	private final int[] classes;
+	private int numberOfClasses;
+	private boolean hasUnreachableStates = false;
+
+	/**
+	 * Create a new instance where no state is separated from any other state.
+	 * @param states The states whose signatures should be tracked.
+	 */
+	MarkingSignatures(Collection<State> states) {
+		this.states = new ArrayList<>(states);
+		this.classes = new int[this.states.size()];
+		this.numberOfClasses = this.states.isEmpty() ? 0 : 1;
+		for (int i = 0; i < this.states.size(); i++)
+			stateIndices.put(this.states.get(i), i);
+	}
+
+	/**
+	 * Add a region and separate all states to which it assigns different markings.
+	 * @param region The region to add.
+	 */
+	void add(Region region) {
+		BigInteger[] markings = new BigInteger[states.size()];
+		for (int i = 0; i < states.size(); i++) {
+			if (classes[i] == UNREACHABLE)
+				continue;
+			try {
+				markings[i] = region.getMarkingForState(states.get(i));
+			} catch (UnreachableException e) {
+				markings[i] = null;
+			}
+		}
+		add(markings);
+	}
+
+	/**
+	 * Add the markings of a region and separate all states which get different markings.
+	 * @param markings The marking of each state in the order of the states given to the constructor, or null for
+	 * unreachable states.
+	 */
+	void add(BigInteger[] markings) {
+		assert markings.length == states.size();
+		if (allSeparated())
+			return;
+
+		Map<Pair<Integer, BigInteger>, Integer> newClasses = new HashMap<>();
+		for (int i = 0; i < classes.length; i++) {
+			if (classes[i] == UNREACHABLE)
+				continue;
+			if (markings[i] == null) {
+				classes[i] = UNREACHABLE;
+				hasUnreachableStates = true;
+				continue;
+			}
+			Pair<Integer, BigInteger> key = new Pair<>(classes[i], markings[i]);
+			Integer newClass = newClasses.get(key);
+			if (newClass == null) {
+				newClass = newClasses.size();
+				newClasses.put(key, newClass);
+			}
+			classes[i] = newClass;
+		}
+		numberOfClasses = newClasses.size();
+	}
+
+	/**
+	 * Check if all states are already separated from each other.
+	 * @return true if no two states have the same signature.
+	 */
+	boolean allSeparated() {
+		return !hasUnreachableStates && numberOfClasses == states.size();
+	}
+
+	/**
+	 * Check if an unreachable state was found. Unreachable states are only found while adding regions.
+	 * @return true if some state turned out to be unreachable.
+	 */
+	boolean hasUnreachableStates() {
+		return hasUnreachableStates;
+	}
+
+	private int getClass(State state) {
+		Integer index = stateIndices.get(state);
+		if (index == null)
+			throw new IllegalArgumentException("State " + state + " is not tracked by this instance");
+		return classes[index];
+	}
+
+	/**
+	 * Check if the given states are separated by one of the regions.
+	 * @param state The first state.
+	 * @param otherState The second state.
+	 * @return true if some region assigns different markings to the two states.
+	 */
+	boolean isSeparated(State state, State otherState) {
+		int stateClass = getClass(state);
+		int otherClass = getClass(otherState);
+		return stateClass != UNREACHABLE && otherClass != UNREACHABLE && stateClass != otherClass;
+	}
+
+	/**
+	 * Get all states which are not separated from some other state.
+	 * @return All states which have for at least one other state the same marking in all regions.
+	 */
+	Set<State> getUnseparatedStates() {
+		Set<State> result = new HashSet<>();
+		if (allSeparated())
+			return result;
+
+		// An unreachable state cannot be separated from any other state
+		if (hasUnreachableStates) {
+			if (states.size() > 1)
+				result.addAll(states);
+			return result;
+		}
+
+		int[] classSizes = new int[numberOfClasses];
+		for (int stateClass : classes)
+			classSizes[stateClass]++;
+		for (int i = 0; i < classes.length; i++)
+			if (classSizes[classes[i]] > 1)
+				result.add(states.get(i));
+		return result;
+	}
+
+	/**
+	 * Group the given states so that states in the same group are not separated from each other.
+	 * @param group The states to group.
+	 * @return The groups of at least two states with the same signature in the order of their first state in the
+	 * given collection. If some of the given states is unreachable, all states form a single group, because an
+	 * unreachable state is not separated from any other state.
+	 */
+	List<List<State>> groupUnseparatedStates(Collection<State> group) {
+		List<List<State>> result = new ArrayList<>();
+		Map<Integer, List<State>> groups = new LinkedHashMap<>();
+		for (State state : group) {
+			int stateClass = getClass(state);
+			if (stateClass == UNREACHABLE) {
+				result.clear();
+				if (group.size() > 1)
+					result.add(new ArrayList<>(group));
+				return result;
+			}
+			List<State> states = groups.get(stateClass);
+			if (states == null) {
+				states = new ArrayList<>();
+				groups.put(stateClass, states);
+			}
+			states.add(state);
+		}
+		for (List<State> states : groups.values())
+			if (states.size() > 1)
+				result.add(states);
+		return result;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
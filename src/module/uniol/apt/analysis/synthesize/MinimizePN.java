@@ -74,7 +74,9 @@ public class MinimizePN {
 					+ "and thus cannot be minimized");
 
 		try {
-			Set<Region> separatingRegions = synthesize.getSeparatingRegions();
+			// Start with the smallest subset of the already known regions, this saves SMT calls below
+			Set<Region> separatingRegions = new HashSet<>(synthesize.getSeparatingRegions());
+			SynthesizePN.minimizeRegions(utility, separatingRegions, onlyEventSeparation, true, 0);
 			while (!separatingRegions.isEmpty()) {
 				debugFormat("Have solution with %d regions, trying to find solution with "
 						+ "one region less", separatingRegions.size());
@@ -83,7 +85,7 @@ public class MinimizePN {
 					break;
 
 				// minimizeRegions() can often reduce the number of regions even more
-				SynthesizePN.minimizeRegions(utility, newRegions, onlyEventSeparation);
+				SynthesizePN.minimizeRegions(utility, newRegions, onlyEventSeparation, true, 0);
 				separatingRegions = newRegions;
 			}
 			debug("Could not reduce number of regions any more");
@@ -230,7 +232,8 @@ public class MinimizePN {
 		// Is there a model?
 		LBool isSat = script.checkSat();
 		if (isSat == LBool.UNKNOWN) {
-			assert ReasonUnknown.TIMEOUT.equals(script.getInfo(":reason-unknown")) : script.getInfo(":reason-unknown");
+			Object reason = script.getInfo(":reason-unknown");
+			assert ReasonUnknown.TIMEOUT.equals(reason) || ReasonUnknown.CANCELLED.equals(reason) : reason;
 			throw new UncheckedInterruptedException();
 		} else if (isSat == LBool.UNSAT) {
 			return null;
@@ -0,0 +1,296 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import static uniol.apt.util.DebugUtil.debugFormat;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.synthesize.separation.Separation;
+import uniol.apt.analysis.synthesize.separation.SeparationUtility;
+import uniol.apt.util.Pair;
+import uniol.apt.util.interrupt.Interrupter;
+import uniol.apt.util.interrupt.InterrupterRegistry;
+import uniol.apt.util.interrupt.UncheckedInterruptedException;
+
+/**
+ * Solve separation problems with multiple threads.
+ *
+ * Neither transition systems nor regions may be used by multiple threads concurrently, because they fill caches
+ * while being read. Thus, each worker thread gets its own copy of the transition system with its own {@link
+ * RegionUtility} and {@link Separation} instance. The problems are taken from a shared iterator, which is only used
+ * while holding its lock. Regions that are calculated by some worker are published in a shared list, so that other
+ * workers can skip problems that are already solved. Each worker translates the published regions to its own
+ * region utility.
+ *
+ * The problems are solved in a different order than by the sequential code and thus a different set of regions
+ * might be calculated. However, a separation problem is only unsolvable if no suitable region exists at all, so the
+ * set of unsolvable problems is the same.
+ * @author agent
+ */
+class ParallelSeparation {
+	// How often (in milliseconds) the interrupter of the calling thread is checked while waiting for the workers
+	private static final long INTERRUPT_CHECK_INTERVAL = 10;
+
+	private final RegionUtility utility;
+	private final boolean quickFail;
+	private final List<Worker> workers = new ArrayList<>();
+
+	// All known regions, refering to the region utility given to the constructor. Regions are only ever appended.
+	private final CopyOnWriteArrayList<Region> sharedRegions = new CopyOnWriteArrayList<>();
+
+	// Set when the workers should stop working on the current problems
+	private volatile boolean cancelled;
+
+	/**
+	 * Construct a new instance.
+	 * @param utility The region utility whose separation problems should be solved.
+	 * @param properties Properties that the calculated regions should satisfy.
+	 * @param threads The number of threads to use.
+	 * @param quickFail If true, stop as soon as some problem turns out to be unsolvable.
+	 * @param knownRegions Already known regions which should be used to solve problems.
+	 * @throws MissingLocationException if the transition system for the utility has locations for only some events
+	 */
+	ParallelSeparation(RegionUtility utility, PNProperties properties, int threads, boolean quickFail,
+			Collection<Region> knownRegions) throws MissingLocationException {
+		this.utility = utility;
+		this.quickFail = quickFail;
+		this.sharedRegions.addAll(knownRegions);
+
+		for (int i = 0; i < threads; i++) {
+			TransitionSystem ts = new TransitionSystem(utility.getTransitionSystem());
+			workers.add(new Worker(new RegionUtility(ts), properties));
+		}
+	}
+
+	/**
+	 * Get all known regions. This includes the regions which were given to the constructor.
+	 * @return All known regions. The regions refer to the region utility that was given to the constructor.
+	 */
+	List<Region> getRegions() {
+		return Collections.unmodifiableList(sharedRegions);
+	}
+
+	/**
+	 * Solve the given event/state separation problems.
+	 * @param problems The problems to solve. The states must belong to the transition system of the region
+	 * utility that was given to the constructor.
+	 * @return All problems which could not be solved. In quick fail mode, this contains at least one unsolvable
+	 * problem if any problem is unsolvable.
+	 * @throws UncheckedInterruptedException if the interrupter of the calling thread requests an interruption.
+	 */
+	List<Pair<State, String>> solveEventStateSeparation(Iterator<Pair<State, String>> problems) {
+		return solve(problems);
+	}
+
+	/**
+	 * Solve the given state separation problems.
+	 * @param problems The problems to solve. The states must belong to the transition system of the region
+	 * utility that was given to the constructor.
+	 * @return All problems which could not be solved. In quick fail mode, this contains at least one unsolvable
+	 * problem if any problem is unsolvable.
+	 * @throws UncheckedInterruptedException if the interrupter of the calling thread requests an interruption.
+	 */
+	List<Pair<State, State>> solveStateSeparation(Iterator<Pair<State, State>> problems) {
+		return solve(problems);
+	}
+
+	private <T> List<Pair<State, T>> solve(Iterator<Pair<State, T>> problems) {
+		List<Pair<State, T>> failures = Collections.synchronizedList(new ArrayList<Pair<State, T>>());
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		CountDownLatch done = new CountDownLatch(workers.size());
+		ExecutorService pool = Executors.newFixedThreadPool(workers.size());
+		cancelled = false;
+		try {
+			for (Worker worker : workers)
+				pool.execute(new Task<>(worker, problems, failures, failure, done));
+			while (!done.await(INTERRUPT_CHECK_INTERVAL, TimeUnit.MILLISECONDS))
+				InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedInterruptedException();
+		} finally {
+			cancelled = true;
+			pool.shutdownNow();
+		}
+
+		Throwable t = failure.get();
+		if (t instanceof RuntimeException)
+			throw (RuntimeException) t;
+		if (t instanceof Error)
+			throw (Error) t;
+		assert t == null;
+
+		return new ArrayList<>(failures);
+	}
+
+	/**
+	 * Translate a region to another region utility. Both region utilities must have the same events, but the
+	 * events might be ordered differently.
+	 * @param region The region to translate.
+	 * @param target The region utility that the result should refer to.
+	 * @return A region with the same weights as the given region.
+	 */
+	static private Region translateRegion(Region region, RegionUtility target) {
+		List<BigInteger> backward = new ArrayList<>();
+		List<BigInteger> forward = new ArrayList<>();
+		for (String event : target.getEventList()) {
+			backward.add(region.getBackwardWeight(event));
+			forward.add(region.getForwardWeight(event));
+		}
+		return new Region.Builder(target, backward, forward).withInitialMarking(region.getInitialMarking());
+	}
+
+	/**
+	 * The state of a worker thread: Its own copy of the transition system and regions.
+	 */
+	private class Worker {
+		private final RegionUtility localUtility;
+		private final TransitionSystem localTs;
+		private final Separation separation;
+		// Copies of the shared regions
+		private final RegionIndex localRegions;
+		// Number of shared regions which were already copied to localRegions
+		private int numberOfLocalRegions = 0;
+
+		private Worker(RegionUtility localUtility, PNProperties properties) throws MissingLocationException {
+			this.localUtility = localUtility;
+			this.localTs = localUtility.getTransitionSystem();
+			this.separation = SeparationUtility.createSeparationInstance(localUtility, properties);
+			this.localRegions = new RegionIndex(localUtility);
+		}
+
+		/**
+		 * Solve a separation problem.
+		 * @param problem The problem to solve, refering to the original transition system.
+		 * @return false if the problem is unsolvable, else true.
+		 */
+		private boolean solve(Pair<State, ?> problem) {
+			State state = localTs.getNode(problem.getFirst().getId());
+			Object other = problem.getSecond();
+			State otherState = null;
+			String event = null;
+			if (other instanceof State) {
+				otherState = localTs.getNode(((State) other).getId());
+				debugFormat("Trying to separate %s from %s", state, otherState);
+			} else {
+				event = (String) other;
+				debugFormat("Trying to separate %s from event '%s'", state, event);
+			}
+
+			// Fetch the regions which were published since the last problem
+			for (; numberOfLocalRegions < sharedRegions.size(); numberOfLocalRegions++)
+				localRegions.add(translateRegion(sharedRegions.get(numberOfLocalRegions), localUtility));
+
+			Region r;
+			if (otherState != null)
+				r = localRegions.getSeparatingRegion(state, otherState);
+			else
+				r = localRegions.getSeparatingRegion(state, event);
+			if (r != null) {
+				SynthesizePN.REGIONS_REUSED.increment();
+				return true;
+			}
+
+			if (otherState != null)
+				r = separation.calculateSeparatingRegion(state, otherState);
+			else
+				r = separation.calculateSeparatingRegion(state, event);
+			if (r == null) {
+				SynthesizePN.SEPARATION_FAILURES.increment();
+				return false;
+			}
+
+			// Publish the region, it will be added to localRegions for the next problem
+			SynthesizePN.REGIONS_COMPUTED.increment();
+			sharedRegions.addIfAbsent(translateRegion(r, utility));
+			return true;
+		}
+	}
+
+	/**
+	 * A task which lets a worker solve problems until no problems are left.
+	 */
+	private class Task<T> implements Runnable, Interrupter {
+		private final Worker worker;
+		private final Iterator<Pair<State, T>> problems;
+		private final List<Pair<State, T>> failures;
+		private final AtomicReference<Throwable> failure;
+		private final CountDownLatch done;
+
+		private Task(Worker worker, Iterator<Pair<State, T>> problems, List<Pair<State, T>> failures,
+				AtomicReference<Throwable> failure, CountDownLatch done) {
+			this.worker = worker;
+			this.problems = problems;
+			this.failures = failures;
+			this.failure = failure;
+			this.done = done;
+		}
+
+		@Override
+		public boolean isInterruptRequested() {
+			return cancelled;
+		}
+
+		@Override
+		public void run() {
+			// Let the SMT solver notice when the calling thread is interrupted
+			InterrupterRegistry.setCurrentThreadInterrupter(this);
+			try {
+				while (!cancelled) {
+					Pair<State, T> problem;
+					synchronized (problems) {
+						if (!problems.hasNext())
+							break;
+						problem = problems.next();
+					}
+					if (!worker.solve(problem)) {
+						failures.add(problem);
+						if (quickFail)
+							cancelled = true;
+					}
+				}
+			} catch (Throwable t) {
+				// Workers are interrupted because of a cancellation, which is not an error
+				if (!(t instanceof UncheckedInterruptedException) || !cancelled)
+					failure.compareAndSet(null, t);
+				cancelled = true;
+			} finally {
+				InterrupterRegistry.clearCurrentThreadInterrupter();
+				done.countDown();
+			}
+		}
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -19,6 +19,9 @@
 
 package uniol.apt.analysis.synthesize;
 
+import static uniol.apt.util.MathTools.addExact;
+import static uniol.apt.util.MathTools.multiplyExact;
+
 import java.util.ArrayList;
 import java.math.BigInteger;
 import java.util.Collections;
@@ -39,9 +42,14 @@ public class Region {
 	private final RegionUtility utility;
 	private final List<BigInteger> backwardWeights;
 	private final List<BigInteger> forwardWeights;
+	private final List<BigInteger> weights;
 	private final BigInteger initialMarking;
 	private final Map<State, BigInteger> stateMarkingCache = new HashMap<>();
 
+	// The weights and the initial marking as longs, or null if some of them do not fit into a long
+	private final long[] longWeights;
+	private final long longInitialMarking;
+
 	/**
 	 * Create a new region.
 	 * @param utility The RegionUtility instance that supports this region.
@@ -70,6 +78,23 @@ public class Region {
 		if (initialMarking.compareTo(BigInteger.ZERO) < 0)
 			throw new IllegalArgumentException("Initial marking " + initialMarking +
 					" must not be negative");
+
+		List<BigInteger> weightList = new ArrayList<>(numberEvents);
+		long[] longWeightArray = new long[numberEvents];
+		boolean fitsLong = fitsLong(initialMarking);
+		for (int i = 0; i < numberEvents; i++) {
+			BigInteger weight = this.forwardWeights.get(i).subtract(this.backwardWeights.get(i));
+			weightList.add(weight);
+			fitsLong = fitsLong && fitsLong(weight);
+			longWeightArray[i] = weight.longValue();
+		}
+		this.weights = Collections.unmodifiableList(weightList);
+		this.longWeights = fitsLong ? longWeightArray : null;
+		this.longInitialMarking = initialMarking.longValue();
+	}
+
+	static private boolean fitsLong(BigInteger value) {
+		return value.bitLength() < Long.SIZE;
 	}
 
 	/**
@@ -130,7 +155,7 @@ public class Region {
 	 * @return the total weight of the given event.
 	 */
 	public BigInteger getWeight(int index) {
-		return getForwardWeight(index).subtract(getBackwardWeight(index));
+		return weights.get(index);
 	}
 
 	/**
@@ -143,13 +168,32 @@ public class Region {
 	}
 
 	/**
-	 * Evaluate the given Parikh vector with respect to this region.
+	 * Evaluate the given Parikh vector with respect to this region. If all involved numbers fit into a long, this
+	 * is done with long arithmetic and BigInteger is only used if an overflow happens.
 	 * @param vector The vector to evaluate.
 	 * @return The resulting number that this region assigns to the arguments
 	 */
 	public BigInteger evaluateParikhVector(List<BigInteger> vector) {
 		assert vector.size() == utility.getEventList().size();
 
+		if (longWeights != null) {
+			try {
+				long result = 0;
+				for (int i = 0; i < vector.size(); i++) {
+					BigInteger entry = vector.get(i);
+					if (entry.signum() == 0)
+						continue;
+					if (!fitsLong(entry))
+						throw new ArithmeticException("Parikh vector entry " + entry
+								+ " does not fit into a long");
+					result = addExact(result, multiplyExact(entry.longValue(), longWeights[i]));
+				}
+				return BigInteger.valueOf(result);
+			} catch (ArithmeticException e) {
+				// Overflow, fall back to BigInteger below
+			}
+		}
+
 		BigInteger result = BigInteger.ZERO;
 		for (int i = 0; i < vector.size(); i++)
 			result = result.add(vector.get(i).multiply(getWeight(i)));
@@ -157,6 +201,29 @@ public class Region {
 		return result;
 	}
 
+	/**
+	 * Calculate the marking of a state. If all involved numbers fit into a long, this is done with long arithmetic
+	 * and BigInteger is only used if an overflow happens.
+	 * @param state The state to evaluate.
+	 * @return The marking of the state.
+	 * @throws UnreachableException if the given state is unreachable from the initial state
+	 */
+	private BigInteger calculateMarkingForState(State state) throws UnreachableException {
+		if (longWeights != null) {
+			long[] vector = utility.getReachingParikhVectorArray(state);
+			try {
+				long result = longInitialMarking;
+				for (int i = 0; i < vector.length; i++)
+					if (vector[i] != 0)
+						result = addExact(result, multiplyExact(vector[i], longWeights[i]));
+				return BigInteger.valueOf(result);
+			} catch (ArithmeticException e) {
+				// Overflow, fall back to BigInteger below
+			}
+		}
+		return getInitialMarking().add(evaluateParikhVector(utility.getReachingParikhVector(state)));
+	}
+
 	/**
 	 * Return the initial marking of this region.
 	 * @return The initial marking of this region.
@@ -174,7 +241,7 @@ public class Region {
 	public BigInteger getMarkingForState(State state) throws UnreachableException {
 		BigInteger i = stateMarkingCache.get(state);
 		if (i == null) {
-			i = getInitialMarking().add(evaluateParikhVector(utility.getReachingParikhVector(state)));
+			i = calculateMarkingForState(state);
 			stateMarkingCache.put(state, i);
 		}
 		return i;
@@ -194,8 +261,7 @@ public class Region {
 				continue;
 			}
 			for (Arc arc : state.getPostsetEdges()) {
-				BigInteger targetMarking = marking.subtract(getBackwardWeight(arc.getLabel()));
-				if (targetMarking.compareTo(BigInteger.ZERO) < 0)
+				if (marking.compareTo(getBackwardWeight(arc.getLabel())) < 0)
 					return new Pair<State, String>(state, arc.getLabel());
 			}
 		}
@@ -0,0 +1,255 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import uniol.apt.adt.ts.State;
+
+/**
+ * An index over a set of regions which answers the question whether some region solves a given separation problem
+ * without evaluating every region.
+ *
+ * For each region, the marking of every state is computed once. The states are then sorted by their marking. A
+ * region solves the event/state separation problem for event e and state s if r(s) is less than the backward weight
+ * of e. Thus, the states at which a region prevents an event form a prefix of this sorted list. For each event, the
+ * index remembers at which states the event is already prevented and by which region. Additionally, the regions are
+ * grouped by the events which they can prevent at all, that is, by the events with a positive backward weight.
+ *
+ * Regions fill caches while they are evaluated, so an instance of this class may not be used by multiple threads.
+ * @author agent
+ */
+class RegionIndex {
+	private final RegionUtility utility;
+	private final List<State> states;
+	private final Map<State, Integer> stateIndices = new HashMap<>();
+
+	// For each region, the marking that it assigns to each state (null for unreachable states)
+	private final Map<Region, BigInteger[]> markings = new LinkedHashMap<>();
+
+	// For each event, the regions with a positive backward weight on this event
+	private final Map<String, List<Region>> regionsByEvent = new HashMap<>();
+
+	// For each event, the first region which was found to prevent the event in each state (or null)
+	private final Map<String, Region[]> preventingRegion = new HashMap<>();
+
+	// The states which are already separated from each other
+	private final MarkingSignatures signatures;
+
+	/**
+	 * Create a new, empty region index.
+	 * @param utility The region utility whose regions are indexed.
+	 */
+	RegionIndex(RegionUtility utility) {
+		this.utility = utility;
+		this.states = new ArrayList<>(utility.getTransitionSystem().getNodes());
+		for (int i = 0; i < states.size(); i++)
+			stateIndices.put(states.get(i), i);
+		this.signatures = new MarkingSignatures(states);
+		for (String event : utility.getEventList()) {
+			regionsByEvent.put(event, new ArrayList<Region>());
+			preventingRegion.put(event, new Region[states.size()]);
+		}
+	}
+
+	/**
+	 * Create a new region index containing the given regions.
+	 * @param utility The region utility whose regions are indexed.
+	 * @param regions The regions to add to the index.
+	 */
+	RegionIndex(RegionUtility utility, Iterable<Region> regions) {
+		this(utility);
+		for (Region region : regions)
+			add(region);
+	}
+
+	/**
+	 * Add a region to this index.
+	 * @param region The region to add. It must belong to the region utility of this index.
+	 * @return true if the region was added, false if it already was part of this index.
+	 */
+	boolean add(Region region) {
+		assert region.getRegionUtility() == utility;
+		if (markings.containsKey(region))
+			return false;
+
+		final BigInteger[] marking = new BigInteger[states.size()];
+		List<Integer> sortedStates = new ArrayList<>(states.size());
+		for (int i = 0; i < states.size(); i++) {
+			try {
+				marking[i] = region.getMarkingForState(states.get(i));
+				sortedStates.add(i);
+			} catch (UnreachableException e) {
+				// No separation problem involving an unreachable state is solved by any region
+				marking[i] = null;
+			}
+		}
+		markings.put(region, marking);
+		signatures.add(marking);
+		Collections.sort(sortedStates, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer i, Integer j) {
+				return marking[i].compareTo(marking[j]);
+			}
+		});
+
+		for (String event : utility.getEventList()) {
+			BigInteger backward = region.getBackwardWeight(event);
+			if (backward.signum() == 0)
+				continue;
+			regionsByEvent.get(event).add(region);
+
+			// The states in which the event is prevented are a prefix of the sorted list
+			Region[] preventing = preventingRegion.get(event);
+			for (int index : sortedStates) {
+				if (marking[index].compareTo(backward) >= 0)
+					break;
+				if (preventing[index] == null)
+					preventing[index] = region;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Get all regions in this index.
+	 * @return The regions in the order in which they were added.
+	 */
+	Set<Region> getRegions() {
+		return Collections.unmodifiableSet(markings.keySet());
+	}
+
+	private int getStateIndex(State state) {
+		Integer index = stateIndices.get(state);
+		if (index == null)
+			throw new IllegalArgumentException("State " + state + " does not belong to this index");
+		return index;
+	}
+
+	/**
+	 * Find a region which solves the given event/state separation problem.
+	 * @param state The state of the separation problem.
+	 * @param event The event of the separation problem.
+	 * @return A region from this index that prevents the event in the state or null if no such region exists.
+	 */
+	Region getSeparatingRegion(State state, String event) {
+		return preventingRegion.get(event)[getStateIndex(state)];
+	}
+
+	/**
+	 * Find all regions which solve the given event/state separation problem.
+	 * @param state The state of the separation problem.
+	 * @param event The event of the separation problem.
+	 * @return All regions from this index that prevent the event in the state.
+	 */
+	Set<Region> getSeparatingRegions(State state, String event) {
+		int index = getStateIndex(state);
+		Set<Region> result = new HashSet<>();
+		if (preventingRegion.get(event)[index] == null)
+			return result;
+		for (Region region : regionsByEvent.get(event)) {
+			BigInteger marking = markings.get(region)[index];
+			if (marking != null && marking.compareTo(region.getBackwardWeight(event)) < 0)
+				result.add(region);
+		}
+		return result;
+	}
+
+	/**
+	 * Find a region which solves the given state separation problem.
+	 * @param state The first state of the separation problem.
+	 * @param otherState The second state of the separation problem.
+	 * @return A region from this index that assigns different markings to the states or null if no such region
+	 * exists.
+	 */
+	Region getSeparatingRegion(State state, State otherState) {
+		if (!isSeparated(state, otherState))
+			return null;
+		int index = getStateIndex(state);
+		int otherIndex = getStateIndex(otherState);
+		for (Map.Entry<Region, BigInteger[]> entry : markings.entrySet())
+			if (isSeparating(entry.getValue(), index, otherIndex))
+				return entry.getKey();
+		return null;
+	}
+
+	/**
+	 * Find all regions which solve the given state separation problem.
+	 * @param state The first state of the separation problem.
+	 * @param otherState The second state of the separation problem.
+	 * @return All regions from this index that assign different markings to the states.
+	 */
+	Set<Region> getSeparatingRegions(State state, State otherState) {
+		int index = getStateIndex(state);
+		int otherIndex = getStateIndex(otherState);
+		Set<Region> result = new HashSet<>();
+		if (!signatures.isSeparated(state, otherState))
+			return result;
+		for (Map.Entry<Region, BigInteger[]> entry : markings.entrySet())
+			if (isSeparating(entry.getValue(), index, otherIndex))
+				result.add(entry.getKey());
+		return result;
+	}
+
+	/**
+	 * Check if some region in this index solves the given state separation problem.
+	 * @param state The first state of the separation problem.
+	 * @param otherState The second state of the separation problem.
+	 * @return true if some region assigns different markings to the states.
+	 */
+	boolean isSeparated(State state, State otherState) {
+		return signatures.isSeparated(state, otherState);
+	}
+
+	/**
+	 * Get all states which are not separated from some other state by the regions in this index.
+	 * @return All states which have for at least one other state the same marking in all regions.
+	 */
+	Set<State> getUnseparatedStates() {
+		return signatures.getUnseparatedStates();
+	}
+
+	/**
+	 * Group the given states so that states in the same group are not separated by the regions in this index.
+	 * @param states The states to group.
+	 * @return The groups of at least two states which have the same marking in all regions.
+	 */
+	List<List<State>> groupUnseparatedStates(Collection<State> states) {
+		return signatures.groupUnseparatedStates(states);
+	}
+
+	static private boolean isSeparating(BigInteger[] marking, int index, int otherIndex) {
+		if (marking[index] == null || marking[otherIndex] == null)
+			return false;
+		return !marking[index].equals(marking[otherIndex]);
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
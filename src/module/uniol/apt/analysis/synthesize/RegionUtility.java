@@ -20,9 +20,11 @@
 package uniol.apt.analysis.synthesize;
 
 import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +44,7 @@ public class RegionUtility {
 	private final TransitionSystem ts;
 	private final SpanningTree<TransitionSystem, Arc, State> tree;
 	private final List<String> eventList;
+	private final Map<State, long[]> parikhVectorArrayMap = new HashMap<>();
 	private final Map<State, List<BigInteger>> parikhVectorMap = new HashMap<>();
 	private List<Region> regionBasis;
 
@@ -114,28 +117,54 @@ public class RegionUtility {
 	public List<BigInteger> getReachingParikhVector(State node) throws UnreachableException {
 		List<BigInteger> result = parikhVectorMap.get(node);
 		if (result == null) {
-			if (node.equals(tree.getStartNode())) {
-				BigInteger[] array = new BigInteger[eventList.size()];
-				Arrays.fill(array, BigInteger.ZERO);
-				result = Arrays.asList(array);
-			} else {
-				Arc predecessor = tree.getPredecessorEdge(node);
-				if (predecessor == null)
-					throw new UnreachableException(ts, node);
-
-				List<BigInteger> predVector = getReachingParikhVector(predecessor.getSource());
-				result = new ArrayList<>();
-				result.addAll(predVector);
-
-				int idx = getEventIndex(predecessor.getLabel());
-				result.set(idx, result.get(idx).add(BigInteger.ONE));
-			}
-			result = Collections.unmodifiableList(result);
+			long[] vector = getReachingParikhVectorArray(node);
+			BigInteger[] array = new BigInteger[vector.length];
+			for (int i = 0; i < vector.length; i++)
+				array[i] = BigInteger.valueOf(vector[i]);
+			result = Collections.unmodifiableList(Arrays.asList(array));
 			parikhVectorMap.put(node, result);
 		}
 		return result;
 	}
 
+	/**
+	 * Get the Parikh vector that reaches a node as an array. Each entry counts how often an event occurs on a path
+	 * in the spanning tree and thus is at most the number of states, so this cannot overflow.
+	 * @param node The node whose Parikh vector should be returned.
+	 * @return The Parikh vector that reaches the node from the initial state. This array must not be modified.
+	 * @throws UnreachableException if the given state is unreachable from the initial state
+	 */
+	long[] getReachingParikhVectorArray(State node) throws UnreachableException {
+		long[] result = parikhVectorArrayMap.get(node);
+		if (result != null)
+			return result;
+
+		// Walk up the spanning tree until a node with a known Parikh vector (or the root) is found
+		Deque<Arc> path = new ArrayDeque<>();
+		State current = node;
+		while (result == null && !current.equals(tree.getStartNode())) {
+			Arc predecessor = tree.getPredecessorEdge(current);
+			if (predecessor == null)
+				throw new UnreachableException(ts, current);
+			path.push(predecessor);
+			current = predecessor.getSource();
+			result = parikhVectorArrayMap.get(current);
+		}
+		if (result == null) {
+			result = new long[eventList.size()];
+			parikhVectorArrayMap.put(current, result);
+		}
+
+		// Now walk back down and remember the Parikh vectors of all nodes on the way
+		while (!path.isEmpty()) {
+			Arc arc = path.pop();
+			result = result.clone();
+			result[getEventIndex(arc.getLabel())]++;
+			parikhVectorArrayMap.put(arc.getTarget(), result);
+		}
+		return result;
+	}
+
 	/**
 	 * Get the Parikh vector for an edge. This Parikh vector is Psi_t = Psi_s + e_i - Psi_{s'} for an edge
 	 * t = s--[a_i]-&gt;s'.
@@ -144,22 +173,19 @@ public class RegionUtility {
 	 * @throws UnreachableException if the given state is unreachable from the initial state
 	 */
 	public List<BigInteger> getParikhVectorForEdge(Arc edge) throws UnreachableException {
-		State source = edge.getSource();
-		State target = edge.getTarget();
-		List<BigInteger> sourcePV = getReachingParikhVector(source);
-		List<BigInteger> targetPV = getReachingParikhVector(target);
+		long[] sourcePV = getReachingParikhVectorArray(edge.getSource());
+		long[] targetPV = getReachingParikhVectorArray(edge.getTarget());
 		int eventIndex = getEventIndex(edge.getLabel());
 
-		if (sourcePV.isEmpty() || targetPV.isEmpty())
+		if (sourcePV.length == 0 || targetPV.length == 0)
 			return Collections.emptyList();
 
-		// Calculate source - target + 1_eventIndex
+		// Calculate source - target + 1_eventIndex. The entries are bounded by the number of states, so this
+		// cannot overflow.
 		List<BigInteger> result = new ArrayList<>(eventList.size());
 		for (int i = 0; i < eventList.size(); i++) {
-			BigInteger sourceVal = sourcePV.get(i);
-			BigInteger targetVal = targetPV.get(i);
-			BigInteger addend = i == eventIndex ? BigInteger.ONE : BigInteger.ZERO;
-			result.add(sourceVal.subtract(targetVal).add(addend));
+			long addend = i == eventIndex ? 1 : 0;
+			result.add(BigInteger.valueOf(sourcePV[i] - targetPV[i] + addend));
 		}
 
 		return Collections.unmodifiableList(result);
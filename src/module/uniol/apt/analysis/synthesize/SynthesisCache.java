@@ -0,0 +1,363 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import static uniol.apt.util.DebugUtil.debug;
+import static uniol.apt.util.DebugUtil.debugFormat;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.synthesize.separation.SeparationUtility;
+import uniol.apt.util.Metrics;
+
+/**
+ * A cache for results of Petri net synthesis which is stored in a directory. Each cache entry is a file whose name
+ * is a hash of the transition system and of all settings that influence the result.
+ *
+ * The states of the transition system are numbered canonically by a breadth-first search from the initial state
+ * which visits the outgoing arcs of each state ordered by their label. For deterministic transition systems, this
+ * numbering only depends on the behaviour and not on the names of the states, so isomorphic transition systems
+ * share the same cache entry. The cache entry stores the weights of all regions and the failed separation problems
+ * with the state numbers. When a cache entry is loaded, all regions are checked for validity.
+ *
+ * Cache entries are written to a temporary file which is then atomically renamed, so multiple processes may share
+ * the same cache directory. Problems with the cache are not fatal, the result is then just calculated again.
+ * @author agent
+ */
+class SynthesisCache {
+	static private final String HEADER = "apt-synthesis-cache 1";
+	static private final Charset CHARSET = Charset.forName("UTF-8");
+
+	static private final Metrics.Counter HITS = Metrics.counter("synthesize.cacheHits");
+	static private final Metrics.Counter MISSES = Metrics.counter("synthesize.cacheMisses");
+
+	private final RegionUtility utility;
+	private final PNProperties properties;
+	private final boolean onlyEventSeparation;
+	private final String stateMappingExtension;
+	private final List<State> states = new ArrayList<>();
+	private final Map<State, Integer> stateIndices = new HashMap<>();
+	private final String key;
+	private final File file;
+
+	/**
+	 * Create a cache instance for one synthesis problem.
+	 * @param directory The directory that contains the cache entries.
+	 * @param utility The region utility whose transition system is synthesized.
+	 * @param properties Properties that the synthesized Petri net should satisfy.
+	 * @param onlyEventSeparation Should state separation be ignored?
+	 * @param stateMappingExtension An extension key that is used to map states, or null.
+	 * @param settings Further settings that influence the result and thus must be part of the key.
+	 * @throws MissingLocationException if the transition system for the utility has locations for only some
+	 * events
+	 */
+	SynthesisCache(File directory, RegionUtility utility, PNProperties properties, boolean onlyEventSeparation,
+			String stateMappingExtension, String settings) throws MissingLocationException {
+		this.utility = utility;
+		this.properties = properties;
+		this.onlyEventSeparation = onlyEventSeparation;
+		this.stateMappingExtension = stateMappingExtension;
+
+		numberStates();
+		this.key = calculateKey(settings);
+		this.file = new File(directory, key + ".cache");
+	}
+
+	/**
+	 * Number the states of the transition system canonically.
+	 */
+	private void numberStates() {
+		TransitionSystem ts = utility.getTransitionSystem();
+		Deque<State> unhandled = new ArrayDeque<>();
+		addState(ts.getInitialState(), unhandled);
+		while (!unhandled.isEmpty()) {
+			for (Arc arc : sortedArcs(unhandled.removeFirst()))
+				addState(arc.getTarget(), unhandled);
+		}
+
+		// Unreachable states come last, ordered by their ID
+		Set<String> remaining = new TreeSet<>();
+		for (State state : ts.getNodes())
+			if (!stateIndices.containsKey(state))
+				remaining.add(state.getId());
+		for (String id : remaining)
+			addState(ts.getNode(id), null);
+	}
+
+	private void addState(State state, Deque<State> unhandled) {
+		if (stateIndices.containsKey(state))
+			return;
+		stateIndices.put(state, states.size());
+		states.add(state);
+		if (unhandled != null)
+			unhandled.addLast(state);
+	}
+
+	/**
+	 * Get the outgoing arcs of a state ordered by label. Arcs with the same label (which only exist in
+	 * non-deterministic transition systems) are ordered by the number or, if not yet numbered, the ID of their
+	 * target.
+	 */
+	private List<Arc> sortedArcs(State state) {
+		List<Arc> arcs = new ArrayList<>(state.getPostsetEdges());
+		Collections.sort(arcs, new Comparator<Arc>() {
+			@Override
+			public int compare(Arc arc1, Arc arc2) {
+				int result = arc1.getLabel().compareTo(arc2.getLabel());
+				if (result != 0)
+					return result;
+				Integer index1 = stateIndices.get(arc1.getTarget());
+				Integer index2 = stateIndices.get(arc2.getTarget());
+				if (index1 != null && index2 != null)
+					return index1.compareTo(index2);
+				if (index1 != null)
+					return -1;
+				if (index2 != null)
+					return 1;
+				return arc1.getTarget().getId().compareTo(arc2.getTarget().getId());
+			}
+		});
+		return arcs;
+	}
+
+	private String calculateKey(String settings) throws MissingLocationException {
+		String[] locationMap = SeparationUtility.getLocationMap(utility, properties);
+		StringBuilder description = new StringBuilder(HEADER).append('\n');
+		description.append("properties ").append(properties).append('\n');
+		description.append("onlyEventSeparation ").append(onlyEventSeparation).append('\n');
+		description.append("settings ").append(settings).append('\n');
+		for (String event : new TreeSet<>(utility.getEventList()))
+			description.append("event ").append(event).append(" location ")
+				.append(locationMap[utility.getEventIndex(event)]).append('\n');
+		description.append("states ").append(states.size()).append('\n');
+		for (State state : states) {
+			for (Arc arc : sortedArcs(state))
+				description.append(stateIndices.get(state)).append(' ').append(arc.getLabel())
+					.append(' ').append(stateIndices.get(arc.getTarget())).append('\n');
+		}
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			StringBuilder result = new StringBuilder();
+			for (byte b : digest.digest(description.toString().getBytes(CHARSET)))
+				result.append(String.format("%02x", b & 0xff));
+			return result.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new AssertionError("Every Java implementation must support SHA-256", e);
+		}
+	}
+
+	/**
+	 * Get the file that stores the cache entry.
+	 * @return The file.
+	 */
+	File getFile() {
+		return file;
+	}
+
+	private State mapState(State state) {
+		if (stateMappingExtension == null)
+			return state;
+		return (State) state.getExtension(stateMappingExtension);
+	}
+
+	/**
+	 * Load the cache entry.
+	 * @return The cached result or null if no valid cache entry exists.
+	 */
+	SynthesizePN load() {
+		if (!file.isFile()) {
+			MISSES.increment();
+			return null;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(file.toPath(), CHARSET)) {
+			SynthesizePN result = parse(reader);
+			debugFormat("Loaded synthesis result from cache file %s", file);
+			HITS.increment();
+			return result;
+		} catch (IOException | InvalidRegionException | RuntimeException e) {
+			debug("Ignoring invalid cache file ", file, ": ", e);
+			MISSES.increment();
+			return null;
+		}
+	}
+
+	private SynthesizePN parse(BufferedReader reader) throws IOException, InvalidRegionException {
+		if (!HEADER.equals(reader.readLine()) || !key.equals(reader.readLine()))
+			throw new IOException("Cache file has wrong header");
+
+		List<String> events = new ArrayList<>();
+		int numberOfEvents = readCount(reader, "events");
+		for (int i = 0; i < numberOfEvents; i++)
+			events.add(readLine(reader));
+		if (!new HashSet<>(events).equals(new HashSet<>(utility.getEventList())))
+			throw new IOException("Cache file has wrong events");
+
+		Set<Region> regions = new HashSet<>();
+		int numberOfRegions = readCount(reader, "regions");
+		for (int i = 0; i < numberOfRegions; i++) {
+			String[] numbers = readLine(reader).split(" ");
+			if (numbers.length != 1 + 2 * events.size())
+				throw new IOException("Cache file has a region with the wrong number of weights");
+			List<BigInteger> backward = new ArrayList<>(
+					Collections.nCopies(events.size(), BigInteger.ZERO));
+			List<BigInteger> forward = new ArrayList<>(backward);
+			for (int j = 0; j < events.size(); j++) {
+				int index = utility.getEventIndex(events.get(j));
+				backward.set(index, new BigInteger(numbers[1 + 2 * j]));
+				forward.set(index, new BigInteger(numbers[2 + 2 * j]));
+			}
+			Region region = new Region.Builder(utility, backward, forward)
+				.withInitialMarking(new BigInteger(numbers[0]));
+			region.checkValidRegion();
+			regions.add(region);
+		}
+
+		Map<String, Set<State>> failedESSP = new HashMap<>();
+		int numberOfESSP = readCount(reader, "failedEventStateSeparationProblems");
+		for (int i = 0; i < numberOfESSP; i++) {
+			String[] numbers = readLine(reader).split(" ");
+			Set<State> failed = new HashSet<>();
+			for (int j = 1; j < numbers.length; j++)
+				failed.add(mapState(states.get(Integer.parseInt(numbers[j]))));
+			failedESSP.put(events.get(Integer.parseInt(numbers[0])), failed);
+		}
+
+		Collection<Set<State>> failedSSP = new ArrayList<>();
+		int numberOfSSP = readCount(reader, "failedStateSeparationProblems");
+		for (int i = 0; i < numberOfSSP; i++) {
+			Set<State> failed = new HashSet<>();
+			for (String number : readLine(reader).split(" "))
+				failed.add(mapState(states.get(Integer.parseInt(number))));
+			failedSSP.add(failed);
+		}
+
+		return new SynthesizePN(utility, properties, onlyEventSeparation, regions, failedSSP, failedESSP);
+	}
+
+	static private String readLine(BufferedReader reader) throws IOException {
+		String line = reader.readLine();
+		if (line == null)
+			throw new IOException("Unexpected end of cache file");
+		return line;
+	}
+
+	static private int readCount(BufferedReader reader, String name) throws IOException {
+		String line = readLine(reader);
+		if (!line.startsWith(name + " "))
+			throw new IOException("Expected '" + name + "' in cache file, but got: " + line);
+		return Integer.parseInt(line.substring(name.length() + 1));
+	}
+
+	/**
+	 * Store a synthesis result in the cache.
+	 * @param synthesize The result to store. It must belong to the same region utility as this instance.
+	 */
+	void store(SynthesizePN synthesize) {
+		assert synthesize.getUtility() == utility;
+
+		// Failed problems refer to mapped states, find some state that is mapped to each of them
+		Map<State, Integer> mappedIndices = new HashMap<>();
+		for (State state : states) {
+			State mapped = mapState(state);
+			if (!mappedIndices.containsKey(mapped))
+				mappedIndices.put(mapped, stateIndices.get(state));
+		}
+
+		List<String> events = utility.getEventList();
+		StringBuilder content = new StringBuilder(HEADER).append('\n').append(key).append('\n');
+		content.append("events ").append(events.size()).append('\n');
+		for (String event : events)
+			content.append(event).append('\n');
+
+		content.append("regions ").append(synthesize.getSeparatingRegions().size()).append('\n');
+		for (Region region : synthesize.getSeparatingRegions()) {
+			content.append(region.getInitialMarking());
+			for (String event : events)
+				content.append(' ').append(region.getBackwardWeight(event))
+					.append(' ').append(region.getForwardWeight(event));
+			content.append('\n');
+		}
+
+		Map<String, Set<State>> failedESSP = synthesize.getFailedEventStateSeparationProblems();
+		content.append("failedEventStateSeparationProblems ").append(failedESSP.size()).append('\n');
+		for (Map.Entry<String, Set<State>> entry : failedESSP.entrySet()) {
+			content.append(events.indexOf(entry.getKey()));
+			for (State state : entry.getValue())
+				content.append(' ').append(mappedIndices.get(state));
+			content.append('\n');
+		}
+
+		Collection<Set<State>> failedSSP = synthesize.getFailedStateSeparationProblems();
+		content.append("failedStateSeparationProblems ").append(failedSSP.size()).append('\n');
+		for (Set<State> group : failedSSP) {
+			String separator = "";
+			for (State state : group) {
+				content.append(separator).append(mappedIndices.get(state));
+				separator = " ";
+			}
+			content.append('\n');
+		}
+
+		File directory = file.getParentFile();
+		File temporary = null;
+		try {
+			if (!directory.isDirectory() && !directory.mkdirs())
+				throw new IOException("Could not create directory " + directory);
+			temporary = File.createTempFile(key, ".tmp", directory);
+			try (Writer writer = Files.newBufferedWriter(temporary.toPath(), CHARSET)) {
+				writer.write(content.toString());
+			}
+			Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			debugFormat("Stored synthesis result in cache file %s", file);
+		} catch (IOException e) {
+			debug("Could not write cache file ", file, ": ", e);
+			if (temporary != null && !temporary.delete())
+				debug("Could not delete temporary file ", temporary);
+		}
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -52,7 +52,7 @@ public class SynthesizeModule extends AbstractSynthesizeModule implements Interr
 	@Override
 	public String getLongDescription() {
 		return getShortDescription() + ".\n\n"
-			+ getOptionsDescription("", "") + "\n\nExample calls:\n\n"
+			+ getOptionsDescription("", "") + "\n\n" + getCacheDescription() + "\nExample calls:\n\n"
 			+ " apt " + getName() + " none lts.apt\n"
 			+ " apt " + getName() + " 3-bounded lts.apt\n"
 			+ " apt " + getName() + " pure,safe lts.apt\n"
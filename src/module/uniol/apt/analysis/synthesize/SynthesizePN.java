@@ -25,12 +25,17 @@ import static uniol.apt.analysis.synthesize.LimitedUnfolding.calculateLimitedUnf
 import static uniol.apt.util.DebugUtil.debug;
 import static uniol.apt.util.DebugUtil.debugFormat;
 
+import java.io.File;
 import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -39,6 +44,12 @@ import org.apache.commons.collections4.FactoryUtils;
 import org.apache.commons.collections4.iterators.PeekingIterator;
 import org.apache.commons.collections4.map.LazyMap;
 
+import org.sat4j.core.VecInt;
+import org.sat4j.minisat.SolverFactory;
+import org.sat4j.opt.MinOneDecorator;
+import org.sat4j.specs.ContradictionException;
+import org.sat4j.specs.TimeoutException;
+
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.pn.Place;
 import uniol.apt.adt.pn.Transition;
@@ -60,8 +71,8 @@ import uniol.apt.analysis.separation.LargestK;
 import uniol.apt.analysis.sideconditions.Pure;
 import uniol.apt.analysis.synthesize.separation.Separation;
 import uniol.apt.analysis.synthesize.separation.SeparationUtility;
-import uniol.apt.util.DifferentPairsIterable;
 import uniol.apt.util.EquivalenceRelation;
+import uniol.apt.util.Metrics;
 import uniol.apt.util.Pair;
 import uniol.apt.util.interrupt.InterrupterRegistry;
 
@@ -70,6 +81,22 @@ import uniol.apt.util.interrupt.InterrupterRegistry;
  * @author Uli Schlachter
  */
 public class SynthesizePN {
+	/**
+	 * Name of the system property which sets the default number of threads for solving separation problems. By
+	 * default, only one thread is used.
+	 */
+	public static final String THREADS_PROPERTY = "apt.synthesizeThreads";
+
+	/**
+	 * Name of the system property which sets the default directory of the on-disk cache for synthesis results. By
+	 * default, no cache is used.
+	 */
+	public static final String CACHE_DIRECTORY_PROPERTY = "apt.synthesisCacheDirectory";
+
+	static final Metrics.Counter REGIONS_COMPUTED = Metrics.counter("synthesize.regionsComputed");
+	static final Metrics.Counter REGIONS_REUSED = Metrics.counter("synthesize.regionsReused");
+	static final Metrics.Counter SEPARATION_FAILURES = Metrics.counter("synthesize.separationFailures");
+
 	private final TransitionSystem ts;
 	private final RegionUtility utility;
 	private final boolean onlyEventSeparation;
@@ -78,6 +105,8 @@ public class SynthesizePN {
 	private final Map<String, Set<State>> failedEventStateSeparationProblems = new HashMap<>();
 	private final PNProperties properties;
 	private final Separation separation;
+	private final ParallelSeparation parallelSeparation;
+	private final RegionIndex regionIndex;
 	private final String stateMappingExtension;
 	private final boolean quickFail;
 
@@ -90,6 +119,10 @@ public class SynthesizePN {
 		private RegionUtility utility;
 		private PNProperties properties = new PNProperties();
 		private boolean quickFail = false;
+		private int threads = Integer.getInteger(THREADS_PROPERTY, 1);
+		private boolean exactRegionSelection = false;
+		private long regionSelectionTimeout = 0;
+		private File cacheDirectory = getDefaultCacheDirectory();
 		private final Set<Region> extraRegions = new HashSet<>();
 		private final boolean languageEquivalence;
 
@@ -185,6 +218,75 @@ public class SynthesizePN {
 			return this;
 		}
 
+		/**
+		 * Set the number of threads which are used for solving separation problems. With more than one
+		 * thread, the problems are solved in a nondeterministic order. This means that the synthesized Petri
+		 * net might differ between runs, but synthesis succeeds or fails independently of the number of
+		 * threads.
+		 * The default is one thread or the value of the system property {@link #THREADS_PROPERTY}.
+		 * @param count the number of threads.
+		 * @return this
+		 */
+		public Builder setThreadCount(int count) {
+			if (count < 1)
+				throw new IllegalArgumentException("At least one thread is needed, but " + count
+						+ " were requested");
+			this.threads = count;
+			return this;
+		}
+
+		/**
+		 * Select the regions that become places exactly. After all separation problems were solved, a subset
+		 * of the calculated regions is chosen that still solves all problems. By default, this subset is
+		 * chosen greedily. With exact selection, a subset with the least possible number of regions is chosen
+		 * by solving a set cover problem with a SAT solver. This does not calculate any new regions, so the
+		 * result might still have more places than the result of {@link MinimizePN}.
+		 * The default is greedy selection.
+		 * @param exact true for exact selection, false for greedy selection.
+		 * @return this
+		 * @see #setRegionSelectionTimeout
+		 */
+		public Builder setExactRegionSelection(boolean exact) {
+			this.exactRegionSelection = exact;
+			return this;
+		}
+
+		/**
+		 * Set a time limit for exact region selection. When the time runs out, the smallest subset found so far
+		 * is used.
+		 * The default is zero, which means no limit.
+		 * @param milliseconds the time limit in milliseconds or zero for no limit.
+		 * @return this
+		 * @see #setExactRegionSelection
+		 */
+		public Builder setRegionSelectionTimeout(long milliseconds) {
+			if (milliseconds < 0)
+				throw new IllegalArgumentException("The timeout must not be negative, but "
+						+ milliseconds + " was given");
+			this.regionSelectionTimeout = milliseconds;
+			return this;
+		}
+
+		/**
+		 * Set the directory of the on-disk cache for synthesis results. When a result for an isomorphic input
+		 * with the same configuration was already calculated, it is loaded from this directory instead of
+		 * solving all separation problems again. The default is taken from the system property {@value
+		 * #CACHE_DIRECTORY_PROPERTY}.
+		 * @param directory The directory to use or null to disable the cache.
+		 * @return this
+		 */
+		public Builder setCacheDirectory(File directory) {
+			this.cacheDirectory = directory;
+			return this;
+		}
+
+		static private File getDefaultCacheDirectory() {
+			String directory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+			if (directory == null || directory.isEmpty())
+				return null;
+			return new File(directory);
+		}
+
 		/**
 		 * Add an already-known region to this builder. If some regions are already known, adding them can speed
 		 * up the Petri net synthesis.
@@ -209,11 +311,26 @@ public class SynthesizePN {
 		 * events
 		 */
 		public SynthesizePN build() throws MissingLocationException {
-			if (languageEquivalence)
-				return new SynthesizePN(utility, properties, true, ORIGINAL_STATE_KEY, quickFail,
-						extraRegions);
-			else
-				return new SynthesizePN(utility, properties, false, null, quickFail, extraRegions);
+			long selectionTimeout = exactRegionSelection ? regionSelectionTimeout : -1;
+			String stateMappingExtension = languageEquivalence ? ORIGINAL_STATE_KEY : null;
+
+			SynthesisCache cache = null;
+			if (cacheDirectory != null) {
+				// Extra regions and the number of threads only influence how fast a result is found
+				String settings = "quickFail=" + quickFail
+					+ " regionSelectionTimeout=" + selectionTimeout;
+				cache = new SynthesisCache(cacheDirectory, utility, properties, languageEquivalence,
+						stateMappingExtension, settings);
+				SynthesizePN result = cache.load();
+				if (result != null)
+					return result;
+			}
+
+			SynthesizePN result = new SynthesizePN(utility, properties, languageEquivalence,
+					stateMappingExtension, quickFail, extraRegions, threads, selectionTimeout);
+			if (cache != null)
+				cache.store(result);
+			return result;
 		}
 	}
 
@@ -233,11 +350,42 @@ public class SynthesizePN {
 	SynthesizePN(RegionUtility utility, PNProperties properties, boolean onlyEventSeparation,
 			String stateMappingExtension, boolean quickFail, Set<Region> extraRegions)
 			throws MissingLocationException {
+		this(utility, properties, onlyEventSeparation, stateMappingExtension, quickFail, extraRegions, 1, -1);
+	}
+
+	/**
+	 * Synthesize a Petri Net which generates the given transition system.
+	 * @param utility An instance of RegionUtility for the requested transition system.
+	 * @param properties Properties that the synthesized Petri net should satisfy.
+	 * @param onlyEventSeparation Should state separation be ignored? This means that two different states might get
+	 * the same marking.
+	 * @param stateMappingExtension An extension key that will be used to map States. All states in the input
+	 * transition system must have this extension and it must refer to a State object.
+	 * @param quickFail If true, stop the calculation as soon as it is known that it won't be successful. If false,
+	 * try to solve all separation problems. Only if true will the list of failed problems be fully filled.
+	 * @param extraRegions Some already known regions that should be re-used.
+	 * @param threads The number of threads used for solving separation problems.
+	 * @param regionSelectionTimeout A negative number for greedy selection of the resulting regions. Otherwise,
+	 * the regions are selected exactly and this is the time limit in milliseconds, or zero for no limit.
+	 * @throws MissingLocationException if the transition system for the utility has locations for only some events
+	 */
+	SynthesizePN(RegionUtility utility, PNProperties properties, boolean onlyEventSeparation,
+			String stateMappingExtension, boolean quickFail, Set<Region> extraRegions, int threads,
+			long regionSelectionTimeout) throws MissingLocationException {
 		this.ts = utility.getTransitionSystem();
 		this.utility = utility;
 		this.onlyEventSeparation = onlyEventSeparation;
 		this.properties = properties;
-		this.separation = SeparationUtility.createSeparationInstance(utility, properties);
+		if (threads > 1) {
+			this.separation = null;
+			this.parallelSeparation = new ParallelSeparation(utility, properties, threads, quickFail,
+					extraRegions);
+			this.regionIndex = null;
+		} else {
+			this.separation = SeparationUtility.createSeparationInstance(utility, properties);
+			this.parallelSeparation = null;
+			this.regionIndex = new RegionIndex(utility, extraRegions);
+		}
 		this.stateMappingExtension = stateMappingExtension;
 		this.quickFail = quickFail;
 		this.regions = new HashSet<>(extraRegions);
@@ -262,11 +410,47 @@ public class SynthesizePN {
 
 		debug();
 		debug("Minimizing regions");
-		minimizeRegions(utility, regions, onlyEventSeparation);
+		if (regionSelectionTimeout < 0)
+			minimizeRegions(utility, regions, onlyEventSeparation);
+		else
+			minimizeRegions(utility, regions, onlyEventSeparation, true, regionSelectionTimeout);
 
 		debug();
 	}
 
+	/**
+	 * Create an instance for an already known synthesis result, for example one that was loaded from a {@link
+	 * SynthesisCache}. No separation problems are solved.
+	 * @param utility An instance of RegionUtility for the requested transition system.
+	 * @param properties Properties that the synthesized Petri net should satisfy.
+	 * @param onlyEventSeparation Was state separation ignored?
+	 * @param regions The regions that solve the separation problems.
+	 * @param failedStateSeparationProblems Groups of states which could not be separated from each other.
+	 * @param failedEventStateSeparationProblems For each event, the states in which it could not be prevented.
+	 */
+	SynthesizePN(RegionUtility utility, PNProperties properties, boolean onlyEventSeparation, Set<Region> regions,
+			Collection<Set<State>> failedStateSeparationProblems,
+			Map<String, Set<State>> failedEventStateSeparationProblems) {
+		this.ts = utility.getTransitionSystem();
+		this.utility = utility;
+		this.onlyEventSeparation = onlyEventSeparation;
+		this.properties = properties;
+		this.separation = null;
+		this.parallelSeparation = null;
+		this.regionIndex = null;
+		this.stateMappingExtension = null;
+		this.quickFail = false;
+		this.regions = new HashSet<>(regions);
+
+		for (Set<State> group : failedStateSeparationProblems) {
+			State first = group.iterator().next();
+			for (State state : group)
+				failedStateSeparationRelation.joinClasses(first, state);
+		}
+		for (Map.Entry<String, Set<State>> entry : failedEventStateSeparationProblems.entrySet())
+			this.failedEventStateSeparationProblems.put(entry.getKey(), new HashSet<>(entry.getValue()));
+	}
+
 	private State mapState(State state) {
 		if (stateMappingExtension == null)
 			return state;
@@ -280,89 +464,161 @@ public class SynthesizePN {
 	 * @return All states which have for at least one other state the same marking in all regions.
 	 */
 	static public Set<State> calculateUnseparatedStates(Set<State> states, Set<Region> regions) {
-		Set<State> result = new HashSet<>();
-		Set<Set<State>> partition = new HashSet<>();
-		partition.add(new HashSet<>(states));
+		MarkingSignatures signatures = new MarkingSignatures(states);
 
 		debug("Calculating unseparated states");
 		for (Region region : regions) {
-			int discarded = 0;
-			Set<Set<State>> newPartition = new HashSet<>();
-			for (Set<State> family : partition) {
-				InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
-
-				// Separate this family by the given region: States to which this region assigns
-				// different markings are separated.
-				Map<Integer, Set<State>> markings = LazyMap.lazyMap(new HashMap<Integer, Set<State>>(),
-						FactoryUtils.prototypeFactory(new HashSet<State>()));
-				for (State state : family) {
-					try {
-						markings.get(region.getMarkingForState(state)).add(state);
-					} catch (UnreachableException e) {
-						// SSP with any unreachable state is unsolvable
-						return states;
-					}
-				}
-
-				// Now collect families of not-yet-separated states
-				for (Map.Entry<Integer, Set<State>> entry : markings.entrySet()) {
-					if (entry.getValue().size() > 1)
-						newPartition.add(entry.getValue());
-					else
-						discarded++;
-				}
-			}
+			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
 
-			partition = newPartition;
-			debugFormat("After region %s, still have %d families (%d resulting singular families discarded)",
-					region, partition.size(), discarded);
-			if (partition.isEmpty())
+			signatures.add(region);
+			if (signatures.hasUnreachableStates())
+				// SSP with any unreachable state is unsolvable
+				return states;
+			if (signatures.allSeparated())
 				break;
 		}
 
-		// All remaining states are not yet separated. Throw away the family information and return them all.
-		for (Set<State> family : partition)
-			result.addAll(family);
+		return signatures.getUnseparatedStates();
+	}
+
+	/**
+	 * Group the given states by their markings in the given regions.
+	 * @param states The states to group.
+	 * @param regions The regions that are used for separation.
+	 * @return The groups of at least two states which have the same marking in all regions.
+	 */
+	static List<List<State>> calculateUnseparatedGroups(Collection<State> states, Collection<Region> regions) {
+		MarkingSignatures signatures = new MarkingSignatures(states);
+		for (Region region : regions) {
+			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
 
-		return result;
+			signatures.add(region);
+			if (signatures.allSeparated() || signatures.hasUnreachableStates())
+				break;
+		}
+		return signatures.groupUnseparatedStates(states);
 	}
 
 	/**
 	 * Solve all instances of the state separation problem (SSP).
+	 *
+	 * Instead of trying every pair of unseparated states, the states are grouped by their markings in the known
+	 * regions. In each group, the first state is separated from the other states and afterwards the rest of the
+	 * group is split by the new regions. A SSP instance is unsolvable iff all suitable regions assign the same
+	 * marking to both states. Thus, if the first state cannot be separated from some other states, then these
+	 * states cannot be separated from each other either. This means that each calculated region and each failure
+	 * removes a state from further consideration, so the number of solved problems is linear in the number of
+	 * states. This argument does not work for unreachable states, so these are handled separately.
 	 */
 	private void solveStateSeparation() {
 		if (onlyEventSeparation)
 			return;
 
-		for (Pair<State, State> problem : new DifferentPairsIterable<State>(
-					calculateUnseparatedStates(ts.getNodes(), regions))) {
-			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+		List<State> reachable = recordUnreachableStateFailures();
+		if (quickFail && !wasSuccessfullySeparated())
+			return;
 
-			State state = problem.getFirst();
-			State otherState = problem.getSecond();
-			debugFormat("Trying to separate %s from %s", state, otherState);
-			Region r = null;
-			for (Region region : regions)
-				if (SeparationUtility.isSeparatingRegion(region, state, otherState)) {
-					r = region;
-					break;
+		if (parallelSeparation != null) {
+			solveStateSeparationInParallel(reachable);
+			return;
+		}
+
+		// The region index keeps track of the separated states while new regions are added
+		Deque<List<State>> groups = new ArrayDeque<>(regionIndex.groupUnseparatedStates(reachable));
+		while (!groups.isEmpty()) {
+			List<State> group = groups.removeFirst();
+			State state = group.get(0);
+			List<State> remaining = new ArrayList<>();
+			for (State otherState : group.subList(1, group.size())) {
+				InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+
+				debugFormat("Trying to separate %s from %s", state, otherState);
+				if (regionIndex.isSeparated(state, otherState)) {
+					debug("Already separated by a known region");
+					REGIONS_REUSED.increment();
+					remaining.add(otherState);
+					continue;
+				}
+
+				Region r = separation.calculateSeparatingRegion(state, otherState);
+				if (r == null) {
+					failedStateSeparationRelation.joinClasses(mapState(state),
+							mapState(otherState));
+					debug("Failure!");
+					SEPARATION_FAILURES.increment();
+					if (quickFail)
+						return;
+				} else {
+					debug("Calculated region ", r);
+					REGIONS_COMPUTED.increment();
+					regions.add(r);
+					regionIndex.add(r);
+					remaining.add(otherState);
 				}
-			if (r != null) {
-				debug("Found region ", r);
-				continue;
 			}
+			groups.addAll(regionIndex.groupUnseparatedStates(remaining));
+		}
+	}
 
-			r = separation.calculateSeparatingRegion(state, otherState);
-			if (r == null) {
-				failedStateSeparationRelation.joinClasses(mapState(state),
-						mapState(otherState));
-				debug("Failure!");
-				if (quickFail)
-					return;
-			} else {
-				debug("Calculated region ", r);
-				regions.add(r);
+	/**
+	 * No region separates an unreachable state from another state. Record the SSP instances involving unreachable
+	 * states as failures.
+	 * @return The reachable states.
+	 */
+	private List<State> recordUnreachableStateFailures() {
+		List<State> reachable = new ArrayList<>();
+		List<State> unreachable = new ArrayList<>();
+		for (State state : ts.getNodes()) {
+			if (utility.getSpanningTree().isReachable(state))
+				reachable.add(state);
+			else
+				unreachable.add(state);
+		}
+
+		for (State state : unreachable) {
+			debugFormat("Unreachable state %s cannot be separated from any other state", state);
+			for (State otherState : ts.getNodes())
+				if (!otherState.equals(state))
+					failedStateSeparationRelation.joinClasses(mapState(state),
+							mapState(otherState));
+			SEPARATION_FAILURES.increment();
+			if (quickFail)
+				break;
+		}
+		return reachable;
+	}
+
+	/**
+	 * Solve all instances of the state separation problem (SSP) with multiple threads. This works like {@link
+	 * #solveStateSeparation()}, but the first state of every group is separated from the other states of its
+	 * group concurrently.
+	 * @param reachable The reachable states.
+	 */
+	private void solveStateSeparationInParallel(List<State> reachable) {
+		List<List<State>> groups = calculateUnseparatedGroups(reachable, regions);
+		while (!groups.isEmpty()) {
+			List<Pair<State, State>> problems = new ArrayList<>();
+			for (List<State> group : groups)
+				for (State otherState : group.subList(1, group.size()))
+					problems.add(new Pair<>(group.get(0), otherState));
+
+			Set<State> failed = new HashSet<>();
+			for (Pair<State, State> problem : parallelSeparation.solveStateSeparation(problems.iterator())) {
+				failedStateSeparationRelation.joinClasses(mapState(problem.getFirst()),
+						mapState(problem.getSecond()));
+				failed.add(problem.getSecond());
+			}
+			regions.addAll(parallelSeparation.getRegions());
+			if (quickFail && !failed.isEmpty())
+				return;
+
+			List<List<State>> nextGroups = new ArrayList<>();
+			for (List<State> group : groups) {
+				List<State> remaining = new ArrayList<>(group.subList(1, group.size()));
+				remaining.removeAll(failed);
+				nextGroups.addAll(calculateUnseparatedGroups(remaining, regions));
 			}
+			groups = nextGroups;
 		}
 	}
 
@@ -372,20 +628,23 @@ public class SynthesizePN {
 	private void solveEventStateSeparation() {
 		Map<String, Set<State>> failedProblems = LazyMap.lazyMap(failedEventStateSeparationProblems,
 				FactoryUtils.prototypeFactory(new HashSet<State>()));
+		if (parallelSeparation != null) {
+			for (Pair<State, String> problem : parallelSeparation.solveEventStateSeparation(
+						new EventStateSeparationProblems(ts).iterator()))
+				failedProblems.get(problem.getSecond()).add(mapState(problem.getFirst()));
+			regions.addAll(parallelSeparation.getRegions());
+			return;
+		}
 		for (Pair<State, String> problem : new EventStateSeparationProblems(ts)) {
 			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
 
 			State state = problem.getFirst();
 			String event = problem.getSecond();
 			debugFormat("Trying to separate %s from event '%s'", state, event);
-			Region r = null;
-			for (Region region : regions)
-				if (SeparationUtility.isSeparatingRegion(region, state, event)) {
-					r = region;
-					break;
-				}
+			Region r = regionIndex.getSeparatingRegion(state, event);
 			if (r != null) {
 				debug("Found region ", r);
+				REGIONS_REUSED.increment();
 				continue;
 			}
 
@@ -393,11 +652,14 @@ public class SynthesizePN {
 			if (r == null) {
 				failedProblems.get(event).add(mapState(state));
 				debug("Failure!");
+				SEPARATION_FAILURES.increment();
 				if (quickFail)
 					return;
 			} else {
 				debug("Calculated region ", r);
+				REGIONS_COMPUTED.increment();
 				regions.add(r);
+				regionIndex.add(r);
 			}
 		}
 	}
@@ -417,24 +679,22 @@ public class SynthesizePN {
 			Set<Set<Region>> separationProblems, Set<Region> requiredRegions, Set<Region> remainingRegions,
 			boolean onlyEventSeparation) {
 		TransitionSystem ts = utility.getTransitionSystem();
+		// Regions are only moved from remainingRegions to requiredRegions, so one index covers both sets
+		RegionIndex index = new RegionIndex(utility, requiredRegions);
+		for (Region r : remainingRegions)
+			index.add(r);
+
 		// Event separation
-		problemLoop:
 		for (Pair<State, String> problem : new EventStateSeparationProblems(ts)) {
 			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
 
 			State state = problem.getFirst();
 			String event = problem.getSecond();
+			Set<Region> sep = index.getSeparatingRegions(state, event);
 			// Does one of our required regions already solve ESSP? If so, skip
-			for (Region r : requiredRegions) {
-				if (SeparationUtility.isSeparatingRegion(r, state, event))
-					continue problemLoop;
-			}
-			// Calculate which of the remaining regions solves this ESSP instance
-			Set<Region> sep = new HashSet<>();
-			for (Region r : remainingRegions) {
-				if (SeparationUtility.isSeparatingRegion(r, state, event))
-					sep.add(r);
-			}
+			if (!Collections.disjoint(sep, requiredRegions))
+				continue;
+			// All other regions which solve this ESSP instance are remaining regions
 			if (sep.size() == 1) {
 				// If only one region solves this problem, that region is required
 				Region r = sep.iterator().next();
@@ -459,19 +719,12 @@ public class SynthesizePN {
 			State state = iterator.next();
 			iterator.remove();
 
-			innerStatesLoop:
 			for (State otherState : remainingStates) {
+				Set<Region> sep = index.getSeparatingRegions(state, otherState);
 				// Does one of our required regions already solve SSP? If so, skip
-				for (Region r : requiredRegions) {
-					if (SeparationUtility.isSeparatingRegion(r, state, otherState))
-						continue innerStatesLoop;
-				}
-				// Calculate which of the remaining regions solves SSP for this instance
-				Set<Region> sep = new HashSet<>();
-				for (Region r : remainingRegions) {
-					if (SeparationUtility.isSeparatingRegion(r, state, otherState))
-						sep.add(r);
-				}
+				if (!Collections.disjoint(sep, requiredRegions))
+					continue;
+				// All other regions which solve SSP for this instance are remaining regions
 				if (sep.size() == 1) {
 					// If only one region solves this problem, that region is required
 					Region r = sep.iterator().next();
@@ -491,6 +744,22 @@ public class SynthesizePN {
 	 */
 	static public void minimizeRegions(RegionUtility utility, Set<Region> requiredRegions,
 			boolean onlyEventSeparation) {
+		minimizeRegions(utility, requiredRegions, onlyEventSeparation, false, 0);
+	}
+
+	/**
+	 * Try to eliminate redundant regions.
+	 * @param utility The region utility on which this function should work.
+	 * @param requiredRegions Set of regions to minimize. Redundant regions will be removed.
+	 * @param onlyEventSeparation Should state separation be ignored?
+	 * @param exact If true, keep a subset of the regions with the least possible number of regions. If false,
+	 * regions are picked greedily.
+	 * @param timeout Time limit in milliseconds for exact minimization, or zero for no limit. When the time runs
+	 * out, the smallest subset that was found so far is kept.
+	 * @return true if the remaining regions are known to be a smallest subset.
+	 */
+	static public boolean minimizeRegions(RegionUtility utility, Set<Region> requiredRegions,
+			boolean onlyEventSeparation, boolean exact, long timeout) {
 		int numInputRegions = requiredRegions.size();
 		Set<Region> remainingRegions = new HashSet<>(requiredRegions);
 		requiredRegions.clear();
@@ -506,16 +775,98 @@ public class SynthesizePN {
 		debug("List of regions that solve each remaining separation problem:");
 		debug(separationProblems);
 
+		boolean minimal = false;
+		if (exact)
+			minimal = selectMinimalCover(separationProblems, requiredRegions, timeout);
+
 		// Now go through all remaining problems again
 		for (Set<Region> problem : separationProblems) {
 			// If none of our required regions solve this problem, we pick one arbitrarily that does
-			if (Collections.disjoint(requiredRegions, problem))
+			if (Collections.disjoint(requiredRegions, problem)) {
+				assert !minimal;
 				requiredRegions.add(problem.iterator().next());
+			}
 		}
 
 		debug("List of required regions:");
 		debug(requiredRegions);
 		debugFormat("Picked %d required regions out of %d input regions", requiredRegions.size(), numInputRegions);
+		return minimal;
+	}
+
+	/**
+	 * Pick a smallest set of regions so that each separation problem is solved by some picked region. This is an
+	 * instance of the set cover problem. For each region, a boolean variable says if the region is picked. Each
+	 * separation problem becomes a clause saying that one of its regions must be picked. A SAT solver then looks
+	 * for a model with the least number of true variables.
+	 * @param separationProblems For each separation problem the set of regions that solve it.
+	 * @param requiredRegions Regions which are already picked. Further picked regions are added to this set.
+	 * @param timeout Time limit in milliseconds, or zero for no limit.
+	 * @return true if a smallest set was found, false if the time ran out. In the latter case the smallest set
+	 * found so far (if any) was picked.
+	 */
+	static private boolean selectMinimalCover(Set<Set<Region>> separationProblems, Set<Region> requiredRegions,
+			long timeout) {
+		List<Region> regionList = new ArrayList<>();
+		Map<Region, Integer> variables = new HashMap<>();
+		List<VecInt> clauses = new ArrayList<>();
+		for (Set<Region> problem : separationProblems) {
+			if (!Collections.disjoint(requiredRegions, problem))
+				continue;
+			VecInt clause = new VecInt(problem.size());
+			for (Region region : problem) {
+				Integer variable = variables.get(region);
+				if (variable == null) {
+					regionList.add(region);
+					variable = regionList.size();
+					variables.put(region, variable);
+				}
+				clause.push(variable);
+			}
+			clauses.add(clause);
+		}
+		if (clauses.isEmpty())
+			return true;
+
+		MinOneDecorator optimizer = new MinOneDecorator(SolverFactory.newDefault());
+		optimizer.newVar(regionList.size());
+		int[] bestModel = null;
+		boolean optimal = false;
+		long deadline = System.currentTimeMillis() + timeout;
+		try {
+			for (VecInt clause : clauses)
+				optimizer.addClause(clause);
+
+			// Each iteration finds a solution with fewer picked regions until no better solution exists
+			while (true) {
+				InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+				if (timeout > 0) {
+					long remaining = deadline - System.currentTimeMillis();
+					if (remaining <= 0)
+						break;
+					optimizer.setTimeoutMs(remaining);
+				}
+				if (!optimizer.admitABetterSolution()) {
+					optimal = true;
+					break;
+				}
+				bestModel = optimizer.model();
+				debugFormat("Found a cover with %s regions", optimizer.getObjectiveValue());
+				optimizer.discardCurrentSolution();
+			}
+		} catch (ContradictionException e) {
+			// No better solution exists
+			optimal = true;
+		} catch (TimeoutException e) {
+			debug("Time limit for selecting regions exceeded");
+		}
+
+		if (bestModel != null)
+			for (int literal : bestModel)
+				if (literal > 0)
+					requiredRegions.add(regionList.get(literal - 1));
+		assert !optimal || bestModel != null;
+		return optimal;
 	}
 
 	/**
@@ -58,7 +58,7 @@ public class SynthesizeWordModule extends AbstractSynthesizeModule implements In
 					+ " w^* instead of solving the input word w directly\n")
 			+ "\n\nThis module tries to synthesize a Petri Net whose prefix language "
 			+ "contains only the specified word. Thus, no other words are firable. If this fails, a list "
-			+ " of separation failures is printed.\n\nExample calls:\n\n"
+			+ " of separation failures is printed.\n\n" + getCacheDescription() + "\nExample calls:\n\n"
 			+ " apt " + getName() + " none a,b,a,b\n\n"
 			+ "The above prints a Petri net\n\n\n"
 			+ " apt " + getName() + " pure,safe a,b,c,a\n\n"
@@ -38,6 +38,7 @@ import uniol.apt.analysis.synthesize.PNProperties;
 import uniol.apt.analysis.synthesize.Region;
 import uniol.apt.analysis.synthesize.RegionUtility;
 import uniol.apt.analysis.synthesize.UnreachableException;
+import uniol.apt.util.Metrics;
 import uniol.apt.util.interrupt.UncheckedInterruptedException;
 
 import static uniol.apt.util.DebugUtil.debug;
@@ -47,6 +48,8 @@ import static uniol.apt.util.DebugUtil.debug;
  * @author Uli Schlachter
  */
 class InequalitySystemSeparation implements Separation {
+	static private final Metrics.Timer CHECK_SAT = Metrics.timer("separation.smt.checkSat");
+
 	private final SMTInterpolHelper helper;
 	private final Script script;
 	private final RegionUtility utility;
@@ -111,9 +114,12 @@ class InequalitySystemSeparation implements Separation {
 	 * @return A region or null.
 	 */
 	private Region regionFromSolution() {
+		long start = CHECK_SAT.start();
 		LBool isSat = script.checkSat();
+		CHECK_SAT.stop(start);
 		if (isSat == LBool.UNKNOWN) {
-			assert ReasonUnknown.TIMEOUT.equals(script.getInfo(":reason-unknown")) : script.getInfo(":reason-unknown");
+			Object reason = script.getInfo(":reason-unknown");
+			assert ReasonUnknown.TIMEOUT.equals(reason) || ReasonUnknown.CANCELLED.equals(reason) : reason;
 			throw new UncheckedInterruptedException();
 		} else if (isSat == LBool.UNSAT) {
 			return null;
@@ -24,15 +24,20 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-
-import org.apache.commons.collections4.Bag;
-import org.apache.commons.collections4.bag.HashBag;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import uniol.apt.adt.ts.Arc;
 import uniol.apt.adt.ts.Event;
@@ -43,6 +48,7 @@ import uniol.apt.analysis.synthesize.Region;
 import uniol.apt.analysis.synthesize.RegionUtility;
 import uniol.apt.analysis.totallyreachable.TotallyReachable;
 import uniol.apt.util.interrupt.InterrupterRegistry;
+import uniol.apt.util.interrupt.UncheckedInterruptedException;
 import uniol.apt.util.Pair;
 
 import static uniol.apt.util.DebugUtil.debug;
@@ -54,12 +60,42 @@ import static uniol.apt.util.DebugUtil.debugFormat;
  * It is based on the theory of "New Region-Based Algorithms for Deriving
  * Bounded Petri Nets" by Carmona, Cortadella and Kishinevsky, IEEE Transactions
  * on Computers, Vol. 59, No. 3 from March 2010.
+ *
+ * The transition system is copied into arrays of state and event indices and multisets of states are stored as
+ * arrays of multiplicities indexed by state. The multisets are explored breadth-first. If more than one thread is
+ * requested via the system property {@link #THREADS_PROPERTY}, each layer of the exploration is split into chunks
+ * which are examined concurrently. Since the explored multisets do not depend on the order in which they are
+ * examined, the calculated regions do not depend on the number of threads.
  * @author Uli Schlachter
  */
 class KBoundedSeparation implements Separation {
+	/**
+	 * Name of the system property which sets the number of threads for exploring multisets. By default, only one
+	 * thread is used.
+	 */
+	static final String THREADS_PROPERTY = "apt.kBoundedSeparationThreads";
+
+	// Layers whose examination visits less arcs and states than this are examined by the calling thread
+	static private final long PARALLEL_THRESHOLD = 1 << 16;
+	// How often (in milliseconds) the interrupter of the calling thread is checked while waiting for the workers
+	static private final long INTERRUPT_CHECK_INTERVAL = 10;
+
 	private final RegionUtility utility;
 	private final Set<Region> regions = new HashSet<>();
 	private final boolean pure;
+	private final int threads;
+
+	// Copy of the transition system. Worker threads only use this copy, because transition systems may not be used
+	// by multiple threads concurrently.
+	private final List<Event> eventList;
+	private final int numberOfStates;
+	private final int initialState;
+	// Source state, target state and event of each arc
+	private final int[] arcSource;
+	private final int[] arcTarget;
+	private final int[] arcEvent;
+	// The arcs of each event
+	private final int[][] eventArcs;
 
 	/**
 	 * package-visible constructor used by tests
@@ -68,6 +104,14 @@ class KBoundedSeparation implements Separation {
 		this(new RegionUtility(ts), properties, new String[0]);
 	}
 
+	/**
+	 * package-visible constructor used by tests
+	 */
+	KBoundedSeparation(TransitionSystem ts, PNProperties properties, int threads)
+			throws UnsupportedPNPropertiesException {
+		this(new RegionUtility(ts), properties, new String[0], threads);
+	}
+
 	/**
 	 * Construct a new instance for solving separation problems.
 	 * @param utility The region utility to use.
@@ -77,8 +121,14 @@ class KBoundedSeparation implements Separation {
 	 */
 	public KBoundedSeparation(RegionUtility utility, PNProperties properties,
 			String[] locationMap) throws UnsupportedPNPropertiesException {
+		this(utility, properties, locationMap, Integer.getInteger(THREADS_PROPERTY, 1));
+	}
+
+	private KBoundedSeparation(RegionUtility utility, PNProperties properties,
+			String[] locationMap, int threads) throws UnsupportedPNPropertiesException {
 		this.utility = utility;
 		this.pure = properties.isPure();
+		this.threads = threads;
 
 		// Are we the right Separation implementation for the task?
 		if (!properties.isKBounded())
@@ -90,6 +140,10 @@ class KBoundedSeparation implements Separation {
 		if (!supported.containsAll(properties))
 			throw new UnsupportedPNPropertiesException();
 
+		// Multiplicities are stored as shorts
+		if (properties.getKForKBounded() > Short.MAX_VALUE)
+			throw new UnsupportedPNPropertiesException();
+
 		// We do not support locations, so no locations may be specified
 		if (Collections.frequency(Arrays.asList(locationMap), null) != locationMap.length)
 			throw new UnsupportedPNPropertiesException();
@@ -104,6 +158,38 @@ class KBoundedSeparation implements Separation {
 		if (!events.equals(ts.getAlphabetEvents()))
 			throw new UnsupportedPNPropertiesException();
 
+		// Copy the transition system
+		Map<State, Integer> stateIndices = new HashMap<>();
+		for (State state : ts.getNodes())
+			stateIndices.put(state, stateIndices.size());
+		Map<Event, Integer> eventIndices = new HashMap<>();
+		this.eventList = new ArrayList<>(ts.getAlphabetEvents());
+		for (Event event : eventList)
+			eventIndices.put(event, eventIndices.size());
+		this.numberOfStates = stateIndices.size();
+		this.initialState = stateIndices.get(ts.getInitialState());
+
+		Set<Arc> arcs = ts.getEdges();
+		this.arcSource = new int[arcs.size()];
+		this.arcTarget = new int[arcs.size()];
+		this.arcEvent = new int[arcs.size()];
+		int[] arcsPerEvent = new int[eventList.size()];
+		int index = 0;
+		for (Arc arc : arcs) {
+			arcSource[index] = stateIndices.get(arc.getSource());
+			arcTarget[index] = stateIndices.get(arc.getTarget());
+			arcEvent[index] = eventIndices.get(arc.getEvent());
+			arcsPerEvent[arcEvent[index]]++;
+			index++;
+		}
+		this.eventArcs = new int[eventList.size()][];
+		for (int event = 0; event < eventList.size(); event++) {
+			eventArcs[event] = new int[arcsPerEvent[event]];
+			arcsPerEvent[event] = 0;
+		}
+		for (int arc = 0; arc < arcEvent.length; arc++)
+			eventArcs[arcEvent[arc]][arcsPerEvent[arcEvent[arc]]++] = arc;
+
 		// Ok, we can do it. Now do it.
 		if (properties.getKForKBounded() == 0)
 			// There are no 0-bounded regions that solve any kind of separation problem.
@@ -112,6 +198,63 @@ class KBoundedSeparation implements Separation {
 		generateMinimalRegions(properties.getKForKBounded());
 	}
 
+	/**
+	 * A multiset of states. The multiplicity of each state is stored at the index of the state. Instances are
+	 * immutable, so the hash code is only calculated once.
+	 */
+	static private final class StateMultiset {
+		private final short[] counts;
+		private final long size;
+		private final int hashCode;
+
+		private StateMultiset(short[] counts) {
+			long sum = 0;
+			for (short count : counts)
+				sum += count;
+			this.counts = counts;
+			this.size = sum;
+			this.hashCode = Arrays.hashCode(counts);
+		}
+
+		private int getCount(int state) {
+			return counts[state];
+		}
+
+		// Get the first state with non-zero multiplicity or -1 if there is no such state
+		private int getFirstState() {
+			for (int state = 0; state < counts.length; state++)
+				if (counts[state] != 0)
+					return state;
+			return -1;
+		}
+
+		// Check if no state has a higher multiplicity in this multiset than in the other multiset
+		private boolean isContainedIn(StateMultiset other) {
+			for (int state = 0; state < counts.length; state++)
+				if (counts[state] > other.counts[state])
+					return false;
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof StateMultiset))
+				return false;
+			StateMultiset other = (StateMultiset) o;
+			return hashCode == other.hashCode && Arrays.equals(counts, other.counts);
+		}
+
+		@Override
+		public String toString() {
+			return Arrays.toString(counts);
+		}
+	}
+
 	/* package-visible getter used by tests */
 	Set<Region> getRegions() {
 		return Collections.unmodifiableSet(regions);
@@ -121,23 +264,57 @@ class KBoundedSeparation implements Separation {
 	private void generateMinimalRegions(int k) {
 		assert k >= 1;
 
-		Set<Bag<State>> known = new HashSet<>();
-		Deque<Bag<State>> todo = new LinkedList<>();
-		Collection<Bag<State>> regionCandidates = new ArrayList<>();
+		Set<StateMultiset> known;
+		if (threads > 1)
+			known = Collections.newSetFromMap(new ConcurrentHashMap<StateMultiset, Boolean>());
+		else
+			known = new HashSet<>();
+		List<StateMultiset> regionCandidates = new ArrayList<>();
 		addExcitationAndSwitchingRegions(known);
-		todo.addAll(known);
+		List<StateMultiset> todo = new ArrayList<>(known);
+
+		ExecutorService pool = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+		try {
+			// Explore breadth-first, one layer at a time
+			while (!todo.isEmpty()) {
+				List<StateMultiset> next = new ArrayList<>();
+				long work = (long) todo.size() * (arcEvent.length + numberOfStates);
+				if (pool == null || todo.size() == 1 || work < PARALLEL_THRESHOLD)
+					examine(todo, k, known, next, regionCandidates);
+				else
+					examineInParallel(pool, todo, k, known, next, regionCandidates);
+				todo = next;
+			}
+		} finally {
+			if (pool != null)
+				pool.shutdownNow();
+		}
+
+		debugFormat("Known multisets: %s", known);
+
+		for (StateMultiset candidate : getMinimalMultisets(regionCandidates))
+			regions.add(convertToRegion(candidate));
+
+		debugFormat("Found the following regions: %s", regions);
+	}
 
-		while (!todo.isEmpty()) {
+	/**
+	 * Examine the given multisets. Multisets which are regions are added to the candidates. Otherwise, the
+	 * multiset is expanded and the results which should be explored and are not yet known are added to the known
+	 * and the next multisets.
+	 */
+	private void examine(List<StateMultiset> todo, int k, Set<StateMultiset> known, Collection<StateMultiset> next,
+			Collection<StateMultiset> candidates) {
+		for (StateMultiset r : todo) {
 			InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
-			Bag<State> r = todo.removeFirst();
 
 			debug();
 			debugFormat("Examining %s", r);
 
-			Pair<Event, Integer> event = findEventWithNonConstantGradient(r);
+			Pair<Integer, Integer> event = findEventWithNonConstantGradient(r);
 			if (event == null) {
 				debug("It is a region!");
-				regionCandidates.add(r);
+				candidates.add(r);
 				continue;
 			}
 
@@ -145,72 +322,141 @@ class KBoundedSeparation implements Separation {
 			// To do this, we either want to go towards a region with gradient(event) <= g or
 			// gradient(event) > g. These two cases follow.
 
-			Bag<State> r1 = expandBelowOrEqual(r, event.getFirst(), event.getSecond());
+			StateMultiset r1 = expandBelowOrEqual(r, event.getFirst(), event.getSecond(), k);
 			debugFormat("for gradient(%s) <= %d, new result is %s",
-					event.getFirst(), event.getSecond(), r1);
-			if (shouldExplore(r1, k) && known.add(r1))
-				todo.add(r1);
+					eventList.get(event.getFirst()), event.getSecond(), r1);
+			if (r1 != null && shouldExplore(r1) && known.add(r1))
+				next.add(r1);
 			else
 				debug("...which should not be explored");
 
-			Bag<State> r2 = expandAboveOrEqual(r, event.getFirst(), event.getSecond() + 1);
+			StateMultiset r2 = expandAboveOrEqual(r, event.getFirst(), event.getSecond() + 1, k);
 			debugFormat("for gradient(%s) >= %d, new result is %s",
-					event.getFirst(), event.getSecond() + 1, r2);
-			if (shouldExplore(r2, k) && known.add(r2))
-				todo.add(r2);
+					eventList.get(event.getFirst()), event.getSecond() + 1, r2);
+			if (r2 != null && shouldExplore(r2) && known.add(r2))
+				next.add(r2);
 			else
 				debug("...which should not be explored");
 		}
+	}
 
-		debugFormat("Known multisets: %s", known);
+	// Like examine(), but the multisets are split into chunks which are examined by the given pool
+	private void examineInParallel(ExecutorService pool, List<StateMultiset> todo, final int k,
+			final Set<StateMultiset> known, Collection<StateMultiset> next,
+			Collection<StateMultiset> candidates) {
+		int chunks = Math.min(todo.size(), 4 * threads);
+		int chunkSize = (todo.size() + chunks - 1) / chunks;
+		List<Future<Pair<List<StateMultiset>, List<StateMultiset>>>> futures = new ArrayList<>();
+		for (int start = 0; start < todo.size(); start += chunkSize) {
+			final List<StateMultiset> chunk = todo.subList(start, Math.min(todo.size(), start + chunkSize));
+			futures.add(pool.submit(new Callable<Pair<List<StateMultiset>, List<StateMultiset>>>() {
+				@Override
+				public Pair<List<StateMultiset>, List<StateMultiset>> call() {
+					List<StateMultiset> chunkNext = new ArrayList<>();
+					List<StateMultiset> chunkCandidates = new ArrayList<>();
+					examine(chunk, k, known, chunkNext, chunkCandidates);
+					return new Pair<>(chunkNext, chunkCandidates);
+				}
+			}));
+		}
+
+		for (Future<Pair<List<StateMultiset>, List<StateMultiset>>> future : futures) {
+			Pair<List<StateMultiset>, List<StateMultiset>> result = waitFor(future);
+			next.addAll(result.getFirst());
+			candidates.addAll(result.getSecond());
+		}
+	}
+
+	// Wait for the result of a worker while checking the interrupter of the calling thread
+	static private <T> T waitFor(Future<T> future) {
+		while (true) {
+			try {
+				return future.get(INTERRUPT_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new UncheckedInterruptedException();
+			} catch (ExecutionException e) {
+				Throwable t = e.getCause();
+				if (t instanceof RuntimeException)
+					throw (RuntimeException) t;
+				if (t instanceof Error)
+					throw (Error) t;
+				throw new RuntimeException(t);
+			}
+		}
+	}
+
+	/**
+	 * Get the minimal multisets of the given collection. The multisets are handled in order of increasing size,
+	 * so that each multiset only has to be compared with the minimal multisets found so far. These are indexed by
+	 * their first state with non-zero multiplicity, because a multiset can only contain multisets which are
+	 * indexed by one of its states.
+	 */
+	private List<StateMultiset> getMinimalMultisets(Collection<StateMultiset> multisets) {
+		List<StateMultiset> sorted = new ArrayList<>(multisets);
+		Collections.sort(sorted, new Comparator<StateMultiset>() {
+			@Override
+			public int compare(StateMultiset m1, StateMultiset m2) {
+				return Long.compare(m1.size, m2.size);
+			}
+		});
 
-		// Extract minimal regions
+		List<List<StateMultiset>> index = new ArrayList<>(numberOfStates);
+		for (int state = 0; state < numberOfStates; state++)
+			index.add(new ArrayList<StateMultiset>());
+
+		List<StateMultiset> result = new ArrayList<>();
 		candidateLoop:
-		for (Bag<State> candidate : regionCandidates) {
-			for (Bag<State> other : regionCandidates) {
-				if (candidate == other)
-					continue;
-				if (!candidate.containsAll(other))
+		for (StateMultiset candidate : sorted) {
+			for (int state = 0; state < numberOfStates; state++) {
+				if (candidate.getCount(state) == 0)
 					continue;
-				// Skip 'candidate', 'other' is smaller
-				continue candidateLoop;
+				for (StateMultiset other : index.get(state))
+					if (other.isContainedIn(candidate))
+						// Skip 'candidate', 'other' is smaller
+						continue candidateLoop;
 			}
-			regions.add(convertToRegion(candidate));
+			result.add(candidate);
+			index.get(candidate.getFirstState()).add(candidate);
 		}
-
-		debugFormat("Found the following regions: %s", regions);
+		return result;
 	}
 
-	// See expandBelowOrEqual() and expandAboveOrEqual()
-	private Bag<State> expand(Bag<State> input, Event event, int g, boolean forward) {
-		TransitionSystem ts = utility.getTransitionSystem();
-		Bag<State> result = new HashBag<State>();
-
-		for (State state : ts.getNodes()) {
-			int increment = 0;
-			for (Arc arc : forward ? state.getPostsetEdges() : state.getPresetEdges()) {
-				if (arc.getEvent().equals(event)) {
-					int value = getGradient(input, arc) - g;
-					if (!forward)
-						value = -value;
-					if (value > increment)
-						increment = value;
-				}
+	/**
+	 * See expandBelowOrEqual() and expandAboveOrEqual(). Since a multiset with a multiplicity higher than k
+	 * should not be explored, null is returned instead of such a multiset.
+	 */
+	private StateMultiset expand(StateMultiset input, int event, int g, boolean forward, int k) {
+		short[] result = Arrays.copyOf(input.counts, numberOfStates);
+
+		for (int arc : eventArcs[event]) {
+			int value = getGradient(input, arc) - g;
+			int state = arcSource[arc];
+			if (!forward) {
+				value = -value;
+				state = arcTarget[arc];
+			}
+			int count = input.getCount(state) + value;
+			if (count > result[state]) {
+				if (count > k)
+					return null;
+				result[state] = (short) count;
 			}
-			result.add(state, input.getCount(state) + increment);
 		}
 
-		return result;
+		return new StateMultiset(result);
 	}
 
 	// Expand the given multiset so that the gradient of event is "more region-like" and will be <= g
-	private Bag<State> expandBelowOrEqual(Bag<State> input, Event event, int g) {
-		return expand(input, event, g, true);
+	private StateMultiset expandBelowOrEqual(StateMultiset input, int event, int g, int k) {
+		return expand(input, event, g, true, k);
 	}
 
 	// Expand the given multiset so that the gradient of event is "more region-like" and will be >= g
-	private Bag<State> expandAboveOrEqual(Bag<State> input, Event event, int g) {
-		return expand(input, event, g, false);
+	private StateMultiset expandAboveOrEqual(StateMultiset input, int event, int g, int k) {
+		return expand(input, event, g, false, k);
 	}
 
 	/**
@@ -218,97 +464,90 @@ class KBoundedSeparation implements Separation {
 	 * The excitation region of an event e is the (multi)set of states in which it is enabled. Analogously, the
 	 * switching region is the (multi)set of states reached by some arc with label e.
 	 */
-	private void addExcitationAndSwitchingRegions(Collection<Bag<State>> result) {
-		TransitionSystem ts = utility.getTransitionSystem();
-		for (Event event : ts.getAlphabetEvents()) {
-			Set<State> excitation = new HashSet<>();
-			Set<State> switching = new HashSet<>();
-
-			for (Arc arc : ts.getEdges()) {
-				if (arc.getEvent().equals(event)) {
-					excitation.add(arc.getSource());
-					switching.add(arc.getTarget());
-				}
+	private void addExcitationAndSwitchingRegions(Collection<StateMultiset> result) {
+		for (int event = 0; event < eventList.size(); event++) {
+			short[] excitation = new short[numberOfStates];
+			short[] switching = new short[numberOfStates];
+
+			for (int arc : eventArcs[event]) {
+				excitation[arcSource[arc]] = 1;
+				switching[arcTarget[arc]] = 1;
 			}
 
-			debugFormat("For event %s, excitation=%s and switching=%s", event, excitation, switching);
+			StateMultiset excitationRegion = new StateMultiset(excitation);
+			StateMultiset switchingRegion = new StateMultiset(switching);
+			debugFormat("For event %s, excitation=%s and switching=%s", eventList.get(event),
+					excitationRegion, switchingRegion);
 
-			if (!excitation.isEmpty())
-				result.add(new HashBag<>(excitation));
-			if (!switching.isEmpty())
-				result.add(new HashBag<>(switching));
+			// The constructor made sure that each event is the label of some arc
+			assert eventArcs[event].length > 0;
+			result.add(excitationRegion);
+			result.add(switchingRegion);
 		}
 	}
 
 	// Check if r is a region and if not return information on why not
-	private Pair<Event, Integer> findEventWithNonConstantGradient(Bag<State> r) {
-		TransitionSystem ts = utility.getTransitionSystem();
-		Map<Event, Integer> gradients = new HashMap<>();
-		Event nonConstantGradientEvent = null;
-		int minGradient = Integer.MAX_VALUE;
-		int maxGradient = Integer.MIN_VALUE;
-
-		for (Arc arc : ts.getEdges()) {
-			if (nonConstantGradientEvent == null) {
-				int gradient = getGradient(r, arc);
-				Integer old = gradients.put(arc.getEvent(), gradient);
-				if (old != null && old != gradient) {
-					nonConstantGradientEvent = arc.getEvent();
-					minGradient = Math.min(gradient, old);
-					maxGradient = Math.max(gradient, old);
-				}
-			} else if (nonConstantGradientEvent.equals(arc.getEvent())) {
-				int gradient = getGradient(r, arc);
-				minGradient = Math.min(minGradient, gradient);
-				maxGradient = Math.max(maxGradient, gradient);
+	private Pair<Integer, Integer> findEventWithNonConstantGradient(StateMultiset r) {
+		int[] gradients = new int[eventList.size()];
+		boolean[] seen = new boolean[eventList.size()];
+		int nonConstantGradientEvent = -1;
+
+		for (int arc = 0; arc < arcEvent.length; arc++) {
+			int event = arcEvent[arc];
+			int gradient = getGradient(r, arc);
+			if (seen[event] && gradients[event] != gradient) {
+				nonConstantGradientEvent = event;
+				break;
 			}
+			seen[event] = true;
+			gradients[event] = gradient;
 		}
 
-		if (nonConstantGradientEvent == null)
+		if (nonConstantGradientEvent == -1)
 			return null;
 
+		int minGradient = Integer.MAX_VALUE;
+		int maxGradient = Integer.MIN_VALUE;
+		for (int arc : eventArcs[nonConstantGradientEvent]) {
+			int gradient = getGradient(r, arc);
+			minGradient = Math.min(minGradient, gradient);
+			maxGradient = Math.max(maxGradient, gradient);
+		}
+
 		// Yup, this should round down
 		int average = (minGradient + maxGradient) >> 1;
 		debugFormat("For %s: average %d, max gradient is %d and min gradient is %d for multiset %s",
-				nonConstantGradientEvent, average, maxGradient, minGradient, r);
-		return new Pair<Event, Integer>(nonConstantGradientEvent, average);
+				eventList.get(nonConstantGradientEvent), average, maxGradient, minGradient, r);
+		return new Pair<Integer, Integer>(nonConstantGradientEvent, average);
 	}
 
-	private int getGradient(Bag<State> r, Arc arc) {
-		return r.getCount(arc.getTarget()) - r.getCount(arc.getSource());
+	private int getGradient(StateMultiset r, int arc) {
+		return r.getCount(arcTarget[arc]) - r.getCount(arcSource[arc]);
 	}
 
-	private boolean shouldExplore(Bag<State> r, int k) {
-		// Don't continue if no state has cardinality zero, because the result won't be a minimal region
-		if (r.containsAll(utility.getTransitionSystem().getNodes()))
-			return false;
-
-		// Don't continue if some state has cardinality higher than k
-		for (State state : r.uniqueSet())
-			if (r.getCount(state) > k)
-				return false;
-
-		return true;
+	private boolean shouldExplore(StateMultiset r) {
+		// Don't continue if no state has cardinality zero, because the result won't be a minimal region.
+		// Multisets where some state has cardinality higher than k were already discarded by expand().
+		for (int state = 0; state < numberOfStates; state++)
+			if (r.getCount(state) == 0)
+				return true;
+		return false;
 	}
 
-	private Region convertToRegion(Bag<State> r) {
-		TransitionSystem ts = utility.getTransitionSystem();
+	private Region convertToRegion(StateMultiset r) {
 		Region.Builder builder = new Region.Builder(utility);
 
-		for (Event event : ts.getAlphabetEvents()) {
-			Arc representativeArc = null;
-			int minEnabledValue = Integer.MAX_VALUE;
-			for (Arc arc : ts.getEdges()) {
-				if (arc.getEvent().equals(event)) {
-					representativeArc = arc;
-					minEnabledValue = Math.min(minEnabledValue, r.getCount(arc.getSource()));
-				}
-			}
+		for (int event = 0; event < eventList.size(); event++) {
+			int[] arcs = eventArcs[event];
 
 			// TS should not have an event which is not the label of any arc
-			assert representativeArc != null;
+			assert arcs.length > 0;
+
+			int minEnabledValue = Integer.MAX_VALUE;
+			for (int arc : arcs)
+				minEnabledValue = Math.min(minEnabledValue, r.getCount(arcSource[arc]));
 
-			int gradient = getGradient(r, representativeArc);
+			int gradient = getGradient(r, arcs[0]);
 			int forward = 0;
 			int backward = 0;
 			if (!pure) {
@@ -321,12 +560,12 @@ class KBoundedSeparation implements Separation {
 					backward = -gradient;
 			}
 
-			builder.addWeightOn(event.getLabel(), BigInteger.valueOf(-backward));
-			builder.addWeightOn(event.getLabel(), BigInteger.valueOf(forward));
+			String label = eventList.get(event).getLabel();
+			builder.addWeightOn(label, BigInteger.valueOf(-backward));
+			builder.addWeightOn(label, BigInteger.valueOf(forward));
 		}
 
-		int initial = r.getCount(utility.getTransitionSystem().getInitialState());
-		Region region = builder.withInitialMarking(BigInteger.valueOf(initial));
+		Region region = builder.withInitialMarking(BigInteger.valueOf(r.getCount(initialState)));
 		debugFormat("Region %s corresponds to %s", region, r);
 		return region;
 	}
@@ -0,0 +1,419 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize.separation;
+
+import static uniol.apt.util.DebugUtil.debug;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.sat4j.core.VecInt;
+import org.sat4j.minisat.SolverFactory;
+import org.sat4j.specs.ContradictionException;
+import org.sat4j.specs.ISolver;
+import org.sat4j.specs.ISolverService;
+import org.sat4j.specs.TimeoutException;
+import org.sat4j.tools.SearchListenerAdapter;
+
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.analysis.synthesize.PNProperties;
+import uniol.apt.analysis.synthesize.Region;
+import uniol.apt.analysis.synthesize.RegionUtility;
+import uniol.apt.util.Metrics;
+import uniol.apt.util.interrupt.Interrupter;
+import uniol.apt.util.interrupt.InterrupterRegistry;
+import uniol.apt.util.interrupt.UncheckedInterruptedException;
+
+/**
+ * This class finds k-bounded solutions to separation problems with a SAT solver.
+ *
+ * In a k-bounded region, every marking is between zero and k. Instead of describing markings via Parikh vectors, the
+ * marking of each reachable state is a variable of its own. Each arc s[e&gt;s' then requires r(s) &gt;= b(e) and
+ * r(s') = r(s) + effect(e), where effect(e) = f(e) - b(e) is another variable. Since all variables have small
+ * domains, they can be represented in the order encoding where a boolean variable says "x &gt;= i" for each possible
+ * value i. Linear constraints over few such variables become clauses that forbid all combinations of values that
+ * violate the constraint.
+ *
+ * The clauses describing regions are added once. The clauses for a separation problem are guarded by a new
+ * activation literal which is assumed while solving and afterwards disabled for good. While the solver searches, the
+ * interrupter of the current thread is checked regularly.
+ *
+ * This implementation is never picked automatically. It can be selected by setting the system property
+ * apt.separationImplementation to SATSeparation.
+ * @author agent
+ */
+class SATSeparation implements Separation {
+	static private final Metrics.Timer SOLVE = Metrics.timer("separation.sat.solve");
+
+	private final RegionUtility utility;
+	private final ISolver solver = SolverFactory.newDefault();
+	private final IntegerVariable[] backward;
+	private final IntegerVariable[] forward;
+	// The effect f(e) - b(e) of each event, shifted by the largest backward weight so that it is not negative
+	private final IntegerVariable[] effect;
+	private final Map<State, IntegerVariable> markings = new HashMap<>();
+	private final IntegerVariable initialMarking;
+	private boolean unsatisfiable = false;
+
+	/**
+	 * An integer variable in the order encoding.
+	 */
+	static private class IntegerVariable {
+		private final int upperBound;
+		// greaterEqual[i] is the SAT variable that says "x >= i + 1"
+		private final int[] greaterEqual;
+
+		private IntegerVariable(ISolver solver, int upperBound) throws ContradictionException {
+			this.upperBound = upperBound;
+			this.greaterEqual = new int[upperBound];
+			for (int i = 0; i < upperBound; i++)
+				greaterEqual[i] = solver.nextFreeVarId(true);
+			for (int i = 1; i < upperBound; i++)
+				solver.addClause(new VecInt(new int[] { -greaterEqual[i], greaterEqual[i - 1] }));
+		}
+
+		private int getValue(ISolver solver) {
+			int value = 0;
+			while (value < upperBound && solver.model(greaterEqual[value]))
+				value++;
+			return value;
+		}
+	}
+
+	/**
+	 * Search listener which stops the solver when the interrupter of the solving thread requests an interruption.
+	 * The solver then throws a {@link TimeoutException}.
+	 */
+	static private class InterruptingSearchListener extends SearchListenerAdapter<ISolverService> {
+		private static final long serialVersionUID = 1L;
+
+		private final transient ISolver solver;
+		private transient Interrupter interrupter;
+
+		private InterruptingSearchListener(ISolver solver) {
+			this.solver = solver;
+		}
+
+		@Override
+		public void start() {
+			// The search runs in the thread which wants to solve a separation problem
+			interrupter = InterrupterRegistry.getCurrentThreadInterrupter();
+		}
+
+		@Override
+		public void beginLoop() {
+			if (interrupter.isInterruptRequested())
+				solver.expireTimeout();
+		}
+	}
+
+	/**
+	 * Construct a new instance for solving separation problems.
+	 * @param utility The region utility to use.
+	 * @param properties Properties that the calculated region should satisfy.
+	 * @param locationMap Mapping that describes the location of each event.
+	 * @throws UnsupportedPNPropertiesException If the requested properties are not supported.
+	 */
+	public SATSeparation(RegionUtility utility, PNProperties properties, String[] locationMap)
+			throws UnsupportedPNPropertiesException {
+		this.utility = utility;
+
+		// Are we the right Separation implementation for the task?
+		if (!properties.isKBounded())
+			throw new UnsupportedPNPropertiesException();
+		int k = properties.getKForKBounded();
+		PNProperties supported = new PNProperties()
+			.requireKBounded(k)
+			.setPure(true)
+			.setPlain(true);
+		if (properties.isKMarking())
+			supported = supported.requireKMarking(properties.getKForKMarking());
+		if (!supported.containsAll(properties))
+			throw new UnsupportedPNPropertiesException();
+
+		// Backward weights larger than k can only be useful for events which never occur. k + 1 is enough to
+		// disable them everywhere.
+		int numberOfEvents = utility.getNumberOfEvents();
+		int maxBackward = properties.isPlain() ? 1 : k + 1;
+		int maxForward = properties.isPlain() ? Math.min(1, k) : k;
+		backward = new IntegerVariable[numberOfEvents];
+		forward = new IntegerVariable[numberOfEvents];
+		effect = new IntegerVariable[numberOfEvents];
+		IntegerVariable initial = null;
+		try {
+			solver.setTimeout(Integer.MAX_VALUE);
+			solver.setSearchListener(new InterruptingSearchListener(solver));
+			for (int event = 0; event < numberOfEvents; event++) {
+				backward[event] = new IntegerVariable(solver, maxBackward);
+				forward[event] = new IntegerVariable(solver, maxForward);
+				effect[event] = new IntegerVariable(solver, maxBackward + maxForward);
+
+				// effect(e) - f(e) + b(e) = maxBackward
+				IntegerVariable[] vars = { backward[event], forward[event], effect[event] };
+				addLinear(0, new int[] { 1, -1, 1 }, vars, maxBackward);
+				addLinear(0, new int[] { -1, 1, -1 }, vars, -maxBackward);
+				if (properties.isPure())
+					// Not both b(e) >= 1 and f(e) >= 1
+					addClause(0, new int[] { negate(getGreaterEqual(backward[event], 1)),
+						negate(getGreaterEqual(forward[event], 1)) });
+			}
+
+			// Events from different locations may not both consume tokens from a region
+			for (int event = 0; event < numberOfEvents; event++)
+				for (int otherEvent = event + 1; otherEvent < numberOfEvents; otherEvent++)
+					if (locationMap[event] != null && locationMap[otherEvent] != null
+							&& !locationMap[event].equals(locationMap[otherEvent]))
+						addClause(0, new int[] {
+							negate(getGreaterEqual(backward[event], 1)),
+							negate(getGreaterEqual(backward[otherEvent], 1)) });
+
+			for (State state : utility.getTransitionSystem().getNodes())
+				if (utility.getSpanningTree().isReachable(state))
+					markings.put(state, new IntegerVariable(solver, k));
+			initial = markings.get(utility.getTransitionSystem().getInitialState());
+
+			if (properties.isKMarking())
+				for (int value = 0; value <= k; value++)
+					if (value % properties.getKForKMarking() != 0)
+						addNotEqual(0, initial, value);
+
+			for (Arc arc : utility.getTransitionSystem().getEdges()) {
+				IntegerVariable source = markings.get(arc.getSource());
+				if (source == null)
+					// Just ignore unreachable arcs
+					continue;
+				IntegerVariable target = markings.get(arc.getTarget());
+				int event = utility.getEventIndex(arc.getLabel());
+
+				// r(s) - b(e) >= 0
+				addLinear(0, new int[] { 1, -1 }, new IntegerVariable[] { source, backward[event] }, 0);
+
+				// r(s') - r(s) - effect(e) = -maxBackward, i.e. r(s') = r(s) - b(e) + f(e)
+				IntegerVariable[] vars = { target, source, effect[event] };
+				addLinear(0, new int[] { 1, -1, -1 }, vars, -maxBackward);
+				addLinear(0, new int[] { -1, 1, 1 }, vars, maxBackward);
+			}
+		} catch (ContradictionException e) {
+			// There are no regions at all, so no separation problem can be solved
+			debug("No k-bounded regions exist: ", e);
+			unsatisfiable = true;
+		}
+		this.initialMarking = initial;
+	}
+
+	/**
+	 * Get the literal that says "variable &gt;= value".
+	 * @return A literal, or zero if the value is always reached, or Integer.MIN_VALUE if it is never reached.
+	 */
+	static private int getGreaterEqual(IntegerVariable variable, int value) {
+		if (value <= 0)
+			return 0;
+		if (value > variable.upperBound)
+			return Integer.MIN_VALUE;
+		return variable.greaterEqual[value - 1];
+	}
+
+	/**
+	 * Add a clause to the solver. The literal zero is always true and thus makes the clause redundant. The literal
+	 * Integer.MIN_VALUE is always false and is thus left out. {@link #negate(int)} turns one into the other.
+	 * @param activation Zero or an activation literal which must be assumed for this clause to be active.
+	 * @param literals The literals of the clause.
+	 */
+	private void addClause(int activation, int[] literals) throws ContradictionException {
+		VecInt clause = new VecInt(literals.length + 1);
+		for (int literal : literals) {
+			if (literal == 0)
+				return;
+			if (literal != Integer.MIN_VALUE)
+				clause.push(literal);
+		}
+		if (activation != 0)
+			clause.push(-activation);
+		solver.addClause(clause);
+	}
+
+	/**
+	 * Add the constraint "variable != value".
+	 */
+	private void addNotEqual(int activation, IntegerVariable variable, int value)
+			throws ContradictionException {
+		addClause(activation, new int[] { negate(getGreaterEqual(variable, value)),
+			getGreaterEqual(variable, value + 1) });
+	}
+
+	static private int negate(int literal) {
+		if (literal == 0)
+			return Integer.MIN_VALUE;
+		if (literal == Integer.MIN_VALUE)
+			return 0;
+		return -literal;
+	}
+
+	/**
+	 * Add the constraint sum(coefficients[i] * variables[i]) &gt;= bound. For each combination of values for all
+	 * but the last variable, a clause says which value the last variable needs.
+	 */
+	private void addLinear(int activation, int[] coefficients, IntegerVariable[] variables, int bound)
+			throws ContradictionException {
+		addLinear(activation, coefficients, variables, bound, 0, new int[variables.length - 1]);
+	}
+
+	private void addLinear(int activation, int[] coefficients, IntegerVariable[] variables, int bound,
+			int index, int[] literals) throws ContradictionException {
+		int last = variables.length - 1;
+		if (index < last) {
+			// If the other variables are at most (for positive coefficients) or at least (negative
+			// coefficients) this value, then...
+			for (int value = 0; value <= variables[index].upperBound; value++) {
+				if (coefficients[index] > 0)
+					literals[index] = getGreaterEqual(variables[index], value + 1);
+				else
+					literals[index] = negate(getGreaterEqual(variables[index], value));
+				addLinear(activation, coefficients, variables, bound - coefficients[index] * value,
+						index + 1, literals);
+			}
+			return;
+		}
+
+		// ...the last variable must make up for the rest
+		int[] clause = Arrays.copyOf(literals, variables.length);
+		int coefficient = coefficients[last];
+		if (coefficient > 0)
+			clause[last] = getGreaterEqual(variables[last], divideRoundingUp(bound, coefficient));
+		else
+			// coefficient * x >= bound iff x <= bound / coefficient (rounding down)
+			clause[last] = negate(getGreaterEqual(variables[last],
+						divideRoundingDown(bound, coefficient) + 1));
+		addClause(activation, clause);
+	}
+
+	static private int divideRoundingUp(int dividend, int divisor) {
+		return -divideRoundingDown(-dividend, divisor);
+	}
+
+	static private int divideRoundingDown(int dividend, int divisor) {
+		int result = dividend / divisor;
+		if ((dividend % divisor != 0) && ((dividend < 0) != (divisor < 0)))
+			result--;
+		return result;
+	}
+
+	/**
+	 * Solve the region constraints together with the clauses guarded by the given activation literal and
+	 * afterwards disable these clauses.
+	 * @return A region or null.
+	 */
+	private Region solve(int activation) {
+		try {
+			long start = SOLVE.start();
+			boolean satisfiable;
+			try {
+				satisfiable = solver.isSatisfiable(new VecInt(new int[] { activation }));
+			} finally {
+				SOLVE.stop(start);
+			}
+			if (!satisfiable)
+				return null;
+
+			List<BigInteger> backwardWeights = new ArrayList<>();
+			List<BigInteger> forwardWeights = new ArrayList<>();
+			for (int event = 0; event < utility.getNumberOfEvents(); event++) {
+				backwardWeights.add(BigInteger.valueOf(backward[event].getValue(solver)));
+				forwardWeights.add(BigInteger.valueOf(forward[event].getValue(solver)));
+			}
+			Region r = new Region.Builder(utility, backwardWeights, forwardWeights)
+				.withInitialMarking(BigInteger.valueOf(initialMarking.getValue(solver)));
+			debug("region: ", r);
+			return r;
+		} catch (TimeoutException e) {
+			throw new UncheckedInterruptedException();
+		} finally {
+			try {
+				solver.addClause(new VecInt(new int[] { -activation }));
+			} catch (ContradictionException e) {
+				// The guarded clauses can never be used again, which is exactly what we want
+				debug("Activation literal is implied: ", e);
+			}
+		}
+	}
+
+	/**
+	 * Get a region solving some separation problem.
+	 * @param state The first state of the separation problem
+	 * @param otherState The second state of the separation problem
+	 * @return A region solving the problem or null.
+	 */
+	@Override
+	public Region calculateSeparatingRegion(State state, State otherState) {
+		InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+		IntegerVariable marking = markings.get(state);
+		IntegerVariable otherMarking = markings.get(otherState);
+
+		// Unreachable states cannot be separated
+		if (unsatisfiable || marking == null || otherMarking == null)
+			return null;
+
+		int activation = solver.nextFreeVarId(true);
+		try {
+			// r(s) != r(s'), so for each value not both states may have it
+			for (int value = 0; value <= marking.upperBound; value++)
+				addClause(activation, new int[] {
+					negate(getGreaterEqual(marking, value)), getGreaterEqual(marking, value + 1),
+					negate(getGreaterEqual(otherMarking, value)),
+					getGreaterEqual(otherMarking, value + 1) });
+		} catch (ContradictionException e) {
+			throw new AssertionError("Guarded clauses cannot be contradictory", e);
+		}
+		return solve(activation);
+	}
+
+	/**
+	 * Get a region solving some separation problem.
+	 * @param state The state of the separation problem
+	 * @param event The event of the separation problem
+	 * @return A region solving the problem or null.
+	 */
+	@Override
+	public Region calculateSeparatingRegion(State state, String event) {
+		InterrupterRegistry.throwIfInterruptRequestedForCurrentThread();
+		IntegerVariable marking = markings.get(state);
+
+		// Unreachable states cannot be separated
+		if (unsatisfiable || marking == null)
+			return null;
+
+		int activation = solver.nextFreeVarId(true);
+		try {
+			// b(e) - r(s) >= 1
+			addLinear(activation, new int[] { -1, 1 },
+					new IntegerVariable[] { marking, backward[utility.getEventIndex(event)] }, 1);
+		} catch (ContradictionException e) {
+			throw new AssertionError("Guarded clauses cannot be contradictory", e);
+		}
+		return solve(activation);
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -25,6 +25,7 @@ import java.util.List;
 import uniol.apt.module.Module;
 import uniol.apt.module.exception.ModuleException;
 import uniol.apt.module.exception.ModuleInvocationException;
+import uniol.apt.util.Metrics;
 
 /**
  * A class that calls
@@ -96,7 +97,13 @@ public class ModuleInvoker {
 
 		ModuleOutputImpl output = ModuleUtils.getModuleOutput(module);
 
-		module.run(input, output);
+		Metrics.Timer timer = Metrics.timer("module." + module.getName());
+		long start = timer.start();
+		try {
+			module.run(input, output);
+		} finally {
+			timer.stop(start);
+		}
 
 		List<ReturnValue> returnValues = ModuleUtils.getReturnValues(module);
 		List<Object> values = new ArrayList<>();
@@ -0,0 +1,133 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.adt.automaton;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uniol.apt.adt.automaton.HopcroftMinimization.calculateEquivalenceClasses;
+
+/**
+ * @author agent
+ */
+public class HopcroftMinimizationTest {
+	// Moore's algorithm: Refine until the class of each state together with the classes of its successors does not
+	// change anymore.
+	static private int[] mooreEquivalenceClasses(int numberOfSymbols, int[] transitions, boolean[] finalStates) {
+		int n = finalStates.length;
+		int[] classes = new int[n];
+		for (int state = 0; state < n; state++)
+			classes[state] = finalStates[state] ? 1 : 0;
+		while (true) {
+			int[] newClasses = new int[n];
+			int numberOfClasses = 0;
+			for (int state = 0; state < n; state++) {
+				newClasses[state] = -1;
+				for (int other = 0; other < state; other++) {
+					if (sameSignature(numberOfSymbols, transitions, classes, state, other)) {
+						newClasses[state] = newClasses[other];
+						break;
+					}
+				}
+				if (newClasses[state] == -1)
+					newClasses[state] = numberOfClasses++;
+			}
+			if (Arrays.equals(classes, newClasses))
+				return classes;
+			classes = newClasses;
+		}
+	}
+
+	static private boolean sameSignature(int numberOfSymbols, int[] transitions, int[] classes, int s1, int s2) {
+		if (classes[s1] != classes[s2])
+			return false;
+		for (int symbol = 0; symbol < numberOfSymbols; symbol++)
+			if (classes[transitions[s1 * numberOfSymbols + symbol]]
+					!= classes[transitions[s2 * numberOfSymbols + symbol]])
+				return false;
+		return true;
+	}
+
+	@Test
+	public void testSingleState() {
+		assertThat(calculateEquivalenceClasses(2, new int[] { 0, 0 }, new boolean[] { true }),
+				equalTo(new int[] { 0 }));
+		assertThat(calculateEquivalenceClasses(0, new int[0], new boolean[] { false }),
+				equalTo(new int[] { 0 }));
+	}
+
+	@Test
+	public void testAllFinal() {
+		int[] transitions = { 1, 2, 0 };
+		assertThat(calculateEquivalenceClasses(1, transitions, new boolean[] { true, true, true }),
+				equalTo(new int[] { 0, 0, 0 }));
+	}
+
+	@Test
+	public void testCycle() {
+		// A cycle of length six where every second state is final
+		int[] transitions = { 1, 2, 3, 4, 5, 0 };
+		boolean[] finalStates = { true, false, true, false, true, false };
+		assertThat(calculateEquivalenceClasses(1, transitions, finalStates),
+				equalTo(new int[] { 0, 1, 0, 1, 0, 1 }));
+	}
+
+	@Test
+	public void testPathWithSink() {
+		// States 0 -a-> 1 -a-> 2 -a-> 3 (sink), b always leads to the sink, only state 2 is final
+		int[] transitions = { 1, 3, 2, 3, 3, 3, 3, 3 };
+		boolean[] finalStates = { false, false, true, false };
+		assertThat(calculateEquivalenceClasses(2, transitions, finalStates),
+				equalTo(new int[] { 0, 1, 2, 3 }));
+	}
+
+	@DataProvider(name = "seeds")
+	private Object[][] createSeeds() {
+		Object[][] result = new Object[20][];
+		for (int i = 0; i < result.length; i++)
+			result[i] = new Object[] { i };
+		return result;
+	}
+
+	@Test(dataProvider = "seeds")
+	public void testSameAsMoore(int seed) {
+		Random random = new Random(seed);
+		int numberOfStates = 1 + random.nextInt(60);
+		int numberOfSymbols = 1 + random.nextInt(3);
+		// Few target states give many equivalent states
+		int numberOfTargets = 1 + random.nextInt(numberOfStates);
+		int[] transitions = new int[numberOfStates * numberOfSymbols];
+		for (int i = 0; i < transitions.length; i++)
+			transitions[i] = random.nextInt(numberOfTargets);
+		boolean[] finalStates = new boolean[numberOfStates];
+		for (int i = 0; i < numberOfStates; i++)
+			finalStates[i] = random.nextInt(4) == 0;
+
+		assertThat(calculateEquivalenceClasses(numberOfSymbols, transitions, finalStates),
+				equalTo(mooreEquivalenceClasses(numberOfSymbols, transitions, finalStates)));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
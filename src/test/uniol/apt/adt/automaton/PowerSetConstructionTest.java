@@ -0,0 +1,138 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.adt.automaton;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uniol.apt.adt.automaton.FiniteAutomatonUtility.*;
+
+/**
+ * @author agent
+ */
+public class PowerSetConstructionTest {
+	static private FiniteAutomaton getAnySymbol(int numberOfSymbols) {
+		FiniteAutomaton result = getEmptyLanguage();
+		for (int i = 0; i < numberOfSymbols; i++)
+			result = union(result, getAtomicLanguage(new Symbol("s" + i)));
+		return result;
+	}
+
+	// Words over the given number of symbols where the n-th symbol from the end is s0
+	static private FiniteAutomaton getNthFromEnd(int numberOfSymbols, int n) {
+		FiniteAutomaton any = getAnySymbol(numberOfSymbols);
+		FiniteAutomaton result = concatenate(kleeneStar(any), getAtomicLanguage(new Symbol("s0")));
+		for (int i = 1; i < n; i++)
+			result = concatenate(result, any);
+		return result;
+	}
+
+	static private FiniteAutomaton getRandomAutomaton(Random random, int numberOfSymbols, int depth) {
+		if (depth == 0)
+			return getAtomicLanguage(new Symbol("s" + random.nextInt(numberOfSymbols)));
+		switch (random.nextInt(4)) {
+			case 0:
+				return union(getRandomAutomaton(random, numberOfSymbols, depth - 1),
+						getRandomAutomaton(random, numberOfSymbols, depth - 1));
+			case 1:
+				return concatenate(getRandomAutomaton(random, numberOfSymbols, depth - 1),
+						getRandomAutomaton(random, numberOfSymbols, depth - 1));
+			case 2:
+				return kleeneStar(getRandomAutomaton(random, numberOfSymbols, depth - 1));
+			default:
+				return optional(getRandomAutomaton(random, numberOfSymbols, depth - 1));
+		}
+	}
+
+	static private int countStates(DeterministicFiniteAutomaton dfa) {
+		int result = 0;
+		for (DFAState state : statesIterable(dfa))
+			result++;
+		return result;
+	}
+
+	@Test
+	public void testLazyConstruction() {
+		PowerSetConstruction dfa = new PowerSetConstruction(getNthFromEnd(3, 4));
+		assertThat(dfa.getNumberOfConstructedStates(), equalTo(1));
+
+		// Transitions are only calculated when needed and then remembered
+		DFAState state = dfa.getInitialState();
+		DFAState next = state.getFollowingState(new Symbol("s0"));
+		assertThat(next, not(sameInstance(state)));
+		assertThat(dfa.getNumberOfConstructedStates(), equalTo(2));
+		assertThat(state.getFollowingState(new Symbol("s0")), sameInstance(next));
+		assertThat(dfa.getNumberOfConstructedStates(), equalTo(2));
+
+		assertThat(state.getFollowingState(new Symbol("unknown")), nullValue());
+		assertThat(state.getFollowingState(Symbol.EPSILON), nullValue());
+	}
+
+	@Test
+	public void testEmptyLanguage() {
+		DeterministicFiniteAutomaton dfa = constructDFA(getEmptyLanguage());
+		assertThat(dfa.getAlphabet(), empty());
+		assertThat(dfa.getInitialState().isFinalState(), is(false));
+		assertThat(countStates(dfa), equalTo(1));
+	}
+
+	@Test
+	public void testManySymbols() {
+		// The minimal DFA needs one state for each subset of the last n positions
+		int n = 6;
+		DeterministicFiniteAutomaton dfa = constructDFA(getNthFromEnd(25, n));
+		assertThat(dfa.getAlphabet(), hasSize(25));
+		assertThat(countStates(dfa), greaterThanOrEqualTo(1 << n));
+		assertThat(countStates(minimize(dfa)), equalTo(1 << n));
+	}
+
+	@DataProvider(name = "seeds")
+	private Object[][] createSeeds() {
+		Object[][] result = new Object[20][];
+		for (int i = 0; i < result.length; i++)
+			result[i] = new Object[] { i };
+		return result;
+	}
+
+	@Test(dataProvider = "seeds")
+	public void testSameLanguage(int seed) {
+		Random random = new Random(seed);
+		int numberOfSymbols = 1 + random.nextInt(4);
+		FiniteAutomaton automaton = getRandomAutomaton(random, numberOfSymbols, 5);
+		DeterministicFiniteAutomaton dfa = constructDFA(automaton);
+
+		for (int i = 0; i < 200; i++) {
+			List<String> word = new ArrayList<>();
+			int length = random.nextInt(8);
+			for (int j = 0; j < length; j++)
+				word.add("s" + random.nextInt(numberOfSymbols));
+			assertThat(word.toString(), isWordInLanguage(dfa, word),
+					equalTo(isWordInLanguage(automaton, word)));
+		}
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
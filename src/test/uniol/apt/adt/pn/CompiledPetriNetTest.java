@@ -0,0 +1,132 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.adt.pn;
+
+import org.testng.annotations.Test;
+import uniol.apt.adt.exception.TransitionFireException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/** @author agent */
+public class CompiledPetriNetTest {
+	private PetriNet getNet() {
+		// t1 moves a token from p1 to p2 and keeps a token on p3, t2 consumes two tokens from p2
+		PetriNet pn = new PetriNet();
+		Place p1 = pn.createPlace("p1");
+		Place p2 = pn.createPlace("p2");
+		Place p3 = pn.createPlace("p3");
+		Transition t1 = pn.createTransition("t1");
+		Transition t2 = pn.createTransition("t2");
+		pn.createFlow(p1, t1);
+		pn.createFlow(t1, p2);
+		pn.createFlow(p3, t1);
+		pn.createFlow(t1, p3);
+		pn.createFlow(p2, t2, 2);
+		p1.setInitialToken(2);
+		p3.setInitialToken(1);
+		return pn;
+	}
+
+	@Test
+	public void testCaching() {
+		PetriNet pn = getNet();
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		assertThat(CompiledPetriNet.get(pn), sameInstance(compiled));
+		pn.createPlace();
+		assertThat(CompiledPetriNet.get(pn), not(sameInstance(compiled)));
+	}
+
+	@Test
+	public void testFireInPlace() {
+		PetriNet pn = getNet();
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		int t1 = compiled.getTransitionIndex(pn.getTransition("t1"));
+		int t2 = compiled.getTransitionIndex(pn.getTransition("t2"));
+		long[] tokens = compiled.getTokens(pn.getInitialMarking(), null);
+		assertThat(tokens, equalTo(new long[] { 2, 0, 1 }));
+
+		assertThat(compiled.isFireable(t1, tokens), is(true));
+		assertThat(compiled.isFireable(t2, tokens), is(false));
+		compiled.fire(t1, tokens, tokens);
+		assertThat(tokens, equalTo(new long[] { 1, 1, 1 }));
+		compiled.fire(t1, tokens, tokens);
+		assertThat(tokens, equalTo(new long[] { 0, 2, 1 }));
+		assertThat(compiled.isFireable(t1, tokens), is(false));
+
+		long[] result = new long[compiled.getPlaceCount()];
+		compiled.fire(t2, tokens, result);
+		assertThat(tokens, equalTo(new long[] { 0, 2, 1 }));
+		assertThat(result, equalTo(new long[] { 0, 0, 1 }));
+		assertThat(compiled.getMarking(result), equalTo(new Marking(pn, 0, 0, 1)));
+	}
+
+	@Test
+	public void testFireOmega() {
+		PetriNet pn = getNet();
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		int t2 = compiled.getTransitionIndex(pn.getTransition("t2"));
+		long[] tokens = { 0, CompiledPetriNet.OMEGA, 1 };
+		compiled.fire(t2, tokens, tokens);
+		assertThat(tokens, equalTo(new long[] { 0, CompiledPetriNet.OMEGA, 1 }));
+	}
+
+	@Test
+	public void testFireableTransitions() {
+		PetriNet pn = getNet();
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		int t1 = compiled.getTransitionIndex(pn.getTransition("t1"));
+		int t2 = compiled.getTransitionIndex(pn.getTransition("t2"));
+		long[] tokens = compiled.getTokens(pn.getInitialMarking(), null);
+		int[] fireable = compiled.getFireableTransitions(tokens);
+		assertThat(fireable, equalTo(new int[] { t1 }));
+
+		compiled.fire(t1, tokens, tokens);
+		fireable = compiled.getFireableTransitions(fireable, t1, tokens);
+		assertThat(fireable, equalTo(new int[] { t1 }));
+
+		compiled.fire(t1, tokens, tokens);
+		fireable = compiled.getFireableTransitions(fireable, t1, tokens);
+		assertThat(fireable, equalTo(new int[] { t2 }));
+
+		compiled.fire(t2, tokens, tokens);
+		fireable = compiled.getFireableTransitions(fireable, t2, tokens);
+		assertThat(fireable, equalTo(new int[0]));
+	}
+
+	@Test(expectedExceptions = TransitionFireException.class)
+	public void testFireNotFireable() {
+		PetriNet pn = getNet();
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		compiled.fire(compiled.getTransitionIndex(pn.getTransition("t2")), pn.getInitialMarking());
+	}
+
+	@Test
+	public void testFireMarking() {
+		PetriNet pn = getNet();
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		Marking m = pn.getInitialMarking();
+		Marking result = compiled.fire(compiled.getTransitionIndex(pn.getTransition("t1")), m);
+		assertThat(m, equalTo(new Marking(pn, 2, 0, 1)));
+		assertThat(result, equalTo(new Marking(pn, 1, 1, 1)));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
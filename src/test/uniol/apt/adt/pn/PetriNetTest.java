@@ -145,6 +145,27 @@ public class PetriNetTest {
 		petriNetEquals(pnCopy, pn);
 	}
 
+	@Test
+	public void testPlaceIndex() {
+		PetriNet pn = new PetriNet("testPlaceIndex");
+		Place s0 = pn.createPlace("s0");
+		Place s1 = pn.createPlace("s1");
+		Place s2 = pn.createPlace("s2");
+		Marking mark = new Marking(pn, 1, 2, 3);
+		assertEquals(s0.getIndex(), 0);
+		assertEquals(s1.getIndex(), 1);
+		assertEquals(s2.getIndex(), 2);
+		pn.removePlace(s1);
+		assertEquals(s0.getIndex(), 0);
+		assertEquals(s1.getIndex(), -1);
+		assertEquals(s2.getIndex(), 1);
+		assertEquals(mark.getToken(s0), Token.valueOf(1));
+		assertEquals(mark.getToken(s2), Token.valueOf(3));
+		Place s3 = pn.createPlace("s3");
+		assertEquals(s3.getIndex(), 2);
+		assertEquals(mark.getToken(s3), Token.ZERO);
+	}
+
 	@Test
 	public void testPrePostset() {
 		PetriNet pn = new PetriNet("testPrePostset");
@@ -0,0 +1,162 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.adt.ts;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+import uniol.apt.adt.exception.NoSuchEventException;
+import uniol.apt.adt.exception.NoSuchNodeException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/** @author agent */
+public class FrozenTransitionSystemTest {
+	private TransitionSystem getTS() {
+		TransitionSystem ts = new TransitionSystem();
+		ts.createStates("s0", "s1", "s2");
+		ts.createArc("s0", "s2", "b");
+		ts.createArc("s0", "s1", "b");
+		ts.createArc("s0", "s1", "a");
+		ts.createArc("s1", "s0", "c");
+		ts.createArc("s2", "s0", "a");
+		ts.createArc("s2", "s2", "a");
+		ts.setInitialState("s1");
+		return ts;
+	}
+
+	@Test
+	public void testCaching() {
+		TransitionSystem ts = getTS();
+		FrozenTransitionSystem frozen = ts.freeze();
+		assertThat(ts.freeze(), sameInstance(frozen));
+		assertThat(FrozenTransitionSystem.get(ts), sameInstance(frozen));
+		assertThat(frozen.getTransitionSystem(), sameInstance(ts));
+		ts.createArc("s1", "s2", "d");
+		assertThat(ts.freeze(), not(sameInstance(frozen)));
+		assertThat(ts.freeze().getArcCount(), equalTo(7));
+	}
+
+	@Test
+	public void testStatesAndLabels() {
+		TransitionSystem ts = getTS();
+		FrozenTransitionSystem frozen = ts.freeze();
+		assertThat(frozen.getStateCount(), equalTo(3));
+		assertThat(frozen.getLabelCount(), equalTo(3));
+		assertThat(frozen.getArcCount(), equalTo(6));
+		for (int i = 0; i < 3; i++) {
+			assertThat(frozen.getState(i).getId(), equalTo("s" + i));
+			assertThat(frozen.getStateIndex("s" + i), equalTo(i));
+			assertThat(frozen.getStateIndex(ts.getNode("s" + i)), equalTo(i));
+		}
+		assertThat(frozen.getLabel(0), equalTo("a"));
+		assertThat(frozen.getLabel(1), equalTo("b"));
+		assertThat(frozen.getLabel(2), equalTo("c"));
+		assertThat(frozen.getLabelIndex("c"), equalTo(2));
+		assertThat(frozen.getInitialState(), equalTo(1));
+	}
+
+	@Test(expectedExceptions = NoSuchNodeException.class)
+	public void testNoSuchState() {
+		getTS().freeze().getStateIndex("foo");
+	}
+
+	@Test(expectedExceptions = NoSuchEventException.class)
+	public void testNoSuchLabel() {
+		getTS().freeze().getLabelIndex("foo");
+	}
+
+	@Test
+	public void testNoInitialState() {
+		TransitionSystem ts = new TransitionSystem();
+		ts.createState();
+		assertThat(ts.freeze().getInitialState(), equalTo(-1));
+	}
+
+	@Test
+	public void testPostset() {
+		FrozenTransitionSystem frozen = getTS().freeze();
+		// The arcs are sorted by source, label and target
+		int[] sources = { 0, 0, 0, 1, 2, 2 };
+		int[] labels = { 0, 1, 1, 2, 0, 0 };
+		int[] targets = { 1, 1, 2, 0, 0, 2 };
+		for (int arc = 0; arc < 6; arc++) {
+			assertThat(frozen.getArcSource(arc), equalTo(sources[arc]));
+			assertThat(frozen.getArcLabel(arc), equalTo(labels[arc]));
+			assertThat(frozen.getArcTarget(arc), equalTo(targets[arc]));
+			Arc a = frozen.getArc(arc);
+			assertThat(a.getSourceId(), equalTo("s" + sources[arc]));
+			assertThat(a.getTargetId(), equalTo("s" + targets[arc]));
+			assertThat(a.getLabel(), equalTo(frozen.getLabel(labels[arc])));
+		}
+
+		assertThat(frozen.getPostsetStart(0), equalTo(0));
+		assertThat(frozen.getPostsetEnd(0), equalTo(3));
+		assertThat(frozen.getPostsetStart(1), equalTo(3));
+		assertThat(frozen.getPostsetEnd(1), equalTo(4));
+		assertThat(frozen.getPostsetStart(2), equalTo(4));
+		assertThat(frozen.getPostsetEnd(2), equalTo(6));
+
+		assertThat(frozen.getPostsetStart(0, 1), equalTo(1));
+		assertThat(frozen.getPostsetEnd(0, 1), equalTo(3));
+		assertThat(frozen.getPostsetStart(0, 2), equalTo(3));
+		assertThat(frozen.getPostsetEnd(0, 2), equalTo(3));
+		assertThat(frozen.getPostsetStart(1, 0), equalTo(3));
+		assertThat(frozen.getPostsetEnd(1, 0), equalTo(3));
+	}
+
+	@Test
+	public void testPreset() {
+		FrozenTransitionSystem frozen = getTS().freeze();
+		for (int state = 0; state < frozen.getStateCount(); state++) {
+			Set<Arc> expected = new HashSet<>(frozen.getState(state).getPresetEdges());
+			Set<Arc> actual = new HashSet<>();
+			int previousLabel = -1;
+			int previousSource = -1;
+			for (int position = frozen.getPresetStart(state); position < frozen.getPresetEnd(state);
+					position++) {
+				int arc = frozen.getPresetArc(position);
+				assertThat(frozen.getArcTarget(arc), equalTo(state));
+				actual.add(frozen.getArc(arc));
+
+				// Sorted by label and source
+				int label = frozen.getArcLabel(arc);
+				int source = frozen.getArcSource(arc);
+				assertThat(label, greaterThanOrEqualTo(previousLabel));
+				if (label == previousLabel)
+					assertThat(source, greaterThan(previousSource));
+				previousLabel = label;
+				previousSource = source;
+			}
+			assertThat(actual, equalTo(expected));
+		}
+
+		// s0 is reached by a from s2 and c from s1
+		assertThat(frozen.getPresetStart(0, 0), equalTo(frozen.getPresetStart(0)));
+		assertThat(frozen.getPresetEnd(0, 0), equalTo(frozen.getPresetStart(0) + 1));
+		assertThat(frozen.getPresetStart(0, 1), equalTo(frozen.getPresetStart(0) + 1));
+		assertThat(frozen.getPresetEnd(0, 1), equalTo(frozen.getPresetStart(0) + 1));
+		assertThat(frozen.getPresetEnd(0, 2), equalTo(frozen.getPresetEnd(0)));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
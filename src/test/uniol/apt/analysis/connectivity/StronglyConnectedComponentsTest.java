@@ -0,0 +1,176 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.connectivity;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import uniol.apt.adt.pn.Node;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/** @author agent */
+public class StronglyConnectedComponentsTest {
+	static private Set<State> getReachable(State state) {
+		Set<State> result = new HashSet<>();
+		Deque<State> unhandled = new ArrayDeque<>();
+		result.add(state);
+		unhandled.add(state);
+		while (!unhandled.isEmpty())
+			for (State next : unhandled.removeFirst().getPostsetNodes())
+				if (result.add(next))
+					unhandled.add(next);
+		return result;
+	}
+
+	@DataProvider(name = "seeds")
+	private Object[][] createSeeds() {
+		Object[][] result = new Object[20][];
+		for (int i = 0; i < result.length; i++)
+			result[i] = new Object[] { i };
+		return result;
+	}
+
+	@Test(dataProvider = "seeds")
+	public void testRandomGraph(int seed) {
+		Random random = new Random(seed);
+		int numberOfStates = 1 + random.nextInt(30);
+		int numberOfArcs = random.nextInt(2 * numberOfStates);
+		TransitionSystem ts = new TransitionSystem();
+		State[] states = ts.createStates(numberOfStates);
+		for (int i = 0; i < numberOfArcs; i++)
+			ts.createArc(states[random.nextInt(numberOfStates)], states[random.nextInt(numberOfStates)],
+					"a" + i);
+
+		StronglyConnectedComponents<State> components = StronglyConnectedComponents.get(ts);
+		assertThat(components.getComponents(), hasSize(components.getComponentCount()));
+
+		// Two states are in the same component iff they reach each other
+		for (State s1 : states) {
+			Set<State> reachable = getReachable(s1);
+			int c1 = components.getComponent(s1);
+			assertThat(components.getComponentNodes(c1), hasItem(s1));
+			for (State s2 : states) {
+				boolean same = reachable.contains(s2) && getReachable(s2).contains(s1);
+				assertThat(components.getComponent(s2) == c1, equalTo(same));
+			}
+		}
+
+		// The condensation contains exactly the arcs between different components
+		for (int c = 0; c < components.getComponentCount(); c++) {
+			Set<Integer> expected = new HashSet<>();
+			for (State state : components.getComponentNodes(c))
+				for (State next : state.getPostsetNodes())
+					if (components.getComponent(next) != c)
+						expected.add(components.getComponent(next));
+
+			Set<Integer> actual = new HashSet<>();
+			for (int successor : components.getSuccessorComponents(c)) {
+				assertThat(successor, lessThan(c));
+				assertThat(actual.add(successor), is(true));
+			}
+			assertThat(actual, equalTo(expected));
+			assertThat(components.isBottomComponent(c), equalTo(expected.isEmpty()));
+		}
+	}
+
+	@Test
+	public void testCaching() {
+		TransitionSystem ts = new TransitionSystem();
+		ts.createStates("s0", "s1");
+		ts.createArc("s0", "s1", "a");
+
+		StronglyConnectedComponents<State> components = StronglyConnectedComponents.get(ts);
+		assertThat(components.getComponentCount(), equalTo(2));
+		assertThat(StronglyConnectedComponents.get(ts), sameInstance(components));
+		assertThat(components.getComponents(), equalTo(components.getComponents()));
+
+		ts.createArc("s1", "s0", "b");
+		components = StronglyConnectedComponents.get(ts);
+		assertThat(components.getComponentCount(), equalTo(1));
+		assertThat(components.isBottomComponent(0), is(true));
+	}
+
+	@Test
+	public void testLongPath() {
+		// A deep depth-first-search must not overflow the call stack
+		int length = 100000;
+		TransitionSystem ts = new TransitionSystem();
+		State[] states = ts.createStates(length);
+		for (int i = 0; i + 1 < length; i++)
+			ts.createArc(states[i], states[i + 1], "a");
+
+		StronglyConnectedComponents<State> components = StronglyConnectedComponents.get(ts);
+		assertThat(components.getComponentCount(), equalTo(length));
+		assertThat(components.getComponent(states[length - 1]), equalTo(0));
+		assertThat(components.isBottomComponent(0), is(true));
+
+		ts.createArc(states[length - 1], states[0], "b");
+		assertThat(StronglyConnectedComponents.get(ts).getComponentCount(), equalTo(1));
+	}
+
+	@Test
+	public void testPetriNet() {
+		// p1 -> t1 -> p2 -> t2 -> p1 is a cycle, t3 only consumes from p2
+		PetriNet pn = new PetriNet();
+		pn.createPlaces("p1", "p2");
+		pn.createTransitions("t1", "t2", "t3");
+		pn.createFlow("p1", "t1");
+		pn.createFlow("t1", "p2");
+		pn.createFlow("p2", "t2");
+		pn.createFlow("t2", "p1");
+		pn.createFlow("p2", "t3");
+
+		StronglyConnectedComponents<Node> components = StronglyConnectedComponents.get(pn);
+		assertThat(components.getComponentCount(), equalTo(2));
+		int cycle = components.getComponent(pn.getNode("p1"));
+		assertThat(components.getComponentNodes(cycle), containsInAnyOrder(pn.getNode("p1"),
+					pn.getNode("p2"), pn.getNode("t1"), pn.getNode("t2")));
+		int sink = components.getComponent(pn.getNode("t3"));
+		assertThat(components.isBottomComponent(sink), is(true));
+		assertThat(components.getSuccessorComponents(cycle), equalTo(new int[] { sink }));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testUnknownPetriNetNode() {
+		PetriNet pn = new PetriNet();
+		pn.createPlace("p");
+		PetriNet other = new PetriNet();
+		StronglyConnectedComponents.get(pn).getComponent(other.createPlace("p"));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testUnknownNode() {
+		TransitionSystem ts = new TransitionSystem();
+		ts.createState();
+		StronglyConnectedComponents.get(ts).getComponent(new TransitionSystem().createState());
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -19,6 +19,8 @@
 
 package uniol.apt.analysis.coverability;
 
+import java.io.File;
+import java.io.IOError;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Iterator;
@@ -33,11 +35,16 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.fail;
 
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.Place;
 import uniol.apt.adt.pn.Transition;
 import uniol.apt.generator.cycle.CycleGenerator;
+import uniol.apt.util.interrupt.Interrupter;
+import uniol.apt.util.interrupt.InterrupterRegistry;
+import uniol.apt.util.interrupt.UncheckedInterruptedException;
 
 import static uniol.apt.TestNetCollection.*;
 import static uniol.apt.adt.matcher.Matchers.*;
@@ -396,6 +403,153 @@ public class CoverabilityGraphTest {
 		// And finally throw some exception
 		it.next();
 	}
+
+	private PetriNet getCountersNet() {
+		// Six independent counters which count from zero to four
+		PetriNet pn = new PetriNet("counters");
+		for (int i = 0; i < 6; i++) {
+			Place value = pn.createPlace("p" + i);
+			Place complement = pn.createPlace("c" + i);
+			complement.setInitialToken(4);
+			Transition inc = pn.createTransition("inc" + i);
+			Transition dec = pn.createTransition("dec" + i);
+			pn.createFlow(complement, inc);
+			pn.createFlow(inc, value);
+			pn.createFlow(value, dec);
+			pn.createFlow(dec, complement);
+		}
+		return pn;
+	}
+
+	private void assertSameGraph(CoverabilityGraph actual, CoverabilityGraph expected) {
+		Iterator<CoverabilityGraphNode> expectedNodes = expected.getNodes().iterator();
+		for (CoverabilityGraphNode node : actual.getNodes()) {
+			CoverabilityGraphNode expectedNode = expectedNodes.next();
+			assertThat(node.getId(), equalTo(expectedNode.getId()));
+			assertThat(node.getMarking().toString(), equalTo(expectedNode.getMarking().toString()));
+			CoverabilityGraphNode parent = node.getParent();
+			CoverabilityGraphNode expectedParent = expectedNode.getParent();
+			assertThat(parent == null ? -1 : parent.getId(),
+					equalTo(expectedParent == null ? -1 : expectedParent.getId()));
+
+			List<String> postset = new ArrayList<>();
+			for (CoverabilityGraphEdge edge : node.getPostsetEdges())
+				postset.add(edge.getTransition().getId() + "->" + edge.getTarget().getId());
+			List<String> expectedPostset = new ArrayList<>();
+			for (CoverabilityGraphEdge edge : expectedNode.getPostsetEdges())
+				expectedPostset.add(edge.getTransition().getId() + "->" + edge.getTarget().getId());
+			assertThat(postset, containsInAnyOrder(expectedPostset.toArray()));
+		}
+		assertFalse(expectedNodes.hasNext());
+	}
+
+	@Test
+	public void testParallelReachabilityGraph() {
+		PetriNet pn = getCountersNet();
+		CoverabilityGraph expected = CoverabilityGraph.getReachabilityGraph(pn);
+		assertThat(expected.calculateNodes(1), equalTo(15625));
+
+		CoverabilityGraph actual = CoverabilityGraph.getReachabilityGraph(new PetriNet(pn));
+		assertThat(actual.calculateNodes(4), equalTo(15625));
+		assertSameGraph(actual, expected);
+	}
+
+	@Test
+	public void testParallelReachabilityGraphAfterPartialExploration() {
+		PetriNet pn = getCountersNet();
+		CoverabilityGraph expected = CoverabilityGraph.getReachabilityGraph(pn);
+		assertThat(expected.calculateNodes(1), equalTo(15625));
+
+		CoverabilityGraph actual = CoverabilityGraph.getReachabilityGraph(new PetriNet(pn));
+		Iterator<CoverabilityGraphNode> iter = actual.getNodes().iterator();
+		for (int i = 0; i < 1000; i++)
+			iter.next().getPostsetEdges();
+		assertThat(actual.calculateNodes(4), equalTo(15625));
+		assertSameGraph(actual, expected);
+	}
+
+	@Test
+	public void testReachabilityGraphOnDisk() {
+		PetriNet pn = getCountersNet();
+		CoverabilityGraph expected = CoverabilityGraph.getReachabilityGraph(pn);
+		assertThat(expected.calculateNodes(1), equalTo(15625));
+
+		File directory = new File(System.getProperty("java.io.tmpdir"));
+		CoverabilityGraph sequential = CoverabilityGraph.getReachabilityGraphOnDisk(pn, directory);
+		assertThat(sequential.calculateNodes(1), equalTo(15625));
+		assertThat(sequential.calculateEdges(), equalTo(expected.calculateEdges()));
+		assertThat(sequential.hasOmega(), is(false));
+		assertSameGraph(sequential, expected);
+		sequential.close();
+
+		CoverabilityGraph parallel = CoverabilityGraph.getReachabilityGraphOnDisk(pn, directory);
+		assertThat(parallel.calculateNodes(4), equalTo(15625));
+		assertSameGraph(parallel, expected);
+		parallel.close();
+		parallel.close();
+	}
+
+	@Test
+	public void testInterruptParallelReachabilityGraphOnDisk() {
+		PetriNet pn = getCountersNet();
+		File directory = new File(System.getProperty("java.io.tmpdir"));
+		CoverabilityGraph graph = CoverabilityGraph.getReachabilityGraphOnDisk(pn, directory);
+
+		// Request an interruption once the workers were started
+		InterrupterRegistry.setCurrentThreadInterrupter(new Interrupter() {
+			private boolean interrupted = false;
+
+			@Override
+			public boolean isInterruptRequested() {
+				for (StackTraceElement element : new Throwable().getStackTrace())
+					if (element.getClassName().equals(ParallelReachabilityGraphBuilder.class.getName()))
+						interrupted = true;
+				return interrupted;
+			}
+		});
+		try {
+			graph.calculateNodes(4);
+			fail("The calculation was not interrupted");
+		} catch (UncheckedInterruptedException e) {
+			// Expected
+		} finally {
+			InterrupterRegistry.clearCurrentThreadInterrupter();
+		}
+
+		// The storage of the builder was closed, so no worker may still be running
+		for (Thread thread : Thread.getAllStackTraces().keySet())
+			assertThat(thread.getName(), not(startsWith("ForkJoinPool-")));
+		graph.close();
+	}
+
+	@Test
+	public void testCloseCachedGraph() {
+		PetriNet pn = getABCLanguageNet();
+		CoverabilityGraph graph = CoverabilityGraph.get(pn);
+		graph.close();
+		assertThat(CoverabilityGraph.get(pn), sameInstance(graph));
+		assertThat(graph.calculateNodes(), greaterThan(1));
+	}
+
+	@Test(expectedExceptions = IOError.class)
+	public void testOnDiskMissingDirectory() {
+		File directory = new File(System.getProperty("java.io.tmpdir"),
+				"apt-does-not-exist-" + System.nanoTime());
+		CoverabilityGraph.getOnDisk(getABCLanguageNet(), directory);
+	}
+
+	@Test
+	public void testCoverabilityGraphOnDisk() {
+		PetriNet pn = getABCLanguageNet();
+		CoverabilityGraph expected = CoverabilityGraph.get(pn);
+		File directory = new File(System.getProperty("java.io.tmpdir"));
+		CoverabilityGraph actual = CoverabilityGraph.getOnDisk(pn, directory);
+		assertThat(actual.calculateNodes(), equalTo(expected.calculateNodes()));
+		assertThat(actual.calculateEdges(), equalTo(expected.calculateEdges()));
+		assertThat(actual.hasOmega(), equalTo(expected.hasOmega()));
+		assertSameGraph(actual, expected);
+		actual.close();
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,77 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.coverability;
+
+import org.testng.annotations.Test;
+
+import uniol.apt.adt.pn.CompiledPetriNet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/** @author agent */
+public class MarkingStoreTest {
+	@Test
+	public void testAddAndGet() {
+		MarkingStore store = new MarkingStore(3, new PagedStorage());
+		long[] m1 = { 0, 1, 2 };
+		long[] m2 = { CompiledPetriNet.OMEGA, 127, 128 };
+		long[] m3 = { Long.MAX_VALUE - 1, 0, 1 << 20 };
+
+		assertThat(store.add(m1), equalTo(~0));
+		assertThat(store.add(m2), equalTo(~1));
+		assertThat(store.add(m3), equalTo(~2));
+		assertThat(store.add(m2.clone()), equalTo(1));
+		assertThat(store.get(m1.clone()), equalTo(0));
+		assertThat(store.get(new long[] { 0, 0, 0 }), equalTo(-1));
+		assertThat(store.size(), equalTo(3));
+
+		long[] tokens = new long[3];
+		store.get(0, tokens);
+		assertThat(tokens, equalTo(m1));
+		store.get(1, tokens);
+		assertThat(tokens, equalTo(m2));
+		store.get(2, tokens);
+		assertThat(tokens, equalTo(m3));
+	}
+
+	@Test
+	public void testManyMarkings() {
+		// Enough markings to need several pages and several resizes of the hash table
+		int count = 200000;
+		MarkingStore store = new MarkingStore(4, new PagedStorage());
+		long[] tokens = new long[4];
+		for (int i = 0; i < count; i++) {
+			tokens[0] = i;
+			tokens[1] = i % 3;
+			tokens[2] = 1000 * i;
+			tokens[3] = i % 2 == 0 ? CompiledPetriNet.OMEGA : 5;
+			assertThat(store.add(tokens), equalTo(~i));
+		}
+		for (int i = count - 1; i >= 0; i--) {
+			store.get(i, tokens);
+			assertThat(tokens[0], equalTo((long) i));
+			assertThat(tokens[2], equalTo(1000L * i));
+			assertThat(store.add(tokens), equalTo(i));
+		}
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
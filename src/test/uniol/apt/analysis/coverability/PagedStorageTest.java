@@ -0,0 +1,59 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.coverability;
+
+import org.testng.annotations.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/** @author agent */
+public class PagedStorageTest {
+	@Test
+	public void testGrowingFirstPage() {
+		PagedStorage storage = new PagedStorage();
+		byte[] values = new byte[1000];
+		for (int i = 0; i < values.length; i++)
+			values[i] = (byte) i;
+
+		// Fill the first page completely and continue on the second page
+		int count = PagedStorage.PAGE_SIZE / values.length + 1;
+		for (int i = 0; i < count; i++)
+			assertThat(storage.append(values, values.length), equalTo((long) i * values.length));
+		long address = storage.appendInt(0x12345678);
+		assertThat(storage.size(), equalTo(address + 4));
+
+		for (int i = 0; i < count; i++)
+			for (int j = 0; j < values.length; j += 97)
+				assertThat(storage.getByte((long) i * values.length + j), equalTo(values[j]));
+		assertThat(storage.getInt(address), equalTo(0x12345678));
+	}
+
+	@Test
+	public void testIntAcrossInitialPageSize() {
+		PagedStorage storage = new PagedStorage();
+		for (int i = 0; i < PagedStorage.INITIAL_PAGE_SIZE - 2; i++)
+			storage.appendByte((byte) 0);
+		long address = storage.appendInt(-42);
+		assertThat(storage.getInt(address), equalTo(-42));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
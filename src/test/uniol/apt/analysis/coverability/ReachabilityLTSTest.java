@@ -0,0 +1,75 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.coverability;
+
+import org.testng.annotations.Test;
+
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Place;
+import uniol.apt.adt.pn.Transition;
+import uniol.apt.analysis.connectivity.StronglyConnectedComponents;
+import uniol.apt.analysis.exception.UnboundedException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static uniol.apt.TestNetCollection.*;
+
+/** @author agent */
+public class ReachabilityLTSTest {
+	@Test
+	public void testCaching() throws Exception {
+		PetriNet pn = getConcurrentDiamondNet();
+		ReachabilityLTS lts = ReachabilityLTS.get(pn);
+		assertThat(lts.getLTS().getNodes(), hasSize(4));
+		assertThat(lts.getStronglyConnectedComponents(), hasSize(4));
+		assertThat(ReachabilityLTS.get(pn), sameInstance(lts));
+		Object components = StronglyConnectedComponents.get(lts.getLTS());
+		assertThat(StronglyConnectedComponents.get(lts.getLTS()), sameInstance(components));
+
+		pn.createPlace();
+		assertThat(ReachabilityLTS.get(pn), not(sameInstance(lts)));
+	}
+
+	@Test
+	public void testComponents() throws Exception {
+		// A token moving in a circle; the reachability graph is a single cycle
+		PetriNet pn = new PetriNet();
+		Place p1 = pn.createPlace("p1");
+		Place p2 = pn.createPlace("p2");
+		Transition t1 = pn.createTransition("t1");
+		Transition t2 = pn.createTransition("t2");
+		pn.createFlow(p1, t1);
+		pn.createFlow(t1, p2);
+		pn.createFlow(p2, t2);
+		pn.createFlow(t2, p1);
+		p1.setInitialToken(1);
+
+		ReachabilityLTS lts = ReachabilityLTS.get(pn);
+		assertThat(lts.getLTS().getNodes(), hasSize(2));
+		assertThat(lts.getStronglyConnectedComponents(), hasSize(1));
+	}
+
+	@Test(expectedExceptions = UnboundedException.class)
+	public void testUnbounded() throws Exception {
+		ReachabilityLTS.get(getTokenGeneratorNet());
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
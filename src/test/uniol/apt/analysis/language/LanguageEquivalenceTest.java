@@ -0,0 +1,155 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.language;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import uniol.apt.TestTSCollection;
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static uniol.apt.adt.automaton.FiniteAutomatonUtility.findWordDifference;
+import static uniol.apt.adt.automaton.FiniteAutomatonUtility.fromPrefixLanguageLTS;
+import static uniol.apt.analysis.language.LanguageEquivalence.checkLanguageEquivalence;
+
+/** @author agent */
+public class LanguageEquivalenceTest {
+	static private List<TransitionSystem> getSystems() {
+		List<TransitionSystem> result = new ArrayList<>();
+		result.add(TestTSCollection.getSingleStateTS());
+		result.add(TestTSCollection.getSingleStateTSWithLoop());
+		result.add(TestTSCollection.getSingleStateLoop());
+		result.add(TestTSCollection.getThreeStatesTwoEdgesTS());
+		result.add(TestTSCollection.getTwoStateCycleSameLabelTS());
+		result.add(TestTSCollection.getNonDeterministicTS());
+		result.add(TestTSCollection.getPersistentTS());
+		result.add(TestTSCollection.getPersistentNonDeterministicTS());
+		result.add(TestTSCollection.getNonPersistentNonDeterministicTS());
+		result.add(TestTSCollection.getDifferentCyclesTS());
+		result.add(TestTSCollection.getcc1LTS());
+		result.add(TestTSCollection.getPathTS());
+		result.add(TestTSCollection.getABandA());
+		result.add(TestTSCollection.getABandB());
+		result.add(TestTSCollection.getABandBUnfolded());
+		return result;
+	}
+
+	@DataProvider(name = "pairs")
+	private Object[][] createPairs() {
+		List<TransitionSystem> systems = getSystems();
+		List<Object[]> result = new ArrayList<>();
+		for (TransitionSystem lts1 : systems)
+			for (TransitionSystem lts2 : systems)
+				result.add(new Object[] { lts1, lts2 });
+		return result.toArray(new Object[0][]);
+	}
+
+	// Check if the LTS generates the given word
+	static private boolean generatesWord(TransitionSystem lts, List<String> word) {
+		Set<State> states = Collections.singleton(lts.getInitialState());
+		for (String label : word) {
+			Set<State> next = new HashSet<>();
+			for (State state : states)
+				for (Arc arc : state.getPostsetEdges())
+					if (arc.getLabel().equals(label))
+						next.add(arc.getTarget());
+			states = next;
+		}
+		return !states.isEmpty();
+	}
+
+	@Test(dataProvider = "pairs")
+	public void testSameVerdictAsAutomata(TransitionSystem lts1, TransitionSystem lts2) {
+		Word word = checkLanguageEquivalence(lts1, lts2);
+		List<String> expected = findWordDifference(fromPrefixLanguageLTS(lts1), fromPrefixLanguageLTS(lts2));
+		if (expected == null) {
+			assertThat(word, nullValue());
+		} else {
+			assertThat(word, notNullValue());
+			assertThat(generatesWord(lts1, word), not(equalTo(generatesWord(lts2, word))));
+		}
+	}
+
+	@Test
+	public void testSameSystem() {
+		TransitionSystem lts = TestTSCollection.getNonDeterministicTS();
+		assertThat(checkLanguageEquivalence(lts, lts), nullValue());
+		lts = TestTSCollection.getcc1LTS();
+		assertThat(checkLanguageEquivalence(lts, lts), nullValue());
+	}
+
+	@Test
+	public void testUnfolding() {
+		assertThat(checkLanguageEquivalence(TestTSCollection.getABandB(), TestTSCollection.getABandBUnfolded()),
+				nullValue());
+	}
+
+	@Test
+	public void testDeterministicWitness() {
+		// a^10 versus a^11
+		TransitionSystem lts1 = new TransitionSystem();
+		TransitionSystem lts2 = new TransitionSystem();
+		for (int i = 0; i <= 11; i++) {
+			lts1.createState("s" + i);
+			lts2.createState("s" + i);
+		}
+		for (int i = 0; i < 10; i++)
+			lts1.createArc("s" + i, "s" + (i + 1), "a");
+		for (int i = 0; i < 11; i++)
+			lts2.createArc("s" + i, "s" + (i + 1), "a");
+		lts1.setInitialState("s0");
+		lts2.setInitialState("s0");
+
+		assertThat(checkLanguageEquivalence(lts1, lts2), contains("a", "a", "a", "a", "a", "a", "a", "a", "a",
+					"a", "a"));
+	}
+
+	@Test
+	public void testNonDeterministicWitness() {
+		// Language {a, ab, ac} versus {a, ab}
+		TransitionSystem lts1 = new TransitionSystem();
+		lts1.createStates("s0", "s1", "s2", "s3", "s4");
+		lts1.createArc("s0", "s1", "a");
+		lts1.createArc("s0", "s2", "a");
+		lts1.createArc("s1", "s3", "b");
+		lts1.createArc("s2", "s4", "c");
+		lts1.setInitialState("s0");
+
+		TransitionSystem lts2 = new TransitionSystem();
+		lts2.createStates("s0", "s1", "s2");
+		lts2.createArc("s0", "s1", "a");
+		lts2.createArc("s1", "s2", "b");
+		lts2.setInitialState("s0");
+
+		assertThat(checkLanguageEquivalence(lts1, lts2), contains("a", "c"));
+		assertThat(checkLanguageEquivalence(lts2, lts1), contains("a", "c"));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
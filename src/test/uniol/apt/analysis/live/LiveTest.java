@@ -19,6 +19,8 @@
 
 package uniol.apt.analysis.live;
 
+import java.util.Map;
+
 import org.testng.annotations.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -27,6 +29,7 @@ import static org.hamcrest.Matchers.*;
 
 import static uniol.apt.TestNetCollection.*;
 import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Place;
 import uniol.apt.adt.pn.Transition;
 import uniol.apt.analysis.exception.UnboundedException;
 import uniol.apt.generator.philnet.TristatePhilNetGenerator;
@@ -102,6 +105,58 @@ public class LiveTest {
 		testLiveness(pn, pn.getTransition("tl"), true, true, true);
 		assertThat(Live.findKillingFireSequence(pn, pn.getTransition("td")), empty());
 	}
+
+	@Test
+	public void testCheckLiveness() throws Exception {
+		// t1 and t2 move a token back and forth between p1 and p2, t3 moves it from p1 to p3 where it is stuck
+		PetriNet pn = new PetriNet();
+		Place p1 = pn.createPlace("p1");
+		Place p2 = pn.createPlace("p2");
+		Place p3 = pn.createPlace("p3");
+		Transition t1 = pn.createTransition("t1");
+		Transition t2 = pn.createTransition("t2");
+		Transition t3 = pn.createTransition("t3");
+		Transition t4 = pn.createTransition("t4");
+		pn.createFlow(p1, t1);
+		pn.createFlow(t1, p2);
+		pn.createFlow(p2, t2);
+		pn.createFlow(t2, p1);
+		pn.createFlow(p1, t3);
+		pn.createFlow(t3, p3);
+		pn.createFlow(p2, t4, 2);
+		p1.setInitialToken(1);
+
+		Map<Transition, LiveResult> results = Live.checkLiveness(pn);
+		assertThat(results.keySet(), contains(t1, t2, t3, t4));
+
+		LiveResult result = results.get(t1);
+		assertThat(result.isSimplyLive(), is(true));
+		assertThat(result.isWeaklyLive(), is(true));
+		assertThat(result.isStronglyLive(), is(false));
+		assertThat(result.getFiringSequence(), contains(t1));
+		assertThat(result.getCyclePrefix(), empty());
+		assertThat(result.getCycle(), contains(t1, t2));
+		assertThat(result.getKillingFireSequence(), contains(t3));
+
+		result = results.get(t2);
+		assertThat(result.isWeaklyLive(), is(true));
+		assertThat(result.getFiringSequence(), contains(t1, t2));
+		assertThat(result.getCyclePrefix(), contains(t1));
+		assertThat(result.getCycle(), contains(t2, t1));
+
+		result = results.get(t3);
+		assertThat(result.isSimplyLive(), is(true));
+		assertThat(result.isWeaklyLive(), is(false));
+		assertThat(result.getFiringSequence(), contains(t3));
+		assertThat(result.getCyclePrefix(), nullValue());
+		assertThat(result.getCycle(), nullValue());
+		assertThat(result.getKillingFireSequence(), contains(t3));
+
+		result = results.get(t4);
+		assertThat(result.isSimplyLive(), is(false));
+		assertThat(result.getFiringSequence(), nullValue());
+		assertThat(result.getKillingFireSequence(), empty());
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -25,7 +25,11 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -34,13 +38,14 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import uniol.apt.analysis.exception.PreconditionFailedException;
 
 /** @author Uli Schlachter */
 public class FindWordsTest {
-	private static void testWords(PNProperties properties, SortedSet<Character> alphabet,
+	private static void testWords(PNProperties properties, SortedSet<Character> alphabet, boolean incremental,
 			final List<List<String>> solvableWords) throws PreconditionFailedException {
 		final Collection<String> solvable = new ArrayList<>();
 		final int[] currentLength = { 1 };
@@ -63,13 +68,18 @@ public class FindWordsTest {
 			}
 		};
 
-		FindWords.generateList(properties, alphabet, true, wordCallback, lengthDoneCallback);
+		FindWords.generateList(properties, alphabet, true, incremental, wordCallback, lengthDoneCallback);
 
 		assertThat(currentLength[0], equalTo(solvableWords.size() + 1));
 	}
 
-	@Test
-	public void testSafeABCWords() throws Exception {
+	@DataProvider(name = "incremental")
+	private Object[][] createIncremental() {
+		return new Object[][] { { false }, { true } };
+	}
+
+	@Test(dataProvider = "incremental")
+	public void testSafeABCWords(boolean incremental) throws Exception {
 		PNProperties properties = new PNProperties().requireSafe();
 		SortedSet<Character> alphabet = new TreeSet<>(Arrays.asList('a', 'b', 'c'));
 		List<List<String>> solvableWords = Arrays.asList(
@@ -81,11 +91,11 @@ public class FindWordsTest {
 				Arrays.asList("abacba", "abcbab"),
 				Arrays.asList("abacaba"),
 				Arrays.<String>asList());
-		testWords(properties, alphabet, solvableWords);
+		testWords(properties, alphabet, incremental, solvableWords);
 	}
 
-	@Test
-	public void testPlainPureSafeABCWords() throws Exception {
+	@Test(dataProvider = "incremental")
+	public void testPlainPureSafeABCWords(boolean incremental) throws Exception {
 		PNProperties properties = new PNProperties().setPlain(true).setPure(true).requireSafe();
 		SortedSet<Character> alphabet = new TreeSet<>(Arrays.asList('a', 'b', 'c'));
 		List<List<String>> solvableWords = Arrays.asList(
@@ -97,15 +107,15 @@ public class FindWordsTest {
 				Arrays.asList("abcbab"),
 				Arrays.asList("abacaba"),
 				Arrays.<String>asList());
-		testWords(properties, alphabet, solvableWords);
+		testWords(properties, alphabet, incremental, solvableWords);
 	}
 
 	private class TestDoneException extends RuntimeException {
 		public static final long serialVersionUID = 0;
 	}
 
-	@Test(expectedExceptions = TestDoneException.class)
-	public void testMinimalUnsolvableWords() throws Exception {
+	@Test(dataProvider = "incremental", expectedExceptions = TestDoneException.class)
+	public void testMinimalUnsolvableWords(boolean incremental) throws Exception {
 		final int[] nextLength = { 1 };
 		final List<String[]> words = Arrays.asList(
 				new String[] {}, new String[] {}, new String[] {}, new String[] {}, new String[] {},
@@ -135,7 +145,48 @@ public class FindWordsTest {
 
 		PNProperties properties = new PNProperties();
 		SortedSet<Character> alphabet = new TreeSet<>(Arrays.asList('a', 'b'));
-		FindWords.generateList(properties, alphabet, true, wordCallback, lengthDoneCallback);
+		FindWords.generateList(properties, alphabet, true, incremental, wordCallback, lengthDoneCallback);
+	}
+
+	@Test
+	public void testExtendRegion() throws Exception {
+		RegionUtility prefix = new RegionUtility(SynthesizeUtils.makeTS(Arrays.asList("a", "b")));
+		RegionUtility word = new RegionUtility(SynthesizeUtils.makeTS(Arrays.asList("a", "b", "c")));
+
+		// Produced by a, consumed by b
+		Region region = new Region.Builder(prefix).addWeightOn("a", BigInteger.ONE)
+			.addWeightOn("b", BigInteger.ONE.negate()).withInitialMarking(BigInteger.ZERO);
+		Region extended = FindWords.extendRegion(word, region, new PNProperties());
+		assertThat(extended, notNullValue());
+		assertThat(extended.getRegionUtility(), sameInstance(word));
+		assertThat(extended.getInitialMarking(), equalTo(BigInteger.ZERO));
+		assertThat(extended.getWeight("a"), equalTo(BigInteger.ONE));
+		assertThat(extended.getWeight("b"), equalTo(BigInteger.ONE.negate()));
+		assertThat(extended.getBackwardWeight("c"), equalTo(BigInteger.ZERO));
+		assertThat(extended.getForwardWeight("c"), equalTo(BigInteger.ZERO));
+	}
+
+	@Test
+	public void testExtendRegionNotEnabled() throws Exception {
+		RegionUtility prefix = new RegionUtility(SynthesizeUtils.makeTS(Arrays.asList("a", "b")));
+		RegionUtility word = new RegionUtility(SynthesizeUtils.makeTS(Arrays.asList("a", "b", "b")));
+
+		// Produced by a, consumed by b, so b cannot occur twice
+		Region region = new Region.Builder(prefix).addWeightOn("a", BigInteger.ONE)
+			.addWeightOn("b", BigInteger.ONE.negate()).withInitialMarking(BigInteger.ZERO);
+		assertThat(FindWords.extendRegion(word, region, new PNProperties()), nullValue());
+	}
+
+	@Test
+	public void testExtendRegionNotBounded() throws Exception {
+		RegionUtility prefix = new RegionUtility(SynthesizeUtils.makeTS(Arrays.asList("a", "b")));
+		RegionUtility word = new RegionUtility(SynthesizeUtils.makeTS(Arrays.asList("a", "b", "a")));
+
+		// Produced by a, so the word puts two tokens on it
+		Region region = new Region.Builder(prefix).addWeightOn("a", BigInteger.ONE)
+			.withInitialMarking(BigInteger.ZERO);
+		assertThat(FindWords.extendRegion(word, region, new PNProperties()), notNullValue());
+		assertThat(FindWords.extendRegion(word, region, new PNProperties().requireSafe()), nullValue());
 	}
 
 	@Test(expectedExceptions = PreconditionFailedException.class)
@@ -0,0 +1,131 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import uniol.apt.TestTSCollection;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.synthesize.separation.SeparationUtility;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/** @author agent */
+public class MarkingSignaturesTest {
+	@DataProvider(name = "TS")
+	private Object[][] createTS() {
+		return new Object[][] {
+			{ TestTSCollection.getSingleStateTS() },
+			{ TestTSCollection.getcc1LTS() },
+			{ TestTSCollection.getPersistentTS() },
+			{ TestTSCollection.getImpureSynthesizablePathTS() },
+			{ TestTSCollection.getNeedsRegionForStateSeperationTS() },
+			{ TestTSCollection.getStateSeparationFailureTS() },
+		};
+	}
+
+	@Test(dataProvider = "TS")
+	public void testSameAnswersAsSeparationUtility(TransitionSystem ts) {
+		RegionUtility utility = new RegionUtility(ts);
+		MarkingSignatures signatures = new MarkingSignatures(ts.getNodes());
+		Set<Region> regions = new HashSet<>();
+
+		for (Region region : utility.getRegionBasis()) {
+			signatures.add(region);
+			regions.add(region);
+
+			Set<State> unseparated = new HashSet<>();
+			for (State state : ts.getNodes()) {
+				for (State otherState : ts.getNodes()) {
+					boolean separated = false;
+					for (Region r : regions)
+						separated |= SeparationUtility.isSeparatingRegion(r, state, otherState);
+					assertThat(signatures.isSeparated(state, otherState), equalTo(separated));
+					if (!separated && !state.equals(otherState))
+						unseparated.add(state);
+				}
+			}
+			assertThat(signatures.getUnseparatedStates(), equalTo(unseparated));
+			assertThat(signatures.allSeparated(), equalTo(unseparated.isEmpty()));
+			assertThat(SynthesizePN.calculateUnseparatedStates(ts.getNodes(), regions),
+					equalTo(unseparated));
+		}
+	}
+
+	@Test(dataProvider = "TS")
+	public void testGroupUnseparatedStates(TransitionSystem ts) {
+		RegionUtility utility = new RegionUtility(ts);
+		MarkingSignatures signatures = new MarkingSignatures(ts.getNodes());
+
+		for (Region region : utility.getRegionBasis()) {
+			signatures.add(region);
+
+			Set<State> grouped = new HashSet<>();
+			for (List<State> group : signatures.groupUnseparatedStates(ts.getNodes())) {
+				assertThat(group, hasSize(greaterThan(1)));
+				for (State state : group) {
+					assertThat(grouped.add(state), is(true));
+					assertThat(signatures.isSeparated(group.get(0), state), is(false));
+				}
+			}
+			assertThat(grouped, equalTo(signatures.getUnseparatedStates()));
+		}
+	}
+
+	@Test
+	public void testNoRegions() {
+		TransitionSystem ts = TestTSCollection.getcc1LTS();
+		MarkingSignatures signatures = new MarkingSignatures(ts.getNodes());
+
+		assertThat(signatures.allSeparated(), is(false));
+		assertThat(signatures.getUnseparatedStates(), equalTo(ts.getNodes()));
+		assertThat(signatures.isSeparated(ts.getNode("s0"), ts.getNode("s1")), is(false));
+	}
+
+	@Test
+	public void testUnreachableState() {
+		TransitionSystem ts = TestTSCollection.getSingleStateWithUnreachableTS();
+		RegionUtility utility = new RegionUtility(ts);
+		MarkingSignatures signatures = new MarkingSignatures(ts.getNodes());
+		Region region = new Region.Builder(utility).withInitialMarking(BigInteger.ONE);
+
+		signatures.add(region);
+		assertThat(signatures.hasUnreachableStates(), is(true));
+		assertThat(signatures.allSeparated(), is(false));
+		assertThat(signatures.getUnseparatedStates(), equalTo(ts.getNodes()));
+		for (State state : ts.getNodes())
+			for (State otherState : ts.getNodes())
+				assertThat(signatures.isSeparated(state, otherState), is(false));
+		assertThat(SynthesizePN.calculateUnseparatedStates(ts.getNodes(), Collections.singleton(region)),
+				containsInAnyOrder(ts.getNodes().toArray()));
+		assertThat(signatures.groupUnseparatedStates(ts.getNodes()),
+				contains(containsInAnyOrder(ts.getNodes().toArray())));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
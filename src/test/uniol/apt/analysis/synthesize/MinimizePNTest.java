@@ -19,7 +19,6 @@
 
 package uniol.apt.analysis.synthesize;
 
-import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -45,27 +44,39 @@ import static uniol.apt.analysis.synthesize.SynthesizeUtils.*;
 
 /** @author Uli Schlachter */
 public class MinimizePNTest {
-	static private Set<Region> createRegions(RegionUtility utility, int numRegions) {
-		Set<Region> result = new HashSet<>();
-		for (int i = 0; i < numRegions; i++)
-			result.add(new Region.Builder(utility).withInitialMarking(BigInteger.valueOf(i)));
-		return result;
+	// Get the regions that an actual synthesis of the transition system finds
+	static private Set<Region> createRegions(RegionUtility utility, PNProperties properties,
+			boolean onlyEventSeparation) throws Exception {
+		SynthesizePN.Builder builder;
+		if (onlyEventSeparation)
+			builder = SynthesizePN.Builder.createForLanguageEquivalence(utility);
+		else
+			builder = SynthesizePN.Builder.createForIsomorphicBehaviour(utility);
+		SynthesizePN synth = builder.setProperties(properties).build();
+		assertThat(synth.wasSuccessfullySeparated(), is(true));
+		return synth.getSeparatingRegions();
 	}
 
-	static private SynthesizePN mockSynthesize(TransitionSystem ts, PNProperties properties, int numRegions,
-			boolean onlyEventSeparation) {
-		RegionUtility utility = new RegionUtility(ts);
+	static private SynthesizePN mockSynthesize(RegionUtility utility, PNProperties properties,
+			Set<Region> regions, boolean onlyEventSeparation) {
 		SynthesizePN synth = mock(SynthesizePN.class);
 		when(synth.wasSuccessfullySeparated()).thenReturn(true);
 		when(synth.getUtility()).thenReturn(utility);
 		when(synth.getProperties()).thenReturn(properties);
 		when(synth.onlyEventSeparation()).thenReturn(onlyEventSeparation);
-		when(synth.getSeparatingRegions()).thenReturn(createRegions(utility, numRegions));
+		when(synth.getSeparatingRegions()).thenReturn(regions);
 		return synth;
 	}
 
-	static private SynthesizePN mockSynthesize(TransitionSystem ts, PNProperties properties, int numRegions) {
-		return mockSynthesize(ts, properties, numRegions, false);
+	static private SynthesizePN mockSynthesize(TransitionSystem ts, PNProperties properties,
+			boolean onlyEventSeparation) throws Exception {
+		RegionUtility utility = new RegionUtility(ts);
+		return mockSynthesize(utility, properties, createRegions(utility, properties, onlyEventSeparation),
+				onlyEventSeparation);
+	}
+
+	static private SynthesizePN mockSynthesize(TransitionSystem ts, PNProperties properties) throws Exception {
+		return mockSynthesize(ts, properties, false);
 	}
 
 	static private void testSolution(PNProperties properties, SynthesizePN synth, MinimizePN min) throws Exception {
@@ -101,7 +112,7 @@ public class MinimizePNTest {
 
 	private void doTestCC1LTS(PNProperties properties, int size) throws Exception {
 		TransitionSystem ts = TestTSCollection.getcc1LTS();
-		SynthesizePN synth = mockSynthesize(ts, properties, 6);
+		SynthesizePN synth = mockSynthesize(ts, properties);
 		MinimizePN min = new MinimizePN(synth);
 
 		assertThat(min.getSeparatingRegions(), hasSize(size));
@@ -130,7 +141,7 @@ public class MinimizePNTest {
 	public void testA() throws Exception {
 		PNProperties properties = new PNProperties();
 		TransitionSystem ts = makeTS(Arrays.asList("a"));
-		SynthesizePN synth = mockSynthesize(ts, properties, 2);
+		SynthesizePN synth = mockSynthesize(ts, properties);
 		MinimizePN min = new MinimizePN(synth);
 
 		// This tests the code for a solution with 0 regions
@@ -142,7 +153,7 @@ public class MinimizePNTest {
 	public void testCC1LTSLanguageEquivalence() throws Exception {
 		PNProperties properties = new PNProperties();
 		TransitionSystem ts = TestTSCollection.getcc1LTS();
-		SynthesizePN synth = mockSynthesize(ts, properties, 5, true);
+		SynthesizePN synth = mockSynthesize(ts, properties, true);
 		MinimizePN min = new MinimizePN(synth);
 
 		assertThat(min.getSeparatingRegions(), hasSize(3));
@@ -152,7 +163,7 @@ public class MinimizePNTest {
 	private void doStateSeparation(boolean languageEquivalence) throws Exception {
 		PNProperties properties = new PNProperties();
 		TransitionSystem ts = TestTSCollection.getNeedsRegionForStateSeperationTS();
-		SynthesizePN synth = mockSynthesize(ts, properties, 5, languageEquivalence);
+		SynthesizePN synth = mockSynthesize(ts, properties, languageEquivalence);
 		MinimizePN min = new MinimizePN(synth);
 
 		assertThat(min.getSeparatingRegions(), hasSize(2));
@@ -169,6 +180,27 @@ public class MinimizePNTest {
 		doStateSeparation(true);
 	}
 
+	@Test
+	public void testCC1LTSStartingFromExactCover() throws Exception {
+		PNProperties properties = new PNProperties();
+		TransitionSystem ts = TestTSCollection.getcc1LTS();
+		RegionUtility utility = new RegionUtility(ts);
+		Set<Region> regions = new HashSet<>(createRegions(utility, properties, false));
+		assertThat(SynthesizePN.minimizeRegions(utility, regions, false, true, 0), is(true));
+		assertThat(regions, hasSize(greaterThanOrEqualTo(3)));
+
+		SynthesizePN synth = mockSynthesize(utility, properties, regions, false);
+		MinimizePN min = new MinimizePN(synth);
+		assertThat(min.getSeparatingRegions(), hasSize(3));
+		testSolution(properties, synth, min);
+
+		// A solution with the least possible number of places is kept as it is
+		synth = mockSynthesize(utility, properties, min.getSeparatingRegions(), false);
+		MinimizePN again = new MinimizePN(synth);
+		assertThat(again.getSeparatingRegions(), equalTo(min.getSeparatingRegions()));
+		testSolution(properties, synth, again);
+	}
+
 	@Test(expectedExceptions = { UnsupportedOperationException.class })
 	public void testABAndA() throws Exception {
 		SynthesizePN synth = mock(SynthesizePN.class);
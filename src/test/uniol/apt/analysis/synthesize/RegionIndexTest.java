@@ -0,0 +1,120 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import uniol.apt.TestTSCollection;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.synthesize.separation.SeparationUtility;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/** @author agent */
+public class RegionIndexTest {
+	@DataProvider(name = "TS")
+	private Object[][] createTS() {
+		return new Object[][] {
+			{ TestTSCollection.getSingleStateTS() },
+			{ TestTSCollection.getcc1LTS() },
+			{ TestTSCollection.getPersistentTS() },
+			{ TestTSCollection.getNotTotallyReachableTS() },
+			{ TestTSCollection.getImpureSynthesizablePathTS() },
+			{ TestTSCollection.getStateSeparationFailureTS() },
+		};
+	}
+
+	@Test(dataProvider = "TS")
+	public void testEmptyIndex(TransitionSystem ts) {
+		RegionUtility utility = new RegionUtility(ts);
+		RegionIndex index = new RegionIndex(utility);
+
+		assertThat(index.getRegions(), empty());
+		for (State state : ts.getNodes()) {
+			for (String event : utility.getEventList()) {
+				assertThat(index.getSeparatingRegion(state, event), nullValue());
+				assertThat(index.getSeparatingRegions(state, event), empty());
+			}
+			for (State otherState : ts.getNodes()) {
+				assertThat(index.getSeparatingRegion(state, otherState), nullValue());
+				assertThat(index.getSeparatingRegions(state, otherState), empty());
+			}
+		}
+	}
+
+	@Test(dataProvider = "TS")
+	public void testSameAnswersAsSeparationUtility(TransitionSystem ts) {
+		RegionUtility utility = new RegionUtility(ts);
+		RegionIndex index = new RegionIndex(utility, utility.getRegionBasis());
+		assertThat(index.getRegions(), containsInAnyOrder(utility.getRegionBasis().toArray()));
+
+		for (State state : ts.getNodes()) {
+			for (String event : utility.getEventList()) {
+				Set<Region> expected = new HashSet<>();
+				for (Region region : utility.getRegionBasis())
+					if (SeparationUtility.isSeparatingRegion(region, state, event))
+						expected.add(region);
+
+				assertThat(index.getSeparatingRegions(state, event), equalTo(expected));
+				if (expected.isEmpty())
+					assertThat(index.getSeparatingRegion(state, event), nullValue());
+				else
+					assertThat(index.getSeparatingRegion(state, event), isIn(expected));
+			}
+			for (State otherState : ts.getNodes()) {
+				Set<Region> expected = new HashSet<>();
+				for (Region region : utility.getRegionBasis())
+					if (SeparationUtility.isSeparatingRegion(region, state, otherState))
+						expected.add(region);
+
+				assertThat(index.getSeparatingRegions(state, otherState), equalTo(expected));
+				if (expected.isEmpty())
+					assertThat(index.getSeparatingRegion(state, otherState), nullValue());
+				else
+					assertThat(index.getSeparatingRegion(state, otherState), isIn(expected));
+			}
+		}
+	}
+
+	@Test
+	public void testAddTwice() {
+		RegionUtility utility = new RegionUtility(TestTSCollection.getcc1LTS());
+		Region region = utility.getRegionBasis().get(0);
+		RegionIndex index = new RegionIndex(utility);
+
+		assertThat(index.add(region), is(true));
+		assertThat(index.add(region), is(false));
+		assertThat(index.getRegions(), contains(region));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testForeignState() {
+		RegionUtility utility = new RegionUtility(TestTSCollection.getcc1LTS());
+		RegionIndex index = new RegionIndex(utility);
+		index.getSeparatingRegion(TestTSCollection.getSingleStateTS().getInitialState(), "a");
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
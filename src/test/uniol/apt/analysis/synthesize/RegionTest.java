@@ -27,7 +27,9 @@ import java.util.List;
 import static java.math.BigInteger.ZERO;
 
 import uniol.apt.TestTSCollection;
+import uniol.apt.adt.ts.State;
 import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.util.Pair;
 
 import org.testng.annotations.Test;
 import static org.testng.Assert.assertEquals;
@@ -497,6 +499,62 @@ public class RegionTest {
 		assertThat(region.getMarkingForState(ts.getNode("v")), equalTo(BigInteger.valueOf(1)));
 		assertThat(region.getMarkingForState(ts.getNode("w")), equalTo(BigInteger.valueOf(0)));
 	}
+
+	@Test
+	public void testGetMarkingForStateLongOverflow() throws UnreachableException {
+		TransitionSystem ts = TestTSCollection.getPathTS();
+		RegionUtility utility = new RegionUtility(ts);
+
+		BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+		Region region = new Region.Builder(utility).addWeightOn("a", max).withInitialMarking(max);
+
+		assertThat(region.getMarkingForState(ts.getNode("s")), equalTo(max));
+		assertThat(region.getMarkingForState(ts.getNode("t")), equalTo(max.multiply(BigInteger.valueOf(2))));
+		assertThat(region.getMarkingForState(ts.getNode("w")), equalTo(max.multiply(BigInteger.valueOf(3))));
+		assertThat(region.findPreventedArc(), nullValue());
+		assertThat(region.findArcWithWrongEffect(), nullValue());
+	}
+
+	@Test
+	public void testEvaluateParikhVectorLongOverflow() {
+		TransitionSystem ts = TestTSCollection.getPathTS();
+		RegionUtility utility = new RegionUtility(ts);
+
+		int a = utility.getEventIndex("a");
+		int b = utility.getEventIndex("b");
+		int c = utility.getEventIndex("c");
+
+		BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+		Region region = new Region.Builder(utility).addWeightOn(a, max).addWeightOn(b, BigInteger.ONE)
+			.withInitialMarking(ZERO);
+
+		assertThat(region.evaluateParikhVector(makeVector(a, -1, b, 0, c, 0)), is(equalTo(max.negate())));
+		assertThat(region.evaluateParikhVector(makeVector(a, 2, b, -1, c, 0)),
+				is(equalTo(max.multiply(BigInteger.valueOf(2)).subtract(BigInteger.ONE))));
+
+		// An entry which does not fit into a long
+		BigInteger[] vector = new BigInteger[] { ZERO, ZERO, ZERO };
+		vector[b] = max.multiply(max);
+		assertThat(region.evaluateParikhVector(Arrays.asList(vector)), is(equalTo(max.multiply(max))));
+	}
+
+	@Test
+	public void testGetMarkingForStateHugeWeight() throws UnreachableException {
+		TransitionSystem ts = TestTSCollection.getPathTS();
+		RegionUtility utility = new RegionUtility(ts);
+
+		BigInteger huge = BigInteger.ONE.shiftLeft(100);
+		Region region = new Region.Builder(utility).addLoopAround("c", huge).addWeightOn("b", huge.negate())
+			.withInitialMarking(huge);
+
+		assertThat(region.getWeight("b"), equalTo(huge.negate()));
+		assertThat(region.getMarkingForState(ts.getNode("s")), equalTo(huge));
+		assertThat(region.getMarkingForState(ts.getNode("u")), equalTo(ZERO));
+		List<Pair<State, String>> preventedArcs = new ArrayList<>();
+		preventedArcs.add(new Pair<>(ts.getNode("u"), "c"));
+		preventedArcs.add(new Pair<>(ts.getNode("w"), "b"));
+		assertThat(region.findPreventedArc(), isIn(preventedArcs));
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
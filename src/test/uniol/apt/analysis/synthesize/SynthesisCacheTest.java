@@ -0,0 +1,217 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import uniol.apt.TestTSCollection;
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/** @author agent */
+public class SynthesisCacheTest {
+	private File directory;
+
+	@BeforeMethod
+	public void createDirectory() throws IOException {
+		directory = Files.createTempDirectory("apt-synthesis-cache").toFile();
+	}
+
+	@AfterMethod
+	public void deleteDirectory() {
+		for (File file : directory.listFiles())
+			file.delete();
+		directory.delete();
+	}
+
+	@DataProvider(name = "TS")
+	private Object[][] createTS() {
+		return new Object[][] {
+			{ TestTSCollection.getSingleStateTS() },
+			{ TestTSCollection.getcc1LTS() },
+			{ TestTSCollection.getPersistentTS() },
+			{ TestTSCollection.getNonDeterministicTS() },
+			{ TestTSCollection.getImpureSynthesizablePathTS() },
+			{ TestTSCollection.getTwoBThreeATS() },
+			{ TestTSCollection.getStateSeparationFailureTS() },
+		};
+	}
+
+	static private TransitionSystem renameStates(TransitionSystem ts) {
+		TransitionSystem result = new TransitionSystem();
+		for (State state : ts.getNodes())
+			result.createState("renamed_" + state.getId());
+		for (Arc arc : ts.getEdges())
+			result.createArc("renamed_" + arc.getSourceId(), "renamed_" + arc.getTargetId(),
+					arc.getLabel());
+		result.setInitialState("renamed_" + ts.getInitialState().getId());
+		return result;
+	}
+
+	static private Set<Set<String>> getIds(Iterable<Set<State>> groups) {
+		Set<Set<String>> result = new HashSet<>();
+		for (Set<State> group : groups) {
+			Set<String> ids = new HashSet<>();
+			for (State state : group)
+				ids.add(state.getId().replace("renamed_", ""));
+			result.add(ids);
+		}
+		return result;
+	}
+
+	private SynthesizePN synthesize(RegionUtility utility) throws Exception {
+		return SynthesizePN.Builder.createForIsomorphicBehaviour(utility).setCacheDirectory(directory).build();
+	}
+
+	@Test(dataProvider = "TS")
+	public void testSameUtility(TransitionSystem ts) throws Exception {
+		RegionUtility utility = new RegionUtility(ts);
+		SynthesizePN stored = synthesize(utility);
+		assertThat(directory.listFiles(), arrayWithSize(1));
+
+		SynthesizePN loaded = synthesize(utility);
+		assertThat(loaded, not(sameInstance(stored)));
+		assertThat(loaded.getSeparatingRegions(), equalTo(stored.getSeparatingRegions()));
+		assertThat(loaded.wasSuccessfullySeparated(), equalTo(stored.wasSuccessfullySeparated()));
+		assertThat(getIds(loaded.getFailedStateSeparationProblems()),
+				equalTo(getIds(stored.getFailedStateSeparationProblems())));
+		assertThat(loaded.getFailedEventStateSeparationProblems(),
+				equalTo(stored.getFailedEventStateSeparationProblems()));
+	}
+
+	@Test(dataProvider = "TS")
+	public void testRenamedStates(TransitionSystem ts) throws Exception {
+		SynthesizePN stored = synthesize(new RegionUtility(ts));
+		RegionUtility utility = new RegionUtility(renameStates(ts));
+		SynthesizePN loaded = synthesize(utility);
+		assertThat(directory.listFiles(), arrayWithSize(1));
+
+		Set<Region> expected = new HashSet<>();
+		for (Region region : stored.getSeparatingRegions())
+			expected.add(Region.Builder.copyRegionToUtility(utility, region));
+		assertThat(loaded.getSeparatingRegions(), equalTo(expected));
+		assertThat(loaded.wasSuccessfullySeparated(), equalTo(stored.wasSuccessfullySeparated()));
+		assertThat(getIds(loaded.getFailedStateSeparationProblems()),
+				equalTo(getIds(stored.getFailedStateSeparationProblems())));
+		for (Map.Entry<String, Set<State>> entry : stored.getFailedEventStateSeparationProblems().entrySet())
+			assertThat(getIds(Collections.singleton(loaded.getFailedEventStateSeparationProblems()
+								.get(entry.getKey()))),
+					equalTo(getIds(Collections.singleton(entry.getValue()))));
+	}
+
+	@Test(dataProvider = "TS")
+	public void testLoad(TransitionSystem ts) throws Exception {
+		RegionUtility utility = new RegionUtility(ts);
+		SynthesizePN stored = synthesize(utility);
+		SynthesisCache cache = new SynthesisCache(directory, new RegionUtility(renameStates(ts)),
+				new PNProperties(), false, null, "quickFail=false regionSelectionTimeout=-1");
+		SynthesizePN loaded = cache.load();
+
+		assertThat(loaded, notNullValue());
+		assertThat(loaded.getSeparatingRegions(), hasSize(stored.getSeparatingRegions().size()));
+		assertThat(loaded.wasSuccessfullySeparated(), equalTo(stored.wasSuccessfullySeparated()));
+	}
+
+	@Test
+	public void testMissingEntry() throws Exception {
+		RegionUtility utility = new RegionUtility(TestTSCollection.getcc1LTS());
+		SynthesisCache cache = new SynthesisCache(directory, utility, new PNProperties(), false, null, "");
+		assertThat(cache.load(), nullValue());
+		assertThat(cache.getFile().exists(), is(false));
+	}
+
+	@Test
+	public void testDifferentProperties() throws Exception {
+		RegionUtility utility = new RegionUtility(TestTSCollection.getcc1LTS());
+		synthesize(utility);
+		SynthesizePN.Builder.createForIsomorphicBehaviour(utility).setCacheDirectory(directory)
+			.setProperties(new PNProperties().setPure(true)).build();
+		assertThat(directory.listFiles(), arrayWithSize(2));
+	}
+
+	@Test
+	public void testLanguageEquivalence() throws Exception {
+		TransitionSystem ts = TestTSCollection.getDifferentCyclesTS();
+		SynthesizePN stored = SynthesizePN.Builder.createForLanguageEquivalence(ts)
+			.setCacheDirectory(directory).build();
+		SynthesizePN loaded = SynthesizePN.Builder.createForLanguageEquivalence(renameStates(ts))
+			.setCacheDirectory(directory).build();
+		assertThat(directory.listFiles(), arrayWithSize(1));
+		assertThat(loaded.onlyEventSeparation(), is(true));
+		assertThat(loaded.getSeparatingRegions(), hasSize(stored.getSeparatingRegions().size()));
+		assertThat(loaded.wasSuccessfullySeparated(), equalTo(stored.wasSuccessfullySeparated()));
+	}
+
+	@Test
+	public void testInvalidCacheFile() throws Exception {
+		RegionUtility utility = new RegionUtility(TestTSCollection.getcc1LTS());
+		SynthesizePN stored = synthesize(utility);
+		File file = directory.listFiles()[0];
+
+		// Replace the initial marking of all regions with an invalid one
+		StringBuilder content = new StringBuilder();
+		boolean inRegions = false;
+		for (String line : Files.readAllLines(file.toPath(), Charset.forName("UTF-8"))) {
+			if (line.startsWith("failedEventStateSeparationProblems"))
+				inRegions = false;
+			if (inRegions)
+				line = "-1" + line.substring(line.indexOf(' '));
+			if (line.startsWith("regions "))
+				inRegions = true;
+			content.append(line).append('\n');
+		}
+		Files.write(file.toPath(), content.toString().getBytes(Charset.forName("UTF-8")));
+
+		SynthesizePN loaded = synthesize(utility);
+		assertThat(loaded.getSeparatingRegions(), hasSize(stored.getSeparatingRegions().size()));
+		assertThat(loaded.wasSuccessfullySeparated(), is(true));
+		assertThat(Files.readAllLines(file.toPath(), Charset.forName("UTF-8")),
+				not(hasItem(startsWith("-1 "))));
+	}
+
+	@Test
+	public void testGarbageCacheFile() throws Exception {
+		RegionUtility utility = new RegionUtility(TestTSCollection.getcc1LTS());
+		SynthesizePN stored = synthesize(utility);
+		File file = directory.listFiles()[0];
+		Files.write(file.toPath(), "garbage".getBytes(Charset.forName("UTF-8")));
+
+		SynthesizePN loaded = synthesize(utility);
+		assertThat(loaded.getSeparatingRegions(), hasSize(stored.getSeparatingRegions().size()));
+		assertThat(file.length(), greaterThan(10L));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
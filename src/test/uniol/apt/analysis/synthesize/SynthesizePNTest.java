@@ -23,8 +23,10 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static java.math.BigInteger.ZERO;
@@ -37,6 +39,8 @@ import uniol.apt.adt.ts.TransitionSystem;
 import uniol.apt.analysis.coverability.CoverabilityGraph;
 import uniol.apt.analysis.exception.UnboundedException;
 import uniol.apt.analysis.isomorphism.IsomorphismLogic;
+import uniol.apt.analysis.synthesize.separation.SeparationUtility;
+import uniol.apt.util.Metrics;
 import uniol.apt.util.Pair;
 
 import org.hamcrest.Matcher;
@@ -557,6 +561,41 @@ public class SynthesizePNTest {
 			SynthesizePN.minimizeRegions(utility, regions, true);
 			assertThat(regions, contains(region1));
 		}
+
+		@Test
+		public void testExactEmpty() {
+			Set<Region> regions = new HashSet<>();
+
+			assertThat(SynthesizePN.minimizeRegions(utility, regions, false, true, 0), is(true));
+			assertThat(regions, empty());
+		}
+
+		@Test
+		public void testExactDuplicateRegion() {
+			Region region1 = Region.Builder.createPure(utility, asBigIntegerList(-1, 0))
+					.withInitialMarking(BigInteger.ONE);
+			Region region2 = Region.Builder.createPure(utility, asBigIntegerList(-2, 0))
+					.withInitialMarking(BigInteger.valueOf(2));
+			Set<Region> regions = new HashSet<>(Arrays.asList(region1, region2));
+
+			assertThat(SynthesizePN.minimizeRegions(utility, regions, false, true, 0), is(true));
+			assertThat(regions, anyOf(contains(region1), contains(region2)));
+		}
+
+		@Test
+		public void testExactLessUsefulRegion() {
+			Region region1 = Region.Builder.createPure(utility, asBigIntegerList(-1, -1))
+					.withInitialMarking(BigInteger.valueOf(2));
+			Region region2 = Region.Builder.createPure(utility, asBigIntegerList(0, -1))
+					.withInitialMarking(BigInteger.ONE);
+			Region region3 = Region.Builder.createPure(utility, asBigIntegerList(-1, 0))
+					.withInitialMarking(BigInteger.ONE);
+			Set<Region> regions = new HashSet<>(Arrays.asList(region1, region2, region3));
+
+			assertThat(SynthesizePN.minimizeRegions(utility, regions, false, true, 1000), is(true));
+			assertThat(regions, hasSize(2));
+			assertThat(regions, hasItem(region1));
+		}
 	}
 
 	static public class DistributedImplementation {
@@ -736,6 +775,112 @@ public class SynthesizePNTest {
 		assertThat(synth.getFailedEventStateSeparationProblems().entrySet(), empty());
 		assertThat(synth.wasSuccessfullySeparated(), is(false));
 	}
+
+	@Test
+	public void testStateSeparationFailuresLinear() throws Exception {
+		// No region separates any states of a cycle with a single label. Each failed SSP instance should be
+		// tried only once instead of once per pair of states.
+		TransitionSystem ts = new TransitionSystem();
+		for (int i = 0; i < 10; i++)
+			ts.createState("s" + i);
+		for (int i = 0; i < 10; i++)
+			ts.createArc("s" + i, "s" + ((i + 1) % 10), "a");
+		ts.setInitialState("s0");
+
+		boolean wasEnabled = Metrics.isEnabled();
+		Metrics.setEnabled(true);
+		try {
+			long before = SynthesizePN.SEPARATION_FAILURES.get();
+			SynthesizePN synth = SynthesizePN.Builder.createForIsomorphicBehaviour(ts).build();
+			assertThat(SynthesizePN.SEPARATION_FAILURES.get() - before, equalTo(9L));
+			assertThat(synth.getFailedStateSeparationProblems(), contains(hasSize(10)));
+		} finally {
+			Metrics.setEnabled(wasEnabled);
+		}
+	}
+
+	@DataProvider(name = "ParallelTS")
+	private Object[][] createParallelTS() {
+		return new Object[][]{
+				{TestTSCollection.getcc1LTS(), new PNProperties()},
+				{TestTSCollection.getNonDeterministicTS(), new PNProperties()},
+				{TestTSCollection.getPathTS(), new PNProperties().setPure(true)},
+				{TestTSCollection.getImpureSynthesizablePathTS(), new PNProperties()},
+				{TestTSCollection.getABandB(), new PNProperties()},
+				{TestTSCollection.getStateSeparationFailureTS(), new PNProperties()},
+				{TestTSCollection.getTwoBThreeATS(), new PNProperties().setPlain(true)},
+				{TestTSCollection.getOverflowTS(20), new PNProperties()}};
+	}
+
+	static private Map<String, Set<String>> getFailedESSPIds(SynthesizePN synth) {
+		Map<String, Set<String>> result = new HashMap<>();
+		for (Map.Entry<String, Set<State>> entry : synth.getFailedEventStateSeparationProblems().entrySet()) {
+			Set<String> ids = new HashSet<>();
+			for (State state : entry.getValue())
+				ids.add(state.getId());
+			result.put(entry.getKey(), ids);
+		}
+		return result;
+	}
+
+	static private Set<Set<String>> getFailedSSPIds(SynthesizePN synth) {
+		Set<Set<String>> result = new HashSet<>();
+		for (Set<State> states : synth.getFailedStateSeparationProblems()) {
+			Set<String> ids = new HashSet<>();
+			for (State state : states)
+				ids.add(state.getId());
+			result.add(ids);
+		}
+		return result;
+	}
+
+	@Test(dataProvider = "ParallelTS")
+	public void testParallelSameVerdict(TransitionSystem ts, PNProperties properties) throws Exception {
+		SynthesizePN sequential = SynthesizePN.Builder.createForIsomorphicBehaviour(ts)
+			.setProperties(properties).setThreadCount(1).build();
+		SynthesizePN parallel = SynthesizePN.Builder.createForIsomorphicBehaviour(ts)
+			.setProperties(properties).setThreadCount(4).build();
+
+		assertThat(parallel.wasSuccessfullySeparated(), equalTo(sequential.wasSuccessfullySeparated()));
+		assertThat(getFailedESSPIds(parallel), equalTo(getFailedESSPIds(sequential)));
+		assertThat(getFailedSSPIds(parallel), equalTo(getFailedSSPIds(sequential)));
+		for (Region region : parallel.getSeparatingRegions()) {
+			assertThat(region.getRegionUtility().getTransitionSystem(), sameInstance(ts));
+			region.checkValidRegion();
+		}
+	}
+
+	@Test(dataProvider = "ParallelTS")
+	public void testExactRegionSelection(TransitionSystem ts, PNProperties properties) throws Exception {
+		SynthesizePN greedy = SynthesizePN.Builder.createForIsomorphicBehaviour(ts)
+			.setProperties(properties).build();
+		SynthesizePN exact = SynthesizePN.Builder.createForIsomorphicBehaviour(ts)
+			.setProperties(properties).setExactRegionSelection(true).build();
+
+		assertThat(exact.wasSuccessfullySeparated(), equalTo(greedy.wasSuccessfullySeparated()));
+		assertThat(exact.getSeparatingRegions().size(),
+				lessThanOrEqualTo(greedy.getSeparatingRegions().size()));
+		if (!exact.wasSuccessfullySeparated())
+			return;
+
+		Set<Region> regions = exact.getSeparatingRegions();
+		assertThat(SynthesizePN.calculateUnseparatedStates(ts.getNodes(), regions), empty());
+		for (Pair<State, String> problem : new SynthesizePN.EventStateSeparationProblems(ts)) {
+			boolean solved = false;
+			for (Region region : regions)
+				solved |= SeparationUtility.isSeparatingRegion(region, problem.getFirst(),
+						problem.getSecond());
+			assertThat(problem.toString(), solved, is(true));
+		}
+	}
+
+	@Test
+	public void testParallelQuickFail() throws Exception {
+		TransitionSystem ts = TestTSCollection.getOverflowTS(20);
+		SynthesizePN synth = SynthesizePN.Builder.createForIsomorphicBehaviour(ts)
+			.setQuickFail(true).setThreadCount(4).build();
+		assertThat(synth.wasSuccessfullySeparated(), is(false));
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -22,9 +22,11 @@ package uniol.apt.analysis.synthesize.separation;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -47,6 +49,11 @@ public class KBoundedSeparationTest {
 		return new KBoundedSeparation(ts, properties).getRegions();
 	}
 
+	static private Set<Region> calculateRegions(TransitionSystem ts, int k, int threads)
+			throws UnsupportedPNPropertiesException {
+		return new KBoundedSeparation(ts, new PNProperties().requireKBounded(k), threads).getRegions();
+	}
+
 	static private List<BigInteger> asBigIntegerList(int... list) {
 		List<BigInteger> result = new ArrayList<>(list.length);
 		for (int i = 0; i < list.length; i++)
@@ -121,6 +128,67 @@ public class KBoundedSeparationTest {
 					impureRegionWithWeights(Arrays.asList("a", "b"), asBigIntegerList(0, 0, 0, 1)),
 					impureRegionWithWeights(Arrays.asList("a", "b"), asBigIntegerList(0, 0, 1, 0))));
 	}
+
+	// Product of several cycles which each count up to size - 1 with event ai and then reset with event bi
+	static private TransitionSystem getCounterProductTS(int counters, int size) {
+		TransitionSystem ts = new TransitionSystem();
+		int numStates = 1;
+		for (int i = 0; i < counters; i++)
+			numStates *= size;
+		for (int state = 0; state < numStates; state++)
+			ts.createState("s" + state);
+		for (int state = 0; state < numStates; state++) {
+			int factor = 1;
+			for (int i = 0; i < counters; i++) {
+				int value = (state / factor) % size;
+				if (value == size - 1)
+					ts.createArc("s" + state, "s" + (state - value * factor), "b" + i);
+				else
+					ts.createArc("s" + state, "s" + (state + factor), "a" + i);
+				factor *= size;
+			}
+		}
+		ts.setInitialState("s0");
+		return ts;
+	}
+
+	@DataProvider(name = "threads")
+	private Object[][] createThreads() {
+		return new Object[][] { { 1 }, { 2 }, { 4 } };
+	}
+
+	@Test(dataProvider = "threads")
+	public void testCounterProduct(int threads) throws Exception {
+		TransitionSystem ts = getCounterProductTS(3, 4);
+
+		// Each counter is described by a region counting up and a region counting down
+		assertThat(calculateRegions(ts, 3, threads), containsInAnyOrder(
+					impureRegionWithWeights(Arrays.asList("a0", "a1", "a2", "b0", "b1", "b2"),
+						asBigIntegerList(0, 1, 0, 0, 0, 0, 3, 0, 0, 0, 0, 0)),
+					impureRegionWithWeights(Arrays.asList("a0", "a1", "a2", "b0", "b1", "b2"),
+						asBigIntegerList(1, 0, 0, 0, 0, 0, 0, 3, 0, 0, 0, 0)),
+					impureRegionWithWeights(Arrays.asList("a0", "a1", "a2", "b0", "b1", "b2"),
+						asBigIntegerList(0, 0, 0, 1, 0, 0, 0, 0, 3, 0, 0, 0)),
+					impureRegionWithWeights(Arrays.asList("a0", "a1", "a2", "b0", "b1", "b2"),
+						asBigIntegerList(0, 0, 1, 0, 0, 0, 0, 0, 0, 3, 0, 0)),
+					impureRegionWithWeights(Arrays.asList("a0", "a1", "a2", "b0", "b1", "b2"),
+						asBigIntegerList(0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 3, 0)),
+					impureRegionWithWeights(Arrays.asList("a0", "a1", "a2", "b0", "b1", "b2"),
+						asBigIntegerList(0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 3))));
+	}
+
+	@Test
+	public void testCounterProductSameResultWithThreads() throws Exception {
+		TransitionSystem ts = getCounterProductTS(5, 4);
+		Set<String> expected = new HashSet<>();
+		for (Region region : calculateRegions(ts, 3, 1))
+			expected.add(region.toString());
+		Set<String> actual = new HashSet<>();
+		for (Region region : calculateRegions(ts, 3, 3))
+			actual.add(region.toString());
+		assertThat(expected, hasSize(10));
+		assertThat(actual, equalTo(expected));
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,220 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize.separation;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import uniol.apt.TestTSCollection;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.synthesize.PNProperties;
+import uniol.apt.analysis.synthesize.Region;
+import uniol.apt.analysis.synthesize.RegionUtility;
+import uniol.apt.util.interrupt.Interrupter;
+import uniol.apt.util.interrupt.InterrupterRegistry;
+import uniol.apt.util.interrupt.UncheckedInterruptedException;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.fail;
+
+/** @author agent */
+public class SATSeparationTest {
+	static public class SATSeparationFactory implements SeparationTestHelper.SeparationFactory {
+		private final PNProperties properties;
+
+		public SATSeparationFactory(PNProperties properties) {
+			this.properties = properties;
+		}
+
+		@Override
+		public Separation createSeparation(RegionUtility utility, String[] locationMap) {
+			try {
+				return createSeparation(utility, properties, locationMap);
+			} catch (UnsupportedPNPropertiesException e) {
+				throw new AssertionError(e);
+			}
+		}
+
+		@Override
+		public boolean supportsImpure() {
+			return !properties.isPure();
+		}
+
+		@Override
+		public Separation createSeparation(RegionUtility utility, PNProperties props, String[] locationMap)
+				throws UnsupportedPNPropertiesException {
+			return new SATSeparation(utility, props, locationMap);
+		}
+	}
+
+	@Factory
+	public Object[] factory() {
+		List<Object> tests = new ArrayList<>();
+		PNProperties properties;
+
+		properties = new PNProperties().requireKBounded(19);
+		tests.addAll(Arrays.asList(SeparationTestHelper.factory(
+						new SATSeparationFactory(properties))));
+
+		properties = new PNProperties().requireKBounded(19).setPure(true);
+		tests.addAll(Arrays.asList(SeparationTestHelper.factory(
+						new SATSeparationFactory(properties))));
+
+		tests.add(new SameAsInequalitySystem(new PNProperties().requireKBounded(0)));
+		tests.add(new SameAsInequalitySystem(new PNProperties().requireSafe()));
+		tests.add(new SameAsInequalitySystem(new PNProperties().requireKBounded(2)));
+		tests.add(new SameAsInequalitySystem(new PNProperties().requireKBounded(2).setPure(true)));
+		tests.add(new SameAsInequalitySystem(new PNProperties().requireKBounded(3).setPlain(true)));
+		tests.add(new SameAsInequalitySystem(new PNProperties().requireKBounded(4).requireKMarking(2)));
+
+		return tests.toArray(new Object[tests.size()]);
+	}
+
+	/**
+	 * Check that exactly those separation problems are solvable for which InequalitySystemSeparation finds a
+	 * solution.
+	 */
+	static public class SameAsInequalitySystem {
+		private final PNProperties properties;
+
+		public SameAsInequalitySystem(PNProperties properties) {
+			this.properties = properties;
+		}
+
+		@DataProvider(name = "TS")
+		public Object[][] createTS() {
+			return new Object[][] {
+				{ TestTSCollection.getSingleStateTSWithLoop() },
+				{ TestTSCollection.getThreeStatesTwoEdgesTS() },
+				{ TestTSCollection.getNotTotallyReachableTS() },
+				{ TestTSCollection.getPersistentTS() },
+				{ TestTSCollection.getcc1LTS() },
+				{ TestTSCollection.getPureSynthesizablePathTS() },
+				{ TestTSCollection.getImpureSynthesizablePathTS() },
+				{ TestTSCollection.getTwoBThreeATS() },
+				{ TestTSCollection.getACBCCLoopTS() },
+				{ TestTSCollection.getStateSeparationFailureTS() },
+			};
+		}
+
+		private void checkRegion(Region region, Region expected) throws Exception {
+			assertThat(region == null, equalTo(expected == null));
+			if (region == null)
+				return;
+			region.checkValidRegion();
+			assertThat(region.getInitialMarking().intValue() % properties.getKForKMarking(), equalTo(0));
+			for (State state : region.getTransitionSystem().getNodes())
+				if (region.getRegionUtility().getSpanningTree().isReachable(state))
+					assertThat(region.getMarkingForState(state), lessThanOrEqualTo(
+								BigInteger.valueOf(properties.getKForKBounded())));
+			for (String event : region.getRegionUtility().getEventList()) {
+				if (properties.isPure())
+					assertThat(region.getBackwardWeight(event).signum() == 0
+							|| region.getForwardWeight(event).signum() == 0, is(true));
+				if (properties.isPlain()) {
+					assertThat(region.getBackwardWeight(event), lessThanOrEqualTo(BigInteger.ONE));
+					assertThat(region.getForwardWeight(event), lessThanOrEqualTo(BigInteger.ONE));
+				}
+			}
+		}
+
+		@Test(dataProvider = "TS")
+		public void testSeparation(TransitionSystem ts) throws Exception {
+			RegionUtility utility = new RegionUtility(ts);
+			String[] locationMap = new String[utility.getNumberOfEvents()];
+			Separation sat = new SATSeparation(utility, properties, locationMap);
+			Separation smt = new InequalitySystemSeparation(utility, properties, locationMap);
+
+			for (State state : ts.getNodes()) {
+				for (String event : utility.getEventList()) {
+					Region region = sat.calculateSeparatingRegion(state, event);
+					checkRegion(region, smt.calculateSeparatingRegion(state, event));
+					if (region != null)
+						assertThat(SeparationUtility.isSeparatingRegion(region, state, event),
+								is(true));
+				}
+				for (State otherState : ts.getNodes()) {
+					Region region = sat.calculateSeparatingRegion(state, otherState);
+					checkRegion(region, smt.calculateSeparatingRegion(state, otherState));
+					if (region != null)
+						assertThat(SeparationUtility.isSeparatingRegion(region, state,
+									otherState), is(true));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testInterruptDuringSearch() throws Exception {
+		TransitionSystem ts = TestTSCollection.getcc1LTS();
+		RegionUtility utility = new RegionUtility(ts);
+		String[] locationMap = new String[utility.getNumberOfEvents()];
+		PNProperties properties = new PNProperties().requireKBounded(3);
+		Separation sat = new SATSeparation(utility, properties, locationMap);
+		Separation smt = new InequalitySystemSeparation(utility, properties, locationMap);
+		// This problem is not decided by unit propagation alone, so the solver has to search
+		State state = ts.getNode("s0");
+		String event = "c";
+
+		// Only the check before the search starts does not request an interruption
+		InterrupterRegistry.setCurrentThreadInterrupter(new Interrupter() {
+			private int calls = 0;
+
+			@Override
+			public boolean isInterruptRequested() {
+				return calls++ > 0;
+			}
+		});
+		try {
+			sat.calculateSeparatingRegion(state, event);
+			fail("The search was not interrupted");
+		} catch (UncheckedInterruptedException e) {
+			// Expected
+		} finally {
+			InterrupterRegistry.clearCurrentThreadInterrupter();
+		}
+
+		// The solver can still be used afterwards
+		assertThat(sat.calculateSeparatingRegion(state, event) == null,
+				equalTo(smt.calculateSeparatingRegion(state, event) == null));
+	}
+
+	@Test(expectedExceptions = UnsupportedPNPropertiesException.class)
+	public void testUnbounded() throws Exception {
+		RegionUtility utility = new RegionUtility(TestTSCollection.getcc1LTS());
+		new SATSeparation(utility, new PNProperties(), new String[utility.getNumberOfEvents()]);
+	}
+
+	@Test(expectedExceptions = UnsupportedPNPropertiesException.class)
+	public void testUnsupportedProperty() throws Exception {
+		RegionUtility utility = new RegionUtility(TestTSCollection.getcc1LTS());
+		new SATSeparation(utility, new PNProperties().requireSafe().setTNet(true),
+				new String[utility.getNumberOfEvents()]);
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -61,6 +61,36 @@ public class MathToolsTest {
 	public void testLCMOverflow() {
 		MathTools.lcm(bigPrime1, bigPrime2);
 	}
+
+	@Test
+	public void testExact() {
+		assertEquals(MathTools.addExact(Long.MAX_VALUE - 1, 1), Long.MAX_VALUE);
+		assertEquals(MathTools.addExact(Long.MIN_VALUE, Long.MAX_VALUE), -1);
+		assertEquals(MathTools.multiplyExact(bigPrime1, bigPrime2), 141248176476894629L);
+		assertEquals(MathTools.multiplyExact(-1L << 31, 1L << 32), Long.MIN_VALUE);
+		assertEquals(MathTools.multiplyExact(Long.MIN_VALUE, 1), Long.MIN_VALUE);
+		assertEquals(MathTools.multiplyExact(0, Long.MIN_VALUE), 0);
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void testAddExactOverflow() {
+		MathTools.addExact(Long.MAX_VALUE, 1);
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void testAddExactUnderflow() {
+		MathTools.addExact(Long.MIN_VALUE, -1);
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void testMultiplyExactOverflow() {
+		MathTools.multiplyExact(1L << 32, 1L << 31);
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void testMultiplyExactMinValue() {
+		MathTools.multiplyExact(Long.MIN_VALUE, -1);
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,112 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  agent
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.util;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/** @author agent */
+public class MetricsTest {
+	private boolean wasEnabled;
+
+	@BeforeMethod
+	public void setup() {
+		wasEnabled = Metrics.isEnabled();
+		Metrics.reset();
+	}
+
+	@AfterMethod
+	public void teardown() {
+		Metrics.setEnabled(wasEnabled);
+		Metrics.reset();
+	}
+
+	@Test
+	public void testSameInstance() {
+		assertThat(Metrics.counter("test.counter"), sameInstance(Metrics.counter("test.counter")));
+		assertThat(Metrics.timer("test.timer"), sameInstance(Metrics.timer("test.timer")));
+		assertThat(Metrics.gauge("test.gauge"), sameInstance(Metrics.gauge("test.gauge")));
+	}
+
+	@Test
+	public void testDisabled() {
+		Metrics.setEnabled(false);
+		Metrics.Counter counter = Metrics.counter("test.counter");
+		Metrics.Timer timer = Metrics.timer("test.timer");
+		Metrics.Gauge gauge = Metrics.gauge("test.gauge");
+
+		counter.increment();
+		counter.add(5);
+		timer.stop(timer.start());
+		gauge.set(42);
+
+		assertThat(counter.get(), equalTo(0L));
+		assertThat(timer.getCount(), equalTo(0L));
+		assertThat(gauge.get(), equalTo(0L));
+	}
+
+	@Test
+	public void testEnabled() {
+		Metrics.setEnabled(true);
+		Metrics.Counter counter = Metrics.counter("test.counter");
+		Metrics.Timer timer = Metrics.timer("test.timer");
+		Metrics.Gauge gauge = Metrics.gauge("test.gauge");
+
+		counter.increment();
+		counter.add(5);
+		timer.stop(timer.start());
+		timer.stop(timer.start());
+		gauge.set(42);
+		gauge.set(23);
+
+		assertThat(counter.get(), equalTo(6L));
+		assertThat(timer.getCount(), equalTo(2L));
+		assertThat(timer.getTotalNanos(), greaterThanOrEqualTo(timer.getMaxNanos()));
+		assertThat(gauge.get(), equalTo(23L));
+
+		Metrics.reset();
+		assertThat(counter.get(), equalTo(0L));
+		assertThat(timer.getCount(), equalTo(0L));
+		assertThat(timer.getTotalNanos(), equalTo(0L));
+		assertThat(gauge.get(), equalTo(0L));
+	}
+
+	@Test
+	public void testJSON() {
+		Metrics.setEnabled(true);
+		Metrics.counter("test.counter").add(3);
+		Metrics.gauge("test.\"gauge\"").set(7);
+		Metrics.timer("test.timer");
+
+		String json = Metrics.toJSON();
+		assertThat(json, containsString("\"test.counter\": 3"));
+		assertThat(json, containsString("\"test.\\\"gauge\\\"\": 7"));
+		assertThat(json, containsString(
+					"\"test.timer\": { \"count\": 0, \"totalNanos\": 0, \"maxNanos\": 0 }"));
+		assertThat(json, startsWith("{"));
+		assertThat(json, endsWith("}"));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120